@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng;
+
+import java.math.BigInteger;
+
+/**
+ * Applies to generators that can be advanced an arbitrary number of
+ * steps of the output sequence in a single operation.
+ *
+ * <p>A step is a single call to the method that updates the state of the provider;
+ * this is typically {@link #nextInt()} for a 32-bit generator and {@link #nextLong()}
+ * for a 64-bit generator. The distance is reduced modulo the period of the generator.
+ *
+ * <p>Advancing by an exact distance allows a sequence to be partitioned reproducibly:
+ * repeat invocations of {@link #advance(long)} with a distance {@code n} create a series
+ * of generators each providing the next {@code n} steps of the output sequence.
+ *
+ * @since 1.7
+ */
+public interface ArbitrarilyJumpableUniformRandomProvider extends UniformRandomProvider {
+    /**
+     * Creates a copy of the ArbitrarilyJumpableUniformRandomProvider and then advances the
+     * state of the current instance by the specified {@code distance}. The copy is returned.
+     *
+     * <p>The current state will be advanced in a single operation by the equivalent of
+     * {@code distance} sequential calls to the method that updates the state of the provider.
+     * The returned copy provides non-overlapping output with the current instance for
+     * {@code distance} steps.</p>
+     *
+     * <p>The default implementation delegates to {@link #advance(BigInteger)}.
+     *
+     * @param distance Number of steps to advance the generator.
+     * @return A copy of the current state.
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     */
+    default ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        return advance(BigInteger.valueOf(distance));
+    }
+
+    /**
+     * Creates a copy of the ArbitrarilyJumpableUniformRandomProvider and then advances the
+     * state of the current instance by the specified {@code distance}. The copy is returned.
+     *
+     * <p>The current state will be advanced in a single operation by the equivalent of
+     * {@code distance} sequential calls to the method that updates the state of the provider.
+     * The returned copy provides non-overlapping output with the current instance for
+     * {@code distance} steps.</p>
+     *
+     * @param distance Number of steps to advance the generator.
+     * @return A copy of the current state.
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     */
+    ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance);
+}
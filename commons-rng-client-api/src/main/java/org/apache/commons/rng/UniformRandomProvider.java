@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng;
 
+import java.nio.ByteBuffer;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -60,6 +61,31 @@ public interface UniformRandomProvider {
         UniformRandomProviderSupport.nextBytes(this, bytes, start, len);
     }
 
+    /**
+     * Generates {@code byte} values and places them into a user-supplied buffer.
+     *
+     * <p>The number of random bytes produced is equal to the number of
+     * {@link ByteBuffer#remaining() remaining} elements in the buffer. The bytes are
+     * written starting at the current position which is then advanced to the limit.
+     *
+     * <p>The default implementation fills a buffer backed by an accessible array using
+     * {@link #nextBytes(byte[], int, int)}. Otherwise the bytes are extracted from random
+     * {@code long} values using the same layout as the default implementation of
+     * {@link #nextBytes(byte[])}. The byte order of the buffer is ignored.
+     *
+     * <p>This method supports direct buffers, for example those allocated using
+     * {@link ByteBuffer#allocateDirect(int)} or obtained from a memory mapped file, without
+     * the use of an intermediate {@code byte[]} array.
+     *
+     * @param buffer Buffer in which to put the random bytes.
+     * Cannot be {@code null}.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+     * @since 1.7
+     */
+    default void fillBytes(ByteBuffer buffer) {
+        UniformRandomProviderSupport.fillBytes(this, buffer);
+    }
+
     /**
      * Generates an {@code int} value.
      *
@@ -229,6 +255,143 @@ public interface UniformRandomProvider {
         return UniformRandomProviderSupport.nextDouble(this, origin, bound);
     }
 
+    /**
+     * Generates {@code int} values and places them into a user-supplied array.
+     *
+     * <p>The values are identical to those produced by the same number of sequential
+     * calls to {@link #nextInt()}.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @since 1.7
+     */
+    default void nextInts(int[] values, int start, int len) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.nextInts(this, values, start, len);
+    }
+
+    /**
+     * Generates {@code int} values between the specified {@code origin} (inclusive) and
+     * the specified {@code bound} (exclusive) and places them into a user-supplied array.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @throws IllegalArgumentException if {@code origin} is greater than or equal to
+     * {@code bound}.
+     * @since 1.7
+     */
+    default void nextInts(int[] values, int start, int len, int origin, int bound) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.validateRange(origin, bound);
+        UniformRandomProviderSupport.nextInts(this, values, start, len, origin, bound);
+    }
+
+    /**
+     * Generates {@code long} values and places them into a user-supplied array.
+     *
+     * <p>The values are identical to those produced by the same number of sequential
+     * calls to {@link #nextLong()}.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @since 1.7
+     */
+    default void nextLongs(long[] values, int start, int len) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.nextLongs(this, values, start, len);
+    }
+
+    /**
+     * Generates {@code long} values between the specified {@code origin} (inclusive) and
+     * the specified {@code bound} (exclusive) and places them into a user-supplied array.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @throws IllegalArgumentException if {@code origin} is greater than or equal to
+     * {@code bound}.
+     * @since 1.7
+     */
+    default void nextLongs(long[] values, int start, int len, long origin, long bound) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.validateRange(origin, bound);
+        UniformRandomProviderSupport.nextLongs(this, values, start, len, origin, bound);
+    }
+
+    /**
+     * Generates {@code double} values between 0 (inclusive) and 1 (exclusive) and places
+     * them into a user-supplied array.
+     *
+     * <p>The values are identical to those produced by the same number of sequential
+     * calls to {@link #nextDouble()}.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @since 1.7
+     */
+    default void nextDoubles(double[] values, int start, int len) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.nextDoubles(this, values, start, len);
+    }
+
+    /**
+     * Generates {@code double} values between the specified {@code origin} (inclusive)
+     * and the specified {@code bound} (exclusive) and places them into a user-supplied
+     * array.
+     *
+     * @param values Array in which to put the generated values.
+     * Cannot be {@code null}.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated.
+     * @throws IndexOutOfBoundsException if {@code start < 0} or
+     * {@code start >= values.length}.
+     * @throws IndexOutOfBoundsException if {@code len < 0} or
+     * {@code len > values.length - start}.
+     * @throws IllegalArgumentException if {@code origin} is not finite, or {@code bound}
+     * is not finite, or {@code origin} is greater than or equal to {@code bound}.
+     * @since 1.7
+     */
+    default void nextDoubles(double[] values, int start, int len, double origin, double bound) {
+        UniformRandomProviderSupport.validateFromIndexSize(start, len, values.length);
+        UniformRandomProviderSupport.validateRange(origin, bound);
+        UniformRandomProviderSupport.nextDoubles(this, values, start, len, origin, bound);
+    }
+
     /**
      * Returns an effectively unlimited stream of {@code int} values.
      *
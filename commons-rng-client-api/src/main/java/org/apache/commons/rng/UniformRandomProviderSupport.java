@@ -16,6 +16,9 @@
  */
 package org.apache.commons.rng;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
@@ -247,6 +250,63 @@ final class UniformRandomProviderSupport {
         }
     }
 
+    /**
+     * Generates random bytes and places them into the remaining elements of a
+     * user-supplied buffer. The buffer position is advanced to the limit.
+     *
+     * <p>The buffer is filled with bytes extracted from random {@code long} values using
+     * the same little-endian layout as {@link #nextBytes(UniformRandomProvider, byte[], int, int)}.
+     *
+     * @param source Source of randomness.
+     * @param buffer Buffer in which to put the generated bytes. Cannot be null.
+     */
+    static void fillBytes(UniformRandomProvider source,
+                          ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            // Heap buffer: fill the backing array
+            final int position = buffer.position();
+            final int len = buffer.limit() - position;
+            source.nextBytes(buffer.array(), buffer.arrayOffset() + position, len);
+            setPosition(buffer, position + len);
+            return;
+        }
+
+        // Use a view with the required byte order; this does not change the caller's buffer
+        final ByteBuffer bb = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        // Fill 8 bytes at a time
+        while (bb.remaining() >= Long.BYTES) {
+            bb.putLong(source.nextLong());
+        }
+
+        // Fill in the remaining bytes.
+        if (bb.hasRemaining()) {
+            long random = source.nextLong();
+            for (;;) {
+                bb.put((byte) random);
+                if (!bb.hasRemaining()) {
+                    break;
+                }
+                random >>>= 8;
+            }
+        }
+
+        setPosition(buffer, bb.position());
+    }
+
+    /**
+     * Sets the position of the buffer.
+     *
+     * <p>This uses the {@link Buffer} type for JDK 8 binary compatibility; the
+     * covariant return type of {@code ByteBuffer.position(int)} was added in JDK 9.
+     *
+     * @param buffer Buffer.
+     * @param position New position.
+     */
+    static void setPosition(Buffer buffer, int position) {
+        buffer.position(position);
+    }
+
     /**
      * Generates an {@code int} value between 0 (inclusive) and the specified value
      * (exclusive).
@@ -433,6 +493,119 @@ final class UniformRandomProviderSupport {
         return v;
     }
 
+    /**
+     * Generates {@code int} values and places them into a user-supplied array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     */
+    static void nextInts(UniformRandomProvider source,
+                         int[] values, int start, int len) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = source.nextInt();
+        }
+    }
+
+    /**
+     * Generates {@code int} values between the specified {@code origin} (inclusive) and
+     * the specified {@code bound} (exclusive) and places them into a user-supplied array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated. Must be
+     * above {@code origin}.
+     */
+    static void nextInts(UniformRandomProvider source,
+                         int[] values, int start, int len,
+                         int origin, int bound) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = nextInt(source, origin, bound);
+        }
+    }
+
+    /**
+     * Generates {@code long} values and places them into a user-supplied array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     */
+    static void nextLongs(UniformRandomProvider source,
+                          long[] values, int start, int len) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = source.nextLong();
+        }
+    }
+
+    /**
+     * Generates {@code long} values between the specified {@code origin} (inclusive) and
+     * the specified {@code bound} (exclusive) and places them into a user-supplied array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated. Must be
+     * above {@code origin}.
+     */
+    static void nextLongs(UniformRandomProvider source,
+                          long[] values, int start, int len,
+                          long origin, long bound) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = nextLong(source, origin, bound);
+        }
+    }
+
+    /**
+     * Generates {@code double} values between 0 (inclusive) and 1 (exclusive) and places
+     * them into a user-supplied array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     */
+    static void nextDoubles(UniformRandomProvider source,
+                            double[] values, int start, int len) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = source.nextDouble();
+        }
+    }
+
+    /**
+     * Generates {@code double} values between the specified {@code origin} (inclusive)
+     * and the specified {@code bound} (exclusive) and places them into a user-supplied
+     * array.
+     *
+     * @param source Source of randomness.
+     * @param values Array in which to put the generated values. Cannot be null.
+     * @param start Index at which to start inserting the generated values.
+     * @param len Number of values to insert.
+     * @param origin Lower bound on the random numbers to be generated. Must be finite.
+     * @param bound Upper bound (exclusive) on the random numbers to be generated. Must be
+     * above {@code origin} and finite.
+     */
+    static void nextDoubles(UniformRandomProvider source,
+                            double[] values, int start, int len,
+                            double origin, double bound) {
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = nextDouble(source, origin, bound);
+        }
+    }
+
     // Spliterator support
 
     /**
@@ -0,0 +1,74 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for default method implementations in
+ * {@link ArbitrarilyJumpableUniformRandomProvider}.
+ */
+class ArbitrarilyJumpableUniformRandomProviderTest {
+    /**
+     * Class for checking the behavior of the ArbitrarilyJumpableUniformRandomProvider.
+     * This generator returns a fixed value. The value is incremented by the jump distance.
+     */
+    private static class JumpableGenerator implements ArbitrarilyJumpableUniformRandomProvider {
+        /** The value for nextLong(). */
+        private long value;
+
+        JumpableGenerator(long seed) {
+            this.value = seed;
+        }
+
+        @Override
+        public long nextLong() {
+            return value;
+        }
+
+        @Override
+        public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+            if (distance.signum() < 0) {
+                throw new IllegalArgumentException("Negative distance: " + distance);
+            }
+            final ArbitrarilyJumpableUniformRandomProvider copy = new JumpableGenerator(value);
+            value += distance.longValue();
+            return copy;
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, -2, Long.MIN_VALUE})
+    void testInvalidDistanceThrows(long distance) {
+        final ArbitrarilyJumpableUniformRandomProvider rng = new JumpableGenerator(0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rng.advance(distance));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 42, 2637812367L, Long.MAX_VALUE})
+    void testAdvance(long distance) {
+        final long seed = 12345L;
+        final ArbitrarilyJumpableUniformRandomProvider rng = new JumpableGenerator(seed);
+        final UniformRandomProvider copy = rng.advance(distance);
+        Assertions.assertNotSame(rng, copy, "Advance should return a copy");
+        Assertions.assertEquals(seed, copy.nextLong(), "Copy should have the previous state");
+        Assertions.assertEquals(seed + distance, rng.nextLong(), "Advance did not delegate the distance");
+    }
+}
@@ -18,6 +18,8 @@ package org.apache.commons.rng;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
@@ -153,6 +155,137 @@ class UniformRandomProviderTest {
         Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextBytes(bytes, 5, Integer.MAX_VALUE), "start + len > length, taking into account integer overflow");
     }
 
+    @Test
+    void testFillBytesThrows() {
+        final UniformRandomProvider rng = DummyGenerator.INSTANCE;
+        Assertions.assertThrows(NullPointerException.class, () -> rng.fillBytes((ByteBuffer) null));
+        final ByteBuffer heap = ByteBuffer.allocate(10).asReadOnlyBuffer();
+        final ByteBuffer direct = ByteBuffer.allocateDirect(10).asReadOnlyBuffer();
+        final UniformRandomProvider rng2 = createRNG(123);
+        Assertions.assertThrows(java.nio.ReadOnlyBufferException.class, () -> rng2.fillBytes(heap));
+        Assertions.assertThrows(java.nio.ReadOnlyBufferException.class, () -> rng2.fillBytes(direct));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "2376482384, 0, 0",
+        "2376482384, 0, 13",
+        "-8726348, 3, 8",
+        "-8726348, 5, 17",
+        "6574823, 1, 32",
+    })
+    void testFillBytes(long seed, int position, int len) {
+        final int capacity = position + len + 3;
+        final byte[] expected = new byte[len];
+        UniformRandomProvider rng = createRNG(seed);
+        rng.nextBytes(expected);
+        final long next = rng.nextLong();
+        for (final boolean direct : new boolean[] {false, true}) {
+            final ByteBuffer buffer = direct ?
+                ByteBuffer.allocateDirect(capacity) :
+                ByteBuffer.allocate(capacity);
+            buffer.order(ByteOrder.BIG_ENDIAN);
+            buffer.position(position);
+            buffer.limit(position + len);
+            rng = createRNG(seed);
+            rng.fillBytes(buffer);
+            Assertions.assertEquals(next, rng.nextLong(), "Incorrect number of values consumed");
+            Assertions.assertEquals(buffer.limit(), buffer.position(), "Position not advanced to the limit");
+            Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order(), "Byte order changed");
+            final byte[] actual = new byte[len];
+            buffer.position(position);
+            buffer.get(actual);
+            Assertions.assertArrayEquals(expected, actual);
+            // Bytes outside the range are unchanged
+            buffer.clear();
+            for (int i = 0; i < position; i++) {
+                Assertions.assertEquals(0, buffer.get(i));
+            }
+            for (int i = position + len; i < capacity; i++) {
+                Assertions.assertEquals(0, buffer.get(i));
+            }
+        }
+    }
+
+    @Test
+    void testNextArraysThrows() {
+        final UniformRandomProvider rng = DummyGenerator.INSTANCE;
+        Assertions.assertThrows(NullPointerException.class, () -> rng.nextInts(null, 0, 1));
+        Assertions.assertThrows(NullPointerException.class, () -> rng.nextLongs(null, 0, 1));
+        Assertions.assertThrows(NullPointerException.class, () -> rng.nextDoubles(null, 0, 1));
+        // Invalid range
+        final int length = 10;
+        final int[] ints = new int[length];
+        final long[] longs = new long[length];
+        final double[] doubles = new double[length];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextInts(ints, -1, 1), "start < 0");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextInts(ints, length, 1), "start >= length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextInts(ints, 0, -1), "len < 0");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextInts(ints, 5, 10), "start + len > length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextInts(ints, 5, 10, 0, 1), "start + len > length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextLongs(longs, -1, 1), "start < 0");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextLongs(longs, 5, 10), "start + len > length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextLongs(longs, 5, 10, 0, 1), "start + len > length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextDoubles(doubles, -1, 1), "start < 0");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextDoubles(doubles, 5, 10), "start + len > length");
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.nextDoubles(doubles, 5, 10, 0, 1), "start + len > length");
+        // Invalid bounds
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rng.nextInts(ints, 0, 1, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rng.nextLongs(longs, 0, 1, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rng.nextDoubles(doubles, 0, 1, 1, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> rng.nextDoubles(doubles, 0, 1, 0, Double.NaN));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {6236478263L, -2376483L, 6723648726L})
+    void testNextArraysMatchSingleValues(long seed) {
+        final int start = 3;
+        final int len = 17;
+        final int size = start + len + 2;
+        final int[] ints = new int[size];
+        final int[] ints2 = new int[size];
+        final long[] longs = new long[size];
+        final long[] longs2 = new long[size];
+        final double[] doubles = new double[size];
+        final double[] doubles2 = new double[size];
+
+        UniformRandomProvider rng = createRNG(seed);
+        for (int i = 0; i < len; i++) {
+            ints[start + i] = rng.nextInt();
+        }
+        for (int i = 0; i < len; i++) {
+            longs[start + i] = rng.nextLong();
+        }
+        for (int i = 0; i < len; i++) {
+            doubles[start + i] = rng.nextDouble();
+        }
+        rng = createRNG(seed);
+        rng.nextInts(ints2, start, len);
+        rng.nextLongs(longs2, start, len);
+        rng.nextDoubles(doubles2, start, len);
+        Assertions.assertArrayEquals(ints, ints2);
+        Assertions.assertArrayEquals(longs, longs2);
+        Assertions.assertArrayEquals(doubles, doubles2);
+
+        rng = createRNG(seed);
+        for (int i = 0; i < len; i++) {
+            ints[start + i] = rng.nextInt(-5, 42);
+        }
+        for (int i = 0; i < len; i++) {
+            longs[start + i] = rng.nextLong(-5, 42);
+        }
+        for (int i = 0; i < len; i++) {
+            doubles[start + i] = rng.nextDouble(-5, 42);
+        }
+        rng = createRNG(seed);
+        rng.nextInts(ints2, start, len, -5, 42);
+        rng.nextLongs(longs2, start, len, -5, 42);
+        rng.nextDoubles(doubles2, start, len, -5, 42);
+        Assertions.assertArrayEquals(ints, ints2);
+        Assertions.assertArrayEquals(longs, longs2);
+        Assertions.assertArrayEquals(doubles, doubles2);
+    }
+
     @ParameterizedTest
     @MethodSource(value = {"invalidNextIntBound"})
     void testNextIntBoundThrows(int bound) {
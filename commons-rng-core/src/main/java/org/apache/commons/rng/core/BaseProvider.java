@@ -17,6 +17,8 @@
 
 package org.apache.commons.rng.core;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.RandomProviderState;
@@ -36,6 +38,8 @@ public abstract class BaseProvider
     private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
     /** The fractional part of the golden ratio, phi, scaled to 32-bits and rounded to odd. */
     private static final int GOLDEN_RATIO_32 = 0x9e3779b9;
+    /** Error message for a negative jump distance. */
+    private static final String NEGATIVE_JUMP_DISTANCE = "Jump distance must not be negative: ";
 
     /** Create an instance. */
     public BaseProvider() {}
@@ -56,6 +60,44 @@ public abstract class BaseProvider
         }
     }
 
+    /**
+     * Writes the state to the buffer.
+     *
+     * <p>The state is written at the current position of the buffer using a portable
+     * format: a header containing the format version and the length of the state in
+     * bytes; followed by the state. All values are little-endian irrespective of the
+     * byte order of the buffer. The state bytes are identical to the bytes of the
+     * {@link RandomProviderDefaultState} returned by {@link #saveState()}.</p>
+     *
+     * <p>The state is written directly to the buffer without creating an intermediate
+     * {@code byte[]} if the implementation supports it.</p>
+     *
+     * @param buffer Buffer.
+     * @throws java.nio.BufferOverflowException if there is insufficient space in the buffer.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only.
+     * @see #restoreState(ByteBuffer)
+     * @since 1.7
+     */
+    public void saveState(ByteBuffer buffer) {
+        StateIO.saveState(this, buffer);
+    }
+
+    /**
+     * Restores the state from the buffer.
+     *
+     * <p>The state is read from the current position of the buffer. It must have been
+     * written by {@link #saveState(ByteBuffer)} from an instance of the same class.</p>
+     *
+     * @param buffer Buffer.
+     * @throws IllegalStateException if the state format version is not supported, or the
+     * state is not consistent with the state defined by this class.
+     * @see #saveState(ByteBuffer)
+     * @since 1.7
+     */
+    public void restoreState(ByteBuffer buffer) {
+        StateIO.restoreState(this, buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -159,6 +201,51 @@ public abstract class BaseProvider
         }
     }
 
+    /**
+     * Writes the RNG state to the buffer. The buffer byte order is little-endian.
+     *
+     * <p>This is an alternative to {@link #getStateInternal()} that avoids the creation
+     * of intermediate arrays. The bytes written must be identical to the bytes returned
+     * by {@link #getStateInternal()}. A class that overrides one method must override
+     * both and end with a call to the parent class method, e.g.</p>
+     * <pre>
+     *  <code>
+     *    buffer.putLong(state0).putLong(state1);
+     *    super.writeStateInternal(buffer);
+     *  </code>
+     * </pre>
+     *
+     * <p>The method is only used if every class in the hierarchy that overrides
+     * {@link #getStateInternal()} and {@link #setStateInternal(byte[])} also overrides
+     * this method and {@link #readStateInternal(ByteBuffer)}. Otherwise the state is
+     * written using the {@code byte[]} state. The length of the state must be the same
+     * for all instances of the class.</p>
+     *
+     * @param buffer Buffer.
+     * @since 1.7
+     */
+    protected void writeStateInternal(ByteBuffer buffer) {
+        // This class has no state.
+    }
+
+    /**
+     * Reads the RNG state from the buffer. The buffer byte order is little-endian.
+     *
+     * <p>This is an alternative to {@link #setStateInternal(byte[])} that avoids the
+     * creation of intermediate arrays. The method must consume the bytes written by
+     * {@link #writeStateInternal(ByteBuffer)} and end with a call to the parent class
+     * method.</p>
+     *
+     * <p>The method is only called when the buffer contains a state of the correct
+     * length.</p>
+     *
+     * @param buffer Buffer.
+     * @since 1.7
+     */
+    protected void readStateInternal(ByteBuffer buffer) {
+        // This class has no state.
+    }
+
     /**
      * Simple filling procedure.
      * It will
@@ -259,6 +346,68 @@ public abstract class BaseProvider
         }
     }
 
+    /**
+     * Checks the jump {@code distance} is not negative.
+     *
+     * @param distance Distance.
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     * @since 1.7
+     */
+    protected static void checkJumpDistance(long distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException(NEGATIVE_JUMP_DISTANCE + distance);
+        }
+    }
+
+    /**
+     * Checks the jump {@code distance} is not negative.
+     *
+     * @param distance Distance.
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     * @since 1.7
+     */
+    protected static void checkJumpDistance(BigInteger distance) {
+        if (distance.signum() < 0) {
+            throw new IllegalArgumentException(NEGATIVE_JUMP_DISTANCE + distance);
+        }
+    }
+
+    /**
+     * Checks if the sub-range from fromIndex (inclusive) to fromIndex + size (exclusive) is
+     * within the bounds of range from 0 (inclusive) to length (exclusive).
+     *
+     * <p>This function provides the functionality of
+     * {@code java.utils.Objects.checkFromIndexSize} introduced in JDK 9. The
+     * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Objects.html#checkFromIndexSize(int,int,int)">Objects</a>
+     * javadoc has been reproduced for reference.
+     *
+     * <p>The sub-range is defined to be out of bounds if any of the following inequalities
+     * is true:
+     * <ul>
+     * <li>{@code fromIndex < 0}
+     * <li>{@code size < 0}
+     * <li>{@code fromIndex + size > length}, taking into account integer overflow
+     * <li>{@code length < 0}, which is implied from the former inequalities
+     * </ul>
+     *
+     * @param fromIndex the lower-bound (inclusive) of the sub-interval
+     * @param size the size of the sub-range
+     * @param length the upper-bound (exclusive) of the range
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @since 1.7
+     */
+    protected static void checkFromIndexSize(int fromIndex, int size, int length) {
+        // check for any negatives,
+        // or overflow safe length check given the values are all positive
+        // remaining = length - fromIndex
+        if ((fromIndex | size | length) < 0 || size > length - fromIndex) {
+            throw new IndexOutOfBoundsException(
+                // Note: %<d is 'relative indexing' to re-use the last argument
+                String.format("Range [%d, %<d + %d) out of bounds for length %d",
+                    fromIndex, size, length));
+        }
+    }
+
     /**
      * Transformation used to scramble the initial state of
      * a generator.
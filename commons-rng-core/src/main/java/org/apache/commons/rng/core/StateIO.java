@@ -0,0 +1,239 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+/**
+ * Support for writing and reading the state of a {@link BaseProvider} using a
+ * {@link ByteBuffer}.
+ *
+ * <p>The format is a header containing the format version and the length of the state
+ * in bytes; followed by the state. All values are little-endian.</p>
+ *
+ * @since 1.7
+ */
+final class StateIO {
+    /** Error message for an invalid state length. */
+    private static final String INVALID_STATE_LENGTH = "Invalid state length: ";
+    /** Version of the state format. */
+    private static final int STATE_FORMAT_VERSION = 1;
+    /** Size of the header: version and state length. */
+    private static final int STATE_HEADER_BYTES = 2 * Integer.BYTES;
+    /**
+     * Cache of the support for direct state I/O using
+     * {@link BaseProvider#writeStateInternal(ByteBuffer)} and
+     * {@link BaseProvider#readStateInternal(ByteBuffer)} for each class.
+     */
+    private static final ClassValue<DirectStateIO> DIRECT_STATE_IO = new ClassValue<DirectStateIO>() {
+        @Override
+        protected DirectStateIO computeValue(Class<?> type) {
+            return new DirectStateIO(supportsDirectStateIO(type));
+        }
+    };
+
+    /**
+     * Support for direct state I/O for a class.
+     */
+    private static final class DirectStateIO {
+        /** Set to true if the class supports direct state I/O. */
+        private final boolean supported;
+        /** Length of the state in bytes. This is negative until first use. */
+        private int length = -1;
+
+        /**
+         * @param supported Set to true if the class supports direct state I/O.
+         */
+        DirectStateIO(boolean supported) {
+            this.supported = supported;
+        }
+
+        /**
+         * Gets the length of the state in bytes. The length is the same for all
+         * instances of a class that supports direct state I/O.
+         *
+         * @param provider Provider.
+         * @return the length
+         */
+        int getLength(BaseProvider provider) {
+            int n = length;
+            if (n < 0) {
+                // Benign race: concurrent threads compute the same length.
+                n = provider.getStateInternal().length;
+                length = n;
+            }
+            return n;
+        }
+    }
+
+    /** No instances. */
+    private StateIO() {}
+
+    /**
+     * Writes the state of the provider to the buffer.
+     *
+     * @param provider Provider.
+     * @param buffer Buffer.
+     */
+    static void saveState(BaseProvider provider, ByteBuffer buffer) {
+        final ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            buffer.putInt(STATE_FORMAT_VERSION);
+            if (DIRECT_STATE_IO.get(provider.getClass()).supported) {
+                // Write the state length after the state
+                final int start = buffer.position();
+                buffer.putInt(0);
+                provider.writeStateInternal(buffer);
+                buffer.putInt(start, buffer.position() - start - Integer.BYTES);
+            } else {
+                final byte[] state = provider.getStateInternal();
+                buffer.putInt(state.length).put(state);
+            }
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Restores the state of the provider from the buffer.
+     *
+     * @param provider Provider.
+     * @param buffer Buffer.
+     * @throws IllegalStateException if the state format version is not supported, or the
+     * state is not consistent with the state defined by the provider.
+     */
+    static void restoreState(BaseProvider provider, ByteBuffer buffer) {
+        final ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            checkStateHeader(buffer);
+            final int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalStateException(INVALID_STATE_LENGTH + length);
+            }
+            final DirectStateIO io = DIRECT_STATE_IO.get(provider.getClass());
+            if (io.supported) {
+                // Validate before the state is read to leave the provider unchanged
+                // if the state is invalid
+                if (length != io.getLength(provider)) {
+                    throw new IllegalStateException(INVALID_STATE_LENGTH + length);
+                }
+                readState(provider, buffer, length);
+            } else {
+                final byte[] state = new byte[length];
+                buffer.get(state);
+                setState(provider, state);
+            }
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Check the state header in the buffer is a supported format version.
+     *
+     * @param buffer Buffer.
+     * @throws IllegalStateException if the state format version is not supported.
+     */
+    private static void checkStateHeader(ByteBuffer buffer) {
+        if (buffer.remaining() < STATE_HEADER_BYTES) {
+            throw new IllegalStateException("Missing state header");
+        }
+        final int version = buffer.getInt();
+        if (version != STATE_FORMAT_VERSION) {
+            throw new IllegalStateException("Unsupported state format version: " + version);
+        }
+    }
+
+    /**
+     * Reads the state of the provider directly from the buffer. The length of the
+     * state must have been validated.
+     *
+     * @param provider Provider.
+     * @param buffer Buffer.
+     * @param length Length of the state.
+     */
+    private static void readState(BaseProvider provider, ByteBuffer buffer, int length) {
+        // Limit reading to the state
+        final int start = buffer.position();
+        final int limit = buffer.limit();
+        buffer.limit(start + length);
+        try {
+            provider.readStateInternal(buffer);
+        } finally {
+            buffer.limit(limit);
+        }
+    }
+
+    /**
+     * Sets the state of the provider. The previous state is restored if the state is
+     * not consistent with the state defined by the provider.
+     *
+     * @param provider Provider.
+     * @param state State.
+     * @throws IllegalStateException if the state is not consistent with the state defined
+     * by the provider.
+     */
+    private static void setState(BaseProvider provider, byte[] state) {
+        // The state length of the provider is not known. The state may be partly
+        // set before it is found to be invalid.
+        final byte[] previous = provider.getStateInternal();
+        try {
+            provider.setStateInternal(state);
+        } catch (IllegalStateException ex) {
+            provider.setStateInternal(previous);
+            throw ex;
+        }
+    }
+
+    /**
+     * Checks if the class supports direct state I/O. Each class in the hierarchy that
+     * overrides a {@code byte[]} state method must override the corresponding
+     * {@link ByteBuffer} state method.
+     *
+     * @param type Class.
+     * @return true if direct state I/O is supported
+     */
+    private static boolean supportsDirectStateIO(Class<?> type) {
+        for (Class<?> c = type; c != BaseProvider.class; c = c.getSuperclass()) {
+            if (declares(c, "getStateInternal") != declares(c, "writeStateInternal", ByteBuffer.class) ||
+                declares(c, "setStateInternal", byte[].class) != declares(c, "readStateInternal", ByteBuffer.class)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Checks if the class declares the method.
+     *
+     * @param type Class.
+     * @param name Method name.
+     * @param parameterTypes Method parameter types.
+     * @return true if the method is declared
+     */
+    private static boolean declares(Class<?> type, String name, Class<?>... parameterTypes) {
+        try {
+            type.getDeclaredMethod(name, parameterTypes);
+            return true;
+        } catch (NoSuchMethodException ex) {
+            return false;
+        }
+    }
+}
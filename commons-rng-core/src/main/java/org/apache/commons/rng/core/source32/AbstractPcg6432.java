@@ -16,6 +16,9 @@
  */
 package org.apache.commons.rng.core.source32;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -59,11 +62,13 @@ import org.apache.commons.rng.core.util.NumberFactory;
  *  PCG generators may exhibit massive stream correlation</a>
  * @since 1.3
  */
-abstract class AbstractPcg6432 extends IntProvider {
+abstract class AbstractPcg6432 extends IntProvider implements ArbitrarilyJumpableUniformRandomProvider {
     /** Size of the seed array. */
     private static final int SEED_SIZE = 2;
     /** The default increment. */
     private static final long DEFAULT_INCREMENT = 1442695040888963407L;
+    /** The LCG multiplier. */
+    private static final long MULTIPLIER = 6364136223846793005L;
 
     /** The state of the LCG. */
     private long state;
@@ -103,6 +108,17 @@ abstract class AbstractPcg6432 extends IntProvider {
         }
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     */
+    AbstractPcg6432(AbstractPcg6432 source) {
+        super(source);
+        state = source.state;
+        increment = source.increment;
+    }
+
     /**
      * Seeds the RNG.
      *
@@ -121,7 +137,7 @@ abstract class AbstractPcg6432 extends IntProvider {
      * @return next state
      */
     private long bump(long input) {
-        return input * 6364136223846793005L + increment;
+        return input * MULTIPLIER + increment;
     }
 
     /** {@inheritDoc} */
@@ -141,6 +157,75 @@ abstract class AbstractPcg6432 extends IntProvider {
      */
     protected abstract int transform(long x);
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The LCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>64</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        return performAdvance(distance);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The LCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>64</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        // Reduce modulo the period 2^64
+        return performAdvance(distance.longValue());
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     */
+    protected abstract AbstractPcg6432 copy();
+
+    /**
+     * Create a copy and then advance the state of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param distance Distance (as an unsigned integer).
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(long distance) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Compute the LCG multiplier and addend for the jump using Brown's method:
+        // Brown, F.B. (1994) Random number generation with arbitrary strides.
+        // Transactions of the American Nuclear Society 71, 202-203.
+        long accMult = 1;
+        long accPlus = 0;
+        long curMult = MULTIPLIER;
+        long curPlus = increment;
+        for (long d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus *= curMult + 1;
+            curMult *= curMult;
+        }
+        state = accMult * state + accPlus;
+        resetCachedState();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected byte[] getStateInternal() {
@@ -162,4 +247,21 @@ abstract class AbstractPcg6432 extends IntProvider {
         increment = tempseed[1] << 1 | 1;
         super.setStateInternal(c[1]);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        // The increment is divided by 2 before saving.
+        buffer.putLong(state).putLong(increment >>> 1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state = buffer.getLong();
+        // Reverse the transform performed during save to make the increment odd again.
+        increment = buffer.getLong() << 1 | 1;
+        super.readStateInternal(buffer);
+    }
 }
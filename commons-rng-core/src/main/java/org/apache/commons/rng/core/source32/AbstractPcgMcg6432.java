@@ -16,6 +16,9 @@
  */
 package org.apache.commons.rng.core.source32;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -27,7 +30,10 @@ import org.apache.commons.rng.core.util.NumberFactory;
  *  PCG, A Family of Better Random Number Generators</a>
  * @since 1.3
  */
-abstract class AbstractPcgMcg6432 extends IntProvider {
+abstract class AbstractPcgMcg6432 extends IntProvider implements ArbitrarilyJumpableUniformRandomProvider {
+    /** The MCG multiplier. */
+    private static final long MULTIPLIER = 6364136223846793005L;
+
     /** The state of the MCG. */
     private long state;
 
@@ -44,6 +50,16 @@ abstract class AbstractPcgMcg6432 extends IntProvider {
         state = seed | 3;
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     */
+    AbstractPcgMcg6432(AbstractPcgMcg6432 source) {
+        super(source);
+        state = source.state;
+    }
+
     /**
      * Provides the next state of the MCG.
      *
@@ -51,7 +67,7 @@ abstract class AbstractPcgMcg6432 extends IntProvider {
      * @return next state
      */
     private static long bump(long input) {
-        return input * 6364136223846793005L;
+        return input * MULTIPLIER;
     }
 
     /** {@inheritDoc} */
@@ -71,6 +87,69 @@ abstract class AbstractPcgMcg6432 extends IntProvider {
      */
     protected abstract int transform(long x);
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The MCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>62</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        return performAdvance(distance);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The MCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>62</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        // Reduce modulo 2^64; this is a multiple of the period 2^62
+        return performAdvance(distance.longValue());
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     */
+    protected abstract AbstractPcgMcg6432 copy();
+
+    /**
+     * Create a copy and then advance the state of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param distance Distance (as an unsigned integer).
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(long distance) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Compute the multiplier for the jump, m^distance, by repeated squaring
+        long accMult = 1;
+        long curMult = MULTIPLIER;
+        for (long d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                accMult *= curMult;
+            }
+            curMult *= curMult;
+        }
+        state *= accMult;
+        resetCachedState();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected byte[] getStateInternal() {
@@ -86,4 +165,19 @@ abstract class AbstractPcgMcg6432 extends IntProvider {
         state = NumberFactory.makeLong(d[0]) | 3;
         super.setStateInternal(d[1]);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(state);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        // As per the constructor, ensure the lower 2 bits of state are set.
+        state = buffer.getLong() | 3;
+        super.readStateInternal(buffer);
+    }
 }
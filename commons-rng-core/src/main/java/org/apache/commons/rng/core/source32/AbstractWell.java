@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.core.source32;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.apache.commons.rng.core.util.NumberFactory;
 
@@ -83,6 +84,26 @@ public abstract class AbstractWell extends IntProvider {
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        for (final int s : v) {
+            buffer.putInt(s);
+        }
+        buffer.putInt(index);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        for (int i = 0; i < v.length; i++) {
+            v[i] = buffer.getInt();
+        }
+        index = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /**
      * Initializes the generator with the given {@code seed}.
      *
@@ -17,6 +17,10 @@
 
 package org.apache.commons.rng.core.source32;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -26,7 +30,11 @@ import org.apache.commons.rng.core.util.NumberFactory;
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoRoShiRo64 extends IntProvider {
+abstract class AbstractXoRoShiRo64 extends IntProvider implements ArbitrarilyJumpableUniformRandomProvider {
+    /** The characteristic polynomial used to compute jump coefficients. */
+    static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x053be9da6e2286c1L
+    });
     /** Size of the state vector. */
     private static final int SEED_SIZE = 2;
 
@@ -67,6 +75,18 @@ abstract class AbstractXoRoShiRo64 extends IntProvider {
         state1 = seed1;
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected AbstractXoRoShiRo64(AbstractXoRoShiRo64 source) {
+        super(source);
+        state0 = source.state0;
+        state1 = source.state1;
+    }
+
     /**
      * Copies the state from the array into the generator state.
      *
@@ -94,6 +114,21 @@ abstract class AbstractXoRoShiRo64 extends IntProvider {
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putInt(state0).putInt(state1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state0 = buffer.getInt();
+        state1 = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int next() {
@@ -117,4 +152,68 @@ abstract class AbstractXoRoShiRo64 extends IntProvider {
      * @return the next output
      */
     protected abstract int nextOutput();
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>64</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextInt()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>64</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     * @since 1.7
+     */
+    protected abstract AbstractXoRoShiRo64 copy();
+
+    /**
+     * Perform the jump to advance the generator state. Resets the cached state of the generator.
+     *
+     * @param jumpCoefficients Jump coefficients.
+     */
+    private void performJump(long[] jumpCoefficients) {
+        int s0 = 0;
+        int s1 = 0;
+        for (final long jc : jumpCoefficients) {
+            for (int b = 0; b < 64; b++) {
+                if ((jc & (1L << b)) != 0) {
+                    s0 ^= state0;
+                    s1 ^= state1;
+                }
+                next();
+            }
+        }
+        state0 = s0;
+        state1 = s1;
+        resetCachedState();
+    }
 }
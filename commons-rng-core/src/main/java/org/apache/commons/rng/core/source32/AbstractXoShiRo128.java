@@ -17,19 +17,28 @@
 
 package org.apache.commons.rng.core.source32;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the Xor-Shift-Rotate family of 32-bit
  * generators with 128-bits of state.
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
     /** Size of the state vector. */
     private static final int SEED_SIZE = 4;
     /** The coefficients for the jump function. */
@@ -40,6 +49,10 @@ abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUni
     private static final int[] LONG_JUMP_COEFFICIENTS = {
         0xb523952e, 0x0b6f099f, 0xccf5a0ef, 0x1c580662
     };
+    /** The characteristic polynomial used to compute jump coefficients. */
+    private static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x1b489db6de18fc01L, 0x00fc65a2006254b1L
+    });
 
     // State is maintained using variables rather than an array for performance
 
@@ -129,6 +142,23 @@ abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUni
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putInt(state0).putInt(state1).putInt(state2).putInt(state3);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state0 = buffer.getInt();
+        state1 = buffer.getInt();
+        state2 = buffer.getInt();
+        state3 = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int next() {
@@ -187,6 +217,40 @@ abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUni
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(toIntArray(JUMP_POLYNOMIAL.getCoefficients(distance)));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(toIntArray(JUMP_POLYNOMIAL.getCoefficients(distance)));
+        return copy;
+    }
+
     /**
      * Create a copy.
      *
@@ -221,4 +285,20 @@ abstract class AbstractXoShiRo128 extends IntProvider implements LongJumpableUni
         state3 = s3;
         resetCachedState();
     }
+
+    /**
+     * Convert the jump coefficients to the {@code int[]} format used by the
+     * 32-bit generator.
+     *
+     * @param jumpCoefficients Jump coefficients.
+     * @return the jump coefficients
+     */
+    private static int[] toIntArray(long[] jumpCoefficients) {
+        final int[] coefficients = new int[jumpCoefficients.length * 2];
+        for (int i = 0; i < jumpCoefficients.length; i++) {
+            coefficients[2 * i] = NumberFactory.extractLo(jumpCoefficients[i]);
+            coefficients[2 * i + 1] = NumberFactory.extractHi(jumpCoefficients[i]);
+        }
+        return coefficients;
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.commons.rng.core.source32;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.commons.rng.core.util.NumberFactory;
 import org.apache.commons.rng.core.BaseProvider;
 
@@ -92,6 +95,20 @@ public abstract class IntProvider
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putInt(booleanSource);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        booleanSource = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int nextInt() {
@@ -141,6 +158,57 @@ public abstract class IntProvider
         nextBytesFill(this, bytes, start, len);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void fillBytes(ByteBuffer buffer) {
+        final int position = buffer.position();
+        final int len = buffer.limit() - position;
+        if (buffer.hasArray()) {
+            nextBytesFill(this, buffer.array(), buffer.arrayOffset() + position, len);
+        } else {
+            nextBytesFill(this, buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN), len);
+        }
+        // Set the position using the Buffer type for JDK 8 binary compatibility
+        final Buffer b = buffer;
+        b.position(position + len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextInts(int[] values,
+                         int start,
+                         int len) {
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = next();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = NumberFactory.makeLong(next(), next());
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextDoubles(double[] values,
+                            int start,
+                            int len) {
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = NumberFactory.makeDouble(next(), next());
+        }
+    }
+
     /**
      * Generates random bytes and places them into a user-supplied array.
      *
@@ -191,39 +259,32 @@ public abstract class IntProvider
     }
 
     /**
-     * Checks if the sub-range from fromIndex (inclusive) to fromIndex + size (exclusive) is
-     * within the bounds of range from 0 (inclusive) to length (exclusive).
+     * Generates random bytes and places them into a user-supplied buffer.
      *
-     * <p>This function provides the functionality of
-     * {@code java.utils.Objects.checkFromIndexSize} introduced in JDK 9. The
-     * <a href="https://docs.oracle.com/en/java/javase/11/docs/api/java.base/java/util/Objects.html#checkFromIndexSize(int,int,int)">Objects</a>
-     * javadoc has been reproduced for reference.
+     * <p>The buffer is filled with bytes extracted from random {@code int} values
+     * using the same layout as {@link #nextBytesFill(RandomIntSource, byte[], int, int)}.
+     * The buffer must use little-endian byte order. The buffer position is not reset.
      *
-     * <p>The sub-range is defined to be out of bounds if any of the following inequalities
-     * is true:
-     * <ul>
-     * <li>{@code fromIndex < 0}
-     * <li>{@code size < 0}
-     * <li>{@code fromIndex + size > length}, taking into account integer overflow
-     * <li>{@code length < 0}, which is implied from the former inequalities
-     * </ul>
-     *
-     * @param fromIndex the lower-bound (inclusive) of the sub-interval
-     * @param size the size of the sub-range
-     * @param length the upper-bound (exclusive) of the range
-     * @return the fromIndex
-     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     * @param source Source of randomness.
+     * @param buffer Buffer in which to put the generated bytes.
+     * @param len Number of bytes to insert.
      */
-    private static int checkFromIndexSize(int fromIndex, int size, int length) {
-        // check for any negatives,
-        // or overflow safe length check given the values are all positive
-        // remaining = length - fromIndex
-        if ((fromIndex | size | length) < 0 || size > length - fromIndex) {
-            throw new IndexOutOfBoundsException(
-                // Note: %<d is 'relative indexing' to re-use the last argument
-                String.format("Range [%d, %<d + %d) out of bounds for length %d",
-                    fromIndex, size, length));
+    static void nextBytesFill(RandomIntSource source,
+                              ByteBuffer buffer,
+                              int len) {
+        // Fill 4 bytes at a time
+        for (int i = len >>> 2; i > 0; i--) {
+            buffer.putInt(source.next());
+        }
+
+        // Fill in the remaining bytes.
+        int remaining = len & 0x3;
+        if (remaining != 0) {
+            int random = source.next();
+            for (; remaining > 0; remaining--) {
+                buffer.put((byte) random);
+                random >>>= 8;
+            }
         }
-        return fromIndex;
     }
 }
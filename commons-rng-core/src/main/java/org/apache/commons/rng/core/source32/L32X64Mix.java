@@ -17,7 +17,10 @@
 
 package org.apache.commons.rng.core.source32;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
@@ -59,6 +62,7 @@ import org.apache.commons.rng.core.util.RandomStreams;
  * @since 1.5
  */
 public final class L32X64Mix extends IntProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider,
     SplittableUniformRandomProvider {
     // Implementation note:
     // This does not extend AbstractXoRoShiRo64 as the XBG function is re-implemented
@@ -161,6 +165,24 @@ public final class L32X64Mix extends IntProvider implements LongJumpableUniformR
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putInt(la).putInt(ls).putInt(x0).putInt(x1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        // Additive parameter must be odd
+        la = buffer.getInt() | 1;
+        ls = buffer.getInt();
+        x0 = buffer.getInt();
+        x1 = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public int next() {
@@ -226,6 +248,77 @@ public final class L32X64Mix extends IntProvider implements LongJumpableUniformR
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>32</sup> (2<sup>64</sup> - 1);
+     * larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        return performAdvance((int) distance,
+            AbstractXoRoShiRo64.JUMP_POLYNOMIAL.getCoefficients(distance));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>32</sup> (2<sup>64</sup> - 1);
+     * larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        return performAdvance(distance.intValue(),
+            AbstractXoRoShiRo64.JUMP_POLYNOMIAL.getCoefficients(distance));
+    }
+
+    /**
+     * Create a copy and then advance the state of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param distance Distance of the LCG (as an unsigned integer).
+     * @param jumpCoefficients Jump coefficients of the XBG.
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(int distance, long[] jumpCoefficients) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = new L32X64Mix(this);
+        // Advance the LCG (modulo 2^32)
+        ls = LXMSupport.advanceLcg(ls, la, distance);
+        // Advance the XBG
+        int s0 = x0;
+        int s1 = x1;
+        int t0 = 0;
+        int t1 = 0;
+        for (final long jc : jumpCoefficients) {
+            for (int b = 0; b < 64; b++) {
+                if ((jc & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                }
+                // XBG update
+                s1 ^= s0;
+                s0 = Integer.rotateLeft(s0, 26) ^ s1 ^ (s1 << 9); // a, b
+                s1 = Integer.rotateLeft(s1, 13); // c
+            }
+        }
+        x0 = t0;
+        x1 = t1;
+        resetCachedState();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     public SplittableUniformRandomProvider split(UniformRandomProvider source) {
@@ -87,4 +87,34 @@ final class LXMSupport {
         x = (x ^ (x >>> 16)) * 0xd36d884b;
         return x ^ (x >>> 16);
     }
+
+    /**
+     * Advance the state of the 32-bit LCG {@code s = m * s + a} by the specified
+     * number of steps using {@code O(log(distance))} multiplications.
+     *
+     * <p>Uses the method of Brown (1994) Random number generation with arbitrary strides.
+     * Transactions of the American Nuclear Society 71, 202-203.
+     *
+     * @param s LCG state.
+     * @param a LCG additive parameter.
+     * @param distance Number of steps (as an unsigned integer).
+     * @return the new state
+     */
+    static int advanceLcg(int s, int a, int distance) {
+        // Accumulated multiplier and addend
+        int accMult = 1;
+        int accPlus = 0;
+        // Multiplier and addend for a step of 2^i
+        int curMult = M32;
+        int curPlus = a;
+        for (int d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus *= curMult + 1;
+            curMult *= curMult;
+        }
+        return accMult * s + accPlus;
+    }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.core.source32;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.apache.commons.rng.core.util.NumberFactory;
 
@@ -139,6 +140,26 @@ public class MersenneTwister extends IntProvider {
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        for (final int s : mt) {
+            buffer.putInt(s);
+        }
+        buffer.putInt(mti);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        for (int i = 0; i < N; i++) {
+            mt[i] = buffer.getInt();
+        }
+        mti = buffer.getInt();
+        super.readStateInternal(buffer);
+    }
+
     /**
      * Initializes the generator with the given seed.
      *
@@ -144,4 +144,17 @@ public class MiddleSquareWeylSequence extends IntProvider {
         x = i2 | x << 32;
         return i1 | i2;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        // Override to use the optimised nextLong()
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = nextLong();
+        }
+    }
 }
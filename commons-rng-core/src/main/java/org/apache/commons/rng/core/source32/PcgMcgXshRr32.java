@@ -37,6 +37,24 @@ public class PcgMcgXshRr32 extends AbstractPcgMcg6432 {
         super(seed);
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected PcgMcgXshRr32(PcgMcgXshRr32 source) {
+        super(source);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PcgMcgXshRr32 copy() {
+        // This exists to ensure the jump function performed in the super class returns
+        // the correct class type. It should not be public.
+        return new PcgMcgXshRr32(this);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int transform(long x) {
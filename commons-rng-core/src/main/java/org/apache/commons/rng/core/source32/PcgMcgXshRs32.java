@@ -37,6 +37,24 @@ public class PcgMcgXshRs32 extends AbstractPcgMcg6432 {
         super(seed);
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected PcgMcgXshRs32(PcgMcgXshRs32 source) {
+        super(source);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PcgMcgXshRs32 copy() {
+        // This exists to ensure the jump function performed in the super class returns
+        // the correct class type. It should not be public.
+        return new PcgMcgXshRs32(this);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int transform(long x) {
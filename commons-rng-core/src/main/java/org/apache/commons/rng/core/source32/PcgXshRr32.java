@@ -61,6 +61,24 @@ public class PcgXshRr32 extends AbstractPcg6432 {
         super(seed);
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected PcgXshRr32(PcgXshRr32 source) {
+        super(source);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PcgXshRr32 copy() {
+        // This exists to ensure the jump function performed in the super class returns
+        // the correct class type. It should not be public.
+        return new PcgXshRr32(this);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int transform(long x) {
@@ -0,0 +1,341 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source32;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
+import org.apache.commons.rng.core.util.NumberFactory;
+
+/**
+ * A counter-based 32-bit generator using the Philox4x32-10 bijection.
+ *
+ * <p>Each output block of 4 {@code int} values is the result of applying 10 rounds of the
+ * Philox bijection to a 128-bit counter using a 64-bit key. The key selects an independent
+ * stream and the counter selects the position within the stream. The counter is incremented
+ * after each block and the period is 2<sup>130</sup>.</p>
+ *
+ * <p>The position in the output sequence is a simple function of the counter. A generator
+ * can be created at any position in any stream by specifying the key and counter in the
+ * seed; this allows a computation to be partitioned deterministically without
+ * coordination. The generator can be advanced any distance in a single operation by
+ * adding to the counter.</p>
+ *
+ * <p>Memory footprint is 192 bits for the key and counter, and 128 bits for the output
+ * block.</p>
+ *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
+ * @see <a href="https://www.thesalmons.org/john/random123/papers/random123sc11.pdf">
+ * Salmon, Moraes, Dror and Shaw (2011) Parallel Random Numbers: As Easy as 1, 2, 3.</a>
+ * @see <a href="https://github.com/DEShawResearch/random123">Random123 source code</a>
+ * @since 1.7
+ */
+public class Philox4x32 extends IntProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
+    /** Size of the seed array. */
+    private static final int SEED_SIZE = 6;
+    /** Size of the output block. */
+    private static final int BLOCK_SIZE = 4;
+    /** Multiplier for counter word 0. */
+    private static final int M0 = 0xd2511f53;
+    /** Multiplier for counter word 2. */
+    private static final int M1 = 0xcd9e8d57;
+    /** Weyl increment for key word 0 (golden ratio). */
+    private static final int W0 = 0x9e3779b9;
+    /** Weyl increment for key word 1 (sqrt(3) - 1). */
+    private static final int W1 = 0xbb67ae85;
+    /** Mask to extract the lower 32-bits of a long. */
+    private static final long MASK_32 = 0xffffffffL;
+
+    /** Key word 0. */
+    private int key0;
+    /** Key word 1. */
+    private int key1;
+    /** Counter word 0 (least significant). */
+    private int counter0;
+    /** Counter word 1. */
+    private int counter1;
+    /** Counter word 2. */
+    private int counter2;
+    /** Counter word 3 (most significant). */
+    private int counter3;
+    /** Output block for the current counter. */
+    private final int[] block = new int[BLOCK_SIZE];
+    /** Index of the next output in the block. */
+    private int index;
+
+    /**
+     * Creates a new instance.
+     *
+     * <p>The seed elements are used to set:</p>
+     *
+     * <ol>
+     *   <li>Key word 0
+     *   <li>Key word 1
+     *   <li>Counter word 0 (least significant)
+     *   <li>Counter word 1
+     *   <li>Counter word 2
+     *   <li>Counter word 3 (most significant)
+     * </ol>
+     *
+     * <p>The first output is the first value of the block for the counter.
+     *
+     * @param seed Initial seed.
+     * If the length is larger than 6, only the first 6 elements will
+     * be used; if smaller, the remaining elements will be set to zero.
+     * Any key is valid, including zero.
+     */
+    public Philox4x32(int[] seed) {
+        final int[] s = seed.length < SEED_SIZE ?
+            Arrays.copyOf(seed, SEED_SIZE) :
+            seed;
+        key0 = s[0];
+        key1 = s[1];
+        counter0 = s[2];
+        counter1 = s[3];
+        counter2 = s[4];
+        counter3 = s[5];
+        generate();
+    }
+
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     */
+    protected Philox4x32(Philox4x32 source) {
+        super(source);
+        key0 = source.key0;
+        key1 = source.key1;
+        counter0 = source.counter0;
+        counter1 = source.counter1;
+        counter2 = source.counter2;
+        counter3 = source.counter3;
+        System.arraycopy(source.block, 0, block, 0, BLOCK_SIZE);
+        index = source.index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] getStateInternal() {
+        return composeStateInternal(NumberFactory.makeByteArray(
+                                        new int[] {key0, key1, counter0, counter1, counter2, counter3, index}),
+                                    super.getStateInternal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setStateInternal(byte[] s) {
+        final byte[][] c = splitStateInternal(s, (SEED_SIZE + 1) * Integer.BYTES);
+        final int[] tmp = NumberFactory.makeIntArray(c[0]);
+        // Protect against an invalid index
+        checkIndex(0, BLOCK_SIZE, tmp[SEED_SIZE]);
+        key0 = tmp[0];
+        key1 = tmp[1];
+        counter0 = tmp[2];
+        counter1 = tmp[3];
+        counter2 = tmp[4];
+        counter3 = tmp[5];
+        generate();
+        index = tmp[SEED_SIZE];
+        super.setStateInternal(c[1]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int next() {
+        int i = index;
+        if (i == BLOCK_SIZE) {
+            incrementCounter();
+            generate();
+            i = 0;
+        }
+        index = i + 1;
+        return block[i];
+    }
+
+    /**
+     * Increment the 128-bit counter.
+     */
+    private void incrementCounter() {
+        counter0++;
+        if (counter0 != 0) {
+            return;
+        }
+        // Carry
+        counter1++;
+        if (counter1 != 0) {
+            return;
+        }
+        counter2++;
+        if (counter2 == 0) {
+            counter3++;
+        }
+    }
+
+    /**
+     * Generate the output block for the current counter using 10 rounds of the
+     * Philox bijection. Resets the index to the start of the block.
+     */
+    private void generate() {
+        int c0 = counter0;
+        int c1 = counter1;
+        int c2 = counter2;
+        int c3 = counter3;
+        int k0 = key0;
+        int k1 = key1;
+        for (int round = 0; round < 10; round++) {
+            if (round != 0) {
+                // Bump the key
+                k0 += W0;
+                k1 += W1;
+            }
+            final long p0 = (M0 & MASK_32) * (c0 & MASK_32);
+            final long p1 = (M1 & MASK_32) * (c2 & MASK_32);
+            final int t1 = c1;
+            c0 = (int) (p1 >>> 32) ^ t1 ^ k0;
+            c1 = (int) p1;
+            c2 = (int) (p0 >>> 32) ^ c3 ^ k1;
+            c3 = (int) p0;
+        }
+        block[0] = c0;
+        block[1] = c1;
+        block[2] = c2;
+        block[3] = c3;
+        index = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jump size is the equivalent of 2<sup>66</sup>
+     * calls to {@link UniformRandomProvider#nextInt() nextInt()}. This is performed by
+     * incrementing counter word 2. It can provide up to 2<sup>64</sup> non-overlapping
+     * subsequences.</p>
+     */
+    @Override
+    public UniformRandomProvider jump() {
+        final UniformRandomProvider copy = copy();
+        counter2++;
+        if (counter2 == 0) {
+            counter3++;
+        }
+        regenerate();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jump size is the equivalent of 2<sup>98</sup> calls to
+     * {@link UniformRandomProvider#nextInt() nextInt()}. This is performed by
+     * incrementing counter word 3. It can provide up to 2<sup>32</sup> non-overlapping
+     * subsequences of length 2<sup>98</sup>; each subsequence can provide up to
+     * 2<sup>32</sup> non-overlapping subsequences of length 2<sup>66</sup> using the
+     * {@link #jump()} method.</p>
+     */
+    @Override
+    public JumpableUniformRandomProvider longJump() {
+        final JumpableUniformRandomProvider copy = copy();
+        ++counter3;
+        regenerate();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * This is performed by adding the number of whole blocks to the counter. The period
+     * is 2<sup>130</sup>; larger distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        // The position in the block is at most 4 so this cannot overflow an unsigned long
+        final long steps = distance + index;
+        return performAdvance((int) steps & 0x3, steps >>> 2, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextInt() nextInt()}.
+     * This is performed by adding the number of whole blocks to the counter. The period
+     * is 2<sup>130</sup>; larger distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final BigInteger steps = distance.add(BigInteger.valueOf(index));
+        final BigInteger blocks = steps.shiftRight(2);
+        return performAdvance(steps.intValue() & 0x3, blocks.longValue(), blocks.shiftRight(Long.SIZE).longValue());
+    }
+
+    /**
+     * Create a copy and then advance the counter of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param position Position in the output block after the advance.
+     * @param blocks0 Lower 64-bits of the number of blocks to add to the counter.
+     * @param blocks1 Upper 64-bits of the number of blocks to add to the counter.
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(int position, long blocks0, long blocks1) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // 128-bit addition using the 32-bit counter words
+        long s = (counter0 & MASK_32) + (blocks0 & MASK_32);
+        counter0 = (int) s;
+        s = (counter1 & MASK_32) + (blocks0 >>> 32) + (s >>> 32);
+        counter1 = (int) s;
+        s = (counter2 & MASK_32) + (blocks1 & MASK_32) + (s >>> 32);
+        counter2 = (int) s;
+        counter3 += (int) (blocks1 >>> 32) + (int) (s >>> 32);
+        generate();
+        index = position;
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * Regenerate the output block after a change to the counter. The position
+     * within the block is unchanged. Resets the cached state of the generator.
+     */
+    private void regenerate() {
+        final int i = index;
+        generate();
+        index = i;
+        resetCachedState();
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     */
+    protected Philox4x32 copy() {
+        // This exists to ensure the jump functions return a copy of the correct
+        // class type. It should not be public.
+        return new Philox4x32(this);
+    }
+}
@@ -52,9 +52,27 @@ public class XoRoShiRo64Star extends AbstractXoRoShiRo64 {
         super(seed0, seed1);
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected XoRoShiRo64Star(XoRoShiRo64Star source) {
+        super(source);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int nextOutput() {
         return state0 * 0x9e3779bb;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected XoRoShiRo64Star copy() {
+        // This exists to ensure the jump function performed in the super class returns
+        // the correct class type. It should not be public.
+        return new XoRoShiRo64Star(this);
+    }
 }
@@ -52,9 +52,27 @@ public class XoRoShiRo64StarStar extends AbstractXoRoShiRo64 {
         super(seed0, seed1);
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected XoRoShiRo64StarStar(XoRoShiRo64StarStar source) {
+        super(source);
+    }
+
     /** {@inheritDoc} */
     @Override
     protected int nextOutput() {
         return Integer.rotateLeft(state0 * 0x9e3779bb, 5) * 5;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected XoRoShiRo64StarStar copy() {
+        // This exists to ensure the jump function performed in the super class returns
+        // the correct class type. It should not be public.
+        return new XoRoShiRo64StarStar(this);
+    }
 }
@@ -17,19 +17,24 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the LXM family of
  * generators with a 128-bit LCG sub-generator. The class implements
- * the jump functions.
+ * the jump and advance functions.
  *
  * @since 1.5
  */
-abstract class AbstractL128 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractL128 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider {
     /** Size of the seed vector. */
     private static final int SEED_SIZE = 4;
     /** Low half of 128-bit LCG multiplier. */
@@ -124,6 +129,24 @@ abstract class AbstractL128 extends LongProvider implements LongJumpableUniformR
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(lah).putLong(lal).putLong(lsh).putLong(lsl);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        lah = buffer.getLong();
+        // Additive parameter must be odd
+        lal = buffer.getLong() | 1;
+        lsh = buffer.getLong();
+        lsl = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /**
      * Creates a copy of the UniformRandomProvider and then <em>retreats</em> the state of the
      * current instance. The copy is returned.
@@ -176,6 +199,79 @@ abstract class AbstractL128 extends LongProvider implements LongJumpableUniformR
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>128</sup> (2<sup>n</sup> - 1)
+     * where {@code n} is the size of the XBG state; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final long[] jumpCoefficients = getXbgJumpPolynomial().getCoefficients(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Advance the LCG (modulo 2^128)
+        setLcgState(LXMSupport.advanceLcg(lsh, lsl, lah, lal, 0, distance));
+        performXbgJump(jumpCoefficients);
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>128</sup> (2<sup>n</sup> - 1)
+     * where {@code n} is the size of the XBG state; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final long[] jumpCoefficients = getXbgJumpPolynomial().getCoefficients(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Advance the LCG (modulo 2^128)
+        setLcgState(LXMSupport.advanceLcg(lsh, lsl, lah, lal,
+            distance.shiftRight(Long.SIZE).longValue(), distance.longValue()));
+        performXbgJump(jumpCoefficients);
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * Gets the characteristic polynomial of the XBG sub-generator.
+     *
+     * @return the polynomial
+     */
+    abstract JumpPolynomial getXbgJumpPolynomial();
+
+    /**
+     * Perform the jump to advance the XBG sub-generator state. The LCG state is unchanged.
+     *
+     * @param jumpCoefficients Jump coefficients.
+     */
+    abstract void performXbgJump(long[] jumpCoefficients);
+
+    /**
+     * Sets the LCG state.
+     *
+     * @param state the new state as {@code {high, low}}
+     */
+    private void setLcgState(long[] state) {
+        lsh = state[0];
+        lsl = state[1];
+    }
+
     /**
      * Create a copy.
      *
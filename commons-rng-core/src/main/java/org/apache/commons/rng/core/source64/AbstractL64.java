@@ -17,19 +17,24 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the LXM family of
  * generators with a 64-bit LCG sub-generator. The class implements
- * the jump functions.
+ * the jump and advance functions.
  *
  * @since 1.5
  */
-abstract class AbstractL64 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractL64 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider {
     /** Size of the seed vector. */
     private static final int SEED_SIZE = 2;
 
@@ -109,6 +114,22 @@ abstract class AbstractL64 extends LongProvider implements LongJumpableUniformRa
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(la).putLong(ls);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        // Additive parameter must be odd
+        la = buffer.getLong() | 1;
+        ls = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /**
      * Creates a copy of the UniformRandomProvider and then <em>retreats</em> the state of the
      * current instance. The copy is returned.
@@ -141,6 +162,68 @@ abstract class AbstractL64 extends LongProvider implements LongJumpableUniformRa
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>64</sup> (2<sup>n</sup> - 1)
+     * where {@code n} is the size of the XBG state; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final long[] jumpCoefficients = getXbgJumpPolynomial().getCoefficients(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Advance the LCG (modulo 2^64)
+        ls = LXMSupport.advanceLcg(ls, la, distance);
+        performXbgJump(jumpCoefficients);
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The LCG and XBG sub-generators are advanced independently. The LCG is advanced
+     * using {@code O(log(distance))} multiplications; the XBG is advanced using its
+     * characteristic polynomial. The period is 2<sup>64</sup> (2<sup>n</sup> - 1)
+     * where {@code n} is the size of the XBG state; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final long[] jumpCoefficients = getXbgJumpPolynomial().getCoefficients(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Advance the LCG (modulo 2^64)
+        ls = LXMSupport.advanceLcg(ls, la, distance.longValue());
+        performXbgJump(jumpCoefficients);
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * Gets the characteristic polynomial of the XBG sub-generator.
+     *
+     * @return the polynomial
+     */
+    abstract JumpPolynomial getXbgJumpPolynomial();
+
+    /**
+     * Perform the jump to advance the XBG sub-generator state. The LCG state is unchanged.
+     *
+     * @param jumpCoefficients Jump coefficients.
+     */
+    abstract void performXbgJump(long[] jumpCoefficients);
+
     /**
      * Create a copy.
      *
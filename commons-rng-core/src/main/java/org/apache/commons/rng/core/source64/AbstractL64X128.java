@@ -17,8 +17,11 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.nio.ByteBuffer;
+
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -111,6 +114,36 @@ abstract class AbstractL64X128 extends AbstractL64 {
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(x0).putLong(x1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        x0 = buffer.getLong();
+        x1 = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    JumpPolynomial getXbgJumpPolynomial() {
+        return AbstractXoRoShiRo128.JUMP_POLYNOMIAL;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void performXbgJump(long[] jumpCoefficients) {
+        final long[] x = {x0, x1};
+        LXMSupport.jumpXoRoShiRo128(x, jumpCoefficients);
+        x0 = x[0];
+        x1 = x[1];
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -17,21 +17,40 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
 
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
+import org.apache.commons.rng.core.util.JumpTable;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the Xor-Shift-Rotate family of 64-bit
  * generators with 1024-bits of state.
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoRoShiRo1024 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractXoRoShiRo1024 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
+    /** The characteristic polynomial used to compute jump coefficients. */
+    static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x5cfeb8cc48ddb211L, 0xb73e379d035a06ddL, 0x17d5100a20a0350eL, 0x7550223f68f98cacL,
+        0x29d373b5c5ed3459L, 0x3689b412ef70de48L, 0xa1d3b6ee079a7cc6L, 0x9bf0b669abd100f8L,
+        0x955c84e105f60997L, 0x6ca140c61889cdddL, 0xabaf68c5fc3a0e4aL, 0xa46134526b83adc5L,
+        0x0710704d05683d63L, 0x580d080b44b606a2L, 0x008040a0580158a1L, 0x0000000000800081L
+    });
     /** Size of the state vector. */
     private static final int SEED_SIZE = 16;
     /** The coefficients for the jump function. */
@@ -48,6 +67,10 @@ abstract class AbstractXoRoShiRo1024 extends LongProvider implements LongJumpabl
         0x68280c77d9fe008cL, 0x50554160f5ba9459L, 0x2fc20b17ec7b2a9aL, 0x49189bbdc8ec9f8fL,
         0x92a65bca41852cc1L, 0xf46820dd0509c12aL, 0x52b00c35fbf92185L, 0x1e5b3b7f589e03c1L,
     };
+    /** The precomputed table for the jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> JUMP_TABLE = new AtomicReference<>();
+    /** The precomputed table for the long jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> LONG_JUMP_TABLE = new AtomicReference<>();
     /** State. */
     private final long[] state = new long[SEED_SIZE];
     /** Index in "state" array. */
@@ -98,6 +121,26 @@ abstract class AbstractXoRoShiRo1024 extends LongProvider implements LongJumpabl
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        for (final long s : state) {
+            buffer.putLong(s);
+        }
+        buffer.putLong(index);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        for (int i = 0; i < SEED_SIZE; i++) {
+            state[i] = buffer.getLong();
+        }
+        index = (int) buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /**
      * Seeds the RNG.
      *
@@ -167,6 +210,127 @@ abstract class AbstractXoRoShiRo1024 extends LongProvider implements LongJumpabl
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #jump()}
+     * function. This is faster than repeat calls to {@link #jump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<UniformRandomProvider> jumps() {
+        return getJumpTable(JUMP_TABLE, JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #longJump()}
+     * function. This is faster than repeat calls to {@link #longJump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<JumpableUniformRandomProvider> longJumps() {
+        return getJumpTable(LONG_JUMP_TABLE, LONG_JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * Sets the state after a table jump and resets the cached state.
+     *
+     * @param s the new state
+     */
+    private void setJumpedState(long[] s) {
+        setState(s);
+        resetCachedState();
+    }
+
+    /**
+     * Gets the jump table, creating it if necessary.
+     *
+     * @param ref Reference to the table.
+     * @param jumpCoefficients Jump coefficients.
+     * @return the table
+     */
+    private JumpTable getJumpTable(AtomicReference<JumpTable> ref, long[] jumpCoefficients) {
+        return JumpTable.getOrCreate(ref, SEED_SIZE, () -> {
+            // Compute using a copy to preserve the state of this instance.
+            final AbstractXoRoShiRo1024 rng = copy();
+            return s -> {
+                rng.setState(s);
+                rng.performJump(jumpCoefficients);
+                System.arraycopy(rng.getState(), 0, s, 0, SEED_SIZE);
+            };
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>1024</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>1024</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * Copies the generator state into an array. The state is ordered starting
+     * from the current index.
+     *
+     * @return the state
+     */
+    private long[] getState() {
+        final long[] s = new long[SEED_SIZE];
+        for (int i = 0; i < SEED_SIZE; i++) {
+            s[i] = state[(i + index) & 15];
+        }
+        return s;
+    }
+
+    /**
+     * Copies the state from the array into the generator state. The state is ordered
+     * starting from the current index.
+     *
+     * @param s the new state
+     */
+    private void setState(long[] s) {
+        for (int i = 0; i < SEED_SIZE; i++) {
+            state[(i + index) & 15] = s[i];
+        }
+    }
+
     /**
      * Create a copy.
      *
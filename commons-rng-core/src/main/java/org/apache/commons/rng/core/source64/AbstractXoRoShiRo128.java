@@ -17,19 +17,32 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the Xor-Shift-Rotate family of 64-bit
  * generators with 128-bits of state.
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoRoShiRo128 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractXoRoShiRo128 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
+    /** The characteristic polynomial used to compute jump coefficients. */
+    static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x095b8f76579aa001L, 0x0008828e513b43d5L
+    });
     /** Size of the state vector. */
     private static final int SEED_SIZE = 2;
     /** The coefficients for the jump function. */
@@ -116,6 +129,21 @@ abstract class AbstractXoRoShiRo128 extends LongProvider implements LongJumpable
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(state0).putLong(state1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state0 = buffer.getLong();
+        state1 = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long next() {
@@ -170,6 +198,40 @@ abstract class AbstractXoRoShiRo128 extends LongProvider implements LongJumpable
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
     /**
      * Create a copy.
      *
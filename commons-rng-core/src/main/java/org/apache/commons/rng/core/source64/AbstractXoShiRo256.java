@@ -17,19 +17,36 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
+import org.apache.commons.rng.core.util.JumpTable;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the Xor-Shift-Rotate family of 64-bit
  * generators with 256-bits of state.
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
+    /** The characteristic polynomial used to compute jump coefficients. */
+    static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x9d116f2bb0f0f001L, 0x0280002bcefd1a5eL,
+        0x04b4edcf26259f85L, 0x0003c03c3f3ecb19L
+    });
     /** Size of the state vector. */
     private static final int SEED_SIZE = 4;
     /** The coefficients for the jump function. */
@@ -40,6 +57,10 @@ abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUn
     private static final long[] LONG_JUMP_COEFFICIENTS = {
         0x76e15d3efefdcbbfL, 0xc5004e441c522fb3L, 0x77710069854ee241L, 0x39109bb02acbe635L
     };
+    /** The precomputed table for the jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> JUMP_TABLE = new AtomicReference<>();
+    /** The precomputed table for the long jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> LONG_JUMP_TABLE = new AtomicReference<>();
 
     // State is maintained using variables rather than an array for performance
 
@@ -111,6 +132,15 @@ abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUn
         state3 = state[3];
     }
 
+    /**
+     * Copies the generator state into an array.
+     *
+     * @return the state
+     */
+    private long[] getState() {
+        return new long[] {state0, state1, state2, state3};
+    }
+
     /** {@inheritDoc} */
     @Override
     protected byte[] getStateInternal() {
@@ -129,6 +159,23 @@ abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUn
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(state0).putLong(state1).putLong(state2).putLong(state3);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state0 = buffer.getLong();
+        state1 = buffer.getLong();
+        state2 = buffer.getLong();
+        state3 = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long next() {
@@ -157,6 +204,27 @@ abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUn
      */
     protected abstract long nextOutput();
 
+    /**
+     * Update the state stored in the array at the specified offset.
+     * This is the state update of {@link #next()} for a generator state
+     * held in an array.
+     *
+     * @param s State array.
+     * @param i Offset of the state.
+     */
+    static void update(long[] s, int i) {
+        final long t = s[i + 1] << 17;
+
+        s[i + 2] ^= s[i];
+        s[i + 3] ^= s[i + 1];
+        s[i + 1] ^= s[i + 2];
+        s[i] ^= s[i + 3];
+
+        s[i + 2] ^= t;
+
+        s[i + 3] = Long.rotateLeft(s[i + 3], 45);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -187,6 +255,101 @@ abstract class AbstractXoShiRo256 extends LongProvider implements LongJumpableUn
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #jump()}
+     * function. This is faster than repeat calls to {@link #jump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<UniformRandomProvider> jumps() {
+        return getJumpTable(JUMP_TABLE, JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #longJump()}
+     * function. This is faster than repeat calls to {@link #longJump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<JumpableUniformRandomProvider> longJumps() {
+        return getJumpTable(LONG_JUMP_TABLE, LONG_JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * Sets the state after a table jump and resets the cached state.
+     *
+     * @param s the new state
+     */
+    private void setJumpedState(long[] s) {
+        setState(s);
+        resetCachedState();
+    }
+
+    /**
+     * Gets the jump table, creating it if necessary.
+     *
+     * @param ref Reference to the table.
+     * @param jumpCoefficients Jump coefficients.
+     * @return the table
+     */
+    private JumpTable getJumpTable(AtomicReference<JumpTable> ref, long[] jumpCoefficients) {
+        return JumpTable.getOrCreate(ref, SEED_SIZE, () -> {
+            // Compute using a copy to preserve the state of this instance.
+            final AbstractXoShiRo256 rng = copy();
+            return s -> {
+                rng.setState(s);
+                rng.performJump(jumpCoefficients);
+                System.arraycopy(rng.getState(), 0, s, 0, SEED_SIZE);
+            };
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>256</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>256</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
     /**
      * Create a copy.
      *
@@ -17,19 +17,31 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Stream;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
+import org.apache.commons.rng.core.util.JumpTable;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
  * This abstract class is a base for algorithms from the Xor-Shift-Rotate family of 64-bit
  * generators with 512-bits of state.
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
  * @since 1.3
  */
-abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUniformRandomProvider {
+abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
     /** Size of the state vector. */
     private static final int SEED_SIZE = 8;
     /** The coefficients for the jump function. */
@@ -42,6 +54,15 @@ abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUn
         0x11467fef8f921d28L, 0xa2a819f2e79c8ea8L, 0xa8299fc284b3959aL, 0xb4d347340ca63ee1L,
         0x1cb0940bedbff6ceL, 0xd956c5c4fa1f8e17L, 0x915e38fd4eda93bcL, 0x5b3ccdfa5d7daca5L
     };
+    /** The precomputed table for the jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> JUMP_TABLE = new AtomicReference<>();
+    /** The precomputed table for the long jump function. Created on first use. */
+    private static final AtomicReference<JumpTable> LONG_JUMP_TABLE = new AtomicReference<>();
+    /** The characteristic polynomial used to compute jump coefficients. */
+    private static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0xcf3cff0c00000001L, 0x7fdc78d886f00c63L, 0xf05e63fca6d7b781L, 0x7a67058e7bbab6f0L,
+        0xf11eef832e32518fL, 0x51ba7c47edc758adL, 0x8f2d27268ce4b20bL, 0x0000500055d8b77fL
+    });
 
     // State is maintained using variables rather than an array for performance
 
@@ -138,6 +159,15 @@ abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUn
         state7 = state[7];
     }
 
+    /**
+     * Copies the generator state into an array.
+     *
+     * @return the state
+     */
+    private long[] getState() {
+        return new long[] {state0, state1, state2, state3, state4, state5, state6, state7};
+    }
+
     /** {@inheritDoc} */
     @Override
     protected byte[] getStateInternal() {
@@ -157,6 +187,28 @@ abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUn
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(state0).putLong(state1).putLong(state2).putLong(state3);
+        buffer.putLong(state4).putLong(state5).putLong(state6).putLong(state7);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state0 = buffer.getLong();
+        state1 = buffer.getLong();
+        state2 = buffer.getLong();
+        state3 = buffer.getLong();
+        state4 = buffer.getLong();
+        state5 = buffer.getLong();
+        state6 = buffer.getLong();
+        state7 = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long next() {
@@ -218,6 +270,101 @@ abstract class AbstractXoShiRo512 extends LongProvider implements LongJumpableUn
         performJump(LONG_JUMP_COEFFICIENTS);
         return copy;
     }
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #jump()}
+     * function. This is faster than repeat calls to {@link #jump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<UniformRandomProvider> jumps() {
+        return getJumpTable(JUMP_TABLE, JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jumps are performed using a precomputed table of the {@link #longJump()}
+     * function. This is faster than repeat calls to {@link #longJump()} when creating
+     * many generators. The table is created on first use and shared by all
+     * instances.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public Stream<JumpableUniformRandomProvider> longJumps() {
+        return getJumpTable(LONG_JUMP_TABLE, LONG_JUMP_COEFFICIENTS)
+            .jumps(this::copy, this::getState, this::setJumpedState);
+    }
+
+    /**
+     * Sets the state after a table jump and resets the cached state.
+     *
+     * @param s the new state
+     */
+    private void setJumpedState(long[] s) {
+        setState(s);
+        resetCachedState();
+    }
+
+    /**
+     * Gets the jump table, creating it if necessary.
+     *
+     * @param ref Reference to the table.
+     * @param jumpCoefficients Jump coefficients.
+     * @return the table
+     */
+    private JumpTable getJumpTable(AtomicReference<JumpTable> ref, long[] jumpCoefficients) {
+        return JumpTable.getOrCreate(ref, SEED_SIZE, () -> {
+            // Compute using a copy to preserve the state of this instance.
+            final AbstractXoShiRo512 rng = copy();
+            return s -> {
+                rng.setState(s);
+                rng.performJump(jumpCoefficients);
+                System.arraycopy(rng.getState(), 0, s, 0, SEED_SIZE);
+            };
+        });
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>512</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>512</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
     /**
      * Create a copy.
      *
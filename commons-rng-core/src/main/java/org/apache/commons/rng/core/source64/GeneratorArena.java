@@ -0,0 +1,404 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Stores the state of a large number of 64-bit generators of the same algorithm in a
+ * single {@code long[]} array.
+ *
+ * <p>Each generator in the arena is identified by an index. The state of generator
+ * {@code i} is stored contiguously in the array and updated in place by
+ * {@link #nextLong(int)}. This avoids the object header, cached values and separate
+ * state arrays of a generator instance; the memory per generator is the size of the
+ * algorithm state only. This is suitable for simulations where each of a very large
+ * number of entities owns an independent generator.
+ *
+ * <p>The output of generator {@code i} is identical to the output of a generator
+ * instance created with the same seed; the seed of each generator can be set using
+ * {@link #setSeed(int, long[])}. A {@link Cursor} provides a
+ * {@link UniformRandomProvider} view of a generator that can be moved to any index.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * GeneratorArena arena = GeneratorArena.xoShiRo256PlusPlus(entities, RandomSource.SPLIT_MIX_64.create());
+ * GeneratorArena.Cursor rng = arena.cursor();
+ * for (int i = 0; i &lt; entities; i++) {
+ *     double x = rng.moveTo(i).nextDouble();
+ *     // ...
+ * }
+ * </code></pre>
+ *
+ * <p>Note: The arena is not thread-safe. Generators with different indices can be
+ * used concurrently by different threads.
+ *
+ * @since 1.7
+ */
+public abstract class GeneratorArena {
+    /** The state of all generators. */
+    private final long[] state;
+    /** The number of generators. */
+    private final int count;
+    /** The size of the state of each generator. */
+    private final int stride;
+
+    /**
+     * A view of a generator in the arena. The view can be moved to any generator.
+     *
+     * <p>Note: Only the {@link #nextLong()} method is implemented; all other methods
+     * use the default implementation of {@link UniformRandomProvider}. The output of
+     * these methods may differ from the output of a generator instance.
+     */
+    public static final class Cursor implements UniformRandomProvider {
+        /** The arena. */
+        private final GeneratorArena arena;
+        /** The offset of the state of the current generator. */
+        private int offset;
+        /** The index of the current generator. */
+        private int index;
+
+        /**
+         * @param arena Arena.
+         */
+        Cursor(GeneratorArena arena) {
+            this.arena = arena;
+        }
+
+        /**
+         * Moves the cursor to the generator at the specified index.
+         *
+         * @param i Index.
+         * @return this instance
+         * @throws IndexOutOfBoundsException if the index is out of bounds.
+         */
+        public Cursor moveTo(int i) {
+            offset = arena.offset(i);
+            index = i;
+            return this;
+        }
+
+        /**
+         * Gets the index of the current generator.
+         *
+         * @return the index
+         */
+        public int getIndex() {
+            return index;
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public long nextLong() {
+            return arena.next(arena.state, offset);
+        }
+    }
+
+    /**
+     * Arena of {@link XoShiRo256PlusPlus} generators.
+     */
+    private static final class XoShiRo256PlusPlusArena extends GeneratorArena {
+        /** Size of the state of each generator. */
+        static final int STRIDE = 4;
+
+        /**
+         * @param size Number of generators.
+         */
+        XoShiRo256PlusPlusArena(int size) {
+            super(size, STRIDE);
+        }
+
+        @Override
+        long next(long[] s, int i) {
+            return XoShiRo256PlusPlus.step(s, i);
+        }
+
+        @Override
+        void setSeed(long[] s, int i, long[] seed) {
+            final XoShiRo256PlusPlus rng = new XoShiRo256PlusPlus(seed);
+            s[i] = rng.state0;
+            s[i + 1] = rng.state1;
+            s[i + 2] = rng.state2;
+            s[i + 3] = rng.state3;
+        }
+    }
+
+    /**
+     * Arena of {@link XoShiRo256StarStar} generators.
+     */
+    private static final class XoShiRo256StarStarArena extends GeneratorArena {
+        /** Size of the state of each generator. */
+        static final int STRIDE = 4;
+
+        /**
+         * @param size Number of generators.
+         */
+        XoShiRo256StarStarArena(int size) {
+            super(size, STRIDE);
+        }
+
+        @Override
+        long next(long[] s, int i) {
+            return XoShiRo256StarStar.step(s, i);
+        }
+
+        @Override
+        void setSeed(long[] s, int i, long[] seed) {
+            final XoShiRo256StarStar rng = new XoShiRo256StarStar(seed);
+            s[i] = rng.state0;
+            s[i + 1] = rng.state1;
+            s[i + 2] = rng.state2;
+            s[i + 3] = rng.state3;
+        }
+    }
+
+    /**
+     * Arena of {@link XoRoShiRo128PlusPlus} generators.
+     */
+    private static final class XoRoShiRo128PlusPlusArena extends GeneratorArena {
+        /** Size of the state of each generator. */
+        static final int STRIDE = 2;
+
+        /**
+         * @param size Number of generators.
+         */
+        XoRoShiRo128PlusPlusArena(int size) {
+            super(size, STRIDE);
+        }
+
+        @Override
+        long next(long[] s, int i) {
+            return XoRoShiRo128PlusPlus.step(s, i);
+        }
+
+        @Override
+        void setSeed(long[] s, int i, long[] seed) {
+            final XoRoShiRo128PlusPlus rng = new XoRoShiRo128PlusPlus(seed);
+            s[i] = rng.state0;
+            s[i + 1] = rng.state1;
+        }
+    }
+
+    /**
+     * Arena of {@link L64X128Mix} generators.
+     *
+     * <p>The state is stored as: LCG additive parameter; LCG state; XBG state.
+     */
+    private static final class L64X128MixArena extends GeneratorArena {
+        /** Size of the state of each generator. */
+        static final int STRIDE = 4;
+
+        /**
+         * @param size Number of generators.
+         */
+        L64X128MixArena(int size) {
+            super(size, STRIDE);
+        }
+
+        @Override
+        long next(long[] s, int i) {
+            return L64X128Mix.step(s, i);
+        }
+
+        @Override
+        void setSeed(long[] s, int i, long[] seed) {
+            final L64X128Mix rng = new L64X128Mix(seed);
+            s[i] = rng.la;
+            s[i + 1] = rng.ls;
+            s[i + 2] = rng.x0;
+            s[i + 3] = rng.x1;
+        }
+    }
+
+    /**
+     * Create an instance.
+     *
+     * <p>The size must be validated using {@link #checkSize(int, int)}.
+     *
+     * @param size Number of generators.
+     * @param stride Size of the state of each generator.
+     */
+    GeneratorArena(int size, int stride) {
+        state = new long[size * stride];
+        count = size;
+        this.stride = stride;
+    }
+
+    /**
+     * Creates an arena of {@link XoShiRo256PlusPlus} generators.
+     *
+     * @param size Number of generators.
+     * @param seedSource Source of randomness used to seed the generators.
+     * @return the arena
+     * @throws IllegalArgumentException if {@code size < 0} or the arena is too large.
+     */
+    public static GeneratorArena xoShiRo256PlusPlus(int size, UniformRandomProvider seedSource) {
+        return seed(new XoShiRo256PlusPlusArena(checkSize(size, XoShiRo256PlusPlusArena.STRIDE)), seedSource);
+    }
+
+    /**
+     * Creates an arena of {@link XoShiRo256StarStar} generators.
+     *
+     * @param size Number of generators.
+     * @param seedSource Source of randomness used to seed the generators.
+     * @return the arena
+     * @throws IllegalArgumentException if {@code size < 0} or the arena is too large.
+     */
+    public static GeneratorArena xoShiRo256StarStar(int size, UniformRandomProvider seedSource) {
+        return seed(new XoShiRo256StarStarArena(checkSize(size, XoShiRo256StarStarArena.STRIDE)), seedSource);
+    }
+
+    /**
+     * Creates an arena of {@link XoRoShiRo128PlusPlus} generators.
+     *
+     * @param size Number of generators.
+     * @param seedSource Source of randomness used to seed the generators.
+     * @return the arena
+     * @throws IllegalArgumentException if {@code size < 0} or the arena is too large.
+     */
+    public static GeneratorArena xoRoShiRo128PlusPlus(int size, UniformRandomProvider seedSource) {
+        return seed(new XoRoShiRo128PlusPlusArena(checkSize(size, XoRoShiRo128PlusPlusArena.STRIDE)), seedSource);
+    }
+
+    /**
+     * Creates an arena of {@link L64X128Mix} generators.
+     *
+     * @param size Number of generators.
+     * @param seedSource Source of randomness used to seed the generators.
+     * @return the arena
+     * @throws IllegalArgumentException if {@code size < 0} or the arena is too large.
+     */
+    public static GeneratorArena l64X128Mix(int size, UniformRandomProvider seedSource) {
+        return seed(new L64X128MixArena(checkSize(size, L64X128MixArena.STRIDE)), seedSource);
+    }
+
+    /**
+     * Gets the number of generators.
+     *
+     * @return the size
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Sets the seed of the generator at the specified index. The generator will
+     * produce the same output as a generator instance created with the seed.
+     *
+     * @param i Index.
+     * @param seed Seed. The seed is used as per the constructor of the generator.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public void setSeed(int i, long[] seed) {
+        setSeed(state, offset(i), seed);
+    }
+
+    /**
+     * Generates a {@code long} value from the generator at the specified index.
+     *
+     * @param i Index.
+     * @return the next random value
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public long nextLong(int i) {
+        return next(state, offset(i));
+    }
+
+    /**
+     * Generates a {@code double} value between 0 (inclusive) and 1 (exclusive) from
+     * the generator at the specified index.
+     *
+     * @param i Index.
+     * @return the next random value
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    public double nextDouble(int i) {
+        return (next(state, offset(i)) >>> 11) * 0x1.0p-53;
+    }
+
+    /**
+     * Creates a cursor positioned at the generator with index 0.
+     *
+     * @return the cursor
+     */
+    public Cursor cursor() {
+        return new Cursor(this);
+    }
+
+    /**
+     * Generates a value from the state at the specified offset and updates the state.
+     *
+     * @param s State of all generators.
+     * @param i Offset of the state.
+     * @return the next random value
+     */
+    abstract long next(long[] s, int i);
+
+    /**
+     * Sets the state at the specified offset from the seed.
+     *
+     * @param s State of all generators.
+     * @param i Offset of the state.
+     * @param seed Seed.
+     */
+    abstract void setSeed(long[] s, int i, long[] seed);
+
+    /**
+     * Gets the offset of the state of the generator at the specified index.
+     *
+     * @param i Index.
+     * @return the offset
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     */
+    private int offset(int i) {
+        if (i < 0 || i >= count) {
+            throw new IndexOutOfBoundsException("Index " + i + " out of bounds for length " + count);
+        }
+        return i * stride;
+    }
+
+    /**
+     * Checks the number of generators can be stored in a single array.
+     *
+     * @param size Number of generators.
+     * @param stride Size of the state of each generator.
+     * @return the size
+     * @throws IllegalArgumentException if {@code size < 0} or the arena is too large.
+     */
+    private static int checkSize(int size, int stride) {
+        if (size < 0 || (long) size * stride > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Invalid arena size: " + size);
+        }
+        return size;
+    }
+
+    /**
+     * Seeds all the generators in the arena.
+     *
+     * @param arena Arena.
+     * @param seedSource Source of randomness used to seed the generators.
+     * @return the arena
+     */
+    private static GeneratorArena seed(GeneratorArena arena, UniformRandomProvider seedSource) {
+        final long[] seed = new long[arena.stride];
+        for (int i = 0; i < arena.count; i++) {
+            seedSource.nextLongs(seed, 0, seed.length);
+            arena.setSeed(i, seed);
+        }
+        return arena;
+    }
+}
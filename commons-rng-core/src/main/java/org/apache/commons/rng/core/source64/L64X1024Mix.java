@@ -17,10 +17,12 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 import org.apache.commons.rng.core.util.RandomStreams;
 
@@ -128,6 +130,26 @@ public class L64X1024Mix extends AbstractL64 implements SplittableUniformRandomP
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        for (final long s : x) {
+            buffer.putLong(s);
+        }
+        buffer.putLong(index);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        for (int i = 0; i < XBG_STATE_SIZE; i++) {
+            x[i] = buffer.getLong();
+        }
+        index = (int) buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long next() {
@@ -182,6 +204,18 @@ public class L64X1024Mix extends AbstractL64 implements SplittableUniformRandomP
         return super.longJump();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    JumpPolynomial getXbgJumpPolynomial() {
+        return AbstractXoRoShiRo1024.JUMP_POLYNOMIAL;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void performXbgJump(long[] jumpCoefficients) {
+        LXMSupport.jumpXoRoShiRo1024(x, index, jumpCoefficients);
+    }
+
     /** {@inheritDoc} */
     @Override
     AbstractL64 copy() {
@@ -129,6 +129,66 @@ public class L64X128Mix extends AbstractL64X128 implements SplittableUniformRand
         return z;
     }
 
+    /**
+     * Generates a value from the state stored in the array at the specified offset
+     * and updates the state. This is the equivalent of {@link #next()} for a
+     * generator state held in an array.
+     *
+     * <p>The state is stored as: LCG additive parameter; LCG state; XBG state.
+     *
+     * @param s State array.
+     * @param i Offset of the state.
+     * @return the next random value
+     */
+    static long step(long[] s, int i) {
+        final long s0 = s[i + 2];
+        final long ls = s[i + 1];
+
+        // Mix
+        final long z = LXMSupport.lea64(ls + s0);
+
+        // LCG update
+        s[i + 1] = M * ls + s[i];
+
+        // XBG update
+        long s1 = s[i + 3];
+
+        s1 ^= s0;
+        s[i + 2] = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16); // a, b
+        s[i + 3] = Long.rotateLeft(s1, 37); // c
+
+        return z;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        // Hold the state in local variables for the duration of the loop
+        final long a = la;
+        long s = ls;
+        long s0 = x0;
+        long s1 = x1;
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            // Mix
+            values[i] = LXMSupport.lea64(s + s0);
+
+            // LCG update
+            s = M * s + a;
+
+            // XBG update
+            s1 ^= s0;
+            s0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16); // a, b
+            s1 = Long.rotateLeft(s1, 37); // c
+        }
+        ls = s;
+        x0 = s0;
+        x1 = s1;
+    }
+
     /**
      * Create a copy.
      *
@@ -121,6 +121,35 @@ public class L64X128StarStar extends AbstractL64X128 implements SplittableUnifor
         return z;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        // Hold the state in local variables for the duration of the loop
+        final long a = la;
+        long s = ls;
+        long s0 = x0;
+        long s1 = x1;
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            // Mix
+            values[i] = Long.rotateLeft((s + s0) * 5, 7) * 9;
+
+            // LCG update
+            s = M * s + a;
+
+            // XBG update
+            s1 ^= s0;
+            s0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16); // a, b
+            s1 = Long.rotateLeft(s1, 37); // c
+        }
+        ls = s;
+        x0 = s0;
+        x1 = s1;
+    }
+
     /**
      * Create a copy.
      *
@@ -17,10 +17,12 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.nio.ByteBuffer;
 import java.util.stream.Stream;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 import org.apache.commons.rng.core.util.NumberFactory;
 import org.apache.commons.rng.core.util.RandomStreams;
 
@@ -156,6 +158,23 @@ public class L64X256Mix extends AbstractL64 implements SplittableUniformRandomPr
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(x0).putLong(x1).putLong(x2).putLong(x3);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        x0 = buffer.getLong();
+        x1 = buffer.getLong();
+        x2 = buffer.getLong();
+        x3 = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long next() {
@@ -223,6 +242,23 @@ public class L64X256Mix extends AbstractL64 implements SplittableUniformRandomPr
         return super.longJump();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    JumpPolynomial getXbgJumpPolynomial() {
+        return AbstractXoShiRo256.JUMP_POLYNOMIAL;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    void performXbgJump(long[] jumpCoefficients) {
+        final long[] x = {x0, x1, x2, x3};
+        LXMSupport.jumpXoShiRo256(x, jumpCoefficients);
+        x0 = x[0];
+        x1 = x[1];
+        x2 = x[2];
+        x3 = x[3];
+    }
+
     /** {@inheritDoc} */
     @Override
     AbstractL64 copy() {
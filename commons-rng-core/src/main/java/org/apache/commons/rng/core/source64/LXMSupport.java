@@ -216,4 +216,221 @@ final class LXMSupport {
         // = 10000000       carry bit generated
         return ((left >>> 1) + (right >>> 1) + (left & 1)) >>> -1;
     }
+
+    /**
+     * Advance the state of the 64-bit LCG {@code s = m * s + a} by the specified
+     * number of steps using {@code O(log(distance))} multiplications.
+     *
+     * <p>Uses the method of Brown (1994) Random number generation with arbitrary strides.
+     * Transactions of the American Nuclear Society 71, 202-203.
+     *
+     * @param s LCG state.
+     * @param a LCG additive parameter.
+     * @param distance Number of steps (as an unsigned integer).
+     * @return the new state
+     */
+    static long advanceLcg(long s, long a, long distance) {
+        // Accumulated multiplier and addend
+        long accMult = 1;
+        long accPlus = 0;
+        // Multiplier and addend for a step of 2^i
+        long curMult = M64;
+        long curPlus = a;
+        for (long d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus *= curMult + 1;
+            curMult *= curMult;
+        }
+        return accMult * s + accPlus;
+    }
+
+    /**
+     * Advance the state of the 128-bit LCG {@code s = m * s + a} by the specified
+     * number of steps using {@code O(log(distance))} multiplications. The multiplier
+     * is {@code m = 2^64 + M128L}.
+     *
+     * <p>All arguments are 128-bit unsigned integers provided as the high and low halves.
+     *
+     * @param sh High half of the LCG state.
+     * @param sl Low half of the LCG state.
+     * @param ah High half of the LCG additive parameter.
+     * @param al Low half of the LCG additive parameter.
+     * @param dh High half of the number of steps.
+     * @param dl Low half of the number of steps.
+     * @return the new state as {@code {high, low}}
+     * @see #advanceLcg(long, long, long)
+     */
+    static long[] advanceLcg(long sh, long sl, long ah, long al, long dh, long dl) {
+        // Accumulated multiplier and addend
+        long accMultH = 0;
+        long accMultL = 1;
+        long accPlusH = 0;
+        long accPlusL = 0;
+        // Multiplier and addend for a step of 2^i
+        long curMultH = 1;
+        long curMultL = M128L;
+        long curPlusH = ah;
+        long curPlusL = al;
+        long hi = dh;
+        long lo = dl;
+        while ((hi | lo) != 0) {
+            if ((lo & 1) != 0) {
+                // acc mult = acc mult * cur mult
+                accMultH = multiplyHigh(accMultH, accMultL, curMultH, curMultL);
+                accMultL *= curMultL;
+                // acc plus = acc plus * cur mult + cur plus
+                final long h = multiplyHigh(accPlusH, accPlusL, curMultH, curMultL);
+                final long l = accPlusL * curMultL;
+                accPlusL = l + curPlusL;
+                accPlusH = h + curPlusH + carry(l, accPlusL);
+            }
+            // cur plus = cur plus * (cur mult + 1)
+            final long m1l = curMultL + 1;
+            final long m1h = curMultH + carry(curMultL, m1l);
+            curPlusH = multiplyHigh(curPlusH, curPlusL, m1h, m1l);
+            curPlusL *= m1l;
+            // cur mult = cur mult * cur mult
+            curMultH = multiplyHigh(curMultH, curMultL, curMultH, curMultL);
+            curMultL *= curMultL;
+            lo = (lo >>> 1) | (hi << 63);
+            hi >>>= 1;
+        }
+        // s = acc mult * s + acc plus
+        final long h = multiplyHigh(accMultH, accMultL, sh, sl);
+        final long l = accMultL * sl;
+        final long rl = l + accPlusL;
+        return new long[] {h + accPlusH + carry(l, rl), rl};
+    }
+
+    /**
+     * Multiply the two 128-bit values to produce the high 64-bits of the 128-bit
+     * result. The low 64-bits are {@code al * bl}.
+     *
+     * @param ah High half of the first value.
+     * @param al Low half of the first value.
+     * @param bh High half of the second value.
+     * @param bl Low half of the second value.
+     * @return the high 64-bits of the 128-bit result
+     */
+    private static long multiplyHigh(long ah, long al, long bh, long bl) {
+        return unsignedMultiplyHigh(al, bl) + ah * bl + al * bh;
+    }
+
+    /**
+     * Compute the carry of the unsigned addition {@code sum = left + right}.
+     *
+     * @param left the left argument of the addition
+     * @param sum the sum
+     * @return the carry (either 0 or 1)
+     */
+    private static long carry(long left, long sum) {
+        return Long.compareUnsigned(sum, left) < 0 ? 1 : 0;
+    }
+
+    /**
+     * Advance the state of the XBG xoroshiro128 using the jump coefficients.
+     *
+     * @param x State (updated in-place).
+     * @param jumpCoefficients Jump coefficients.
+     * @see AbstractXoRoShiRo128#JUMP_POLYNOMIAL
+     */
+    static void jumpXoRoShiRo128(long[] x, long[] jumpCoefficients) {
+        long s0 = x[0];
+        long s1 = x[1];
+        long t0 = 0;
+        long t1 = 0;
+        for (final long jc : jumpCoefficients) {
+            for (int b = 0; b < 64; b++) {
+                if ((jc & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                }
+                // XBG update
+                s1 ^= s0;
+                s0 = Long.rotateLeft(s0, 24) ^ s1 ^ (s1 << 16); // a, b
+                s1 = Long.rotateLeft(s1, 37); // c
+            }
+        }
+        x[0] = t0;
+        x[1] = t1;
+    }
+
+    /**
+     * Advance the state of the XBG xoshiro256 using the jump coefficients.
+     *
+     * @param x State (updated in-place).
+     * @param jumpCoefficients Jump coefficients.
+     * @see AbstractXoShiRo256#JUMP_POLYNOMIAL
+     */
+    static void jumpXoShiRo256(long[] x, long[] jumpCoefficients) {
+        long s0 = x[0];
+        long s1 = x[1];
+        long s2 = x[2];
+        long s3 = x[3];
+        long t0 = 0;
+        long t1 = 0;
+        long t2 = 0;
+        long t3 = 0;
+        for (final long jc : jumpCoefficients) {
+            for (int b = 0; b < 64; b++) {
+                if ((jc & (1L << b)) != 0) {
+                    t0 ^= s0;
+                    t1 ^= s1;
+                    t2 ^= s2;
+                    t3 ^= s3;
+                }
+                // XBG update
+                final long t = s1 << 17;
+                s2 ^= s0;
+                s3 ^= s1;
+                s1 ^= s2;
+                s0 ^= s3;
+                s2 ^= t;
+                s3 = Long.rotateLeft(s3, 45);
+            }
+        }
+        x[0] = t0;
+        x[1] = t1;
+        x[2] = t2;
+        x[3] = t3;
+    }
+
+    /**
+     * Advance the state of the XBG xoroshiro1024 using the jump coefficients.
+     *
+     * <p>The number of coefficients must be a multiple of 16 so that the index
+     * is unchanged by the jump.
+     *
+     * @param x State (updated in-place).
+     * @param index Index into the state.
+     * @param jumpCoefficients Jump coefficients.
+     * @see AbstractXoRoShiRo1024#JUMP_POLYNOMIAL
+     */
+    static void jumpXoRoShiRo1024(long[] x, int index, long[] jumpCoefficients) {
+        final long[] newState = new long[x.length];
+        int p = index;
+        for (final long jc : jumpCoefficients) {
+            for (int b = 0; b < 64; b++) {
+                if ((jc & (1L << b)) != 0) {
+                    for (int i = 0; i < newState.length; i++) {
+                        newState[i] ^= x[(i + p) & 15];
+                    }
+                }
+                // XBG update
+                final int q = p;
+                p = (q + 1) & 15;
+                final long s0 = x[p];
+                long s15 = x[q];
+                s15 ^= s0;
+                x[q] = Long.rotateLeft(s0, 25) ^ s15 ^ (s15 << 27);
+                x[p] = Long.rotateLeft(s15, 36);
+            }
+        }
+        for (int j = 0; j < newState.length; j++) {
+            x[(j + index) & 15] = newState[j];
+        }
+    }
 }
@@ -17,6 +17,9 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.nio.Buffer;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import org.apache.commons.rng.core.util.NumberFactory;
 import org.apache.commons.rng.core.BaseProvider;
 
@@ -110,6 +113,21 @@ public abstract class LongProvider
         super.setStateInternal(c[1]);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(booleanSource).putLong(intSource);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        booleanSource = buffer.getLong();
+        intSource = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
+
     /** {@inheritDoc} */
     @Override
     public long nextLong() {
@@ -147,4 +165,92 @@ public abstract class LongProvider
         booleanSource = bits >>> 1;
         return (bits & 0x1) == 1;
     }
+
+    /** {@inheritDoc} */
+    @Override
+    public void fillBytes(ByteBuffer buffer) {
+        if (buffer.hasArray()) {
+            // Heap buffer: fill the backing array
+            super.fillBytes(buffer);
+            return;
+        }
+        final int position = buffer.position();
+        final int len = buffer.limit() - position;
+        final ByteBuffer bb = buffer.duplicate().order(ByteOrder.LITTLE_ENDIAN);
+
+        // Fill 8 bytes at a time
+        for (int i = len >>> 3; i > 0; i--) {
+            bb.putLong(next());
+        }
+
+        // Fill in the remaining bytes.
+        int remaining = len & 0x7;
+        if (remaining != 0) {
+            long random = next();
+            for (; remaining > 0; remaining--) {
+                bb.put((byte) random);
+                random >>>= 8;
+            }
+        }
+
+        // Set the position using the Buffer type for JDK 8 binary compatibility
+        final Buffer b = buffer;
+        b.position(position + len);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextInts(int[] values,
+                         int start,
+                         int len) {
+        checkFromIndexSize(start, len, values.length);
+        if (len == 0) {
+            return;
+        }
+        int index = start;
+        final int end = start + len;
+        // Use the cached int. This is the same sequence as repeat calls to nextInt().
+        final long bits = intSource;
+        if (bits >= 0) {
+            intSource = EMPTY_INT_SOURCE;
+            values[index++] = (int) bits;
+        }
+        // Fill 2 ints at a time: low 32 bits then high 32 bits
+        final int pairEnd = end - ((end - index) & 0x1);
+        while (index < pairEnd) {
+            final long v = next();
+            values[index++] = (int) v;
+            values[index++] = (int) (v >>> 32);
+        }
+        if (index < end) {
+            final long v = next();
+            // Store high 32 bits, return low 32 bits
+            intSource = v >>> 32;
+            values[index] = (int) v;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = next();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextDoubles(double[] values,
+                            int start,
+                            int len) {
+        checkFromIndexSize(start, len, values.length);
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = NumberFactory.makeDouble(next());
+        }
+    }
 }
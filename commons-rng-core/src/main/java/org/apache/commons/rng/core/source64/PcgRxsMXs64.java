@@ -16,6 +16,9 @@
  */
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -33,11 +36,13 @@ import org.apache.commons.rng.core.util.NumberFactory;
  *  PCG, A Family of Better Random Number Generators</a>
  * @since 1.3
  */
-public class PcgRxsMXs64 extends LongProvider {
+public class PcgRxsMXs64 extends LongProvider implements ArbitrarilyJumpableUniformRandomProvider {
     /** Size of the seed array. */
     private static final int SEED_SIZE = 2;
     /** The default increment. */
     private static final long DEFAULT_INCREMENT = 1442695040888963407L;
+    /** The LCG multiplier. */
+    private static final long MULTIPLIER = 6364136223846793005L;
 
     /** The state of the LCG. */
     private long state;
@@ -81,6 +86,18 @@ public class PcgRxsMXs64 extends LongProvider {
         }
     }
 
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     * @since 1.7
+     */
+    protected PcgRxsMXs64(PcgRxsMXs64 source) {
+        super(source);
+        state = source.state;
+        increment = source.increment;
+    }
+
     /**
      * Seeds the RNG.
      *
@@ -99,7 +116,7 @@ public class PcgRxsMXs64 extends LongProvider {
      * @return next state
      */
     private long bump(long input) {
-        return input * 6364136223846793005L + increment;
+        return input * MULTIPLIER + increment;
     }
 
     /** {@inheritDoc} */
@@ -111,6 +128,80 @@ public class PcgRxsMXs64 extends LongProvider {
         return (word >>> 43) ^ word;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextLong()}.
+     * The LCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>64</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        return performAdvance(distance);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@code nextLong()}.
+     * The LCG is advanced in a single operation using {@code O(log(distance))}
+     * multiplications. The period is 2<sup>64</sup>; larger distances are reduced
+     * modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        // Reduce modulo the period 2^64
+        return performAdvance(distance.longValue());
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     * @since 1.7
+     */
+    protected PcgRxsMXs64 copy() {
+        // This exists to ensure the advance function returns the correct class type.
+        // It should not be public.
+        return new PcgRxsMXs64(this);
+    }
+
+    /**
+     * Create a copy and then advance the state of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param distance Distance (as an unsigned integer).
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(long distance) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // Compute the LCG multiplier and addend for the jump using Brown's method:
+        // Brown, F.B. (1994) Random number generation with arbitrary strides.
+        // Transactions of the American Nuclear Society 71, 202-203.
+        long accMult = 1;
+        long accPlus = 0;
+        long curMult = MULTIPLIER;
+        long curPlus = increment;
+        for (long d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                accMult *= curMult;
+                accPlus = accPlus * curMult + curPlus;
+            }
+            curPlus *= curMult + 1;
+            curMult *= curMult;
+        }
+        state = accMult * state + accPlus;
+        resetCachedState();
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected byte[] getStateInternal() {
@@ -132,4 +223,21 @@ public class PcgRxsMXs64 extends LongProvider {
         increment = tempseed[1] << 1 | 1;
         super.setStateInternal(c[1]);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        // The increment is divided by 2 before saving.
+        buffer.putLong(state).putLong(increment >>> 1);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state = buffer.getLong();
+        // Reverse the transform performed during save to make the increment odd again.
+        increment = buffer.getLong() << 1 | 1;
+        super.readStateInternal(buffer);
+    }
 }
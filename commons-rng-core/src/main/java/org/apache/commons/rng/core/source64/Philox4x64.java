@@ -0,0 +1,355 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
+import org.apache.commons.rng.core.util.NumberFactory;
+
+/**
+ * A counter-based 64-bit generator using the Philox4x64-10 bijection.
+ *
+ * <p>Each output block of 4 {@code long} values is the result of applying 10 rounds of the
+ * Philox bijection to a 256-bit counter using a 128-bit key. The key selects an independent
+ * stream and the counter selects the position within the stream. The counter is incremented
+ * after each block and the period is 2<sup>258</sup>.</p>
+ *
+ * <p>The position in the output sequence is a simple function of the counter. A generator
+ * can be created at any position in any stream by specifying the key and counter in the
+ * seed; this allows a computation to be partitioned deterministically without
+ * coordination. The generator can be advanced any distance in a single operation by
+ * adding to the counter.</p>
+ *
+ * <p>Memory footprint is 384 bits for the key and counter, and 256 bits for the output
+ * block.</p>
+ *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a long jump; see {@link JumpableStreamProvider}.
+ *
+ * @see <a href="https://www.thesalmons.org/john/random123/papers/random123sc11.pdf">
+ * Salmon, Moraes, Dror and Shaw (2011) Parallel Random Numbers: As Easy as 1, 2, 3.</a>
+ * @see <a href="https://github.com/DEShawResearch/random123">Random123 source code</a>
+ * @since 1.7
+ */
+public class Philox4x64 extends LongProvider implements LongJumpableUniformRandomProvider,
+    ArbitrarilyJumpableUniformRandomProvider, JumpableStreamProvider {
+    /** Size of the seed array. */
+    private static final int SEED_SIZE = 6;
+    /** Size of the output block. */
+    private static final int BLOCK_SIZE = 4;
+    /** Multiplier for counter word 0. */
+    private static final long M0 = 0xd2e7470ee14c6c93L;
+    /** Multiplier for counter word 2. */
+    private static final long M1 = 0xca5a826395121157L;
+    /** Weyl increment for key word 0 (golden ratio). */
+    private static final long W0 = 0x9e3779b97f4a7c15L;
+    /** Weyl increment for key word 1 (sqrt(3) - 1). */
+    private static final long W1 = 0xbb67ae8584caa73bL;
+
+    /** Key word 0. */
+    private long key0;
+    /** Key word 1. */
+    private long key1;
+    /** Counter word 0 (least significant). */
+    private long counter0;
+    /** Counter word 1. */
+    private long counter1;
+    /** Counter word 2. */
+    private long counter2;
+    /** Counter word 3 (most significant). */
+    private long counter3;
+    /** Output block for the current counter. */
+    private final long[] block = new long[BLOCK_SIZE];
+    /** Index of the next output in the block. */
+    private int index;
+
+    /**
+     * Creates a new instance.
+     *
+     * <p>The seed elements are used to set:</p>
+     *
+     * <ol>
+     *   <li>Key word 0
+     *   <li>Key word 1
+     *   <li>Counter word 0 (least significant)
+     *   <li>Counter word 1
+     *   <li>Counter word 2
+     *   <li>Counter word 3 (most significant)
+     * </ol>
+     *
+     * <p>The first output is the first value of the block for the counter.
+     *
+     * @param seed Initial seed.
+     * If the length is larger than 6, only the first 6 elements will
+     * be used; if smaller, the remaining elements will be set to zero.
+     * Any key is valid, including zero.
+     */
+    public Philox4x64(long[] seed) {
+        final long[] s = seed.length < SEED_SIZE ?
+            Arrays.copyOf(seed, SEED_SIZE) :
+            seed;
+        key0 = s[0];
+        key1 = s[1];
+        counter0 = s[2];
+        counter1 = s[3];
+        counter2 = s[4];
+        counter3 = s[5];
+        generate();
+    }
+
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     */
+    protected Philox4x64(Philox4x64 source) {
+        super(source);
+        key0 = source.key0;
+        key1 = source.key1;
+        counter0 = source.counter0;
+        counter1 = source.counter1;
+        counter2 = source.counter2;
+        counter3 = source.counter3;
+        System.arraycopy(source.block, 0, block, 0, BLOCK_SIZE);
+        index = source.index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] getStateInternal() {
+        return composeStateInternal(NumberFactory.makeByteArray(
+                                        new long[] {key0, key1, counter0, counter1, counter2, counter3, index}),
+                                    super.getStateInternal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setStateInternal(byte[] s) {
+        final byte[][] c = splitStateInternal(s, (SEED_SIZE + 1) * Long.BYTES);
+        final long[] tmp = NumberFactory.makeLongArray(c[0]);
+        // Protect against an invalid index
+        final long i = tmp[SEED_SIZE];
+        checkIndex(0, BLOCK_SIZE, i < 0 || i > BLOCK_SIZE ? -1 : (int) i);
+        key0 = tmp[0];
+        key1 = tmp[1];
+        counter0 = tmp[2];
+        counter1 = tmp[3];
+        counter2 = tmp[4];
+        counter3 = tmp[5];
+        generate();
+        index = (int) i;
+        super.setStateInternal(c[1]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long next() {
+        int i = index;
+        if (i == BLOCK_SIZE) {
+            incrementCounter();
+            generate();
+            i = 0;
+        }
+        index = i + 1;
+        return block[i];
+    }
+
+    /**
+     * Increment the 256-bit counter.
+     */
+    private void incrementCounter() {
+        counter0++;
+        if (counter0 != 0) {
+            return;
+        }
+        // Carry
+        counter1++;
+        if (counter1 != 0) {
+            return;
+        }
+        counter2++;
+        if (counter2 == 0) {
+            counter3++;
+        }
+    }
+
+    /**
+     * Generate the output block for the current counter using 10 rounds of the
+     * Philox bijection. Resets the index to the start of the block.
+     */
+    private void generate() {
+        long c0 = counter0;
+        long c1 = counter1;
+        long c2 = counter2;
+        long c3 = counter3;
+        long k0 = key0;
+        long k1 = key1;
+        for (int round = 0; round < 10; round++) {
+            if (round != 0) {
+                // Bump the key
+                k0 += W0;
+                k1 += W1;
+            }
+            final long hi0 = LXMSupport.unsignedMultiplyHigh(M0, c0);
+            final long lo0 = M0 * c0;
+            final long hi1 = LXMSupport.unsignedMultiplyHigh(M1, c2);
+            final long lo1 = M1 * c2;
+            c0 = hi1 ^ c1 ^ k0;
+            c1 = lo1;
+            c2 = hi0 ^ c3 ^ k1;
+            c3 = lo0;
+        }
+        block[0] = c0;
+        block[1] = c1;
+        block[2] = c2;
+        block[3] = c3;
+        index = 0;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jump size is the equivalent of 2<sup>130</sup>
+     * calls to {@link UniformRandomProvider#nextLong() nextLong()}. This is performed by
+     * incrementing counter word 2. It can provide up to 2<sup>128</sup> non-overlapping
+     * subsequences.</p>
+     */
+    @Override
+    public UniformRandomProvider jump() {
+        final UniformRandomProvider copy = copy();
+        counter2++;
+        if (counter2 == 0) {
+            counter3++;
+        }
+        regenerate();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The jump size is the equivalent of 2<sup>194</sup> calls to
+     * {@link UniformRandomProvider#nextLong() nextLong()}. This is performed by
+     * incrementing counter word 3. It can provide up to 2<sup>64</sup> non-overlapping
+     * subsequences of length 2<sup>194</sup>; each subsequence can provide up to
+     * 2<sup>64</sup> non-overlapping subsequences of length 2<sup>130</sup> using the
+     * {@link #jump()} method.</p>
+     */
+    @Override
+    public JumpableUniformRandomProvider longJump() {
+        final JumpableUniformRandomProvider copy = copy();
+        ++counter3;
+        regenerate();
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * This is performed by adding the number of whole blocks to the counter. The period
+     * is 2<sup>258</sup>; larger distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        // The position in the block is at most 4 so this cannot overflow an unsigned long
+        final long steps = distance + index;
+        return performAdvance((int) steps & 0x3, steps >>> 2, 0, 0, 0);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * This is performed by adding the number of whole blocks to the counter. The period
+     * is 2<sup>258</sup>; larger distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        final BigInteger steps = distance.add(BigInteger.valueOf(index));
+        final BigInteger blocks = steps.shiftRight(2);
+        return performAdvance(steps.intValue() & 0x3,
+                              blocks.longValue(),
+                              blocks.shiftRight(Long.SIZE).longValue(),
+                              blocks.shiftRight(2 * Long.SIZE).longValue(),
+                              blocks.shiftRight(3 * Long.SIZE).longValue());
+    }
+
+    /**
+     * Create a copy and then advance the counter of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param position Position in the output block after the advance.
+     * @param blocks0 Bits 0 to 63 of the number of blocks to add to the counter.
+     * @param blocks1 Bits 64 to 127 of the number of blocks to add to the counter.
+     * @param blocks2 Bits 128 to 191 of the number of blocks to add to the counter.
+     * @param blocks3 Bits 192 to 255 of the number of blocks to add to the counter.
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(int position,
+                                                                     long blocks0,
+                                                                     long blocks1,
+                                                                     long blocks2,
+                                                                     long blocks3) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        // 256-bit addition. The carry is the majority of the sign bits of the two
+        // operands and the carry into the sign bit (computed from the sum).
+        long s = counter0 + blocks0;
+        long carry = ((counter0 & blocks0) | ((counter0 | blocks0) & ~s)) >>> 63;
+        counter0 = s;
+        s = counter1 + blocks1 + carry;
+        carry = ((counter1 & blocks1) | ((counter1 | blocks1) & ~s)) >>> 63;
+        counter1 = s;
+        s = counter2 + blocks2 + carry;
+        carry = ((counter2 & blocks2) | ((counter2 | blocks2) & ~s)) >>> 63;
+        counter2 = s;
+        counter3 += blocks3 + carry;
+        generate();
+        index = position;
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * Regenerate the output block after a change to the counter. The position
+     * within the block is unchanged. Resets the cached state of the generator.
+     */
+    private void regenerate() {
+        final int i = index;
+        generate();
+        index = i;
+        resetCachedState();
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     */
+    protected Philox4x64 copy() {
+        // This exists to ensure the jump functions return a copy of the correct
+        // class type. It should not be public.
+        return new Philox4x64(this);
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.nio.ByteBuffer;
+
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -77,4 +79,18 @@ public class SplitMix64 extends LongProvider {
         state = NumberFactory.makeLong(c[0]);
         super.setStateInternal(c[1]);
     }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void writeStateInternal(ByteBuffer buffer) {
+        buffer.putLong(state);
+        super.writeStateInternal(buffer);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void readStateInternal(ByteBuffer buffer) {
+        state = buffer.getLong();
+        super.readStateInternal(buffer);
+    }
 }
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import java.math.BigInteger;
+import java.util.Arrays;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
+import org.apache.commons.rng.core.util.NumberFactory;
+
+/**
+ * A counter-based 64-bit generator using the Squares function.
+ *
+ * <p>Each output is the result of five rounds of squaring a 64-bit value derived from a
+ * counter and a key, keeping the middle bits of each square. The key selects an
+ * independent stream and the counter is the position within the stream. The counter is
+ * incremented after each output and the period is 2<sup>64</sup>.</p>
+ *
+ * <p>A generator can be created at any position in any stream by specifying the key and
+ * counter in the seed; this allows a computation to be partitioned deterministically
+ * without coordination. The generator can be advanced any distance in a single operation
+ * by adding to the counter.</p>
+ *
+ * <p>The output quality is dependent on the key. The key should be an irregular bit
+ * pattern with approximately half of the bits set. It is recommended to use a key
+ * with the upper 8 hex digits all different and no zero hex digits. A zero key will
+ * create a non-functional generator.</p>
+ *
+ * <p>Memory footprint is 128 bits.</p>
+ *
+ * @see <a href="https://arxiv.org/abs/2004.06278">
+ * Widynski (2020) Squares: A Fast Counter-Based RNG</a>
+ * @since 1.7
+ */
+public class Squares64 extends LongProvider implements ArbitrarilyJumpableUniformRandomProvider {
+    /** Size of the seed array. */
+    private static final int SEED_SIZE = 2;
+    /**
+     * The default seed.
+     * This has a high quality key (containing distinct non-zero hex digits).
+     */
+    private static final long[] DEFAULT_SEED = {0x9fe72a1c7db35a41L, 0};
+
+    /** Key. */
+    private long key;
+    /** Counter. */
+    private long counter;
+
+    /**
+     * Creates a new instance.
+     *
+     * <p>The seed elements are used to set:</p>
+     *
+     * <ol>
+     *   <li>The key
+     *   <li>The counter
+     * </ol>
+     *
+     * @param seed Initial seed.
+     * If the length is larger than 2, only the first 2 elements will
+     * be used; if smaller, the remaining elements will be automatically
+     * set. A seed containing only the key will start the counter at zero.
+     */
+    public Squares64(long[] seed) {
+        final long[] s;
+        if (seed.length < SEED_SIZE) {
+            // Complete the seed with a default to avoid
+            // a zero key.
+            s = Arrays.copyOf(seed, SEED_SIZE);
+            System.arraycopy(DEFAULT_SEED, seed.length, s, seed.length, SEED_SIZE - seed.length);
+        } else {
+            s = seed;
+        }
+        key = s[0];
+        counter = s[1];
+    }
+
+    /**
+     * Creates a copy instance.
+     *
+     * @param source Source to copy.
+     */
+    protected Squares64(Squares64 source) {
+        super(source);
+        key = source.key;
+        counter = source.counter;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] getStateInternal() {
+        return composeStateInternal(NumberFactory.makeByteArray(new long[] {key, counter}),
+                                    super.getStateInternal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setStateInternal(byte[] s) {
+        final byte[][] c = splitStateInternal(s, SEED_SIZE * Long.BYTES);
+        final long[] tmp = NumberFactory.makeLongArray(c[0]);
+        key = tmp[0];
+        counter = tmp[1];
+        super.setStateInternal(c[1]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long next() {
+        final long y = counter++ * key;
+        final long z = y + key;
+        // Round 1
+        long x = Long.rotateLeft(y * y + y, 32);
+        // Round 2
+        x = Long.rotateLeft(x * x + z, 32);
+        // Round 3
+        x = Long.rotateLeft(x * x + y, 32);
+        // Round 4
+        final long t = x * x + z;
+        x = Long.rotateLeft(t, 32);
+        // Round 5: combine with the upper 32-bits of the square
+        return t ^ ((x * x + y) >>> 32);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to
+     * {@link org.apache.commons.rng.UniformRandomProvider#nextLong() nextLong()}. This is performed
+     * by adding the distance to the counter. The period is 2<sup>64</sup>; larger
+     * distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        checkJumpDistance(distance);
+        return performAdvance(distance);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to
+     * {@link org.apache.commons.rng.UniformRandomProvider#nextLong() nextLong()}. This is performed
+     * by adding the distance to the counter. The period is 2<sup>64</sup>; larger
+     * distances are reduced modulo the period.</p>
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        checkJumpDistance(distance);
+        // Reduce modulo the period 2^64
+        return performAdvance(distance.longValue());
+    }
+
+    /**
+     * Create a copy and then advance the counter of the current instance.
+     * Resets the cached state of the generator.
+     *
+     * @param distance Distance (as an unsigned integer).
+     * @return the copy
+     */
+    private ArbitrarilyJumpableUniformRandomProvider performAdvance(long distance) {
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        counter += distance;
+        resetCachedState();
+        return copy;
+    }
+
+    /**
+     * Create a copy.
+     *
+     * @return the copy
+     */
+    protected Squares64 copy() {
+        // This exists to ensure the advance function returns a copy of the correct
+        // class type. It should not be public.
+        return new Squares64(this);
+    }
+}
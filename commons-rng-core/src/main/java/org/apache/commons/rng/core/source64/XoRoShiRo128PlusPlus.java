@@ -17,8 +17,11 @@
 
 package org.apache.commons.rng.core.source64;
 
+import java.math.BigInteger;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpPolynomial;
 
 /**
  * A fast all-purpose 64-bit generator.
@@ -40,6 +43,10 @@ public class XoRoShiRo128PlusPlus extends AbstractXoRoShiRo128 {
     private static final long[] LONG_JUMP_COEFFICIENTS = {
         0x360fd5f2cf8d5d99L, 0x9c6e6877736c46e3L
     };
+    /** The characteristic polynomial used to compute jump coefficients. */
+    private static final JumpPolynomial JUMP_POLYNOMIAL = new JumpPolynomial(new long[] {
+        0x8dae70779760b081L, 0x0031bcf2f855d6e5L
+    });
 
     /**
      * Creates a new instance.
@@ -90,6 +97,27 @@ public class XoRoShiRo128PlusPlus extends AbstractXoRoShiRo128 {
         return result;
     }
 
+    /**
+     * Generates a value from the state stored in the array at the specified offset
+     * and updates the state. This is the equivalent of {@link #next()} for a
+     * generator state held in an array.
+     *
+     * @param s State array.
+     * @param i Offset of the state.
+     * @return the next random value
+     */
+    static long step(long[] s, int i) {
+        final long s0 = s[i];
+        long s1 = s[i + 1];
+        final long result = Long.rotateLeft(s0 + s1, 17) + s0;
+
+        s1 ^= s0;
+        s[i] = Long.rotateLeft(s0, 49) ^ s1 ^ (s1 << 21); // a, b
+        s[i + 1] = Long.rotateLeft(s1, 28); // c
+
+        return result;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected long nextOutput() {
@@ -114,6 +142,42 @@ public class XoRoShiRo128PlusPlus extends AbstractXoRoShiRo128 {
         return copy;
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(long distance) {
+        // Duplicated from the abstract class to change the jump polynomial
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The distance is the number of calls to {@link UniformRandomProvider#nextLong() nextLong()}.
+     * The jump is performed using the characteristic polynomial of the generator.
+     * The period is 2<sup>128</sup> - 1; larger distances are reduced modulo the period.</p>
+     *
+     * @since 1.7
+     */
+    @Override
+    public ArbitrarilyJumpableUniformRandomProvider advance(BigInteger distance) {
+        // Duplicated from the abstract class to change the jump polynomial
+        checkJumpDistance(distance);
+        final ArbitrarilyJumpableUniformRandomProvider copy = copy();
+        performJump(JUMP_POLYNOMIAL.getCoefficients(distance));
+        return copy;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected XoRoShiRo128PlusPlus copy() {
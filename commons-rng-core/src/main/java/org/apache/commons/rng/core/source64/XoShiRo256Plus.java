@@ -69,6 +69,38 @@ public class XoShiRo256Plus extends AbstractXoShiRo256 {
         return state0 + state3;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        // Hold the state in local variables for the duration of the loop
+        long s0 = state0;
+        long s1 = state1;
+        long s2 = state2;
+        long s3 = state3;
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = s0 + s3;
+
+            final long t = s1 << 17;
+
+            s2 ^= s0;
+            s3 ^= s1;
+            s1 ^= s2;
+            s0 ^= s3;
+
+            s2 ^= t;
+
+            s3 = Long.rotateLeft(s3, 45);
+        }
+        state0 = s0;
+        state1 = s1;
+        state2 = s2;
+        state3 = s3;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected XoShiRo256Plus copy() {
@@ -68,6 +68,53 @@ public class XoShiRo256PlusPlus extends AbstractXoShiRo256 {
         return Long.rotateLeft(state0 + state3, 23) + state0;
     }
 
+    /**
+     * Generates a value from the state stored in the array at the specified offset
+     * and updates the state. This is the equivalent of {@link #next()} for a
+     * generator state held in an array.
+     *
+     * @param s State array.
+     * @param i Offset of the state.
+     * @return the next random value
+     */
+    static long step(long[] s, int i) {
+        final long result = Long.rotateLeft(s[i] + s[i + 3], 23) + s[i];
+        update(s, i);
+        return result;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        // Hold the state in local variables for the duration of the loop
+        long s0 = state0;
+        long s1 = state1;
+        long s2 = state2;
+        long s3 = state3;
+        final int end = start + len;
+        for (int i = start; i < end; i++) {
+            values[i] = Long.rotateLeft(s0 + s3, 23) + s0;
+
+            final long t = s1 << 17;
+
+            s2 ^= s0;
+            s3 ^= s1;
+            s1 ^= s2;
+            s0 ^= s3;
+
+            s2 ^= t;
+
+            s3 = Long.rotateLeft(s3, 45);
+        }
+        state0 = s0;
+        state1 = s1;
+        state2 = s2;
+        state3 = s3;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected XoShiRo256PlusPlus copy() {
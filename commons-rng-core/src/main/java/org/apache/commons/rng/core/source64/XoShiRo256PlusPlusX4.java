@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.core.util.NumberFactory;
+
+/**
+ * A 64-bit generator that interleaves the output of 4 independent
+ * {@link XoShiRo256PlusPlus} generators.
+ *
+ * <p>The state of the 4 generators (lanes) is stored in a structure-of-arrays layout.
+ * The lanes are advanced together in a single loop to fill an output buffer; this loop
+ * has no dependency between lanes and is a candidate for auto-vectorisation by the JIT
+ * compiler. Values are then served from the buffer. This is suitable for the generation
+ * of bulk streams of values.
+ *
+ * <p>The lanes are created from a single seed. Lane 0 uses the seed; each subsequent lane
+ * is created using the {@link XoShiRo256PlusPlus#jump() jump} function of the previous
+ * lane. The output sequence is: lane 0 value 0; lane 1 value 0; lane 2 value 0;
+ * lane 3 value 0; lane 0 value 1; etc. Note that the output is not equal to the output of
+ * a {@link XoShiRo256PlusPlus} generator constructed with the same seed.
+ *
+ * <p>Memory footprint is 1024 bits of generator state plus a 2048-bit output buffer.
+ * Each lane has a period of 2<sup>256</sup>-1 and can provide up to 2<sup>128</sup>
+ * values before overlapping the sequence of the next lane.
+ *
+ * @see XoShiRo256PlusPlus
+ * @see <a href="http://xoshiro.di.unimi.it/">xorshiro / xoroshiro generators</a>
+ * @since 1.7
+ */
+public class XoShiRo256PlusPlusX4 extends LongProvider {
+    /** Number of lanes. */
+    private static final int LANES = 4;
+    /** Number of steps of all lanes performed to fill the output buffer. */
+    private static final int STEPS = 8;
+    /** Size of the output buffer. */
+    private static final int BUFFER_SIZE = LANES * STEPS;
+
+    /** State 0 of the lanes. */
+    private final long[] state0 = new long[LANES];
+    /** State 1 of the lanes. */
+    private final long[] state1 = new long[LANES];
+    /** State 2 of the lanes. */
+    private final long[] state2 = new long[LANES];
+    /** State 3 of the lanes. */
+    private final long[] state3 = new long[LANES];
+    /** Output buffer. */
+    private final long[] buffer = new long[BUFFER_SIZE];
+    /** Index of the next value in the output buffer. The buffer is empty when the index
+     * is equal to the buffer size. */
+    private int index = BUFFER_SIZE;
+
+    /**
+     * Creates a new instance.
+     *
+     * @param seed Initial seed.
+     * If the length is larger than 4, only the first 4 elements will
+     * be used; if smaller, the remaining elements will be automatically
+     * set. A seed containing all zeros will create a non-functional generator.
+     */
+    public XoShiRo256PlusPlusX4(long[] seed) {
+        final XoShiRo256PlusPlus rng = new XoShiRo256PlusPlus(seed);
+        for (int i = 0; i < LANES; i++) {
+            state0[i] = rng.state0;
+            state1[i] = rng.state1;
+            state2[i] = rng.state2;
+            state3[i] = rng.state3;
+            rng.jump();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] getStateInternal() {
+        final long[] s = new long[LANES * 4 + BUFFER_SIZE + 1];
+        System.arraycopy(state0, 0, s, 0, LANES);
+        System.arraycopy(state1, 0, s, LANES, LANES);
+        System.arraycopy(state2, 0, s, 2 * LANES, LANES);
+        System.arraycopy(state3, 0, s, 3 * LANES, LANES);
+        System.arraycopy(buffer, 0, s, 4 * LANES, BUFFER_SIZE);
+        s[s.length - 1] = index;
+        return composeStateInternal(NumberFactory.makeByteArray(s),
+                                    super.getStateInternal());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setStateInternal(byte[] s) {
+        final byte[][] c = splitStateInternal(s, (LANES * 4 + BUFFER_SIZE + 1) * Long.BYTES);
+        final long[] tmp = NumberFactory.makeLongArray(c[0]);
+        System.arraycopy(tmp, 0, state0, 0, LANES);
+        System.arraycopy(tmp, LANES, state1, 0, LANES);
+        System.arraycopy(tmp, 2 * LANES, state2, 0, LANES);
+        System.arraycopy(tmp, 3 * LANES, state3, 0, LANES);
+        System.arraycopy(tmp, 4 * LANES, buffer, 0, BUFFER_SIZE);
+        final long i = tmp[tmp.length - 1];
+        // Protect against an invalid index
+        checkIndex(0, BUFFER_SIZE, (int) i);
+        index = (int) i;
+        super.setStateInternal(c[1]);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long next() {
+        int i = index;
+        if (i == BUFFER_SIZE) {
+            fill(buffer, 0, STEPS);
+            i = 0;
+        }
+        index = i + 1;
+        return buffer[i];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        int pos = start;
+        final int end = start + len;
+        // Drain the buffer
+        final int n = Math.min(len, BUFFER_SIZE - index);
+        System.arraycopy(buffer, index, values, pos, n);
+        index += n;
+        pos += n;
+        // Generate directly into the output for whole steps of all lanes
+        final int steps = (end - pos) / LANES;
+        fill(values, pos, steps);
+        pos += steps * LANES;
+        // Generate the remaining values using the buffer
+        while (pos < end) {
+            values[pos++] = next();
+        }
+    }
+
+    /**
+     * Advance all lanes by the specified number of steps and write the output to the
+     * array.
+     *
+     * @param out Output array.
+     * @param from Index at which to start inserting the generated values.
+     * @param steps Number of steps. The number of values generated is {@code steps * 4}.
+     */
+    private void fill(long[] out, int from, int steps) {
+        final long[] s0 = state0;
+        final long[] s1 = state1;
+        final long[] s2 = state2;
+        final long[] s3 = state3;
+        for (int k = 0; k < steps; k++) {
+            final int offset = from + k * LANES;
+            // Independent lanes
+            for (int i = 0; i < LANES; i++) {
+                out[offset + i] = Long.rotateLeft(s0[i] + s3[i], 23) + s0[i];
+
+                final long t = s1[i] << 17;
+
+                s2[i] ^= s0[i];
+                s3[i] ^= s1[i];
+                s1[i] ^= s2[i];
+                s0[i] ^= s3[i];
+
+                s2[i] ^= t;
+
+                s3[i] = Long.rotateLeft(s3[i], 45);
+            }
+        }
+    }
+}
@@ -21,6 +21,7 @@ import java.util.Arrays;
 
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.util.JumpableStreamProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -29,11 +30,15 @@ import org.apache.commons.rng.core.util.NumberFactory;
  * <p>Note: This has been superseded by {@link XorShift1024StarPhi}. The sequences emitted
  * by both generators are correlated.</p>
  *
+ * <p>Streams of primitive values support parallel execution by splitting the generator
+ * using a jump; see {@link JumpableStreamProvider}.
+ *
  * @see <a href="http://xorshift.di.unimi.it/xorshift1024star.c">Original source code</a>
  * @see <a href="https://en.wikipedia.org/wiki/Xorshift">Xorshift (Wikipedia)</a>
  * @since 1.0
  */
-public class XorShift1024Star extends LongProvider implements JumpableUniformRandomProvider {
+public class XorShift1024Star extends LongProvider implements JumpableUniformRandomProvider,
+    JumpableStreamProvider {
     /** Size of the state vector. */
     private static final int SEED_SIZE = 16;
     /** The coefficients for the jump function. */
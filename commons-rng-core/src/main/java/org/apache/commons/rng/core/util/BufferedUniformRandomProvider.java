@@ -0,0 +1,150 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.Arrays;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.core.RandomProviderDefaultState;
+import org.apache.commons.rng.core.source64.LongProvider;
+
+/**
+ * Decorates a generator with a buffer of {@code long} values.
+ *
+ * <p>The buffer is refilled in a single call to
+ * {@link org.apache.commons.rng.UniformRandomProvider#nextLongs(long[], int, int) nextLongs}
+ * of the underlying generator. Generators in this library implement this method using
+ * a tight loop over the native output which allows the generator state to be held in
+ * registers during the refill. Values are then served from the buffer which reduces the
+ * per-call overhead of generation.
+ *
+ * <p>The sequence of {@code long} values is identical to the sequence output by
+ * {@code nextLong()} of the underlying generator. All other values are derived from the
+ * {@code long} sequence.
+ *
+ * <p>The state of the buffered generator includes the contents of the buffer, the current
+ * position in the buffer and the state of the underlying generator. The underlying generator
+ * must support save and restore of the state using a {@link RandomProviderDefaultState};
+ * this is supported by all generators in this library. The underlying generator should
+ * not be used directly after it has been decorated.
+ *
+ * <p>This class is not thread-safe.
+ *
+ * @since 1.7
+ */
+public final class BufferedUniformRandomProvider extends LongProvider {
+    /** The default buffer size. */
+    private static final int DEFAULT_SIZE = 64;
+
+    /** The underlying generator. */
+    private final RestorableUniformRandomProvider rng;
+    /** The buffer. */
+    private final long[] buffer;
+    /** Index of the next value in the buffer. The buffer is empty when the index
+     * is equal to the buffer length. */
+    private int index;
+
+    /**
+     * Create an instance using the default buffer size.
+     *
+     * @param rng Underlying generator.
+     */
+    public BufferedUniformRandomProvider(RestorableUniformRandomProvider rng) {
+        this(rng, DEFAULT_SIZE);
+    }
+
+    /**
+     * Create an instance.
+     *
+     * @param rng Underlying generator.
+     * @param size Buffer size.
+     * @throws IllegalArgumentException if {@code size} is not strictly positive.
+     */
+    public BufferedUniformRandomProvider(RestorableUniformRandomProvider rng, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Buffer size must be strictly positive: " + size);
+        }
+        this.rng = rng;
+        buffer = new long[size];
+        index = size;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long next() {
+        int i = index;
+        if (i == buffer.length) {
+            rng.nextLongs(buffer, 0, buffer.length);
+            i = 0;
+        }
+        index = i + 1;
+        return buffer[i];
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void nextLongs(long[] values,
+                          int start,
+                          int len) {
+        checkFromIndexSize(start, len, values.length);
+        // Drain the buffer, then generate the remaining values directly
+        final int n = Math.min(len, buffer.length - index);
+        System.arraycopy(buffer, index, values, start, n);
+        index += n;
+        rng.nextLongs(values, start + n, len - n);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected byte[] getStateInternal() {
+        final RandomProviderState s = rng.saveState();
+        if (!(s instanceof RandomProviderDefaultState)) {
+            throw new IllegalStateException("Unsupported state: " + s);
+        }
+        final byte[] rngState = ((RandomProviderDefaultState) s).getState();
+        // Store the buffer size and position, the remaining buffer values and the underlying state
+        final int[] position = {buffer.length, index, rngState.length};
+        final long[] values = Arrays.copyOfRange(buffer, index, buffer.length);
+        return composeStateInternal(NumberFactory.makeByteArray(position),
+               composeStateInternal(NumberFactory.makeByteArray(values),
+               composeStateInternal(rngState,
+                                    super.getStateInternal())));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void setStateInternal(byte[] s) {
+        final byte[][] c = splitStateInternal(s, 3 * Integer.BYTES);
+        final int[] position = NumberFactory.makeIntArray(c[0]);
+        // Protect against a different buffer size, an invalid index or length
+        if (position[0] != buffer.length || position[1] < 0 || position[1] > buffer.length || position[2] < 0) {
+            throw new IllegalStateException("Invalid buffer state: " + Arrays.toString(position));
+        }
+        final int remaining = buffer.length - position[1];
+        final byte[][] d = splitStateInternal(c[1], remaining * Long.BYTES);
+        final byte[][] e = splitStateInternal(d[1], position[2]);
+        // Validate the parent state before any state is changed
+        final int parentLength = super.getStateInternal().length;
+        if (e[1].length != parentLength) {
+            throw new IllegalStateException("State size must be " + parentLength + " but was " + e[1].length);
+        }
+        rng.restoreState(new RandomProviderDefaultState(e[0]));
+        index = position[1];
+        System.arraycopy(NumberFactory.makeLongArray(d[0]), 0, buffer, index, remaining);
+        super.setStateInternal(e[1]);
+    }
+}
@@ -0,0 +1,245 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Computes jump coefficients to advance a linear generator over the field of
+ * two elements, F<sub>2</sub>, by an arbitrary number of steps. This applies to
+ * the xor-shift-rotate family of generators.
+ *
+ * <p>The {@code n}-bit state {@code s} of a F<sub>2</sub>-linear generator is
+ * updated by a linear transformation {@code M}. If {@code p(x)} is the characteristic
+ * polynomial of {@code M} then the state after {@code d} steps is:
+ *
+ * <pre>
+ * M<sup>d</sup> s = q(M) s = sum<sub>i=0</sub><sup>n-1</sup> q<sub>i</sub> M<sup>i</sup> s
+ * q(x) = x<sup>d</sup> mod p(x)
+ * </pre>
+ *
+ * <p>The jump is performed by summing (using xor) the states of the generator for
+ * each non-zero coefficient {@code q_i} of the jump polynomial over {@code n}
+ * sequential steps.
+ *
+ * <p>The coefficients for powers of two, {@code x^(2^k) mod p(x)}, are computed on
+ * demand and cached. The jump polynomial for an arbitrary distance is the product
+ * modulo {@code p(x)} of the coefficients for each binary digit of the distance. The
+ * characteristic polynomial of a maximal period generator is primitive and the distance
+ * is reduced modulo the period {@code 2^n - 1}.
+ *
+ * <p>Coefficients use the same format as the fixed jump functions of the
+ * xor-shift family of generators: coefficient {@code i} is stored in
+ * element {@code i / 64} of a {@code long[]} at bit {@code i % 64}.
+ *
+ * <p>This class is thread-safe.
+ *
+ * @see <a href="https://doi.org/10.1287/ijoc.1070.0251">
+ * Haramoto, et al (2008) Efficient Jump Ahead for F<sub>2</sub>-Linear Random Number
+ * Generators. INFORMS Journal on Computing 20, 385-390.</a>
+ * @since 1.7
+ */
+public final class JumpPolynomial {
+    /** Message for an invalid distance. */
+    private static final String NEGATIVE_DISTANCE = "Jump distance must not be negative: ";
+
+    /** The characteristic polynomial without the leading term {@code x^n}. */
+    private final long[] polynomial;
+    /** The degree of the characteristic polynomial. */
+    private final int degree;
+    /** The period of the generator: {@code 2^n - 1}. */
+    private final BigInteger period;
+    /** The coefficients for {@code x^(2^k)} indexed by {@code k}. */
+    private final AtomicReferenceArray<long[]> powers;
+
+    /**
+     * Create an instance.
+     *
+     * <p>The characteristic polynomial has degree {@code n = 64 * polynomial.length}.
+     * The coefficient for the leading term {@code x^n} is implicit.
+     *
+     * @param polynomial Coefficients of the characteristic polynomial for {@code x^i}
+     * with {@code i} in {@code [0, n)}.
+     * @throws IllegalArgumentException if the polynomial is empty or has a zero
+     * constant term (it cannot be primitive).
+     */
+    public JumpPolynomial(long[] polynomial) {
+        if (polynomial.length == 0 || (polynomial[0] & 1) == 0) {
+            throw new IllegalArgumentException("Polynomial is not primitive");
+        }
+        this.polynomial = polynomial.clone();
+        degree = polynomial.length * Long.SIZE;
+        period = BigInteger.ONE.shiftLeft(degree).subtract(BigInteger.ONE);
+        powers = new AtomicReferenceArray<>(degree);
+        // x^(2^0) = x
+        final long[] x = new long[polynomial.length];
+        x[0] = 2;
+        powers.set(0, x);
+    }
+
+    /**
+     * Gets the degree {@code n} of the characteristic polynomial. This is the number
+     * of bits of state in the generator.
+     *
+     * @return the degree
+     */
+    public int getDegree() {
+        return degree;
+    }
+
+    /**
+     * Gets the coefficients of the jump polynomial {@code x^d mod p(x)} to advance
+     * the generator by {@code d} steps.
+     *
+     * @param distance Distance {@code d}.
+     * @return the coefficients
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     */
+    public long[] getCoefficients(long distance) {
+        if (distance < 0) {
+            throw new IllegalArgumentException(NEGATIVE_DISTANCE + distance);
+        }
+        // The minimum period is 2^64 - 1 so no reduction is required.
+        long[] result = null;
+        long[] power = powers.get(0);
+        int k = 0;
+        for (long d = distance; d != 0; d >>>= 1) {
+            if ((d & 1) != 0) {
+                result = result == null ? power.clone() : multiply(result, power);
+            }
+            power = nextPower(k++, power);
+        }
+        return result == null ? one() : result;
+    }
+
+    /**
+     * Gets the coefficients of the jump polynomial {@code x^d mod p(x)} to advance
+     * the generator by {@code d} steps.
+     *
+     * @param distance Distance {@code d}.
+     * @return the coefficients
+     * @throws IllegalArgumentException if {@code distance} is negative.
+     */
+    public long[] getCoefficients(BigInteger distance) {
+        if (distance.signum() < 0) {
+            throw new IllegalArgumentException(NEGATIVE_DISTANCE + distance);
+        }
+        final BigInteger d = distance.bitLength() > degree ?
+            distance.mod(period) :
+            distance;
+        long[] result = null;
+        long[] power = powers.get(0);
+        final int length = d.bitLength();
+        for (int k = 0; k < length; k++) {
+            if (d.testBit(k)) {
+                result = result == null ? power.clone() : multiply(result, power);
+            }
+            power = nextPower(k, power);
+        }
+        return result == null ? one() : result;
+    }
+
+    /**
+     * Gets the coefficients for the next power of two {@code x^(2^(k+1))} given
+     * the coefficients for {@code x^(2^k)}. Uses the cached value if available.
+     *
+     * @param k Power.
+     * @param power Coefficients for {@code x^(2^k)}.
+     * @return the coefficients for {@code x^(2^(k+1))}
+     */
+    private long[] nextPower(int k, long[] power) {
+        // Note: x^(2^n) = x so the sequence is cyclic with period n.
+        final int next = (k + 1) % degree;
+        final long[] c = powers.get(next);
+        if (c != null) {
+            return c;
+        }
+        // Benign race: concurrent threads compute the same value
+        powers.compareAndSet(next, null, multiply(power, power));
+        return powers.get(next);
+    }
+
+    /**
+     * Create the coefficients for the polynomial {@code 1}.
+     *
+     * @return the coefficients
+     */
+    private long[] one() {
+        final long[] c = new long[polynomial.length];
+        c[0] = 1;
+        return c;
+    }
+
+    /**
+     * Multiply the polynomials modulo the characteristic polynomial.
+     *
+     * @param a First polynomial.
+     * @param b Second polynomial.
+     * @return the product
+     */
+    private long[] multiply(long[] a, long[] b) {
+        final int w = polynomial.length;
+        // Carry-less multiplication of a(x) * b(x)
+        final long[] r = new long[2 * w];
+        for (int i = 0; i < w; i++) {
+            final long ai = a[i];
+            for (int bit = 0; bit < Long.SIZE; bit++) {
+                if ((ai & (1L << bit)) != 0) {
+                    xorShifted(r, i, bit, b);
+                }
+            }
+        }
+        // Reduce the upper terms using x^n = p(x) (mod p(x)).
+        // Each reduction of term x^(n+j) adds terms up to x^(n+j-1).
+        for (int i = 2 * w - 1; i >= w; i--) {
+            for (int bit = Long.SIZE - 1; bit >= 0; bit--) {
+                if ((r[i] & (1L << bit)) != 0) {
+                    r[i] ^= 1L << bit;
+                    xorShifted(r, i - w, bit, polynomial);
+                }
+            }
+        }
+        final long[] result = new long[w];
+        System.arraycopy(r, 0, result, 0, w);
+        return result;
+    }
+
+    /**
+     * Xor the polynomial {@code b} into the result after multiplication by
+     * {@code x^(64 * word + bit)}.
+     *
+     * @param r Result.
+     * @param word Word offset.
+     * @param bit Bit offset in [0, 64).
+     * @param b Polynomial.
+     */
+    private static void xorShifted(long[] r, int word, int bit, long[] b) {
+        if (bit == 0) {
+            for (int j = 0; j < b.length; j++) {
+                r[word + j] ^= b[j];
+            }
+        } else {
+            final int rshift = Long.SIZE - bit;
+            for (int j = 0; j < b.length; j++) {
+                final long v = b[j];
+                r[word + j] ^= v << bit;
+                r[word + j + 1] ^= v >>> rshift;
+            }
+        }
+    }
+}
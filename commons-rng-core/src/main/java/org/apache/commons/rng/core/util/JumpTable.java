@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Applies a precomputed jump of a linear generator over the field of two elements,
+ * F<sub>2</sub>. This applies to the xor-shift-rotate family of generators.
+ *
+ * <p>The jump of a F<sub>2</sub>-linear generator with {@code n} bits of state
+ * is a linear transformation of the state: it is the product of the state with an
+ * {@code n x n} binary matrix. The standard jump function computes the product by
+ * summing the states of the generator over {@code n} sequential steps. This class
+ * precomputes the matrix and stores the sum of the columns for each group of bits
+ * of the state. The jump is then performed using one table look-up per group which
+ * is faster than stepping the generator {@code n} times.
+ *
+ * <p>Construction of the table requires {@code n} jumps of the generator. The table
+ * is intended to be created once and reused when a large number of jumps are required,
+ * for example to create a stream of generators.
+ *
+ * <p>The state is divided into groups of 8 bits for a state of up to 256 bits, otherwise
+ * groups of 4 bits. The table size is {@code 4 n^2} bytes or {@code n^2 / 2} bytes
+ * respectively.
+ *
+ * <p>This class is immutable and thread-safe.
+ *
+ * @since 1.7
+ */
+public final class JumpTable {
+    /** Maximum number of {@code long} values in the state to use 8-bit groups. */
+    private static final int MAX_SIZE_FOR_BYTE_GROUPS = 4;
+    /** Number of bits in a group for a large state. */
+    private static final int NIBBLE_BITS = 4;
+
+    /** The number of {@code long} values in the state. */
+    private final int size;
+    /** Number of bits in each group of the state used for table look-up. */
+    private final int groupBits;
+    /**
+     * The table of the jumped state. Element {@code m} of the state for group
+     * {@code g} with value {@code v} is stored at {@code table[m][(g << groupBits) + v]}.
+     */
+    private final long[][] table;
+
+    /**
+     * Create an instance.
+     *
+     * <p>The jump function must perform the jump of a generator for the given state,
+     * updating the state in-place. It is used to compute the jump of each
+     * single bit of the state.
+     *
+     * @param size Number of {@code long} values in the state.
+     * @param jump Function to jump the state.
+     * @throws IllegalArgumentException if {@code size} is not strictly positive.
+     */
+    public JumpTable(int size, Consumer<long[]> jump) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Invalid state size: " + size);
+        }
+        this.size = size;
+        groupBits = size <= MAX_SIZE_FOR_BYTE_GROUPS ? Byte.SIZE : NIBBLE_BITS;
+        final int groupSize = 1 << groupBits;
+        final int groups = size * Long.SIZE / groupBits;
+        table = new long[size][groups << groupBits];
+        final long[] state = new long[size];
+        for (int g = 0; g < groups; g++) {
+            final int base = g << groupBits;
+            // Entry 0 is the zero state.
+            // Compute the jump of each single bit in the group.
+            for (int b = 0; b < groupBits; b++) {
+                final int bit = g * groupBits + b;
+                Arrays.fill(state, 0);
+                state[bit >>> 6] = 1L << bit;
+                jump.accept(state);
+                for (int m = 0; m < size; m++) {
+                    table[m][base + (1 << b)] = state[m];
+                }
+            }
+            fillGroup(base, groupSize);
+        }
+    }
+
+    /**
+     * Gets the table from the reference, creating it if necessary.
+     *
+     * <p>The jump function is obtained from the supplier only when the table must
+     * be created. Concurrent threads may compute the same table; the first table
+     * stored in the reference is returned.
+     *
+     * @param ref Reference to the table.
+     * @param size Number of {@code long} values in the state.
+     * @param jump Supplier of the function to jump the state.
+     * @return the table
+     * @see #JumpTable(int, Consumer)
+     */
+    public static JumpTable getOrCreate(AtomicReference<JumpTable> ref,
+                                        int size,
+                                        Supplier<Consumer<long[]>> jump) {
+        final JumpTable table = ref.get();
+        if (table != null) {
+            return table;
+        }
+        ref.compareAndSet(null, new JumpTable(size, jump.get()));
+        return ref.get();
+    }
+
+    /**
+     * Fill the entries of the group in the table. The entries for each single bit
+     * must have been computed. Other entries are the sum of the lowest bit and the
+     * remaining bits.
+     *
+     * @param base Index of the first entry of the group.
+     * @param groupSize Number of entries in the group.
+     */
+    private void fillGroup(int base, int groupSize) {
+        for (int v = 3; v < groupSize; v++) {
+            final int low = v & -v;
+            if (low != v) {
+                for (final long[] t : table) {
+                    t[base + v] = t[base + low] ^ t[base + (v ^ low)];
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets the number of {@code long} values in the state.
+     *
+     * @return the size
+     */
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * Perform the jump of the state. The state is updated in-place.
+     *
+     * @param state State.
+     * @throws IllegalArgumentException if the state length does not match the size.
+     */
+    public void jump(long[] state) {
+        if (state.length != size) {
+            throw new IllegalArgumentException("Invalid state length: " + state.length);
+        }
+        // Compute the table index of each group
+        final int bits = groupBits;
+        final int mask = (1 << bits) - 1;
+        final int[] index = new int[size * Long.SIZE / bits];
+        int g = 0;
+        for (final long s : state) {
+            for (int shift = 0; shift < Long.SIZE; shift += bits) {
+                index[g] = (g << bits) + ((int) (s >>> shift) & mask);
+                g++;
+            }
+        }
+        // Sum the entries for each element of the state
+        for (int m = 0; m < size; m++) {
+            final long[] t = table[m];
+            long sum = 0;
+            for (final int i : index) {
+                sum ^= t[i];
+            }
+            state[m] = sum;
+        }
+    }
+
+    /**
+     * Creates an infinite sequential stream of generators using the table. Each
+     * generator is a copy of the source generator which is then jumped
+     * using the table.
+     *
+     * <p>The state functions must read and write the state of the source generator.
+     * The write function must reset any cached state of the generator.
+     *
+     * @param <T> Type of the generator.
+     * @param copy Function to copy the source generator.
+     * @param getState Function to get the state of the source generator.
+     * @param setState Function to set the state of the source generator.
+     * @return the stream of copies
+     */
+    public <T> Stream<T> jumps(Supplier<? extends T> copy,
+                               Supplier<long[]> getState,
+                               Consumer<long[]> setState) {
+        return Stream.<T>generate(() -> {
+            final T rng = copy.get();
+            final long[] s = getState.get();
+            jump(s);
+            setState.accept(s);
+            return rng;
+        }).sequential();
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+
+/**
+ * Applies to generators that can be jumped to create streams of primitive values
+ * that support parallel execution.
+ *
+ * <p>The streams are created using {@link RandomStreams}. The stream is divided into
+ * blocks of positions; each block uses a copy of the generator advanced by a number of
+ * jumps equal to the block index. The output is the same for sequential and parallel
+ * execution.
+ *
+ * <p>This interface should not be implemented by a
+ * {@link org.apache.commons.rng.SplittableUniformRandomProvider SplittableUniformRandomProvider}
+ * which provides parallel streams using a split of the generator.
+ *
+ * @since 1.7
+ */
+public interface JumpableStreamProvider extends JumpableUniformRandomProvider {
+    @Override
+    default IntStream ints() {
+        return ints(Long.MAX_VALUE);
+    }
+
+    @Override
+    default IntStream ints(int origin, int bound) {
+        return ints(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    default IntStream ints(long streamSize) {
+        return RandomStreams.ints(streamSize, this);
+    }
+
+    @Override
+    default IntStream ints(long streamSize, int origin, int bound) {
+        return RandomStreams.ints(streamSize, this, origin, bound);
+    }
+
+    @Override
+    default LongStream longs() {
+        return longs(Long.MAX_VALUE);
+    }
+
+    @Override
+    default LongStream longs(long origin, long bound) {
+        return longs(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    default LongStream longs(long streamSize) {
+        return RandomStreams.longs(streamSize, this);
+    }
+
+    @Override
+    default LongStream longs(long streamSize, long origin, long bound) {
+        return RandomStreams.longs(streamSize, this, origin, bound);
+    }
+
+    @Override
+    default DoubleStream doubles() {
+        return doubles(Long.MAX_VALUE);
+    }
+
+    @Override
+    default DoubleStream doubles(double origin, double bound) {
+        return doubles(Long.MAX_VALUE, origin, bound);
+    }
+
+    @Override
+    default DoubleStream doubles(long streamSize) {
+        return RandomStreams.doubles(streamSize, this);
+    }
+
+    @Override
+    default DoubleStream doubles(long streamSize, double origin, double bound) {
+        return RandomStreams.doubles(streamSize, this, origin, bound);
+    }
+}
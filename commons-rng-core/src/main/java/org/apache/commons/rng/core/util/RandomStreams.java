@@ -19,8 +19,20 @@ package org.apache.commons.rng.core.util;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 
@@ -33,6 +45,20 @@ public final class RandomStreams {
     /** The number of bits of each random character in the seed.
      * The generation algorithm will work if this is in the range [2, 30]. */
     private static final int SEED_CHAR_BITS = 4;
+    /** The maximum number of blocks in a stream from a jumpable generator.
+     * This is the maximum number of parts the stream can be split into. */
+    private static final long MAX_BLOCKS = 1L << 6;
+    /** The minimum size of a block in a stream from a jumpable generator.
+     * This ensures the cost of the jump for each block is small. */
+    private static final long MIN_BLOCK_SIZE = 1L << 16;
+    /** Message for an invalid stream size. */
+    private static final String INVALID_STREAM_SIZE = "Invalid stream size: ";
+    /** Message format for an invalid range for lower inclusive and upper exclusive. */
+    private static final String INVALID_RANGE = "Invalid range: [%s, %s)";
+    /** Name of the source of randomness argument. */
+    private static final String SOURCE = "source";
+    /** Message when the consumer action is null. */
+    private static final String NULL_ACTION = "action must not be null";
 
     /**
      * A factory for creating objects using a seed and a using a source of randomness.
@@ -81,16 +107,241 @@ public final class RandomStreams {
     public static <T> Stream<T> generateWithSeed(long streamSize,
                                                  SplittableUniformRandomProvider source,
                                                  SeededObjectFactory<T> factory) {
-        if (streamSize < 0) {
-            throw new IllegalArgumentException("Invalid stream size: " + streamSize);
-        }
-        Objects.requireNonNull(source, "source");
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
         Objects.requireNonNull(factory, "factory");
         final long seed = createSeed(source);
         return StreamSupport
             .stream(new SeededObjectSpliterator<>(0, streamSize, source, factory, seed), false);
     }
 
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code int}
+     * values from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream is divided into at most 64 blocks of consecutive positions. The values
+     * in block {@code b} are generated by a copy of the {@code source} advanced by {@code b}
+     * jumps. If the source is a {@link LongJumpableUniformRandomProvider} a long jump is used.
+     * The output is the same for sequential and parallel execution. A parallel stream is
+     * split at the start of a block. The {@code source} is only used to create the copies;
+     * its state is advanced by a jump for each copy that is created.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of random {@code int} values; the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static IntStream ints(long streamSize, JumpableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.intStream(
+            new JumpableIntsSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                UniformRandomProvider::nextInt), false);
+    }
+
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code int}
+     * values between the specified {@code origin} (inclusive) and the specified
+     * {@code bound} (exclusive) from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream supports parallel execution using a jump of the {@code source}.
+     * See {@link #ints(long, JumpableUniformRandomProvider)}.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @param origin Lower bound on the random number to be returned.
+     * @param bound Upper bound (exclusive) on the random number to be returned.
+     * @return a stream of random values between the specified {@code origin} (inclusive)
+     * and the specified {@code bound} (exclusive); the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative, or if
+     * {@code origin} is greater than or equal to {@code bound}.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static IntStream ints(long streamSize, JumpableUniformRandomProvider source,
+                                   int origin, int bound) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        validateRange(origin, bound);
+        return StreamSupport.intStream(
+            new JumpableIntsSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                rng -> rng.nextInt(origin, bound)), false);
+    }
+
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code long}
+     * values from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream is divided into at most 64 blocks of consecutive positions. The values
+     * in block {@code b} are generated by a copy of the {@code source} advanced by {@code b}
+     * jumps. If the source is a {@link LongJumpableUniformRandomProvider} a long jump is used.
+     * The output is the same for sequential and parallel execution. A parallel stream is
+     * split at the start of a block. The {@code source} is only used to create the copies;
+     * its state is advanced by a jump for each copy that is created.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of random {@code long} values; the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static LongStream longs(long streamSize, JumpableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.longStream(
+            new JumpableLongsSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                UniformRandomProvider::nextLong), false);
+    }
+
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code long}
+     * values between the specified {@code origin} (inclusive) and the specified
+     * {@code bound} (exclusive) from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream supports parallel execution using a jump of the {@code source}.
+     * See {@link #longs(long, JumpableUniformRandomProvider)}.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @param origin Lower bound on the random number to be returned.
+     * @param bound Upper bound (exclusive) on the random number to be returned.
+     * @return a stream of random values between the specified {@code origin} (inclusive)
+     * and the specified {@code bound} (exclusive); the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative, or if
+     * {@code origin} is greater than or equal to {@code bound}.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static LongStream longs(long streamSize, JumpableUniformRandomProvider source,
+                                   long origin, long bound) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        validateRange(origin, bound);
+        return StreamSupport.longStream(
+            new JumpableLongsSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                rng -> rng.nextLong(origin, bound)), false);
+    }
+
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code double}
+     * values from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream is divided into at most 64 blocks of consecutive positions. The values
+     * in block {@code b} are generated by a copy of the {@code source} advanced by {@code b}
+     * jumps. If the source is a {@link LongJumpableUniformRandomProvider} a long jump is used.
+     * The output is the same for sequential and parallel execution. A parallel stream is
+     * split at the start of a block. The {@code source} is only used to create the copies;
+     * its state is advanced by a jump for each copy that is created.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of random {@code double} values; the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static DoubleStream doubles(long streamSize, JumpableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.doubleStream(
+            new JumpableDoublesSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                UniformRandomProvider::nextDouble), false);
+    }
+
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code double}
+     * values between the specified {@code origin} (inclusive) and the specified
+     * {@code bound} (exclusive) from the jumpable {@code source} of randomness.
+     *
+     * <p>The stream supports parallel execution using a jump of the {@code source}.
+     * See {@link #doubles(long, JumpableUniformRandomProvider)}.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @param origin Lower bound on the random number to be returned.
+     * @param bound Upper bound (exclusive) on the random number to be returned.
+     * @return a stream of random values between the specified {@code origin} (inclusive)
+     * and the specified {@code bound} (exclusive); the stream is limited to the given
+     * {@code streamSize}.
+     * @throws IllegalArgumentException if {@code streamSize} is negative, or if
+     * {@code origin} is greater than or equal to {@code bound}.
+     * @throws NullPointerException if {@code source} is null.
+     * @since 1.7
+     */
+    public static DoubleStream doubles(long streamSize, JumpableUniformRandomProvider source,
+                                   double origin, double bound) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        validateRange(origin, bound);
+        return StreamSupport.doubleStream(
+            new JumpableDoublesSpliterator(0, streamSize, new BlockSources(source, streamSize),
+                rng -> rng.nextDouble(origin, bound)), false);
+    }
+
+    /**
+     * Validate the stream size.
+     *
+     * @param size Stream size.
+     * @throws IllegalArgumentException if {@code size} is negative.
+     */
+    private static void validateStreamSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(INVALID_STREAM_SIZE + size);
+        }
+    }
+
+    /**
+     * Validate the range between the specified {@code origin} (inclusive) and the
+     * specified {@code bound} (exclusive).
+     *
+     * @param origin Lower bound on the random number to be returned.
+     * @param bound Upper bound (exclusive) on the random number to be returned.
+     * @throws IllegalArgumentException if {@code origin} is greater than or equal to
+     * {@code bound}.
+     */
+    private static void validateRange(long origin, long bound) {
+        if (origin >= bound) {
+            throw new IllegalArgumentException(String.format(INVALID_RANGE, origin, bound));
+        }
+    }
+
+    /**
+     * Validate the range between the specified {@code origin} (inclusive) and the
+     * specified {@code bound} (exclusive).
+     *
+     * @param origin Lower bound on the random number to be returned.
+     * @param bound Upper bound (exclusive) on the random number to be returned.
+     * @throws IllegalArgumentException if {@code origin} is not finite, or {@code bound}
+     * is not finite, or {@code origin} is greater than or equal to {@code bound}.
+     */
+    private static void validateRange(double origin, double bound) {
+        if (origin >= bound || !Double.isFinite(origin) || !Double.isFinite(bound)) {
+            throw new IllegalArgumentException(String.format(INVALID_RANGE, origin, bound));
+        }
+    }
+
+    /**
+     * Gets the function to jump the jumpable source of randomness. This uses a long jump
+     * if supported by the source. The function returns a copy of the source before the jump.
+     *
+     * @param source Source of randomness.
+     * @return the jump function
+     */
+    private static Supplier<UniformRandomProvider> getJumpFunction(JumpableUniformRandomProvider source) {
+        if (source instanceof LongJumpableUniformRandomProvider) {
+            return ((LongJumpableUniformRandomProvider) source)::longJump;
+        }
+        return source::jump;
+    }
+
     /**
      * Creates a seed to prepend to a counter. The seed is created to satisfy the following
      * requirements:
@@ -177,9 +428,6 @@ public final class RandomStreams {
      */
     private static final class SeededObjectSpliterator<T>
             implements Spliterator<T> {
-        /** Message when the consumer action is null. */
-        private static final String NULL_ACTION = "action must not be null";
-
         /** The current position in the range. */
         private long position;
         /** The upper limit of the range. */
@@ -278,4 +526,383 @@ public final class RandomStreams {
             }
         }
     }
+
+    /**
+     * Provides the sources of randomness for the blocks of a stream of values from a
+     * jumpable source of randomness. The source for block {@code b} is a copy of the
+     * jumpable source advanced by {@code b} jumps. The sources are created in order on
+     * demand and each source is provided once.
+     */
+    private static final class BlockSources {
+        /** The size of each block. */
+        private final long blockSize;
+        /** Jump function. Returns a copy of the jumpable source before the jump. */
+        private final Supplier<UniformRandomProvider> jump;
+        /** The sources created for each block. */
+        private final UniformRandomProvider[] sources;
+        /** The number of sources created. */
+        private int count;
+
+        /**
+         * @param source Source of randomness.
+         * @param streamSize Number of values in the stream.
+         */
+        BlockSources(JumpableUniformRandomProvider source, long streamSize) {
+            blockSize = Math.max(MIN_BLOCK_SIZE, (streamSize - 1) / MAX_BLOCKS + 1);
+            jump = getJumpFunction(source);
+            sources = new UniformRandomProvider[(int) ((streamSize - 1) / blockSize + 1)];
+        }
+
+        /**
+         * Gets the source of randomness for the block. This must be called once per block.
+         *
+         * @param block Block index.
+         * @return the source
+         */
+        UniformRandomProvider get(int block) {
+            synchronized (sources) {
+                while (count <= block) {
+                    sources[count++] = jump.get();
+                }
+                return sources[block];
+            }
+        }
+    }
+
+    /**
+     * Base class for spliterators for streams of values from a jumpable source of randomness.
+     *
+     * <p>The stream is divided into fixed blocks of positions. The values for each block
+     * are generated by the source for the block index. A spliterator is split at the start
+     * of a block; the output does not depend on how the stream is split. A spliterator
+     * within a single block cannot be split.
+     *
+     * @param <S> the type of spliterator created by a split
+     */
+    private abstract static class JumpableSpliterator<S> {
+        /** The current position in the range. */
+        protected long position;
+        /** The upper limit of the range. */
+        protected final long end;
+        /** The end of the current block (exclusive). The source for the next block
+         * is obtained when the position reaches this value. */
+        protected long blockEnd;
+        /** The sources of randomness for each block. */
+        protected final BlockSources sources;
+        /** The source of randomness for the current block. */
+        private UniformRandomProvider source;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param source Source of randomness for the current block.
+         * @param blockEnd End of the current block (exclusive).
+         */
+        JumpableSpliterator(long start, long end,
+                            BlockSources sources,
+                            UniformRandomProvider source,
+                            long blockEnd) {
+            position = start;
+            this.end = end;
+            this.sources = sources;
+            this.source = source;
+            this.blockEnd = blockEnd;
+        }
+
+        /**
+         * See {@link Spliterator#estimateSize()}.
+         *
+         * @return the estimated size
+         */
+        public long estimateSize() {
+            return end - position;
+        }
+
+        /**
+         * See {@link Spliterator#characteristics()}.
+         *
+         * @return the characteristics
+         */
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+
+        /**
+         * See {@link Spliterator#trySplit()}.
+         *
+         * @return the spliterator covering the first half of the elements, or null
+         */
+        public S trySplit() {
+            final long start = position;
+            final long size = sources.blockSize;
+            // Split at the start of a block after the current position
+            final long first = start / size + 1;
+            final long last = (end - 1) / size;
+            if (first > last) {
+                return null;
+            }
+            final long middle = ((first + last) >>> 1) * size;
+            final S prefix = create(start, middle, source, blockEnd);
+            // The source for the next block is obtained at the middle
+            position = middle;
+            blockEnd = middle;
+            return prefix;
+        }
+
+        /**
+         * Gets the source of randomness for the position. The source for the next
+         * block is obtained when the position is at the end of the current block.
+         *
+         * @param pos Position.
+         * @return the source
+         */
+        UniformRandomProvider getSource(long pos) {
+            if (pos == blockEnd) {
+                final long size = sources.blockSize;
+                source = sources.get((int) (pos / size));
+                blockEnd = pos + Math.min(end - pos, size);
+            }
+            return source;
+        }
+
+        /**
+         * Create a new spliterator.
+         *
+         * @param from Start position of the stream (inclusive).
+         * @param to Upper limit of the stream (exclusive).
+         * @param rng Source of randomness for the current block.
+         * @param currentEnd End of the current block (exclusive).
+         * @return the spliterator
+         */
+        abstract S create(long from, long to, UniformRandomProvider rng, long currentEnd);
+    }
+
+    /**
+     * Spliterator for streams of int values from a jumpable source of randomness.
+     */
+    private static final class JumpableIntsSpliterator
+            extends JumpableSpliterator<Spliterator.OfInt>
+            implements Spliterator.OfInt {
+        /** Value generator function. */
+        private final ToIntFunction<UniformRandomProvider> gen;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param gen Value generator function.
+         */
+        JumpableIntsSpliterator(long start, long end,
+                                BlockSources sources,
+                                ToIntFunction<UniformRandomProvider> gen) {
+            this(start, end, sources, null, start, gen);
+        }
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param source Source of randomness for the current block.
+         * @param blockEnd End of the current block (exclusive).
+         * @param gen Value generator function.
+         */
+        JumpableIntsSpliterator(long start, long end,
+                                BlockSources sources,
+                                UniformRandomProvider source,
+                                long blockEnd,
+                                ToIntFunction<UniformRandomProvider> gen) {
+            super(start, end, sources, source, blockEnd);
+            this.gen = gen;
+        }
+
+        @Override
+        Spliterator.OfInt create(long from, long to, UniformRandomProvider rng, long currentEnd) {
+            return new JumpableIntsSpliterator(from, to, sources, rng, currentEnd, gen);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(gen.applyAsInt(getSource(pos)));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final ToIntFunction<UniformRandomProvider> g = gen;
+                do {
+                    final UniformRandomProvider s = getSource(pos);
+                    final long blockLast = blockEnd;
+                    do {
+                        action.accept(g.applyAsInt(s));
+                    } while (++pos < blockLast);
+                } while (pos < last);
+            }
+        }
+    }
+
+    /**
+     * Spliterator for streams of long values from a jumpable source of randomness.
+     */
+    private static final class JumpableLongsSpliterator
+            extends JumpableSpliterator<Spliterator.OfLong>
+            implements Spliterator.OfLong {
+        /** Value generator function. */
+        private final ToLongFunction<UniformRandomProvider> gen;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param gen Value generator function.
+         */
+        JumpableLongsSpliterator(long start, long end,
+                                 BlockSources sources,
+                                 ToLongFunction<UniformRandomProvider> gen) {
+            this(start, end, sources, null, start, gen);
+        }
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param source Source of randomness for the current block.
+         * @param blockEnd End of the current block (exclusive).
+         * @param gen Value generator function.
+         */
+        JumpableLongsSpliterator(long start, long end,
+                                 BlockSources sources,
+                                 UniformRandomProvider source,
+                                 long blockEnd,
+                                 ToLongFunction<UniformRandomProvider> gen) {
+            super(start, end, sources, source, blockEnd);
+            this.gen = gen;
+        }
+
+        @Override
+        Spliterator.OfLong create(long from, long to, UniformRandomProvider rng, long currentEnd) {
+            return new JumpableLongsSpliterator(from, to, sources, rng, currentEnd, gen);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(gen.applyAsLong(getSource(pos)));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final ToLongFunction<UniformRandomProvider> g = gen;
+                do {
+                    final UniformRandomProvider s = getSource(pos);
+                    final long blockLast = blockEnd;
+                    do {
+                        action.accept(g.applyAsLong(s));
+                    } while (++pos < blockLast);
+                } while (pos < last);
+            }
+        }
+    }
+
+    /**
+     * Spliterator for streams of double values from a jumpable source of randomness.
+     */
+    private static final class JumpableDoublesSpliterator
+            extends JumpableSpliterator<Spliterator.OfDouble>
+            implements Spliterator.OfDouble {
+        /** Value generator function. */
+        private final ToDoubleFunction<UniformRandomProvider> gen;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param gen Value generator function.
+         */
+        JumpableDoublesSpliterator(long start, long end,
+                                   BlockSources sources,
+                                   ToDoubleFunction<UniformRandomProvider> gen) {
+            this(start, end, sources, null, start, gen);
+        }
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param sources Sources of randomness for each block.
+         * @param source Source of randomness for the current block.
+         * @param blockEnd End of the current block (exclusive).
+         * @param gen Value generator function.
+         */
+        JumpableDoublesSpliterator(long start, long end,
+                                   BlockSources sources,
+                                   UniformRandomProvider source,
+                                   long blockEnd,
+                                   ToDoubleFunction<UniformRandomProvider> gen) {
+            super(start, end, sources, source, blockEnd);
+            this.gen = gen;
+        }
+
+        @Override
+        Spliterator.OfDouble create(long from, long to, UniformRandomProvider rng, long currentEnd) {
+            return new JumpableDoublesSpliterator(from, to, sources, rng, currentEnd, gen);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(gen.applyAsDouble(getSource(pos)));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final ToDoubleFunction<UniformRandomProvider> g = gen;
+                do {
+                    final UniformRandomProvider s = getSource(pos);
+                    final long blockLast = blockEnd;
+                    do {
+                        action.accept(g.applyAsDouble(s));
+                    } while (++pos < blockLast);
+                } while (pos < last);
+            }
+        }
+    }
 }
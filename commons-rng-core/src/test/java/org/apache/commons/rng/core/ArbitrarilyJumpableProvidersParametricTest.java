@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core;
+
+import java.math.BigInteger;
+import java.util.function.LongSupplier;
+import java.util.stream.Stream;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.source32.IntProvider;
+import org.apache.commons.rng.core.source32.Philox4x32;
+import org.apache.commons.rng.core.source32.Squares32;
+import org.apache.commons.rng.core.source32.XoShiRo128Plus;
+import org.apache.commons.rng.core.source32.XoShiRo128PlusPlus;
+import org.apache.commons.rng.core.source64.Philox4x64;
+import org.apache.commons.rng.core.source64.Squares64;
+import org.apache.commons.rng.core.source64.Threefry4x64;
+import org.apache.commons.rng.core.source64.XoRoShiRo1024PlusPlus;
+import org.apache.commons.rng.core.source64.XoRoShiRo128Plus;
+import org.apache.commons.rng.core.source64.XoRoShiRo128PlusPlus;
+import org.apache.commons.rng.core.source64.XoShiRo256StarStar;
+import org.apache.commons.rng.core.source64.XoShiRo512PlusPlus;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests which all {@link ArbitrarilyJumpableUniformRandomProvider} generators must pass.
+ */
+class ArbitrarilyJumpableProvidersParametricTest {
+    /** The number of outputs to compare. */
+    private static final int OUTPUTS = 10;
+    /** Distances to test against stepping the generator. */
+    private static final long[] DISTANCES = {0, 1, 2, 3, 7, 63, 64, 65, 100, 1000};
+
+    /**
+     * Gets the list of arbitrarily jumpable generators.
+     *
+     * @return the list
+     */
+    private static Iterable<ArbitrarilyJumpableUniformRandomProvider> getProviders() {
+        return ProvidersList.listArbitrarilyJumpable();
+    }
+
+    /**
+     * Gets the native output of the generator. The distance of an advance is the number
+     * of calls to this function.
+     *
+     * @param generator RNG under test.
+     * @return the native output function
+     */
+    private static LongSupplier nativeOutput(UniformRandomProvider generator) {
+        return generator instanceof IntProvider ?
+            generator::nextInt :
+            generator::nextLong;
+    }
+
+    /**
+     * Test that the random generator returned from the advance is a new instance of the same class.
+     */
+    @ParameterizedTest
+    @MethodSource("getProviders")
+    void testAdvanceReturnsACopy(ArbitrarilyJumpableUniformRandomProvider generator) {
+        final UniformRandomProvider copy = generator.advance(42);
+        Assertions.assertNotSame(generator, copy, "The copy instance should be a different object");
+        Assertions.assertEquals(generator.getClass(), copy.getClass(), "The copy instance should be the same class");
+    }
+
+    @ParameterizedTest
+    @MethodSource("getProviders")
+    void testAdvanceNegativeDistanceThrows(ArbitrarilyJumpableUniformRandomProvider generator) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.advance(-1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.advance(Long.MIN_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> generator.advance(BigInteger.valueOf(-1)));
+    }
+
+    /**
+     * Test the advance moves the generator the same distance as calling the native
+     * output function, and the copy continues the sequence from the pre-advance state.
+     */
+    @ParameterizedTest
+    @MethodSource("getProviders")
+    void testAdvanceMatchesSequentialOutput(ArbitrarilyJumpableUniformRandomProvider generator) {
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final LongSupplier output = nativeOutput(generator);
+        // Exercise the generator to create a cached state
+        generator.nextBoolean();
+        final RandomProviderState state = rng.saveState();
+        for (final long distance : DISTANCES) {
+            rng.restoreState(state);
+            final long[] start = next(output, OUTPUTS);
+            rng.restoreState(state);
+            for (long i = 0; i < distance; i++) {
+                output.getAsLong();
+            }
+            final long[] expected = next(output, OUTPUTS);
+
+            rng.restoreState(state);
+            final UniformRandomProvider copy = generator.advance(distance);
+            Assertions.assertArrayEquals(expected, next(output, OUTPUTS),
+                () -> "advance(" + distance + ")");
+            Assertions.assertArrayEquals(start, next(nativeOutput(copy), OUTPUTS),
+                () -> "copy should match the pre-advance state: " + distance);
+
+            rng.restoreState(state);
+            generator.advance(BigInteger.valueOf(distance));
+            Assertions.assertArrayEquals(expected, next(output, OUTPUTS),
+                () -> "advance(BigInteger) " + distance);
+        }
+    }
+
+    /**
+     * Test the advance is additive for distances that exceed 64-bits.
+     */
+    @ParameterizedTest
+    @MethodSource("getProviders")
+    void testAdvanceIsAdditive(ArbitrarilyJumpableUniformRandomProvider generator) {
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final LongSupplier output = nativeOutput(generator);
+        final RandomProviderState state = rng.saveState();
+        final BigInteger a = BigInteger.ONE.shiftLeft(100).add(BigInteger.valueOf(12345));
+        final BigInteger b = BigInteger.valueOf(Long.MAX_VALUE);
+
+        generator.advance(a.add(b));
+        final long[] expected = next(output, OUTPUTS);
+
+        rng.restoreState(state);
+        generator.advance(a);
+        generator.advance(Long.MAX_VALUE);
+        Assertions.assertArrayEquals(expected, next(output, OUTPUTS));
+
+        rng.restoreState(state);
+        generator.advance(b);
+        generator.advance(BigInteger.ONE.shiftLeft(100));
+        generator.advance(12345);
+        Assertions.assertArrayEquals(expected, next(output, OUTPUTS));
+    }
+
+    /**
+     * Test the advance resets the cached state of the generator.
+     */
+    @ParameterizedTest
+    @MethodSource("getProviders")
+    void testAdvanceResetsCachedState(ArbitrarilyJumpableUniformRandomProvider generator) {
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final RandomProviderState state = rng.saveState();
+        // Exercise the generator to create a cached state
+        generator.nextBoolean();
+        generator.nextInt();
+        generator.advance(17);
+        final boolean[] expected = {generator.nextBoolean(), generator.nextBoolean()};
+
+        rng.restoreState(state);
+        // The cached state was created using 2 native outputs
+        generator.advance(17 + 2);
+        Assertions.assertArrayEquals(expected, new boolean[] {generator.nextBoolean(), generator.nextBoolean()});
+    }
+
+    /**
+     * Test the advance of a power of 2 matches the fixed jump of the xor-shift-rotate
+     * generators.
+     *
+     * @param generator RNG under test.
+     * @param jumpPower Power of 2 for the jump.
+     * @param longJumpPower Power of 2 for the long jump.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testAdvanceMatchesJump(ArbitrarilyJumpableUniformRandomProvider generator,
+                                int jumpPower, int longJumpPower) {
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final LongSupplier output = nativeOutput(generator);
+        final RandomProviderState state = rng.saveState();
+
+        ((JumpableUniformRandomProvider) generator).jump();
+        final long[] expected = next(output, OUTPUTS);
+        rng.restoreState(state);
+        generator.advance(BigInteger.ONE.shiftLeft(jumpPower));
+        Assertions.assertArrayEquals(expected, next(output, OUTPUTS), "jump");
+
+        rng.restoreState(state);
+        ((LongJumpableUniformRandomProvider) generator).longJump();
+        final long[] expected2 = next(output, OUTPUTS);
+        rng.restoreState(state);
+        generator.advance(BigInteger.ONE.shiftLeft(longJumpPower));
+        Assertions.assertArrayEquals(expected2, next(output, OUTPUTS), "long jump");
+    }
+
+    static Stream<Arguments> testAdvanceMatchesJump() {
+        return Stream.of(
+            Arguments.of(new XoShiRo128Plus(new int[] {1, 2, 3, 4}), 64, 96),
+            Arguments.of(new XoShiRo128PlusPlus(new int[] {5, 6, 7, 8}), 64, 96),
+            Arguments.of(new XoRoShiRo128Plus(new long[] {1, 2}), 64, 96),
+            Arguments.of(new XoRoShiRo128PlusPlus(new long[] {3, 4}), 64, 96),
+            Arguments.of(new XoShiRo256StarStar(new long[] {1, 2, 3, 4}), 128, 192),
+            Arguments.of(new XoShiRo512PlusPlus(new long[] {1, 2, 3, 4}), 256, 384),
+            Arguments.of(new XoRoShiRo1024PlusPlus(new long[] {1, 2, 3, 4}), 512, 768),
+            Arguments.of(new Philox4x32(new int[] {1, 2, 3, 4}), 66, 98),
+            Arguments.of(new Philox4x64(new long[] {1, 2, 3, 4}), 130, 194),
+            Arguments.of(new Threefry4x64(new long[] {1, 2, 3, 4, 5, 6}), 130, 194)
+        );
+    }
+
+    /**
+     * Test the advance of a counter-based generator carries into the upper words of the
+     * counter. The counter is set to wrap to zero after a few steps.
+     *
+     * @param generator RNG under test.
+     */
+    @ParameterizedTest
+    @MethodSource
+    void testAdvanceCounterCarry(ArbitrarilyJumpableUniformRandomProvider generator) {
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final LongSupplier output = nativeOutput(generator);
+        final RandomProviderState state = rng.saveState();
+        for (long distance = 0; distance < 20; distance++) {
+            rng.restoreState(state);
+            for (long i = 0; i < distance; i++) {
+                output.getAsLong();
+            }
+            final long[] expected = next(output, OUTPUTS);
+            rng.restoreState(state);
+            generator.advance(distance);
+            final long d = distance;
+            Assertions.assertArrayEquals(expected, next(output, OUTPUTS), () -> "advance(" + d + ")");
+        }
+        // Wrap the full period
+        rng.restoreState(state);
+        final long[] expected = next(output, OUTPUTS);
+        rng.restoreState(state);
+        final int bits = generator instanceof Squares32 || generator instanceof Squares64 ? 64 :
+            generator instanceof Philox4x32 ? 130 : 258;
+        generator.advance(BigInteger.ONE.shiftLeft(bits));
+        Assertions.assertArrayEquals(expected, next(output, OUTPUTS), "advance(period)");
+    }
+
+    static Stream<Arguments> testAdvanceCounterCarry() {
+        return Stream.of(
+            Arguments.of(new Philox4x32(new int[] {1, 2, -3, -1, -1, -1})),
+            Arguments.of(new Philox4x32(new int[] {1, 2, -3, -1, 0, 0})),
+            Arguments.of(new Philox4x64(new long[] {1, 2, -3, -1, -1, -1})),
+            Arguments.of(new Philox4x64(new long[] {1, 2, -3, 0, 0, 0})),
+            Arguments.of(new Threefry4x64(new long[] {1, 2, 3, 4, -3, -1, -1, -1})),
+            Arguments.of(new Threefry4x64(new long[] {1, 2, 3, 4, -3, -1, 0, 0})),
+            Arguments.of(new Squares32(new long[] {0xc8e4fd154ce32f6dL, -7})),
+            Arguments.of(new Squares64(new long[] {0x9fe72a1c7db35a41L, -7}))
+        );
+    }
+
+    /**
+     * Gets the next values from the output function.
+     *
+     * @param output Output function.
+     * @param n Number of values.
+     * @return the values
+     */
+    private static long[] next(LongSupplier output, int n) {
+        final long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            values[i] = output.getAsLong();
+        }
+        return values;
+    }
+}
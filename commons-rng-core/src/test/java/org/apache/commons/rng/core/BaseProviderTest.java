@@ -20,6 +20,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
 
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.SplittableRandom;
 
@@ -53,6 +54,20 @@ class BaseProviderTest {
         Assertions.assertThrows(IllegalStateException.class, () -> dummy.restoreState(state));
     }
 
+    @Test
+    void testStateBufferWithoutDirectRead() {
+        // A class that does not override the pair of state read methods
+        // uses the byte[] state
+        final PartialStateGenerator rng = new PartialStateGenerator(123);
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+        rng.saveState(buffer);
+        final long expected = rng.nextLong();
+        buffer.flip();
+        rng.restoreState(buffer);
+        Assertions.assertTrue(rng.setState, "setStateInternal not used");
+        Assertions.assertEquals(expected, rng.nextLong());
+    }
+
     @Test
     void testFillStateInt() {
         final int[] state = new int[10];
@@ -268,4 +283,40 @@ class BaseProviderTest {
             super.fillState(state, seed);
         }
     }
+
+    /**
+     * Generator that overrides the state methods except {@code readStateInternal}.
+     */
+    static class PartialStateGenerator extends SplitMix64 {
+        /** Set to true when the state is set using the byte[] state. */
+        private boolean setState;
+
+        /**
+         * @param seed Seed.
+         */
+        PartialStateGenerator(long seed) {
+            super(seed);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected byte[] getStateInternal() {
+            return super.getStateInternal();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void setStateInternal(byte[] s) {
+            setState = true;
+            super.setStateInternal(s);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        protected void writeStateInternal(ByteBuffer buffer) {
+            super.writeStateInternal(buffer);
+        }
+
+        // Missing override of "readStateInternal".
+    }
 }
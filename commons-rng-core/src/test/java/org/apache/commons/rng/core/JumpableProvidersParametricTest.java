@@ -22,11 +22,16 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
 import java.util.Arrays;
+import java.util.Spliterator;
+import java.util.function.LongConsumer;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
 
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.RandomProviderState;
 import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.core.source32.IntProvider;
 import org.apache.commons.rng.core.source64.LongProvider;
@@ -227,6 +232,111 @@ class JumpableProvidersParametricTest {
         }
     }
 
+    /**
+     * Test the stream of generators from the jumps function matches repeat calls to
+     * the jump function.
+     */
+    @ParameterizedTest
+    @MethodSource("getJumpableProviders")
+    void testJumpsMatchesJump(JumpableUniformRandomProvider generator) {
+        assertJumpsMatchesJump(generator::jump, generator::jumps, generator);
+    }
+
+    /**
+     * Test the stream of generators from the long jumps function matches repeat calls to
+     * the long jump function.
+     */
+    @ParameterizedTest
+    @MethodSource("getJumpableProviders")
+    void testLongJumpsMatchesLongJump(JumpableUniformRandomProvider generator) {
+        Assumptions.assumeTrue(generator instanceof LongJumpableUniformRandomProvider, "No long jump function");
+        final LongJumpableUniformRandomProvider rng = (LongJumpableUniformRandomProvider) generator;
+        assertJumpsMatchesJump(rng::longJump, rng::longJumps, generator);
+    }
+
+    /**
+     * Assert the stream of generators from the jumps function matches repeat calls to
+     * the jump function.
+     *
+     * @param jumpFunction Jump function to test.
+     * @param jumpsFunction Jumps function to test.
+     * @param generator RNG under test.
+     */
+    private static void assertJumpsMatchesJump(TestJumpFunction jumpFunction,
+                                               LongFunction<Stream<? extends UniformRandomProvider>> jumpsFunction,
+                                               JumpableUniformRandomProvider generator) {
+        Assumptions.assumeTrue(generator instanceof RestorableUniformRandomProvider, "Not a restorable RNG");
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final int size = 3;
+        // Exercise the generator to create a cached state
+        generator.nextBoolean();
+        final RandomProviderState state = rng.saveState();
+        final long[] expected = new long[size + 1];
+        for (int i = 0; i < size; i++) {
+            expected[i] = jumpFunction.jump().nextLong();
+        }
+        expected[size] = generator.nextLong();
+        rng.restoreState(state);
+        final long[] actual = new long[size + 1];
+        final long[] values = jumpsFunction.apply(size).mapToLong(UniformRandomProvider::nextLong).toArray();
+        System.arraycopy(values, 0, actual, 0, values.length);
+        actual[size] = generator.nextLong();
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Test the split of a stream of values uses a jump of the generator.
+     * The stream is divided into 64 blocks. The first split is assigned half of the
+     * blocks of the stream.
+     */
+    @ParameterizedTest
+    @MethodSource("getJumpableProviders")
+    void testLongsSpliteratorSplitUsesJump(JumpableUniformRandomProvider generator) {
+        Assumptions.assumeTrue(generator instanceof RestorableUniformRandomProvider, "Not a restorable RNG");
+        Assumptions.assumeFalse(generator instanceof SplittableUniformRandomProvider, "Stream is split using split()");
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final TestJumpFunction jumpFunction = generator instanceof LongJumpableUniformRandomProvider ?
+            ((LongJumpableUniformRandomProvider) generator)::longJump :
+            generator::jump;
+        final RandomProviderState state = rng.saveState();
+        final long[] expected = {generator.nextLong(), 0};
+        rng.restoreState(state);
+        for (int i = 0; i < 32; i++) {
+            jumpFunction.jump();
+        }
+        expected[1] = generator.nextLong();
+
+        rng.restoreState(state);
+        final Spliterator.OfLong s1 = generator.longs(1L << 22).spliterator();
+        final Spliterator.OfLong s2 = s1.trySplit();
+        Assertions.assertNotNull(s2, "Stream should be split");
+        final long[] actual = new long[2];
+        s2.tryAdvance((LongConsumer) x -> actual[0] = x);
+        s1.tryAdvance((LongConsumer) x -> actual[1] = x);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Test a parallel stream of values outputs the same values as a sequential stream.
+     * The state of the generator is advanced by the same number of jumps.
+     */
+    @ParameterizedTest
+    @MethodSource("getJumpableProviders")
+    void testLongsParallelMatchesSequential(JumpableUniformRandomProvider generator) {
+        Assumptions.assumeTrue(generator instanceof RestorableUniformRandomProvider, "Not a restorable RNG");
+        Assumptions.assumeFalse(generator instanceof SplittableUniformRandomProvider, "Stream is split using split()");
+        final RestorableUniformRandomProvider rng = (RestorableUniformRandomProvider) generator;
+        final RandomProviderState state = rng.saveState();
+        // Stream with multiple blocks
+        final long size = 1L << 19;
+        final long[] expected = generator.longs(size).toArray();
+        final long next = generator.nextLong();
+        rng.restoreState(state);
+        final long[] actual = generator.longs(size).parallel().toArray();
+        Assertions.assertArrayEquals(expected, actual);
+        Assertions.assertEquals(next, generator.nextLong());
+    }
+
     /**
      * Dummy class for checking the state size of the IntProvider.
      */
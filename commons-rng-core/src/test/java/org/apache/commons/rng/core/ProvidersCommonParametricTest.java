@@ -16,12 +16,15 @@
  */
 package org.apache.commons.rng.core;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.ArrayList;
 import java.util.concurrent.Callable;
 import java.util.function.LongSupplier;
 import java.util.stream.Collectors;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
@@ -253,6 +256,218 @@ class ProvidersCommonParametricTest {
         Assertions.assertThrows(IllegalArgumentException.class, () -> generator.restoreState(state));
     }
 
+    /**
+     * Test the state written to a buffer uses the same bytes as the default state.
+     */
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testSaveStateBufferMatchesSaveState(RestorableUniformRandomProvider generator) {
+        final BaseProvider rng = (BaseProvider) generator;
+        final byte[] expected = ((RandomProviderDefaultState) rng.saveState()).getState();
+        for (final boolean direct : new boolean[] {false, true}) {
+            final ByteBuffer buffer = direct ?
+                ByteBuffer.allocateDirect(expected.length + 16) :
+                ByteBuffer.allocate(expected.length + 16);
+            buffer.position(3);
+            rng.saveState(buffer);
+            Assertions.assertEquals(3 + 8 + expected.length, buffer.position());
+            Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order(), "Byte order was not restored");
+            buffer.flip().position(3);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            Assertions.assertEquals(1, buffer.getInt(), "Format version");
+            Assertions.assertEquals(expected.length, buffer.getInt(), "State length");
+            final byte[] actual = new byte[expected.length];
+            buffer.get(actual);
+            Assertions.assertArrayEquals(expected, actual, () -> generator + " direct=" + direct);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testStateBufferSettable(RestorableUniformRandomProvider generator) {
+        final BaseProvider rng = (BaseProvider) generator;
+        final int n = 1000;
+        for (final boolean direct : new boolean[] {false, true}) {
+            final ByteBuffer buffer = direct ?
+                ByteBuffer.allocateDirect(16384) :
+                ByteBuffer.allocate(16384);
+            rng.saveState(buffer);
+            final int end = buffer.position();
+            final List<Number> listOrig = makeList(n, generator);
+            final List<Number> listDiscard = makeList(n, generator);
+            Assertions.assertNotEquals(listOrig, listDiscard);
+            buffer.flip();
+            rng.restoreState(buffer);
+            Assertions.assertEquals(end, buffer.position());
+            Assertions.assertEquals(listOrig, makeList(n, generator), () -> generator + " direct=" + direct);
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testStateBufferInvalid(RestorableUniformRandomProvider generator) {
+        final BaseProvider rng = (BaseProvider) generator;
+        final ByteBuffer buffer = ByteBuffer.allocate(16384).order(ByteOrder.LITTLE_ENDIAN);
+        rng.saveState(buffer);
+        final int end = buffer.position();
+        // Change the state. A failed restore must not change the output.
+        rng.nextLong();
+        final RandomProviderState current = rng.saveState();
+        final long[] expected = LongStream.generate(rng::nextLong).limit(10).toArray();
+        rng.restoreState(current);
+
+        // Missing header
+        final ByteBuffer empty = ByteBuffer.allocate(4);
+        assertRestoreStateThrows(rng, empty, expected);
+        // Unknown version
+        buffer.putInt(0, 42);
+        buffer.position(0).limit(end);
+        assertRestoreStateThrows(rng, buffer, expected);
+        buffer.putInt(0, 1);
+        // Truncated state
+        buffer.position(0).limit(end - 1);
+        assertRestoreStateThrows(rng, buffer, expected);
+        // Wrong state length
+        final int length = buffer.getInt(4);
+        for (final int size : new int[] {-1, length - 1, length - 8, length + 1}) {
+            buffer.putInt(4, size);
+            buffer.position(0).limit(end + 8);
+            assertRestoreStateThrows(rng, buffer, expected);
+        }
+        buffer.putInt(4, length);
+        // Foreign state
+        final ByteBuffer dummy = ByteBuffer.allocate(64);
+        new DummyGenerator().saveState(dummy);
+        dummy.flip();
+        assertRestoreStateThrows(rng, dummy, expected);
+        // Valid state
+        buffer.position(0).limit(end);
+        Assertions.assertDoesNotThrow(() -> rng.restoreState(buffer));
+    }
+
+    /**
+     * Assert the restore of the state from the buffer throws and the output of the
+     * generator is unchanged. The state of the generator is reset after the test.
+     *
+     * @param rng Generator.
+     * @param buffer Buffer.
+     * @param expected Expected output.
+     */
+    private static void assertRestoreStateThrows(BaseProvider rng, ByteBuffer buffer, long[] expected) {
+        final RandomProviderState current = rng.saveState();
+        Assertions.assertThrows(IllegalStateException.class, () -> rng.restoreState(buffer));
+        Assertions.assertArrayEquals(expected, LongStream.generate(rng::nextLong).limit(expected.length).toArray(),
+            "Output changed after a failed restore");
+        rng.restoreState(current);
+    }
+
+    /**
+     * Test filling a buffer outputs the same bytes as filling an array.
+     */
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testFillBytesMatchesNextBytes(RestorableUniformRandomProvider generator) {
+        for (final int len : new int[] {0, 1, 3, 4, 7, 8, 9, 23}) {
+            for (final boolean direct : new boolean[] {false, true}) {
+                final RandomProviderState state = generator.saveState();
+                final byte[] expected = new byte[len];
+                generator.nextBytes(expected);
+                final int next = generator.nextInt();
+                generator.restoreState(state);
+
+                final int position = 2;
+                final ByteBuffer buffer = direct ?
+                    ByteBuffer.allocateDirect(position + len + 1) :
+                    ByteBuffer.allocate(position + len + 1);
+                buffer.position(position);
+                buffer.limit(position + len);
+                generator.fillBytes(buffer);
+                Assertions.assertEquals(next, generator.nextInt(), "Incorrect number of values consumed");
+                Assertions.assertEquals(buffer.limit(), buffer.position());
+                final byte[] actual = new byte[len];
+                buffer.position(position);
+                buffer.get(actual);
+                Assertions.assertArrayEquals(expected, actual, () -> generator + " direct=" + direct);
+            }
+        }
+    }
+
+    // Bulk generation tests
+
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testPreconditionBulkMethods(UniformRandomProvider generator) {
+        final int size = 10;
+        final int[] ints = new int[size];
+        final long[] longs = new long[size];
+        final double[] doubles = new double[size];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextInts(ints, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextInts(ints, 5, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextInts(ints, 5, Integer.MAX_VALUE));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextLongs(longs, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextLongs(longs, 5, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextLongs(longs, 5, Integer.MAX_VALUE));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextDoubles(doubles, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextDoubles(doubles, 5, 6));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> generator.nextDoubles(doubles, 5, Integer.MAX_VALUE));
+        // Should be OK
+        generator.nextInts(ints, size, 0);
+        generator.nextLongs(longs, size, 0);
+        generator.nextDoubles(doubles, size, 0);
+    }
+
+    /**
+     * Test the bulk generation methods output the same sequence as repeat calls
+     * to the single value methods. The test uses lengths that exercise the partial
+     * consumption of cached values and checks the generator is left in the same state.
+     */
+    @ParameterizedTest
+    @MethodSource("getList")
+    void testBulkMethodsMatchSingleValues(RestorableUniformRandomProvider generator) {
+        for (final int len : new int[] {0, 1, 2, 3, 8, 33}) {
+            for (int offset = 0; offset < 2; offset++) {
+                // Partially consume a cached value
+                generator.nextInt();
+
+                RandomProviderState state = generator.saveState();
+                final int[] ints = new int[len + offset];
+                for (int i = 0; i < len; i++) {
+                    ints[i + offset] = generator.nextInt();
+                }
+                final long endInts = generator.nextLong();
+                generator.restoreState(state);
+                final int[] ints2 = new int[len + offset];
+                generator.nextInts(ints2, offset, len);
+                Assertions.assertArrayEquals(ints, ints2, "nextInts");
+                Assertions.assertEquals(endInts, generator.nextLong(), "nextInts final state");
+
+                state = generator.saveState();
+                final long[] longs = new long[len + offset];
+                for (int i = 0; i < len; i++) {
+                    longs[i + offset] = generator.nextLong();
+                }
+                final int endLongs = generator.nextInt();
+                generator.restoreState(state);
+                final long[] longs2 = new long[len + offset];
+                generator.nextLongs(longs2, offset, len);
+                Assertions.assertArrayEquals(longs, longs2, "nextLongs");
+                Assertions.assertEquals(endLongs, generator.nextInt(), "nextLongs final state");
+
+                state = generator.saveState();
+                final double[] doubles = new double[len + offset];
+                for (int i = 0; i < len; i++) {
+                    doubles[i + offset] = generator.nextDouble();
+                }
+                final int endDoubles = generator.nextInt();
+                generator.restoreState(state);
+                final double[] doubles2 = new double[len + offset];
+                generator.nextDoubles(doubles2, offset, len);
+                Assertions.assertArrayEquals(doubles, doubles2, "nextDoubles");
+                Assertions.assertEquals(endDoubles, generator.nextInt(), "nextDoubles final state");
+            }
+        }
+    }
+
     ///// Support methods below.
 
     /**
@@ -45,6 +45,8 @@ import org.apache.commons.rng.core.source32.PcgXshRs32;
 import org.apache.commons.rng.core.source32.DotyHumphreySmallFastCounting32;
 import org.apache.commons.rng.core.source32.PcgMcgXshRr32;
 import org.apache.commons.rng.core.source32.PcgMcgXshRs32;
+import org.apache.commons.rng.core.source32.Philox4x32;
+import org.apache.commons.rng.core.source32.Squares32;
 import org.apache.commons.rng.core.source64.SplitMix64;
 import org.apache.commons.rng.core.source64.XorShift1024Star;
 import org.apache.commons.rng.core.source64.XorShift1024StarPhi;
@@ -57,6 +59,7 @@ import org.apache.commons.rng.core.source64.XoRoShiRo128PlusPlus;
 import org.apache.commons.rng.core.source64.XoRoShiRo128StarStar;
 import org.apache.commons.rng.core.source64.XoShiRo256Plus;
 import org.apache.commons.rng.core.source64.XoShiRo256PlusPlus;
+import org.apache.commons.rng.core.source64.XoShiRo256PlusPlusX4;
 import org.apache.commons.rng.core.source64.XoShiRo256StarStar;
 import org.apache.commons.rng.core.source64.XoShiRo512Plus;
 import org.apache.commons.rng.core.source64.XoShiRo512PlusPlus;
@@ -72,6 +75,11 @@ import org.apache.commons.rng.core.source64.L64X256Mix;
 import org.apache.commons.rng.core.source64.MersenneTwister64;
 import org.apache.commons.rng.core.source64.PcgRxsMXs64;
 import org.apache.commons.rng.core.source64.DotyHumphreySmallFastCounting64;
+import org.apache.commons.rng.core.source64.Philox4x64;
+import org.apache.commons.rng.core.source64.Squares64;
+import org.apache.commons.rng.core.source64.Threefry4x64;
+import org.apache.commons.rng.core.util.BufferedUniformRandomProvider;
+import org.apache.commons.rng.ArbitrarilyJumpableUniformRandomProvider;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
@@ -94,6 +102,8 @@ public final class ProvidersList {
     private static final List<RestorableUniformRandomProvider> LIST64 = new ArrayList<>();
     /** List of {@link JumpableUniformRandomProvider} RNGs. */
     private static final List<JumpableUniformRandomProvider> LIST_JUMP = new ArrayList<>();
+    /** List of {@link ArbitrarilyJumpableUniformRandomProvider} RNGs. */
+    private static final List<ArbitrarilyJumpableUniformRandomProvider> LIST_ARBITRARY_JUMP = new ArrayList<>();
     /** List of {@link SplittableUniformRandomProvider} RNGs. */
     private static final List<SplittableUniformRandomProvider> LIST_SPLIT = new ArrayList<>();
 
@@ -130,6 +140,9 @@ public final class ProvidersList {
             LIST32.add(new JenkinsSmallFast32(g.nextInt()));
             LIST32.add(new XoShiRo128PlusPlus(new int[] {g.nextInt(), g.nextInt(), g.nextInt()}));
             LIST32.add(new L32X64Mix(new int[] {g.nextInt(), g.nextInt()}));
+            LIST32.add(new Philox4x32(new int[] {g.nextInt(), g.nextInt()}));
+            // Squares requires a key with a good mix of bits
+            LIST32.add(new Squares32(new long[] {0xc8e4fd154ce32f6dL, g.nextLong()}));
             // ... add more here.
 
             // "long"-based RNGs.
@@ -151,6 +164,7 @@ public final class ProvidersList {
             LIST64.add(new JenkinsSmallFast64(g.nextLong()));
             LIST64.add(new XoRoShiRo128PlusPlus(new long[] {g.nextLong(), g.nextLong()}));
             LIST64.add(new XoShiRo256PlusPlus(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
+            LIST64.add(new XoShiRo256PlusPlusX4(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
             LIST64.add(new XoShiRo512PlusPlus(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
             LIST64.add(new XoRoShiRo1024PlusPlus(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
             LIST64.add(new XoRoShiRo1024Star(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
@@ -163,6 +177,12 @@ public final class ProvidersList {
             LIST64.add(new L128X128Mix(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
             LIST64.add(new L128X256Mix(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
             LIST64.add(new L128X1024Mix(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
+            LIST64.add(new Philox4x64(new long[] {g.nextLong(), g.nextLong()}));
+            LIST64.add(new Threefry4x64(new long[] {g.nextLong(), g.nextLong(), g.nextLong(), g.nextLong()}));
+            LIST64.add(new Squares64(new long[] {0x9fe72a1c7db35a41L, g.nextLong()}));
+            // Decorated generators
+            LIST64.add(new BufferedUniformRandomProvider(new XoShiRo256PlusPlus(new long[] {g.nextLong(), g.nextLong()}), 13));
+            LIST64.add(new BufferedUniformRandomProvider(new L32X64Mix(new int[] {g.nextInt(), g.nextInt()})));
             // ... add more here.
 
             // Do not modify the remaining statements.
@@ -173,6 +193,9 @@ public final class ProvidersList {
             LIST.stream()
                 .filter(rng -> rng instanceof JumpableUniformRandomProvider)
                 .forEach(rng -> LIST_JUMP.add((JumpableUniformRandomProvider) rng));
+            LIST.stream()
+                .filter(rng -> rng instanceof ArbitrarilyJumpableUniformRandomProvider)
+                .forEach(rng -> LIST_ARBITRARY_JUMP.add((ArbitrarilyJumpableUniformRandomProvider) rng));
             LIST.stream()
                 .filter(rng -> rng instanceof SplittableUniformRandomProvider)
                 .forEach(rng -> LIST_SPLIT.add((SplittableUniformRandomProvider) rng));
@@ -230,6 +253,16 @@ public final class ProvidersList {
         return Collections.unmodifiableList(LIST_JUMP);
     }
 
+    /**
+     * Subclasses that are "parametric" tests can forward the call to
+     * the "@Parameters"-annotated method to this method.
+     *
+     * @return the list of {@link ArbitrarilyJumpableUniformRandomProvider} generators.
+     */
+    public static Iterable<ArbitrarilyJumpableUniformRandomProvider> listArbitrarilyJumpable() {
+        return Collections.unmodifiableList(LIST_ARBITRARY_JUMP);
+    }
+
     /**
      * Subclasses that are "parametric" tests can forward the call to
      * the "@Parameters"-annotated method to this method.
@@ -242,12 +242,7 @@ abstract class AbstractLXMTest {
          * @param source the source to copy
          */
         XBGXoRoShiRo64(XBGXoRoShiRo64 source) {
-            // There is no super-class copy constructor so just construct
-            // from the RNG state.
-            // Warning:
-            // This will not copy the cached state from source.
-            // This only matters if tests use nextBoolean.
-            this(source.state0, source.state1);
+            super(source);
         }
 
         @Override
@@ -274,6 +269,11 @@ abstract class AbstractLXMTest {
             // Not used
             return 0;
         }
+
+        @Override
+        protected XBGXoRoShiRo64 copy() {
+            return new XBGXoRoShiRo64(this);
+        }
     }
 
     /**
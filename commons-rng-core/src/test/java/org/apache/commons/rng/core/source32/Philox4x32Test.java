@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source32;
+
+import org.apache.commons.rng.core.RandomAssert;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class Philox4x32Test {
+    /*
+     * Sequences generated from a counter that carries into the upper words on the
+     * third block. The jumps increment counter words 2 and 3.
+     * The seed is the key followed by the counter.
+     */
+
+    private static final int[] SEED = {
+        0x9c1a3b5d, 0x7e2f8a41, 0xfffffffe, 0xffffffff, 0x12345678, 0x0abcdef0
+    };
+
+    private static final int[] EXPECTED_SEQUENCE = {
+        0xc813dd92, 0x5cc1df30, 0xef4471b0, 0xf7a62af0,
+        0xc413f57a, 0x81cf517b, 0xbf871e6f, 0x3067af10,
+        0x843cb9c4, 0x8d6ba614, 0x5784896a, 0x7cf83c28
+    };
+
+    private static final int[] EXPECTED_SEQUENCE_AFTER_JUMP = {
+        0x698951b4, 0x047db80b, 0x5d2906e3, 0x30c4be80,
+        0x02673b9f, 0xcb361700, 0x20be18a5, 0xac05f564,
+        0x11e9a1bc, 0x8eceb2ad, 0x8aee21ef, 0x6c4edcdb
+    };
+
+    private static final int[] EXPECTED_SEQUENCE_AFTER_LONG_JUMP = {
+        0xbdc15f01, 0x57cfcd9a, 0x47a9d360, 0x7449b35d,
+        0x46b0bf44, 0x257c94f1, 0xaebf55b0, 0x218952f6,
+        0xcd2c24ba, 0x4ade46d0, 0xb213f719, 0x0f3f6755
+    };
+
+    /*
+     * Data from the known answer test vectors of the Random123 library (kat_vectors):
+     *   https://github.com/DEShawResearch/random123
+     */
+
+    static Stream<Arguments> testReferenceCode() {
+        return Stream.of(
+            Arguments.of(new int[] {0, 0, 0, 0, 0, 0},
+                         new int[] {0x6627e8d5, 0xe169c58d, 0xbc57ac4c, 0x9b00dbd8}),
+            Arguments.of(new int[] {-1, -1, -1, -1, -1, -1},
+                         new int[] {0x408f276d, 0x41c83b0e, 0xa20bc7c6, 0x6d5451fd}),
+            Arguments.of(new int[] {0xa4093822, 0x299f31d0, 0x243f6a88, 0x85a308d3, 0x13198a2e, 0x03707344},
+                         new int[] {0xd16cfe09, 0x94fdcceb, 0x5001e420, 0x24126ea1})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testReferenceCode(int[] seed, int[] expected) {
+        RandomAssert.assertEquals(expected, new Philox4x32(seed));
+    }
+
+    @Test
+    void testCounterIncrement() {
+        RandomAssert.assertEquals(EXPECTED_SEQUENCE, new Philox4x32(SEED));
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // The missing elements are zero
+        RandomAssert.assertNextIntEquals(12, new Philox4x32(new int[] {SEED[0], SEED[1]}),
+            new Philox4x32(new int[] {SEED[0], SEED[1], 0, 0, 0, 0}));
+    }
+
+    @Test
+    void testJump() {
+        RandomAssert.assertJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_JUMP, new Philox4x32(SEED));
+    }
+
+    @Test
+    void testLongJump() {
+        RandomAssert.assertLongJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_LONG_JUMP, new Philox4x32(SEED));
+    }
+
+    @Test
+    void testJumpWithinBlock() {
+        // Jump from a position inside an output block
+        final Philox4x32 rng = new Philox4x32(SEED);
+        rng.nextInt();
+        rng.nextInt();
+        rng.jump();
+        final int[] expected = new int[EXPECTED_SEQUENCE_AFTER_JUMP.length - 2];
+        System.arraycopy(EXPECTED_SEQUENCE_AFTER_JUMP, 2, expected, 0, expected.length);
+        RandomAssert.assertEquals(expected, rng);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void testCounterIncrementCarry(int words) {
+        // The lower counter words carry into the next word after the first block
+        final int[] seed = SEED.clone();
+        Arrays.fill(seed, 2, 2 + words, -1);
+        seed[2 + words] = 42;
+        final Philox4x32 rng = new Philox4x32(seed);
+        for (int i = 0; i < 4; i++) {
+            rng.nextInt();
+        }
+        Arrays.fill(seed, 2, 2 + words, 0);
+        seed[2 + words] = 43;
+        RandomAssert.assertNextIntEquals(12, new Philox4x32(seed), rng);
+    }
+
+    @Test
+    void testJumpCarry() {
+        // Counter word 2 carries into counter word 3
+        final int[] seed = SEED.clone();
+        seed[4] = -1;
+        final Philox4x32 rng = new Philox4x32(seed);
+        rng.jump();
+        seed[4] = 0;
+        seed[5]++;
+        RandomAssert.assertNextIntEquals(12, new Philox4x32(seed), rng);
+    }
+}
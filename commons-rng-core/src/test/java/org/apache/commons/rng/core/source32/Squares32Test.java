@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source32;
+
+import org.apache.commons.rng.core.RandomAssert;
+import org.junit.jupiter.api.Test;
+
+class Squares32Test {
+    /*
+     * Data from a direct translation of the C code of the squares function:
+     *   https://arxiv.org/abs/2004.06278
+     *
+     * The counter wraps to zero during the sequence.
+     */
+
+    private static final long[] SEED = {
+        0xc8e4fd154ce32f6dL, 0xfffffffffffffffcL
+    };
+
+    private static final int[] EXPECTED_SEQUENCE = {
+        0xca634d07, 0x34a63df1, 0x8a9e78d2, 0xa3c3ef54,
+        0x800c823e, 0x5f4f366d, 0xeee77e31, 0xf9a1dcf6,
+        0xb570b3f7, 0xf278e3ad
+    };
+
+    @Test
+    void testReferenceCode() {
+        RandomAssert.assertEquals(EXPECTED_SEQUENCE, new Squares32(SEED));
+    }
+
+    @Test
+    void testConstructorWithZeroKeyIsNonFunctional() {
+        RandomAssert.assertNextIntZeroOutput(new Squares32(new long[] {0, 123}), 10);
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // The counter is zero
+        RandomAssert.assertNextIntEquals(10, new Squares32(new long[] {SEED[0]}),
+            new Squares32(new long[] {SEED[0], 0}));
+    }
+
+    @Test
+    void testConstructorWithEmptySeed() {
+        // A default key is used
+        RandomAssert.assertNextIntEquals(10, new Squares32(new long[0]),
+            new Squares32(new long[] {0xc8e4fd154ce32f6dL, 0}));
+    }
+}
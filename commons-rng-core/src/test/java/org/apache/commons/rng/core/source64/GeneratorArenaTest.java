@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link GeneratorArena}.
+ */
+class GeneratorArenaTest {
+    static Stream<Arguments> arenas() {
+        return Stream.of(
+            Arguments.of((BiFunction<Integer, UniformRandomProvider, GeneratorArena>) GeneratorArena::xoShiRo256PlusPlus,
+                (Function<long[], UniformRandomProvider>) XoShiRo256PlusPlus::new, 4),
+            Arguments.of((BiFunction<Integer, UniformRandomProvider, GeneratorArena>) GeneratorArena::xoShiRo256StarStar,
+                (Function<long[], UniformRandomProvider>) XoShiRo256StarStar::new, 4),
+            Arguments.of((BiFunction<Integer, UniformRandomProvider, GeneratorArena>) GeneratorArena::xoRoShiRo128PlusPlus,
+                (Function<long[], UniformRandomProvider>) XoRoShiRo128PlusPlus::new, 2),
+            Arguments.of((BiFunction<Integer, UniformRandomProvider, GeneratorArena>) GeneratorArena::l64X128Mix,
+                (Function<long[], UniformRandomProvider>) L64X128Mix::new, 4)
+        );
+    }
+
+    /**
+     * Test the arena is seeded using the seed source in order; each generator
+     * produces the same output as a generator instance with the same seed.
+     */
+    @ParameterizedTest
+    @MethodSource("arenas")
+    void testOutputMatchesGenerator(BiFunction<Integer, UniformRandomProvider, GeneratorArena> factory,
+                                    Function<long[], UniformRandomProvider> constructor,
+                                    int seedSize) {
+        final int size = 5;
+        final GeneratorArena arena = factory.apply(size, new SplitMix64(123L));
+        Assertions.assertEquals(size, arena.size());
+        final SplitMix64 seedSource = new SplitMix64(123L);
+        final UniformRandomProvider[] rngs = new UniformRandomProvider[size];
+        for (int i = 0; i < size; i++) {
+            rngs[i] = constructor.apply(seedSource.longs(seedSize).toArray());
+        }
+        // Interleave the generators
+        final GeneratorArena.Cursor cursor = arena.cursor();
+        for (int j = 0; j < 10; j++) {
+            for (int i = 0; i < size; i++) {
+                Assertions.assertEquals(rngs[i].nextLong(), arena.nextLong(i));
+                Assertions.assertEquals(rngs[i].nextDouble(), arena.nextDouble(i));
+                Assertions.assertEquals(rngs[i].nextLong(), cursor.moveTo(i).nextLong());
+                Assertions.assertEquals(i, cursor.getIndex());
+            }
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("arenas")
+    void testSetSeed(BiFunction<Integer, UniformRandomProvider, GeneratorArena> factory,
+                     Function<long[], UniformRandomProvider> constructor,
+                     int seedSize) {
+        final GeneratorArena arena = factory.apply(3, new SplitMix64(456L));
+        // Short seed is extended by the constructor
+        final long[] seed = {42, 13};
+        Assertions.assertTrue(seed.length <= seedSize);
+        arena.setSeed(1, seed);
+        final UniformRandomProvider rng = constructor.apply(seed);
+        final UniformRandomProvider other = constructor.apply(new long[] {42, 14});
+        final GeneratorArena.Cursor cursor = arena.cursor().moveTo(1);
+        for (int j = 0; j < 10; j++) {
+            final long expected = rng.nextLong();
+            Assertions.assertEquals(expected, cursor.nextLong());
+            Assertions.assertNotEquals(expected, other.nextLong());
+        }
+    }
+
+    @Test
+    void testInvalidIndex() {
+        final GeneratorArena arena = GeneratorArena.xoShiRo256PlusPlus(2, new SplitMix64(0L));
+        final GeneratorArena.Cursor cursor = arena.cursor();
+        for (final int i : new int[] {-1, 2, 1 << 30}) {
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> arena.nextLong(i));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> arena.nextDouble(i));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> arena.setSeed(i, new long[1]));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> cursor.moveTo(i));
+        }
+    }
+
+    @Test
+    void testInvalidSize() {
+        final SplitMix64 seedSource = new SplitMix64(0L);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> GeneratorArena.l64X128Mix(-1, seedSource));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GeneratorArena.l64X128Mix(Integer.MAX_VALUE / 2, seedSource));
+        Assertions.assertEquals(0, GeneratorArena.l64X128Mix(0, seedSource).size());
+    }
+}
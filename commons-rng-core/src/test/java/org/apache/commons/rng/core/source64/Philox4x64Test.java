@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.core.RandomAssert;
+import org.apache.commons.rng.core.RandomProviderDefaultState;
+import org.apache.commons.rng.core.util.NumberFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class Philox4x64Test {
+    /*
+     * Sequences generated from a counter that carries into the upper words on the
+     * third block. The jumps increment counter words 2 and 3.
+     * The seed is the key followed by the counter.
+     */
+
+    private static final long[] SEED = {
+        0x9c1a3b5d7e2f8a41L, 0x243f6a8885a308d3L, 0xfffffffffffffffeL,
+        0xffffffffffffffffL, 0x13198a2e03707344L, 0xa4093822299f31d0L
+    };
+
+    private static final long[] EXPECTED_SEQUENCE = {
+        0x8cf56adeb0cc16c5L, 0xaff7d6fe89c795faL, 0xdeb1dc89ca05a514L,
+        0xf5bc4bc80ea29c31L, 0x384f26f0b126674dL, 0x63f7ccdf75d8cb64L,
+        0xd93911435ca8e117L, 0x88797140097b865bL, 0x8d7756955f1af89dL,
+        0xdbbbe3504895db91L, 0x2cc8be1e202fa49bL, 0x6f1daed5fb54ae1eL
+    };
+
+    private static final long[] EXPECTED_SEQUENCE_AFTER_JUMP = {
+        0xd2889008b67e0548L, 0x718f6bad0719ae66L, 0xab090d22690fcf2fL,
+        0x5fc5758f32d5aea6L, 0x745661dba8ad1325L, 0xf90dc0383e358a31L,
+        0xe2028a4d8349cb4bL, 0x7b617432cf298edaL, 0xaea6c44eb484cf33L,
+        0xc5aacc488e7ded26L, 0x11645a8ea06d3652L, 0xc50e1de98c6bcdf7L
+    };
+
+    private static final long[] EXPECTED_SEQUENCE_AFTER_LONG_JUMP = {
+        0x1a2e0e68563d4a67L, 0x38f6ec7c9740c296L, 0x89d9ded040300be4L,
+        0x1fb0271861224f4cL, 0xbdc1083385cce434L, 0x55dad06d421e6a5fL,
+        0x921f7260bc783f20L, 0xd0f8861d0676502cL, 0x8be7f7595399d0b8L,
+        0x4fbe785afd3e8d66L, 0xe98b4364a104a938L, 0x178352982047bee3L
+    };
+
+    /*
+     * Data from the known answer test vectors of the Random123 library (kat_vectors):
+     *   https://github.com/DEShawResearch/random123
+     */
+
+    static Stream<Arguments> testReferenceCode() {
+        return Stream.of(
+            Arguments.of(new long[] {0, 0, 0, 0, 0, 0},
+                         new long[] {0x16554d9eca36314cL, 0xdb20fe9d672d0fdcL, 0xd7e772cee186176bL, 0x7e68b68aec7ba23bL}),
+            Arguments.of(new long[] {-1, -1, -1, -1, -1, -1},
+                         new long[] {0x87b092c3013fe90bL, 0x438c3c67be8d0224L, 0x9cc7d7c69cd777b6L, 0xa09caebf594f0ba0L}),
+            Arguments.of(new long[] {0x452821e638d01377L, 0xbe5466cf34e90c6cL,
+                                     0x243f6a8885a308d3L, 0x13198a2e03707344L, 0xa4093822299f31d0L, 0x082efa98ec4e6c89L},
+                         new long[] {0xa528f45403e61d95L, 0x38c72dbd566e9788L, 0xa5a1610e72fd18b5L, 0x57bd43b5e52b7fe6L})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testReferenceCode(long[] seed, long[] expected) {
+        RandomAssert.assertEquals(expected, new Philox4x64(seed));
+    }
+
+    @Test
+    void testCounterIncrement() {
+        RandomAssert.assertEquals(EXPECTED_SEQUENCE, new Philox4x64(SEED));
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // The missing elements are zero
+        RandomAssert.assertNextLongEquals(12, new Philox4x64(new long[] {SEED[0], SEED[1]}),
+            new Philox4x64(new long[] {SEED[0], SEED[1], 0, 0, 0, 0}));
+    }
+
+    @Test
+    void testJump() {
+        RandomAssert.assertJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_JUMP, new Philox4x64(SEED));
+    }
+
+    @Test
+    void testLongJump() {
+        RandomAssert.assertLongJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_LONG_JUMP, new Philox4x64(SEED));
+    }
+
+    @Test
+    void testJumpWithinBlock() {
+        // Jump from a position inside an output block
+        final Philox4x64 rng = new Philox4x64(SEED);
+        rng.nextLong();
+        rng.nextLong();
+        rng.jump();
+        final long[] expected = new long[EXPECTED_SEQUENCE_AFTER_JUMP.length - 2];
+        System.arraycopy(EXPECTED_SEQUENCE_AFTER_JUMP, 2, expected, 0, expected.length);
+        RandomAssert.assertEquals(expected, rng);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void testCounterIncrementCarry(int words) {
+        // The lower counter words carry into the next word after the first block
+        final long[] seed = SEED.clone();
+        Arrays.fill(seed, 2, 2 + words, -1);
+        seed[2 + words] = 42;
+        final Philox4x64 rng = new Philox4x64(seed);
+        for (int i = 0; i < 4; i++) {
+            rng.nextLong();
+        }
+        Arrays.fill(seed, 2, 2 + words, 0);
+        seed[2 + words] = 43;
+        RandomAssert.assertNextLongEquals(12, new Philox4x64(seed), rng);
+    }
+
+    @Test
+    void testJumpCarry() {
+        // Counter word 2 carries into counter word 3
+        final long[] seed = SEED.clone();
+        seed[4] = -1;
+        final Philox4x64 rng = new Philox4x64(seed);
+        rng.jump();
+        seed[4] = 0;
+        seed[5]++;
+        RandomAssert.assertNextLongEquals(12, new Philox4x64(seed), rng);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 5, Integer.MAX_VALUE + 1L, Long.MIN_VALUE})
+    void testRestoreStateWithInvalidIndex(long index) {
+        final Philox4x64 rng = new Philox4x64(SEED);
+        final byte[] state = ((RandomProviderDefaultState) rng.saveState()).getState();
+        // The index follows the key and counter
+        System.arraycopy(NumberFactory.makeByteArray(index), 0, state, 48, Long.BYTES);
+        final RandomProviderDefaultState invalid = new RandomProviderDefaultState(state);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.restoreState(invalid));
+    }
+}
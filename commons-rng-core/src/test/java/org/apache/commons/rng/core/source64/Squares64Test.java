@@ -0,0 +1,64 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.core.RandomAssert;
+import org.junit.jupiter.api.Test;
+
+class Squares64Test {
+    /*
+     * Data from a direct translation of the C code of the squares function:
+     *   https://arxiv.org/abs/2004.06278
+     *
+     * The counter wraps to zero during the sequence.
+     */
+
+    private static final long[] SEED = {
+        0xc8e4fd154ce32f6dL, 0xfffffffffffffffcL
+    };
+
+    private static final long[] EXPECTED_SEQUENCE = {
+        0xca634d07b28f9565L, 0x34a63df126e1a0bbL, 0x8a9e78d2fd63c8b5L,
+        0xa3c3ef54c9d27cffL, 0x800c823ecc9b9607L, 0x5f4f366db727a9f6L,
+        0xeee77e310b90add2L, 0xf9a1dcf6ff2160d7L, 0xb570b3f7653b9428L,
+        0xf278e3ad15bfbe6eL
+    };
+
+    @Test
+    void testReferenceCode() {
+        RandomAssert.assertEquals(EXPECTED_SEQUENCE, new Squares64(SEED));
+    }
+
+    @Test
+    void testConstructorWithZeroKeyIsNonFunctional() {
+        RandomAssert.assertNextLongZeroOutput(new Squares64(new long[] {0, 123}), 10);
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // The counter is zero
+        RandomAssert.assertNextLongEquals(10, new Squares64(new long[] {SEED[0]}),
+            new Squares64(new long[] {SEED[0], 0}));
+    }
+
+    @Test
+    void testConstructorWithEmptySeed() {
+        // A default key is used
+        RandomAssert.assertNextLongEquals(10, new Squares64(new long[0]),
+            new Squares64(new long[] {0x9fe72a1c7db35a41L, 0}));
+    }
+}
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.core.RandomAssert;
+import org.apache.commons.rng.core.RandomProviderDefaultState;
+import org.apache.commons.rng.core.util.NumberFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.stream.Stream;
+
+class Threefry4x64Test {
+    /*
+     * Sequences generated from a counter that carries into the upper words on the
+     * third block. The jumps increment counter words 2 and 3.
+     * The seed is the key followed by the counter.
+     */
+
+    private static final long[] SEED = {
+        0x9c1a3b5d7e2f8a41L, 0x243f6a8885a308d3L, 0x452821e638d01377L, 0xbe5466cf34e90c6cL,
+        0xfffffffffffffffeL, 0xffffffffffffffffL, 0x13198a2e03707344L, 0xa4093822299f31d0L
+    };
+
+    private static final long[] EXPECTED_SEQUENCE = {
+        0xd3b7e3167a8a98c4L, 0x9551ab8de1197245L, 0xbefc42f119f2491eL,
+        0xfbeec48bca1d529bL, 0x76879aab799b2a7bL, 0xce6a61d4a50dc676L,
+        0x35e3706879cbbec2L, 0xaea50dcc198f4c27L, 0x3b8f4dca24228fc3L,
+        0xf15a25ad93423210L, 0x999d3da684e245c4L, 0x67d242d5183ce43bL
+    };
+
+    private static final long[] EXPECTED_SEQUENCE_AFTER_JUMP = {
+        0xf7be946c51887a08L, 0x2645341a4ea657d4L, 0xf7709d933a5330a1L,
+        0x35c746216170021eL, 0x74a28c804faa931dL, 0xf4b9e4eaa544df1bL,
+        0x8696d22e793e2a09L, 0x1ad62787ac44fb13L, 0x0d6512620faa46edL,
+        0xd0c8bbf80bd4a759L, 0x37fdb5791df26d19L, 0xe833ee3cbab465e3L
+    };
+
+    private static final long[] EXPECTED_SEQUENCE_AFTER_LONG_JUMP = {
+        0xbc3b1b819167f616L, 0x83ec5d3cf825574cL, 0x3bf9aad5b01b35d7L,
+        0x085b04dce90da69eL, 0x0fc1f0e8206458ebL, 0xca4acf32f0387591L,
+        0xab2c594e5465ef8cL, 0x0046fc8528afe46fL, 0x56903d72746642dcL,
+        0xfaaa7df4da606bb2L, 0x3f77bf48c77b8378L, 0x8fa03311d39a09efL
+    };
+
+    /*
+     * Data from the known answer test vectors of the Random123 library (kat_vectors):
+     *   https://github.com/DEShawResearch/random123
+     */
+
+    static Stream<Arguments> testReferenceCode() {
+        return Stream.of(
+            Arguments.of(new long[] {0, 0, 0, 0, 0, 0, 0, 0},
+                         new long[] {0x09218ebde6c85537L, 0x55941f5266d86105L, 0x4bd25e16282434dcL, 0xee29ec846bd2e40bL}),
+            Arguments.of(new long[] {-1, -1, -1, -1, -1, -1, -1, -1},
+                         new long[] {0x29c24097942bba1bL, 0x0371bbfb0f6f4e11L, 0x3c231ffa33f83a1cL, 0xcd29113fde32d168L})
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource
+    void testReferenceCode(long[] seed, long[] expected) {
+        RandomAssert.assertEquals(expected, new Threefry4x64(seed));
+    }
+
+    @Test
+    void testCounterIncrement() {
+        RandomAssert.assertEquals(EXPECTED_SEQUENCE, new Threefry4x64(SEED));
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // The missing elements are zero
+        RandomAssert.assertNextLongEquals(12, new Threefry4x64(new long[] {SEED[0], SEED[1]}),
+            new Threefry4x64(new long[] {SEED[0], SEED[1], 0, 0, 0, 0, 0, 0}));
+    }
+
+    @Test
+    void testJump() {
+        RandomAssert.assertJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_JUMP, new Threefry4x64(SEED));
+    }
+
+    @Test
+    void testLongJump() {
+        RandomAssert.assertLongJumpEquals(EXPECTED_SEQUENCE, EXPECTED_SEQUENCE_AFTER_LONG_JUMP, new Threefry4x64(SEED));
+    }
+
+    @Test
+    void testJumpWithinBlock() {
+        // Jump from a position inside an output block
+        final Threefry4x64 rng = new Threefry4x64(SEED);
+        rng.nextLong();
+        rng.nextLong();
+        rng.jump();
+        final long[] expected = new long[EXPECTED_SEQUENCE_AFTER_JUMP.length - 2];
+        System.arraycopy(EXPECTED_SEQUENCE_AFTER_JUMP, 2, expected, 0, expected.length);
+        RandomAssert.assertEquals(expected, rng);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3})
+    void testCounterIncrementCarry(int words) {
+        // The lower counter words carry into the next word after the first block
+        final long[] seed = SEED.clone();
+        Arrays.fill(seed, 4, 4 + words, -1);
+        seed[4 + words] = 42;
+        final Threefry4x64 rng = new Threefry4x64(seed);
+        for (int i = 0; i < 4; i++) {
+            rng.nextLong();
+        }
+        Arrays.fill(seed, 4, 4 + words, 0);
+        seed[4 + words] = 43;
+        RandomAssert.assertNextLongEquals(12, new Threefry4x64(seed), rng);
+    }
+
+    @Test
+    void testJumpCarry() {
+        // Counter word 2 carries into counter word 3
+        final long[] seed = SEED.clone();
+        seed[6] = -1;
+        final Threefry4x64 rng = new Threefry4x64(seed);
+        rng.jump();
+        seed[6] = 0;
+        seed[7]++;
+        RandomAssert.assertNextLongEquals(12, new Threefry4x64(seed), rng);
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, 5, Integer.MAX_VALUE + 1L, Long.MIN_VALUE})
+    void testRestoreStateWithInvalidIndex(long index) {
+        final Threefry4x64 rng = new Threefry4x64(SEED);
+        final byte[] state = ((RandomProviderDefaultState) rng.saveState()).getState();
+        // The index follows the key and counter
+        System.arraycopy(NumberFactory.makeByteArray(index), 0, state, 64, Long.BYTES);
+        final RandomProviderDefaultState invalid = new RandomProviderDefaultState(state);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng.restoreState(invalid));
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.source64;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class XoShiRo256PlusPlusX4Test {
+    /** The size of the array SEED. */
+    private static final int SEED_SIZE = 4;
+    /** The number of lanes. */
+    private static final int LANES = 4;
+
+    private static final long[] SEED = {
+        0x012de1babb3c4104L, 0xa5a818b8fc5aa503L, 0xb124ea2b701f4993L, 0x18e0374933d8c782L,
+    };
+
+    /**
+     * Create the lanes using jumps of the reference generator.
+     *
+     * @param seed Seed.
+     * @return the lanes
+     */
+    private static UniformRandomProvider[] createLanes(long[] seed) {
+        final UniformRandomProvider[] lanes = new UniformRandomProvider[LANES];
+        final XoShiRo256PlusPlus rng = new XoShiRo256PlusPlus(seed);
+        for (int i = 0; i < LANES; i++) {
+            lanes[i] = rng.jump();
+        }
+        return lanes;
+    }
+
+    @Test
+    void testInterleavedLanes() {
+        final UniformRandomProvider[] lanes = createLanes(SEED);
+        final XoShiRo256PlusPlusX4 rng = new XoShiRo256PlusPlusX4(SEED);
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals(lanes[i % LANES].nextLong(), rng.nextLong());
+        }
+    }
+
+    @Test
+    void testConstructorWithZeroSeedIsNonFunctional() {
+        RandomAssert.assertNextIntZeroOutput(new XoShiRo256PlusPlusX4(new long[SEED_SIZE]), 2 * SEED_SIZE);
+    }
+
+    @Test
+    void testConstructorWithSingleBitSeedIsFunctional() {
+        RandomAssert.assertLongArrayConstructorWithSingleBitSeedIsFunctional(XoShiRo256PlusPlusX4.class, SEED_SIZE);
+    }
+
+    @Test
+    void testConstructorWithoutFullLengthSeed() {
+        // Hit the case when the input seed is self-seeded when not full length
+        RandomAssert.assertNextLongNonZeroOutput(new XoShiRo256PlusPlusX4(new long[] {SEED[0]}),
+                SEED_SIZE, SEED_SIZE);
+    }
+
+    /**
+     * Test the bulk generation uses the correct sequence when the output buffer is
+     * partially consumed.
+     *
+     * @param skip Number of values to skip before the bulk generation.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 3, 4, 31, 32, 33})
+    void testNextLongs(int skip) {
+        final UniformRandomProvider[] lanes = createLanes(SEED);
+        final XoShiRo256PlusPlusX4 rng = new XoShiRo256PlusPlusX4(SEED);
+        for (int i = 0; i < skip; i++) {
+            Assertions.assertEquals(lanes[i % LANES].nextLong(), rng.nextLong());
+        }
+        int count = skip;
+        for (final int len : new int[] {1, 2, 5, 17, 64, 67}) {
+            final long[] values = new long[len];
+            rng.nextLongs(values, 0, len);
+            for (final long v : values) {
+                Assertions.assertEquals(lanes[count++ % LANES].nextLong(), v);
+            }
+            Assertions.assertEquals(lanes[count++ % LANES].nextLong(), rng.nextLong());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.Arrays;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.core.RandomProviderDefaultState;
+import org.apache.commons.rng.core.source32.PcgXshRr32;
+import org.apache.commons.rng.core.source64.SplitMix64;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link BufferedUniformRandomProvider}.
+ */
+class BufferedUniformRandomProviderTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1, Integer.MIN_VALUE})
+    void testInvalidSizeThrows(int size) {
+        final SplitMix64 rng = new SplitMix64(123L);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new BufferedUniformRandomProvider(rng, size));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 64})
+    void testNextLong(int size) {
+        final long seed = 236784628L;
+        final SplitMix64 rng1 = new SplitMix64(seed);
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(seed), size);
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals(rng1.nextLong(), rng2.nextLong());
+        }
+    }
+
+    @Test
+    void testNextLongWithIntSource() {
+        final long seed = 8726349726L;
+        final PcgXshRr32 rng1 = new PcgXshRr32(seed);
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new PcgXshRr32(seed));
+        for (int i = 0; i < 200; i++) {
+            Assertions.assertEquals(rng1.nextLong(), rng2.nextLong());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 5, 16})
+    void testNextLongs(int size) {
+        final long seed = -237846283L;
+        final SplitMix64 rng1 = new SplitMix64(seed);
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(seed), size);
+        for (final int len : new int[] {0, 1, 3, 4, 7, 32}) {
+            // Partially consume the buffer
+            Assertions.assertEquals(rng1.nextLong(), rng2.nextLong());
+            final long[] values = new long[len + 2];
+            rng2.nextLongs(values, 1, len);
+            Assertions.assertEquals(0, values[0]);
+            for (int i = 0; i < len; i++) {
+                Assertions.assertEquals(rng1.nextLong(), values[i + 1]);
+            }
+            Assertions.assertEquals(0, values[len + 1]);
+        }
+        final long[] values = new long[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng2.nextLongs(values, -1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> rng2.nextLongs(values, 5, 6));
+    }
+
+    /**
+     * Test the state is restored to a new instance using any position within the buffer.
+     */
+    @Test
+    void testRestoreStateToNewInstance() {
+        final int size = 5;
+        final BufferedUniformRandomProvider rng1 = new BufferedUniformRandomProvider(new SplitMix64(42L), size);
+        for (int i = 0; i <= size; i++) {
+            final RandomProviderState state = rng1.saveState();
+            final long[] expected = new long[3 * size];
+            rng1.nextLongs(expected, 0, expected.length);
+            final int expectedInt = rng1.nextInt();
+
+            final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(0L), size);
+            rng2.restoreState(state);
+            for (final long e : expected) {
+                Assertions.assertEquals(e, rng2.nextLong());
+            }
+            Assertions.assertEquals(expectedInt, rng2.nextInt());
+            rng1.restoreState(state);
+            // Advance the buffer position
+            for (int j = 0; j <= i; j++) {
+                rng1.nextLong();
+            }
+        }
+    }
+
+    @Test
+    void testRestoreInvalidStateThrows() {
+        final BufferedUniformRandomProvider rng = new BufferedUniformRandomProvider(new SplitMix64(42L), 4);
+        final RandomProviderState state = rng.saveState();
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(42L), 2);
+        // Buffer too small for the position
+        Assertions.assertThrows(IllegalStateException.class, () -> rng2.restoreState(state));
+        final RandomProviderState state2 = new RandomProviderDefaultState(new byte[] {-1, 0, 0, 0, 0, 0, 0, 0});
+        Assertions.assertThrows(IllegalStateException.class, () -> rng2.restoreState(state2));
+        // Invalid position and length
+        final byte[] bytes = ((RandomProviderDefaultState) state).getState();
+        for (final int[] change : new int[][] {{4, -1}, {4, 5}, {8, -1}}) {
+            final byte[] bad = bytes.clone();
+            System.arraycopy(NumberFactory.makeByteArray(change[1]), 0, bad, change[0], Integer.BYTES);
+            Assertions.assertThrows(IllegalStateException.class,
+                () -> rng.restoreState(new RandomProviderDefaultState(bad)));
+        }
+    }
+
+    /**
+     * Test an invalid state does not change the generator.
+     */
+    @Test
+    void testRestoreInvalidStateDoesNotChangeState() {
+        final BufferedUniformRandomProvider rng1 = new BufferedUniformRandomProvider(new SplitMix64(42L), 4);
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(42L), 4);
+        final BufferedUniformRandomProvider rng3 = new BufferedUniformRandomProvider(new SplitMix64(123L), 4);
+        rng3.nextLong();
+        final byte[] bytes = ((RandomProviderDefaultState) rng3.saveState()).getState();
+        // Truncated and extended parent state
+        for (final int length : new int[] {bytes.length - 1, bytes.length + 1}) {
+            final byte[] bad = Arrays.copyOf(bytes, length);
+            Assertions.assertThrows(IllegalStateException.class,
+                () -> rng2.restoreState(new RandomProviderDefaultState(bad)));
+        }
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(rng1.nextLong(), rng2.nextLong());
+        }
+    }
+
+    /**
+     * Test the state cannot be restored to an instance with a different buffer size
+     * when the buffer position is valid for both sizes.
+     */
+    @Test
+    void testRestoreStateWithDifferentBufferSizeThrows() {
+        final BufferedUniformRandomProvider rng1 = new BufferedUniformRandomProvider(new SplitMix64(42L), 4);
+        rng1.nextLong();
+        final RandomProviderState state = rng1.saveState();
+        final BufferedUniformRandomProvider rng2 = new BufferedUniformRandomProvider(new SplitMix64(42L), 8);
+        final BufferedUniformRandomProvider rng3 = new BufferedUniformRandomProvider(new SplitMix64(42L), 3);
+        Assertions.assertThrows(IllegalStateException.class, () -> rng2.restoreState(state));
+        Assertions.assertThrows(IllegalStateException.class, () -> rng3.restoreState(state));
+    }
+
+    @Test
+    void testUnsupportedStateThrows() {
+        final RestorableUniformRandomProvider delegate = new SplitMix64(42L) {
+            @Override
+            public RandomProviderState saveState() {
+                return new RandomProviderState() {};
+            }
+        };
+        final BufferedUniformRandomProvider rng = new BufferedUniformRandomProvider(delegate);
+        Assertions.assertThrows(IllegalStateException.class, rng::saveState);
+    }
+}
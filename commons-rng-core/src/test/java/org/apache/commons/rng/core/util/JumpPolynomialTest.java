@@ -0,0 +1,103 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.math.BigInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the {@link JumpPolynomial}.
+ */
+class JumpPolynomialTest {
+    /** Characteristic polynomial of xoroshiro128 (a=24, b=16, c=37). */
+    private static final long[] XOROSHIRO128 = {
+        0x095b8f76579aa001L, 0x0008828e513b43d5L
+    };
+    /** Jump coefficients of xoroshiro128 for 2^64. */
+    private static final long[] XOROSHIRO128_JUMP = {
+        0xdf900294d8f554a5L, 0x170865df4b3201fcL
+    };
+    /** Jump coefficients of xoroshiro128 for 2^96. */
+    private static final long[] XOROSHIRO128_LONG_JUMP = {
+        0xd2a98b26625eee7bL, 0xdddf9b1090aa7ac1L
+    };
+
+    @Test
+    void testConstructorThrows() {
+        final long[] empty = {};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new JumpPolynomial(empty));
+        final long[] even = {2, 1};
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new JumpPolynomial(even));
+    }
+
+    @Test
+    void testConstructorCopiesPolynomial() {
+        final long[] p = XOROSHIRO128.clone();
+        final JumpPolynomial jp = new JumpPolynomial(p);
+        p[0] = 3;
+        Assertions.assertArrayEquals(XOROSHIRO128_JUMP, jp.getCoefficients(BigInteger.ONE.shiftLeft(64)));
+    }
+
+    @Test
+    void testGetDegree() {
+        Assertions.assertEquals(64, new JumpPolynomial(new long[] {1}).getDegree());
+        Assertions.assertEquals(128, new JumpPolynomial(XOROSHIRO128).getDegree());
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, Long.MIN_VALUE})
+    void testNegativeDistanceThrows(long distance) {
+        final JumpPolynomial jp = new JumpPolynomial(XOROSHIRO128);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> jp.getCoefficients(distance));
+        final BigInteger d = BigInteger.valueOf(distance);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> jp.getCoefficients(d));
+    }
+
+    @Test
+    void testSmallDistance() {
+        final JumpPolynomial jp = new JumpPolynomial(XOROSHIRO128);
+        // x^d for d < n is a single coefficient
+        for (int d = 0; d < 128; d++) {
+            final long[] expected = new long[2];
+            expected[d >> 6] = 1L << d;
+            Assertions.assertArrayEquals(expected, jp.getCoefficients(d));
+            Assertions.assertArrayEquals(expected, jp.getCoefficients(BigInteger.valueOf(d)));
+        }
+    }
+
+    @Test
+    void testPowerOfTwo() {
+        final JumpPolynomial jp = new JumpPolynomial(XOROSHIRO128);
+        Assertions.assertArrayEquals(XOROSHIRO128_JUMP, jp.getCoefficients(BigInteger.ONE.shiftLeft(64)));
+        Assertions.assertArrayEquals(XOROSHIRO128_LONG_JUMP, jp.getCoefficients(BigInteger.ONE.shiftLeft(96)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(longs = {0, 1, 42, 1234567890123L, Long.MAX_VALUE})
+    void testDistanceIsReducedModuloPeriod(long distance) {
+        final JumpPolynomial jp = new JumpPolynomial(XOROSHIRO128);
+        final BigInteger period = BigInteger.ONE.shiftLeft(128).subtract(BigInteger.ONE);
+        final long[] expected = jp.getCoefficients(distance);
+        Assertions.assertArrayEquals(expected, jp.getCoefficients(BigInteger.valueOf(distance)));
+        Assertions.assertArrayEquals(expected, jp.getCoefficients(period.add(BigInteger.valueOf(distance))));
+        Assertions.assertArrayEquals(expected,
+            jp.getCoefficients(period.shiftLeft(3).add(BigInteger.valueOf(distance))));
+    }
+}
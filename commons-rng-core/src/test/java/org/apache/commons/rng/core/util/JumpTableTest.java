@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for the {@link JumpTable}.
+ */
+class JumpTableTest {
+    @ParameterizedTest
+    @ValueSource(ints = {0, -1})
+    void testConstructorThrows(int size) {
+        Assertions.assertThrows(IllegalArgumentException.class, () -> new JumpTable(size, s -> { }));
+    }
+
+    @Test
+    void testJumpThrowsWithInvalidStateLength() {
+        final JumpTable table = new JumpTable(2, s -> { });
+        Assertions.assertEquals(2, table.getSize());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.jump(new long[1]));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> table.jump(new long[3]));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void testIdentity(int size) {
+        final JumpTable table = new JumpTable(size, s -> { });
+        final SplittableRandom rng = new SplittableRandom(size);
+        for (int i = 0; i < 10; i++) {
+            final long[] s = rng.longs(size).toArray();
+            final long[] expected = s.clone();
+            table.jump(s);
+            Assertions.assertArrayEquals(expected, s);
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 4, 8})
+    void testLinearTransform(int size) {
+        // A F2-linear transform: xor-shift steps mixing all words
+        final Consumer<long[]> transform = s -> {
+            for (int n = 0; n < 3; n++) {
+                for (int i = 0; i < s.length; i++) {
+                    final long x = s[i];
+                    s[i] = x ^ (x << 13) ^ Long.rotateLeft(s[(i + 1) % s.length], 7);
+                }
+            }
+        };
+        final JumpTable table = new JumpTable(size, transform);
+        final SplittableRandom rng = new SplittableRandom(size);
+        for (int i = 0; i < 10; i++) {
+            final long[] s = rng.longs(size).toArray();
+            final long[] expected = s.clone();
+            transform.accept(expected);
+            table.jump(s);
+            Assertions.assertArrayEquals(expected, s);
+        }
+    }
+
+    @Test
+    void testGetOrCreate() {
+        final AtomicReference<JumpTable> ref = new AtomicReference<>();
+        final JumpTable table = JumpTable.getOrCreate(ref, 2, () -> s -> { });
+        Assertions.assertSame(table, ref.get());
+        Assertions.assertEquals(2, table.getSize());
+        // The supplier is not used when the table exists
+        Assertions.assertSame(table, JumpTable.getOrCreate(ref, 2, () -> {
+            throw new IllegalStateException();
+        }));
+    }
+
+    @Test
+    void testJumps() {
+        // Jump swaps the elements of the state
+        final JumpTable table = new JumpTable(2, s -> {
+            final long x = s[0];
+            s[0] = s[1];
+            s[1] = x;
+        });
+        final long[] state = {1, 2};
+        final List<long[]> copies = table.<long[]>jumps(state::clone, state::clone,
+            s -> System.arraycopy(s, 0, state, 0, 2)).limit(3).collect(Collectors.toList());
+        Assertions.assertArrayEquals(new long[] {1, 2}, copies.get(0));
+        Assertions.assertArrayEquals(new long[] {2, 1}, copies.get(1));
+        Assertions.assertArrayEquals(new long[] {1, 2}, copies.get(2));
+        Assertions.assertArrayEquals(new long[] {2, 1}, state);
+    }
+}
@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.core.util;
+
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link JumpableStreamProvider}.
+ */
+class JumpableStreamProviderTest {
+    /** The stream size. */
+    private static final int SIZE = 13;
+    /** The generator seed. */
+    private static final long SEED = 7364782638L;
+
+    /**
+     * Class for outputting a mixed sequence from the nextLong() method. Jumping advances
+     * the sequence by a large increment.
+     */
+    private static class JumpingGenerator implements JumpableStreamProvider {
+        /** The increment to the state after a jump. */
+        private static final long JUMP = 1L << 48;
+        /** The state. */
+        private long state;
+
+        /**
+         * @param seed Seed.
+         */
+        JumpingGenerator(long seed) {
+            state = seed;
+        }
+
+        @Override
+        public long nextLong() {
+            return mix(state++);
+        }
+
+        @Override
+        public UniformRandomProvider jump() {
+            final JumpingGenerator copy = new JumpingGenerator(state);
+            state += JUMP;
+            return copy;
+        }
+
+        /**
+         * Mix the bits of the value using the SplitMix64 finalizer.
+         *
+         * @param x Value.
+         * @return the mixed value
+         */
+        private static long mix(long x) {
+            long z = x;
+            z = (z ^ (z >>> 30)) * 0xbf58476d1ce4e5b9L;
+            z = (z ^ (z >>> 27)) * 0x94d049bb133111ebL;
+            return z ^ (z >>> 31);
+        }
+    }
+
+    @Test
+    void testInts() {
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final int[] expected = IntStream.generate(rng::nextInt).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).ints().limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).ints(SIZE).toArray());
+    }
+
+    @Test
+    void testIntsInRange() {
+        final int origin = -42;
+        final int bound = 1234;
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final int[] expected = IntStream.generate(() -> rng.nextInt(origin, bound)).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).ints(origin, bound).limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).ints(SIZE, origin, bound).toArray());
+    }
+
+    @Test
+    void testLongs() {
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final long[] expected = LongStream.generate(rng::nextLong).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).longs().limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).longs(SIZE).toArray());
+    }
+
+    @Test
+    void testLongsInRange() {
+        final long origin = -42;
+        final long bound = 1234;
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final long[] expected = LongStream.generate(() -> rng.nextLong(origin, bound)).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).longs(origin, bound).limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).longs(SIZE, origin, bound).toArray());
+    }
+
+    @Test
+    void testDoubles() {
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final double[] expected = DoubleStream.generate(rng::nextDouble).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).doubles().limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected, new JumpingGenerator(SEED).doubles(SIZE).toArray());
+    }
+
+    @Test
+    void testDoublesInRange() {
+        final double origin = -4.5;
+        final double bound = 12.25;
+        final UniformRandomProvider rng = new JumpingGenerator(SEED);
+        final double[] expected = DoubleStream.generate(() -> rng.nextDouble(origin, bound)).limit(SIZE).toArray();
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).doubles(origin, bound).limit(SIZE).toArray());
+        Assertions.assertArrayEquals(expected,
+            new JumpingGenerator(SEED).doubles(SIZE, origin, bound).toArray());
+    }
+}
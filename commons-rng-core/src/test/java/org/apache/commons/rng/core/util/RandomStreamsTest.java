@@ -23,11 +23,16 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
+import java.util.function.DoubleConsumer;
 import java.util.function.IntConsumer;
 import java.util.function.LongConsumer;
 import java.util.function.Supplier;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
 import java.util.stream.LongStream;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.core.util.RandomStreams.SeededObjectFactory;
@@ -78,6 +83,55 @@ class RandomStreamsTest {
         }
     }
 
+    /**
+     * Class for outputting a sequence from the nextLong() method. Jumping advances
+     * the sequence by a large increment.
+     */
+    private static class JumpingGenerator implements LongJumpableUniformRandomProvider {
+        /** The increment to the value after a jump. */
+        static final long JUMP = 1L << 32;
+        /** The increment to the value after a long jump. */
+        static final long LONG_JUMP = 1L << 48;
+        /** The value for nextLong. */
+        private long value;
+
+        /**
+         * @param seed Sequence seed value.
+         */
+        JumpingGenerator(long seed) {
+            value = seed;
+        }
+
+        @Override
+        public long nextLong() {
+            return value++;
+        }
+
+        @Override
+        public int nextInt() {
+            return (int) nextLong();
+        }
+
+        @Override
+        public double nextDouble() {
+            return nextLong();
+        }
+
+        @Override
+        public UniformRandomProvider jump() {
+            final JumpingGenerator copy = new JumpingGenerator(value);
+            value += JUMP;
+            return copy;
+        }
+
+        @Override
+        public JumpableUniformRandomProvider longJump() {
+            final JumpingGenerator copy = new JumpingGenerator(value);
+            value += LONG_JUMP;
+            return copy;
+        }
+    }
+
     /**
      * Class for decoding the combined seed ((seed << shift) | position).
      * Requires the unshifted seed. The shift is assumed to be a multiple of 4.
@@ -446,4 +500,205 @@ class RandomStreamsTest {
             Assertions.assertEquals(size - i, s.estimateSize(), "s size estimate");
         }
     }
+
+    @ParameterizedTest
+    @ValueSource(longs = {-1, -2, Long.MIN_VALUE})
+    void testJumpableStreamsInvalidStreamSizeThrows(long size) {
+        final JumpableUniformRandomProvider rng = new JumpingGenerator(0);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.ints(size, rng), "ints");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.ints(size, rng, 1, 42), "ints(origin, bound)");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.longs(size, rng), "longs");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.longs(size, rng, 1, 42), "longs(origin, bound)");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.doubles(size, rng), "doubles");
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.doubles(size, rng, 1, 42), "doubles(origin, bound)");
+    }
+
+    @Test
+    void testJumpableStreamsInvalidArgumentsThrows() {
+        final JumpableUniformRandomProvider rng = new JumpingGenerator(0);
+        Assertions.assertThrows(NullPointerException.class, () -> RandomStreams.ints(1, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RandomStreams.longs(1, null));
+        Assertions.assertThrows(NullPointerException.class, () -> RandomStreams.doubles(1, null));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.ints(1, rng, 2, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.longs(1, rng, 3, 2));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.doubles(1, rng, 2, 1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.doubles(1, rng, 0, Double.POSITIVE_INFINITY));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> RandomStreams.doubles(1, rng, Double.NaN, 1));
+    }
+
+    @Test
+    void testJumpableStreamsSequential() {
+        final long seed = 123;
+        final int size = 7;
+        final long[] expected = LongStream.range(seed, seed + size).toArray();
+        Assertions.assertArrayEquals(expected, RandomStreams.longs(size, new JumpingGenerator(seed)).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(expected).mapToInt(x -> (int) x).toArray(),
+            RandomStreams.ints(size, new JumpingGenerator(seed)).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(expected).asDoubleStream().toArray(),
+            RandomStreams.doubles(size, new JumpingGenerator(seed)).toArray());
+    }
+
+    @Test
+    void testJumpableStreamSpliterator() {
+        // Stream with 64 blocks
+        final long size = 100L << 16;
+        // Use a generator that only supports jump
+        final JumpingGenerator jumping = new JumpingGenerator(0);
+        final JumpableUniformRandomProvider rng = new JumpableUniformRandomProvider() {
+            @Override
+            public long nextLong() {
+                return jumping.nextLong();
+            }
+
+            @Override
+            public UniformRandomProvider jump() {
+                return jumping.jump();
+            }
+        };
+        Spliterator.OfLong s1 = RandomStreams.longs(size, rng).spliterator();
+        Assertions.assertEquals(size, s1.estimateSize());
+        Assertions.assertTrue(s1.hasCharacteristics(Spliterator.SIZED | Spliterator.SUBSIZED |
+            Spliterator.NONNULL | Spliterator.IMMUTABLE));
+        // The first split is assigned half the blocks
+        final Spliterator.OfLong s2 = s1.trySplit();
+        Assertions.assertEquals(size, s1.estimateSize() + s2.estimateSize());
+        final long[] next = {0};
+        s2.tryAdvance((LongConsumer) x -> next[0] = x);
+        Assertions.assertEquals(0, next[0]);
+        s1.tryAdvance((LongConsumer) x -> next[0] = x);
+        Assertions.assertEquals(32 * JumpingGenerator.JUMP, next[0]);
+
+        // Splitting is limited by the number of blocks
+        int splits = 1;
+        while (s1.trySplit() != null) {
+            splits++;
+        }
+        Assertions.assertEquals(6, splits);
+        Assertions.assertTrue(s1.estimateSize() > 1, "Split should be limited by the blocks");
+        // The prefix can be split
+        Assertions.assertNotNull(s2.trySplit());
+
+        // Invalid actions
+        Assertions.assertThrows(NullPointerException.class, () -> s2.tryAdvance((LongConsumer) null));
+        Assertions.assertThrows(NullPointerException.class, () -> s2.forEachRemaining((LongConsumer) null));
+    }
+
+    @Test
+    void testJumpableStreamSpliteratorUsesLongJump() {
+        final Spliterator.OfInt s1 = RandomStreams.ints(100L << 16, new JumpingGenerator(0)).spliterator();
+        final Spliterator.OfInt s2 = s1.trySplit();
+        final int[] next = {-1};
+        s2.tryAdvance((IntConsumer) x -> next[0] = x);
+        Assertions.assertEquals(0, next[0]);
+        final long[] value = {0};
+        final Spliterator.OfDouble s3 = RandomStreams.doubles(100L << 16, new JumpingGenerator(0)).spliterator();
+        s3.trySplit();
+        s3.tryAdvance((DoubleConsumer) x -> value[0] = (long) x);
+        Assertions.assertEquals(32 * JumpingGenerator.LONG_JUMP, value[0]);
+        // The prefix can be split again
+        Assertions.assertNotNull(s2.trySplit());
+    }
+
+    @Test
+    void testJumpableStreamBlocks() {
+        // Stream with two blocks of the minimum block size
+        final long blockSize = 1L << 16;
+        final long size = blockSize + 3;
+        // Each block uses a copy of the source advanced by the block index jumps
+        final long[] expected = LongStream.range(0, size)
+            .map(i -> i < blockSize ? i : JumpingGenerator.LONG_JUMP + i - blockSize).toArray();
+        Assertions.assertArrayEquals(expected, RandomStreams.longs(size, new JumpingGenerator(0)).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(expected).mapToInt(x -> (int) x).toArray(),
+            RandomStreams.ints(size, new JumpingGenerator(0)).toArray());
+        Assertions.assertArrayEquals(Arrays.stream(expected).asDoubleStream().toArray(),
+            RandomStreams.doubles(size, new JumpingGenerator(0)).toArray());
+
+        final long[] actual = new long[(int) size];
+        final int[] i = {0};
+        final LongConsumer action = x -> actual[i[0]++] = x;
+        final Spliterator.OfLong s1 = RandomStreams.longs(size, new JumpingGenerator(0)).spliterator();
+        for (int n = 0; n < 10; n++) {
+            Assertions.assertTrue(s1.tryAdvance(action));
+        }
+        // Split within the first block
+        final Spliterator.OfLong s2 = s1.trySplit();
+        Assertions.assertEquals(blockSize - 10, s2.estimateSize());
+        Assertions.assertEquals(3, s1.estimateSize());
+        Assertions.assertNull(s1.trySplit());
+        s2.forEachRemaining(action);
+        Assertions.assertFalse(s2.tryAdvance(action));
+        for (int n = 0; n < 3; n++) {
+            Assertions.assertTrue(s1.tryAdvance(action));
+        }
+        Assertions.assertFalse(s1.tryAdvance(action));
+        Assertions.assertArrayEquals(expected, actual);
+
+        // A single block cannot be split
+        Assertions.assertNull(RandomStreams.longs(blockSize, new JumpingGenerator(0)).spliterator().trySplit());
+        Assertions.assertNull(RandomStreams.longs(0, new JumpingGenerator(0)).spliterator().trySplit());
+    }
+
+    @Test
+    void testJumpableStreamEmpty() {
+        final Spliterator.OfInt s1 = RandomStreams.ints(0, new JumpingGenerator(0)).spliterator();
+        final IntConsumer intAction = x -> Assertions.fail("ints spliterator should be empty");
+        s1.forEachRemaining(intAction);
+        Assertions.assertFalse(s1.tryAdvance(intAction));
+        final Spliterator.OfLong s2 = RandomStreams.longs(0, new JumpingGenerator(0)).spliterator();
+        final LongConsumer longAction = x -> Assertions.fail("longs spliterator should be empty");
+        s2.forEachRemaining(longAction);
+        Assertions.assertFalse(s2.tryAdvance(longAction));
+        final Spliterator.OfDouble s3 = RandomStreams.doubles(0, new JumpingGenerator(0)).spliterator();
+        final DoubleConsumer doubleAction = x -> Assertions.fail("doubles spliterator should be empty");
+        s3.forEachRemaining(doubleAction);
+        Assertions.assertFalse(s3.tryAdvance(doubleAction));
+    }
+
+    @Test
+    void testJumpableStreamsRange() {
+        final long seed = 123;
+        final int size = 7;
+        final UniformRandomProvider rng1 = new JumpingGenerator(seed);
+        Assertions.assertArrayEquals(IntStream.generate(() -> rng1.nextInt(-3, 42)).limit(size).toArray(),
+            RandomStreams.ints(size, new JumpingGenerator(seed), -3, 42).toArray());
+        final UniformRandomProvider rng2 = new JumpingGenerator(seed);
+        Assertions.assertArrayEquals(LongStream.generate(() -> rng2.nextLong(-3, 42)).limit(size).toArray(),
+            RandomStreams.longs(size, new JumpingGenerator(seed), -3, 42).toArray());
+        final UniformRandomProvider rng3 = new JumpingGenerator(seed);
+        Assertions.assertArrayEquals(DoubleStream.generate(() -> rng3.nextDouble(-3, 42)).limit(size).toArray(),
+            RandomStreams.doubles(size, new JumpingGenerator(seed), -3, 42).toArray());
+    }
+
+    /**
+     * Test the jumpable streams in parallel. Each block of the stream uses a different
+     * jump position in the output sequence. The output matches the sequential stream.
+     *
+     * @param threads Number of threads.
+     * @param streamSize Stream size.
+     */
+    @ParameterizedTest
+    @CsvSource({
+        "1, 23",
+        "4, 31",
+        "4, 3",
+        "8, 1027",
+        "4, 300007",
+        "8, 1000000",
+    })
+    void testJumpableStreamParallel(int threads, long streamSize) throws InterruptedException, ExecutionException {
+        final ForkJoinPool threadPool = new ForkJoinPool(threads);
+        long[] values;
+        try {
+            values = threadPool.submit(() ->
+                RandomStreams.longs(streamSize, new JumpingGenerator(0)).parallel().toArray()).get();
+        } finally {
+            threadPool.shutdown();
+        }
+        Assertions.assertArrayEquals(RandomStreams.longs(streamSize, new JumpingGenerator(0)).toArray(), values);
+        // Values are unique
+        Assertions.assertEquals(streamSize, Arrays.stream(values).distinct().count());
+        // Each value is an offset from a jump position. The offset must be within the stream size.
+        Arrays.stream(values).forEach(x ->
+            Assertions.assertTrue((x & (JumpingGenerator.LONG_JUMP - 1)) < streamSize, "Overlapping sequence"));
+    }
 }
@@ -92,7 +92,12 @@ public class RandomSourceValues {
             "L128_X128_MIX",
             "L128_X256_MIX",
             "L128_X1024_MIX",
-            "L32_X64_MIX"})
+            "L32_X64_MIX",
+            "PHILOX_4X32",
+            "PHILOX_4X64",
+            "THREEFRY_4X64",
+            "SQUARES_32",
+            "SQUARES_64"})
     private String randomSourceName;
 
     /** The RandomSource. */
@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.core;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.source64.GeneratorArena;
+import org.apache.commons.rng.core.source64.L64X128Mix;
+import org.apache.commons.rng.core.source64.SplitMix64;
+import org.apache.commons.rng.core.source64.XoShiRo256PlusPlus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the speed of generation of values from a large population
+ * of generators stored as individual instances or in a {@link GeneratorArena}.
+ *
+ * <p>Generators are accessed in a random order to simulate the update of entities in a
+ * simulation. The time is reported per generated value.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class GeneratorArenaPerformance {
+    /** The number of values generated in each benchmark invocation. */
+    private static final int VALUES = 1 << 16;
+
+    /**
+     * The generators.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The generator algorithm. */
+        @Param({"XO_SHI_RO_256_PP", "L64_X128_MIX"})
+        private String randomSourceName;
+
+        /** The number of generators. */
+        @Param({"1000", "1000000"})
+        private int size;
+
+        /** The generator instances. */
+        private UniformRandomProvider[] rngs;
+
+        /** The arena. */
+        private GeneratorArena arena;
+
+        /** The order to access the generators. */
+        private int[] order;
+
+        /**
+         * @return the generators
+         */
+        UniformRandomProvider[] getGenerators() {
+            return rngs;
+        }
+
+        /**
+         * @return the arena
+         */
+        GeneratorArena getArena() {
+            return arena;
+        }
+
+        /**
+         * @return the order to access the generators
+         */
+        int[] getOrder() {
+            return order;
+        }
+
+        /**
+         * Create the generators.
+         */
+        @Setup
+        public void setup() {
+            final boolean xoshiro = "XO_SHI_RO_256_PP".equals(randomSourceName);
+            arena = xoshiro ?
+                GeneratorArena.xoShiRo256PlusPlus(size, new SplitMix64(123L)) :
+                GeneratorArena.l64X128Mix(size, new SplitMix64(123L));
+            final SplitMix64 seedSource = new SplitMix64(123L);
+            rngs = new UniformRandomProvider[size];
+            for (int i = 0; i < size; i++) {
+                final long[] seed = seedSource.longs(4).toArray();
+                rngs[i] = xoshiro ?
+                    new XoShiRo256PlusPlus(seed) :
+                    new L64X128Mix(seed);
+            }
+            order = seedSource.ints(VALUES, 0, size).toArray();
+        }
+    }
+
+    /**
+     * Generate values using the generator instances.
+     *
+     * @param sources Source of randomness.
+     * @return the sum
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long instances(Sources sources) {
+        final UniformRandomProvider[] rngs = sources.getGenerators();
+        long sum = 0;
+        for (final int i : sources.getOrder()) {
+            sum += rngs[i].nextLong();
+        }
+        return sum;
+    }
+
+    /**
+     * Generate values using the arena.
+     *
+     * @param sources Source of randomness.
+     * @return the sum
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long arena(Sources sources) {
+        final GeneratorArena arena = sources.getArena();
+        long sum = 0;
+        for (final int i : sources.getOrder()) {
+            sum += arena.nextLong(i);
+        }
+        return sum;
+    }
+
+    /**
+     * Generate values using a cursor of the arena.
+     *
+     * @param sources Source of randomness.
+     * @return the sum
+     */
+    @Benchmark
+    @OperationsPerInvocation(VALUES)
+    public long cursor(Sources sources) {
+        final GeneratorArena.Cursor cursor = sources.getArena().cursor();
+        long sum = 0;
+        for (final int i : sources.getOrder()) {
+            sum += cursor.moveTo(i).nextLong();
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.core;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.source64.XoShiRo256PlusPlus;
+import org.apache.commons.rng.core.source64.XoShiRo256PlusPlusX4;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Executes a benchmark to compare the speed of generation of random numbers from a scalar
+ * generator and a generator that interleaves the output of multiple independent lanes.
+ */
+public class InterleavedGenerationPerformance extends AbstractBenchmark {
+    /** The value. Must NOT be final to prevent JVM optimisation! */
+    private long value;
+
+    /**
+     * The generators.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The generator implementation. */
+        @Param({"XoShiRo256PlusPlus", "XoShiRo256PlusPlusX4"})
+        private String implementation;
+
+        /** The array length. */
+        @Param({"1024"})
+        private int length;
+
+        /** RNG. */
+        private UniformRandomProvider rng;
+
+        /** The values. */
+        private long[] values;
+
+        /**
+         * Gets the generator.
+         *
+         * @return the RNG.
+         */
+        UniformRandomProvider getGenerator() {
+            return rng;
+        }
+
+        /** Create the generator. */
+        @Setup
+        public void setup() {
+            final long[] seed = RandomSource.createLongArray(4);
+            if ("XoShiRo256PlusPlus".equals(implementation)) {
+                rng = new XoShiRo256PlusPlus(seed);
+            } else if ("XoShiRo256PlusPlusX4".equals(implementation)) {
+                rng = new XoShiRo256PlusPlusX4(seed);
+            } else {
+                throw new IllegalStateException("Unknown implementation: " + implementation);
+            }
+            values = new long[length];
+        }
+    }
+
+    /**
+     * Baseline for a JMH method call returning a {@code long}.
+     *
+     * @return the value
+     */
+    @Benchmark
+    public long baselineLong() {
+        return value;
+    }
+
+    /**
+     * Exercise the {@link UniformRandomProvider#nextLong()} method.
+     *
+     * @param sources Source of randomness.
+     * @return the long
+     */
+    @Benchmark
+    public long nextLong(Sources sources) {
+        return sources.getGenerator().nextLong();
+    }
+
+    /**
+     * Exercise the {@link UniformRandomProvider#nextLongs(long[], int, int)} method.
+     *
+     * @param sources Source of randomness.
+     * @return the values
+     */
+    @Benchmark
+    public long[] nextLongs(Sources sources) {
+        final long[] v = sources.values;
+        sources.getGenerator().nextLongs(v, 0, v.length);
+        return v;
+    }
+}
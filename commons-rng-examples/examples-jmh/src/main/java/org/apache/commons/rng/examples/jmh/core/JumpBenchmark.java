@@ -19,6 +19,7 @@ package org.apache.commons.rng.examples.jmh.core;
 
 import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
+import java.util.stream.Stream;
 import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
@@ -178,6 +179,65 @@ public class JumpBenchmark {
         }
     }
 
+    /**
+     * Create many generators using the {@link JumpableUniformRandomProvider#jumps(long)}
+     * function, or repeat calls to {@link JumpableUniformRandomProvider#jump()}.
+     *
+     * <p>The jumps function may amortize the cost of the jump over many generators,
+     * for example using a precomputed jump table.
+     */
+    @State(Scope.Benchmark)
+    public static class JumpsSource {
+        /** The method to create generators using the jumps function. */
+        private static final String JUMPS = "jumps";
+
+        /**
+         * RNG providers.
+         */
+        @Param({"XO_RO_SHI_RO_128_PLUS",
+                "XO_SHI_RO_256_PLUS",
+                "XO_SHI_RO_512_PLUS",
+                "XO_RO_SHI_RO_1024_PP",
+                "L64_X256_MIX"})
+        private String randomSourceName;
+
+        /** The number of generators to create. */
+        @Param({"1000"})
+        private int streams;
+
+        /** The method used to create the generators. */
+        @Param({"jump", JUMPS})
+        private String method;
+
+        /** The source generator. */
+        private JumpableUniformRandomProvider rng;
+
+        /**
+         * Create the source generator.
+         */
+        @Setup
+        public void setup() {
+            rng = (JumpableUniformRandomProvider) RandomSource.valueOf(randomSourceName).create();
+        }
+
+        /**
+         * Create the generators.
+         *
+         * @return the last generator
+         */
+        UniformRandomProvider create() {
+            if (JUMPS.equals(method)) {
+                final Stream<UniformRandomProvider> s = rng.jumps(streams);
+                return s.reduce((a, b) -> b).orElse(rng);
+            }
+            UniformRandomProvider last = rng;
+            for (int i = 0; i < streams; i++) {
+                last = rng.jump();
+            }
+            return last;
+        }
+    }
+
     /**
      * Jump benchmark.
      *
@@ -199,4 +259,15 @@ public class JumpBenchmark {
     public UniformRandomProvider longJump(LongJumpableSource data) {
         return data.jump();
     }
+
+    /**
+     * Benchmark the creation of many generators using jumps.
+     *
+     * @param data Source of the jumps
+     * @return the last generator
+     */
+    @Benchmark
+    public UniformRandomProvider jumps(JumpsSource data) {
+        return data.create();
+    }
 }
@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.core;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.examples.jmh.RandomSources;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Executes benchmark to compare the speed of generation of arrays of random numbers from the
+ * various source providers using repeat calls to the single value methods verses the bulk
+ * methods, e.g. {@link UniformRandomProvider#nextDouble()} and
+ * {@link UniformRandomProvider#nextDoubles(double[], int, int)}.
+ */
+public class NextArrayGenerationPerformance extends AbstractBenchmark {
+    /**
+     * The arrays to fill.
+     */
+    @State(Scope.Benchmark)
+    public static class Values {
+        /** The array length. */
+        @Param({"16", "1024"})
+        private int length;
+
+        /** The int values. */
+        private int[] ints;
+        /** The long values. */
+        private long[] longs;
+        /** The double values. */
+        private double[] doubles;
+
+        /** Create the arrays. */
+        @Setup
+        public void setup() {
+            ints = new int[length];
+            longs = new long[length];
+            doubles = new double[length];
+        }
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextInt()}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public int[] nextIntLoop(RandomSources sources, Values arrays) {
+        final UniformRandomProvider rng = sources.getGenerator();
+        final int[] values = arrays.ints;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rng.nextInt();
+        }
+        return values;
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextInts(int[], int, int)}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public int[] nextInts(RandomSources sources, Values arrays) {
+        final int[] values = arrays.ints;
+        sources.getGenerator().nextInts(values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextLong()}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public long[] nextLongLoop(RandomSources sources, Values arrays) {
+        final UniformRandomProvider rng = sources.getGenerator();
+        final long[] values = arrays.longs;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rng.nextLong();
+        }
+        return values;
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextLongs(long[], int, int)}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public long[] nextLongs(RandomSources sources, Values arrays) {
+        final long[] values = arrays.longs;
+        sources.getGenerator().nextLongs(values, 0, values.length);
+        return values;
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextDouble()}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public double[] nextDoubleLoop(RandomSources sources, Values arrays) {
+        final UniformRandomProvider rng = sources.getGenerator();
+        final double[] values = arrays.doubles;
+        for (int i = 0; i < values.length; i++) {
+            values[i] = rng.nextDouble();
+        }
+        return values;
+    }
+
+    /**
+     * Fill the array using {@link UniformRandomProvider#nextDoubles(double[], int, int)}.
+     *
+     * @param sources Source of randomness.
+     * @param arrays Arrays to fill.
+     * @return the values
+     */
+    @Benchmark
+    public double[] nextDoubles(RandomSources sources, Values arrays) {
+        final double[] values = arrays.doubles;
+        sources.getGenerator().nextDoubles(values, 0, values.length);
+        return values;
+    }
+}
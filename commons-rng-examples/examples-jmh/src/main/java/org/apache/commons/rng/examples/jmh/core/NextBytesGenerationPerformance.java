@@ -17,6 +17,7 @@
 
 package org.apache.commons.rng.examples.jmh.core;
 
+import java.nio.ByteBuffer;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Scope;
@@ -33,6 +34,18 @@ public class NextBytesGenerationPerformance extends AbstractBenchmark {
      */
     private byte[] value = new byte[BaselineGenerationPerformance.NEXT_BYTES_SIZE];
 
+    /**
+     * The heap buffer. This is a pre-allocated buffer. Must NOT be final to prevent JVM
+     * optimisation!
+     */
+    private ByteBuffer heapBuffer = ByteBuffer.allocate(BaselineGenerationPerformance.NEXT_BYTES_SIZE);
+
+    /**
+     * The direct buffer. This is a pre-allocated buffer. Must NOT be final to prevent JVM
+     * optimisation!
+     */
+    private ByteBuffer directBuffer = ByteBuffer.allocateDirect(BaselineGenerationPerformance.NEXT_BYTES_SIZE);
+
     /**
      * The benchmark state (retrieve the various "RandomSource"s).
      */
@@ -75,4 +88,34 @@ public class NextBytesGenerationPerformance extends AbstractBenchmark {
         sources.getGenerator().nextBytes(value);
         return value;
     }
+
+    /**
+     * Exercise the {@link UniformRandomProvider#fillBytes(ByteBuffer)} method using
+     * a heap buffer.
+     *
+     * @param sources Source of randomness.
+     * @return the buffer
+     */
+    @Benchmark
+    public ByteBuffer fillBytesHeapBuffer(Sources sources) {
+        // The buffer allocation is not part of the benchmark.
+        heapBuffer.clear();
+        sources.getGenerator().fillBytes(heapBuffer);
+        return heapBuffer;
+    }
+
+    /**
+     * Exercise the {@link UniformRandomProvider#fillBytes(ByteBuffer)} method using
+     * a direct buffer.
+     *
+     * @param sources Source of randomness.
+     * @return the buffer
+     */
+    @Benchmark
+    public ByteBuffer fillBytesDirectBuffer(Sources sources) {
+        // The buffer allocation is not part of the benchmark.
+        directBuffer.clear();
+        sources.getGenerator().fillBytes(directBuffer);
+        return directBuffer;
+    }
 }
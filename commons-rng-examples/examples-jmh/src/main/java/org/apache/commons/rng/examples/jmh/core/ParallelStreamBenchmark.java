@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.core;
+
+import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark for sequential and parallel streams of values from RNGs.
+ *
+ * <p>Jumpable generators support parallel streams by splitting the generator with a
+ * jump. Splittable generators (e.g. the LXM family) split the generator to create a
+ * new instance. The parallel speed-up requires multiple processors.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = { "-server", "-Xms128M", "-Xmx128M" })
+public class ParallelStreamBenchmark {
+    /**
+     * The stream of values.
+     */
+    @State(Scope.Benchmark)
+    public static class Source {
+        /**
+         * RNG providers.
+         */
+        @Param({"XO_SHI_RO_128_PP",
+                "XO_RO_SHI_RO_128_PP",
+                "XO_SHI_RO_256_PP",
+                "XO_SHI_RO_512_PP",
+                "XO_RO_SHI_RO_1024_PP",
+                "PHILOX_4X64",
+                "L64_X128_MIX"})
+        private String randomSourceName;
+
+        /** The number of values in the stream. */
+        @Param({"100000", "10000000"})
+        private long size;
+
+        /** Set to true to use a parallel stream. */
+        @Param({"false", "true"})
+        private boolean parallel;
+
+        /** The source generator. */
+        private UniformRandomProvider rng;
+
+        /**
+         * Create the source generator.
+         */
+        @Setup
+        public void setup() {
+            rng = RandomSource.valueOf(randomSourceName).create();
+        }
+
+        /**
+         * Create the stream of {@code double} values.
+         *
+         * @return the stream
+         */
+        DoubleStream doubles() {
+            final DoubleStream s = rng.doubles(size);
+            return parallel ? s.parallel() : s;
+        }
+    }
+
+    /**
+     * Sum a stream of {@code double} values.
+     *
+     * @param source Source of the stream.
+     * @return the sum
+     */
+    @Benchmark
+    public double sumDoubles(Source source) {
+        return source.doubles().sum();
+    }
+}
@@ -0,0 +1,154 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.core;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.rng.RandomProviderState;
+import org.apache.commons.rng.core.BaseProvider;
+import org.apache.commons.rng.examples.jmh.RandomSourceValues;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the speed of saving and restoring the state of a
+ * generator using a {@link RandomProviderState} or a {@link ByteBuffer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms128M", "-Xmx128M"})
+public class SaveRestoreStatePerformance {
+    /**
+     * The generator and a saved state.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources extends RandomSourceValues {
+        /** Set to true to use a direct buffer. */
+        @Param({"false", "true"})
+        private boolean direct;
+
+        /** The generator. */
+        private BaseProvider rng;
+
+        /** The saved state. */
+        private RandomProviderState state;
+
+        /** The buffer containing the saved state. */
+        private ByteBuffer buffer;
+
+        /**
+         * @return the generator
+         */
+        BaseProvider getGenerator() {
+            return rng;
+        }
+
+        /**
+         * @return the saved state
+         */
+        RandomProviderState getState() {
+            return state;
+        }
+
+        /**
+         * @return the buffer
+         */
+        ByteBuffer getBuffer() {
+            return buffer;
+        }
+
+        /** Create the generator and save the state. */
+        @Override
+        @Setup
+        public void setup() {
+            super.setup();
+            rng = (BaseProvider) getRandomSource().create();
+            state = rng.saveState();
+            // Large enough for all generators
+            buffer = direct ?
+                ByteBuffer.allocateDirect(16384) :
+                ByteBuffer.allocate(16384);
+            rng.saveState(buffer);
+        }
+    }
+
+    /**
+     * Save the state as a {@link RandomProviderState}.
+     *
+     * @param sources Source of randomness.
+     * @return the state
+     */
+    @Benchmark
+    public RandomProviderState saveState(Sources sources) {
+        return sources.getGenerator().saveState();
+    }
+
+    /**
+     * Restore the state from a {@link RandomProviderState}.
+     *
+     * @param sources Source of randomness.
+     * @return the generator output
+     */
+    @Benchmark
+    public long restoreState(Sources sources) {
+        final BaseProvider rng = sources.getGenerator();
+        rng.restoreState(sources.getState());
+        return rng.nextLong();
+    }
+
+    /**
+     * Save the state to a {@link ByteBuffer}.
+     *
+     * @param sources Source of randomness.
+     * @return the buffer position
+     */
+    @Benchmark
+    public int saveStateBuffer(Sources sources) {
+        final ByteBuffer buffer = sources.getBuffer();
+        buffer.clear();
+        sources.getGenerator().saveState(buffer);
+        return buffer.position();
+    }
+
+    /**
+     * Restore the state from a {@link ByteBuffer}.
+     *
+     * @param sources Source of randomness.
+     * @return the generator output
+     */
+    @Benchmark
+    public long restoreStateBuffer(Sources sources) {
+        final BaseProvider rng = sources.getGenerator();
+        final ByteBuffer buffer = sources.getBuffer();
+        buffer.rewind();
+        rng.restoreState(buffer);
+        return rng.nextLong();
+    }
+}
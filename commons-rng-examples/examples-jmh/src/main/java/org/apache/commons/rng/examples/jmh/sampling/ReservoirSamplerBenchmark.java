@@ -0,0 +1,257 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.sampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.IntStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.ReservoirSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the speed of sampling k items from a stream using
+ * {@link ReservoirSampler}.
+ *
+ * <p>The skip algorithms (Algorithm L and A-ExpJ) are compared with the simple reservoir
+ * algorithms that generate a random number for each item (Algorithm R and A-Res).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms512M", "-Xmx512M"})
+public class ReservoirSamplerBenchmark {
+    /**
+     * The stream items and the source of randomness.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The number of items in the stream. */
+        @Param({"10000", "1000000"})
+        private int size;
+
+        /** The sample size. */
+        @Param({"1", "10", "1000"})
+        private int k;
+
+        /** The source of randomness. */
+        private UniformRandomProvider rng;
+
+        /** The stream items. */
+        private List<Integer> items;
+
+        /** The item weights. */
+        private ToDoubleFunction<Integer> weight;
+
+        /**
+         * Gets the stream size.
+         *
+         * @return the size
+         */
+        public int getSize() {
+            return size;
+        }
+
+        /**
+         * Gets the sample size.
+         *
+         * @return the sample size
+         */
+        public int getK() {
+            return k;
+        }
+
+        /**
+         * Gets the source of randomness.
+         *
+         * @return the rng
+         */
+        public UniformRandomProvider getRng() {
+            return rng;
+        }
+
+        /**
+         * Gets the stream items.
+         *
+         * @return the items
+         */
+        public List<Integer> getItems() {
+            return items;
+        }
+
+        /**
+         * Gets the item weight function.
+         *
+         * @return the weight function
+         */
+        public ToDoubleFunction<Integer> getWeight() {
+            return weight;
+        }
+
+        /** Create the items. */
+        @Setup
+        public void setup() {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            items = Arrays.asList(IntStream.range(0, size).boxed().toArray(Integer[]::new));
+            final double[] weights = rng.doubles(1024, 0.5, 1.5).toArray();
+            weight = x -> weights[x & 1023];
+        }
+    }
+
+    /**
+     * Sample using Algorithm R. Each item after the first k requires a random number.
+     *
+     * @param rng Source of randomness.
+     * @param items Items.
+     * @param k Sample size.
+     * @return the sample
+     */
+    private static List<Integer> algorithmR(UniformRandomProvider rng, List<Integer> items, int k) {
+        final List<Integer> sample = new ArrayList<>(k);
+        long n = 0;
+        for (final Integer item : items) {
+            n++;
+            if (sample.size() < k) {
+                sample.add(item);
+            } else {
+                final long j = rng.nextLong(n);
+                if (j < k) {
+                    sample.set((int) j, item);
+                }
+            }
+        }
+        return sample;
+    }
+
+    /**
+     * Sample using A-Res. Each item requires a random number for its key.
+     *
+     * @param rng Source of randomness.
+     * @param items Items.
+     * @param k Sample size.
+     * @param weight Item weight.
+     * @return the sample
+     */
+    private static List<Integer> algorithmARes(UniformRandomProvider rng, List<Integer> items, int k,
+                                               ToDoubleFunction<Integer> weight) {
+        // Min-heap of [key, item] using the key log(u) / w
+        final PriorityQueue<double[]> heap = new PriorityQueue<>(k, (a, b) -> Double.compare(a[0], b[0]));
+        for (final Integer item : items) {
+            final double key = Math.log(rng.nextDouble()) / weight.applyAsDouble(item);
+            if (heap.size() < k) {
+                heap.add(new double[] {key, item});
+            } else if (key > heap.peek()[0]) {
+                heap.poll();
+                heap.add(new double[] {key, item});
+            }
+        }
+        final List<Integer> sample = new ArrayList<>(k);
+        heap.forEach(e -> sample.add((int) e[1]));
+        return sample;
+    }
+
+    /**
+     * Sample using Algorithm R.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public List<Integer> baselineAlgorithmR(Sources sources) {
+        return algorithmR(sources.getRng(), sources.getItems(), sources.getK());
+    }
+
+    /**
+     * Sample using Algorithm L with each item passed to the sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public List<Integer> algorithmLAccept(Sources sources) {
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(sources.getRng(), sources.getK());
+        sources.getItems().forEach(sampler);
+        return sampler.getSample();
+    }
+
+    /**
+     * Sample using Algorithm L with an iterator. Skipped items are not processed.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public List<Integer> algorithmLIterator(Sources sources) {
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(sources.getRng(), sources.getK());
+        sampler.addAll(sources.getItems().iterator());
+        return sampler.getSample();
+    }
+
+    /**
+     * Sample using Algorithm L from a primitive stream.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public int[] algorithmLIntStream(Sources sources) {
+        return ReservoirSampler.sample(sources.getRng(), IntStream.range(0, sources.getSize()), sources.getK());
+    }
+
+    /**
+     * Sample using A-Res.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public List<Integer> baselineAlgorithmARes(Sources sources) {
+        return algorithmARes(sources.getRng(), sources.getItems(), sources.getK(), sources.getWeight());
+    }
+
+    /**
+     * Sample using A-ExpJ.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public List<Integer> algorithmAExpJ(Sources sources) {
+        final ReservoirSampler<Integer> sampler =
+            ReservoirSampler.of(sources.getRng(), sources.getK(), sources.getWeight());
+        sampler.addAll(sources.getItems().iterator());
+        return sampler.getSample();
+    }
+}
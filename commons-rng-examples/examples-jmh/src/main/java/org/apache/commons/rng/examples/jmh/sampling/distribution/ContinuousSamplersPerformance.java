@@ -17,6 +17,7 @@
 
 package org.apache.commons.rng.examples.jmh.sampling.distribution;
 
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.examples.jmh.RandomSources;
 import org.apache.commons.rng.sampling.distribution.AhrensDieterExponentialSampler;
@@ -29,10 +30,12 @@ import org.apache.commons.rng.sampling.distribution.InverseTransformParetoSample
 import org.apache.commons.rng.sampling.distribution.LevySampler;
 import org.apache.commons.rng.sampling.distribution.LogNormalSampler;
 import org.apache.commons.rng.sampling.distribution.MarsagliaNormalizedGaussianSampler;
+import org.apache.commons.rng.sampling.distribution.SharedStateContinuousSampler;
 import org.apache.commons.rng.sampling.distribution.StableSampler;
 import org.apache.commons.rng.sampling.distribution.TSampler;
 import org.apache.commons.rng.sampling.distribution.ZigguratSampler;
 import org.apache.commons.rng.sampling.distribution.ZigguratNormalizedGaussianSampler;
+import org.apache.commons.rng.simple.RandomSource;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
@@ -47,6 +50,7 @@ import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.Warmup;
 
 import java.util.concurrent.TimeUnit;
+import java.util.stream.DoubleStream;
 
 /**
  * Executes benchmark to compare the speed of generation of random numbers
@@ -59,6 +63,13 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 @Fork(value = 1, jvmArgs = {"-server", "-Xms128M", "-Xmx128M"})
 public class ContinuousSamplersPerformance {
+    /** The name of the ziggurat normalized Gaussian sampler. */
+    private static final String ZIGGURAT_GAUSSIAN = "ZigguratSampler.NormalizedGaussian";
+    /** The name of the ziggurat exponential sampler. */
+    private static final String ZIGGURAT_EXPONENTIAL = "ZigguratSampler.Exponential";
+    /** The name of the Marsaglia-Tsang gamma sampler. */
+    private static final String MARSAGLIA_TSANG_GAMMA = "MarsagliaTsangGammaSampler";
+
     /**
      * The value.
      *
@@ -79,11 +90,11 @@ public class ContinuousSamplersPerformance {
         @Param({"BoxMullerNormalizedGaussianSampler",
                 "MarsagliaNormalizedGaussianSampler",
                 "ZigguratNormalizedGaussianSampler",
-                "ZigguratSampler.NormalizedGaussian",
+                ZIGGURAT_GAUSSIAN,
                 "AhrensDieterExponentialSampler",
-                "ZigguratSampler.Exponential",
+                ZIGGURAT_EXPONENTIAL,
                 "AhrensDieterGammaSampler",
-                "MarsagliaTsangGammaSampler",
+                MARSAGLIA_TSANG_GAMMA,
                 "LevySampler",
                 "LogNormalBoxMullerNormalizedGaussianSampler",
                 "LogNormalMarsagliaNormalizedGaussianSampler",
@@ -118,16 +129,16 @@ public class ContinuousSamplersPerformance {
                 sampler = MarsagliaNormalizedGaussianSampler.of(rng);
             } else if ("ZigguratNormalizedGaussianSampler".equals(samplerType)) {
                 sampler = ZigguratNormalizedGaussianSampler.of(rng);
-            } else if ("ZigguratSampler.NormalizedGaussian".equals(samplerType)) {
+            } else if (ZIGGURAT_GAUSSIAN.equals(samplerType)) {
                 sampler = ZigguratSampler.NormalizedGaussian.of(rng);
             } else if ("AhrensDieterExponentialSampler".equals(samplerType)) {
                 sampler = AhrensDieterExponentialSampler.of(rng, 4.56);
-            } else if ("ZigguratSampler.Exponential".equals(samplerType)) {
+            } else if (ZIGGURAT_EXPONENTIAL.equals(samplerType)) {
                 sampler = ZigguratSampler.Exponential.of(rng, 4.56);
             } else if ("AhrensDieterGammaSampler".equals(samplerType)) {
                 // This tests the Ahrens-Dieter algorithm since alpha < 1
                 sampler = AhrensDieterMarsagliaTsangGammaSampler.of(rng, 0.76, 9.8);
-            } else if ("MarsagliaTsangGammaSampler".equals(samplerType)) {
+            } else if (MARSAGLIA_TSANG_GAMMA.equals(samplerType)) {
                 // This tests the Marsaglia-Tsang algorithm since alpha > 1
                 sampler = AhrensDieterMarsagliaTsangGammaSampler.of(rng, 12.34, 9.8);
             } else if ("LevySampler".equals(samplerType)) {
@@ -154,6 +165,71 @@ public class ContinuousSamplersPerformance {
         }
     }
 
+    /**
+     * The {@link SharedStateContinuousSampler} samplers to use for testing streams of samples.
+     * The samplers use a splittable source of randomness.
+     */
+    @State(Scope.Benchmark)
+    public static class StreamSources {
+        /**
+         * The sampler type.
+         */
+        @Param({ZIGGURAT_GAUSSIAN,
+                ZIGGURAT_EXPONENTIAL,
+                MARSAGLIA_TSANG_GAMMA})
+        private String samplerType;
+
+        /**
+         * The type of stream.
+         *
+         * <ul>
+         * <li>{@code sequential}: a stream from the sampler
+         * <li>{@code splittable}: a stream from the sampler using a splittable source
+         * <li>{@code parallel}: a parallel stream from the sampler using a splittable source
+         * </ul>
+         */
+        @Param({"sequential", "splittable", "parallel"})
+        private String streamType;
+
+        /** The number of samples. */
+        @Param({"1000", "1000000"})
+        private long size;
+
+        /** The splittable source of randomness. */
+        private SplittableUniformRandomProvider rng;
+
+        /** The sampler. */
+        private SharedStateContinuousSampler sampler;
+
+        /**
+         * Create a stream of samples.
+         *
+         * @return the stream
+         */
+        DoubleStream samples() {
+            if ("sequential".equals(streamType)) {
+                return sampler.samples(size);
+            }
+            final DoubleStream s = sampler.samples(size, rng);
+            return "parallel".equals(streamType) ? s.parallel() : s;
+        }
+
+        /** Instantiates sampler. */
+        @Setup
+        public void setup() {
+            rng = (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create();
+            if (ZIGGURAT_GAUSSIAN.equals(samplerType)) {
+                sampler = ZigguratSampler.NormalizedGaussian.of(rng);
+            } else if (ZIGGURAT_EXPONENTIAL.equals(samplerType)) {
+                sampler = ZigguratSampler.Exponential.of(rng, 4.56);
+            } else if (MARSAGLIA_TSANG_GAMMA.equals(samplerType)) {
+                sampler = AhrensDieterMarsagliaTsangGammaSampler.of(rng, 12.34, 9.8);
+            } else {
+                throw new IllegalStateException("Unknown sampler type: " + samplerType);
+            }
+        }
+    }
+
     // Benchmarks methods below.
 
     /**
@@ -176,4 +252,15 @@ public class ContinuousSamplersPerformance {
     public double sample(Sources sources) {
         return sources.getSampler().sample();
     }
+
+    /**
+     * Sum a stream of samples. The parallel speed-up requires multiple processors.
+     *
+     * @param sources Source of samples.
+     * @return the sum
+     */
+    @Benchmark
+    public double streamSum(StreamSources sources) {
+        return sources.samples().sum();
+    }
 }
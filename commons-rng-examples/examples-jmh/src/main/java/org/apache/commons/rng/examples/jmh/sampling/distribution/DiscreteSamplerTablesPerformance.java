@@ -0,0 +1,184 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.AliasMethodDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.DiscreteSamplerTables;
+import org.apache.commons.rng.sampling.distribution.FastLoadedDiceRollerDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.MarsagliaTsangWangDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.SharedStateDiscreteSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the time to construct samplers for an enumerated
+ * discrete probability distribution with the time to load the sampler from saved tables
+ * using {@link DiscreteSamplerTables}.
+ *
+ * <p>The tables are loaded from a heap buffer, an off-heap buffer, or a memory-mapped
+ * file.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class DiscreteSamplerTablesPerformance {
+    /**
+     * The sampler and the saved tables.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The number of categories. */
+        @Param({"100", "10000", "1000000"})
+        private int size;
+
+        /** The sampler type. */
+        @Param({"AliasMethodDiscreteSampler",
+                "FastLoadedDiceRollerDiscreteSampler",
+                "MarsagliaTsangWangDiscreteSampler"})
+        private String samplerType;
+
+        /** The method to create the sampler. */
+        @Param({"Build", "LoadHeap", "LoadDirect", "LoadMapped"})
+        private String method;
+
+        /** The source of randomness. */
+        private UniformRandomProvider rng;
+
+        /** The probabilities. */
+        private double[] probabilities;
+
+        /** The saved tables. */
+        private ByteBuffer tables;
+
+        /** The file containing the saved tables. */
+        private Path file;
+
+        /** The factory to create the sampler. */
+        private Function<UniformRandomProvider, DiscreteSampler> factory;
+
+        /**
+         * Create the sampler.
+         *
+         * @return the sampler
+         */
+        public DiscreteSampler createSampler() {
+            return factory.apply(rng);
+        }
+
+        /**
+         * Create the sampler from the probabilities.
+         *
+         * @return the sampler
+         */
+        private SharedStateDiscreteSampler buildSampler() {
+            if ("AliasMethodDiscreteSampler".equals(samplerType)) {
+                return AliasMethodDiscreteSampler.of(rng, probabilities);
+            } else if ("FastLoadedDiceRollerDiscreteSampler".equals(samplerType)) {
+                return FastLoadedDiceRollerDiscreteSampler.of(rng, probabilities);
+            } else if ("MarsagliaTsangWangDiscreteSampler".equals(samplerType)) {
+                return MarsagliaTsangWangDiscreteSampler.Enumerated.of(rng, probabilities);
+            }
+            throw new IllegalStateException("Unknown sampler type: " + samplerType);
+        }
+
+        /**
+         * Create the probabilities and save the tables.
+         *
+         * @throws IOException if an I/O error occurs
+         */
+        @Setup
+        public void setup() throws IOException {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            probabilities = rng.doubles(size).toArray();
+            if ("Build".equals(method)) {
+                factory = r -> buildSampler();
+                return;
+            }
+            final SharedStateDiscreteSampler sampler = buildSampler();
+            final int bytes = (int) DiscreteSamplerTables.getSize(sampler);
+            if ("LoadHeap".equals(method)) {
+                tables = ByteBuffer.allocate(bytes);
+            } else if ("LoadDirect".equals(method)) {
+                tables = ByteBuffer.allocateDirect(bytes);
+            } else if ("LoadMapped".equals(method)) {
+                file = Files.createTempFile("tables", ".bin");
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ,
+                                                            StandardOpenOption.WRITE)) {
+                    tables = channel.map(FileChannel.MapMode.READ_WRITE, 0, bytes);
+                }
+            } else {
+                throw new IllegalStateException("Unknown method: " + method);
+            }
+            DiscreteSamplerTables.save(sampler, tables);
+            tables.flip();
+            // Use a duplicate so the shared buffer position is not changed
+            factory = r -> DiscreteSamplerTables.load(r, tables.duplicate());
+        }
+
+        /**
+         * Delete the file containing the saved tables.
+         */
+        @TearDown
+        public void tearDown() {
+            if (file != null) {
+                try {
+                    Files.delete(file);
+                } catch (IOException ex) {
+                    throw new UncheckedIOException(ex);
+                }
+                file = null;
+            }
+        }
+    }
+
+    /**
+     * Create the sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sampler
+     */
+    @Benchmark
+    public DiscreteSampler create(Sources sources) {
+        return sources.createSampler();
+    }
+}
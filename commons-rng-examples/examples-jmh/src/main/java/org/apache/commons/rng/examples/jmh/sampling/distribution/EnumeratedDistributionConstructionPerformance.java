@@ -0,0 +1,134 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import java.nio.ByteBuffer;
+import java.nio.DoubleBuffer;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.AliasMethodDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.GuideTableDiscreteSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the time to construct samplers for an enumerated
+ * discrete probability distribution.
+ *
+ * <p>The sequential construction from a {@code double[]} is compared to the parallel
+ * construction from a function of the index. The function reads the probabilities
+ * from a heap array or an off-heap buffer.
+ *
+ * <p>Note: The largest size requires approximately 2GB of memory for the probabilities
+ * and the tables of the largest sampler.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 2, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms4G", "-Xmx4G"})
+public class EnumeratedDistributionConstructionPerformance {
+    /**
+     * The probabilities.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The number of categories. */
+        @Param({"10000", "1000000", "50000000"})
+        private int size;
+
+        /** The sampler type. */
+        @Param({"AliasMethodDiscreteSampler",
+                "AliasMethodDiscreteSamplerParallel",
+                "AliasMethodDiscreteSamplerParallelBuffer",
+                "GuideTableDiscreteSampler",
+                "GuideTableDiscreteSamplerParallel",
+                "GuideTableDiscreteSamplerParallelBuffer"})
+        private String samplerType;
+
+        /** The source of randomness. */
+        private UniformRandomProvider rng;
+
+        /** The probabilities. */
+        private double[] probabilities;
+
+        /** The probabilities in an off-heap buffer. */
+        private DoubleBuffer buffer;
+
+        /**
+         * Create the sampler.
+         *
+         * @return the sampler
+         */
+        public DiscreteSampler createSampler() {
+            if ("AliasMethodDiscreteSampler".equals(samplerType)) {
+                return AliasMethodDiscreteSampler.of(rng, probabilities);
+            } else if ("AliasMethodDiscreteSamplerParallel".equals(samplerType)) {
+                final double[] p = probabilities;
+                return AliasMethodDiscreteSampler.ofParallel(rng, size, i -> p[i]);
+            } else if ("AliasMethodDiscreteSamplerParallelBuffer".equals(samplerType)) {
+                return AliasMethodDiscreteSampler.ofParallel(rng, size, buffer::get);
+            } else if ("GuideTableDiscreteSampler".equals(samplerType)) {
+                return GuideTableDiscreteSampler.of(rng, probabilities);
+            } else if ("GuideTableDiscreteSamplerParallel".equals(samplerType)) {
+                final double[] p = probabilities;
+                return GuideTableDiscreteSampler.ofParallel(rng, size, i -> p[i], 1.0);
+            } else if ("GuideTableDiscreteSamplerParallelBuffer".equals(samplerType)) {
+                return GuideTableDiscreteSampler.ofParallel(rng, size, buffer::get, 1.0);
+            }
+            throw new IllegalStateException("Unknown sampler type: " + samplerType);
+        }
+
+        /** Create the probabilities. */
+        @Setup
+        public void setup() {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            if (samplerType.endsWith("Buffer")) {
+                buffer = ByteBuffer.allocateDirect(size * Double.BYTES).asDoubleBuffer();
+                for (int i = 0; i < size; i++) {
+                    buffer.put(i, rng.nextDouble());
+                }
+            } else {
+                probabilities = rng.doubles(size).toArray();
+            }
+        }
+    }
+
+    /**
+     * Create the sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sampler
+     */
+    @Benchmark
+    public DiscreteSampler create(Sources sources) {
+        return sources.createSampler();
+    }
+}
@@ -22,8 +22,10 @@ import org.apache.commons.math3.distribution.IntegerDistribution;
 import org.apache.commons.math3.distribution.PoissonDistribution;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.distribution.AliasMethodDiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.CompactAliasMethodDiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.DirichletSampler;
 import org.apache.commons.rng.sampling.distribution.DiscreteSampler;
+import org.apache.commons.rng.sampling.distribution.DynamicDiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.FastLoadedDiceRollerDiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.GuideTableDiscreteSampler;
 import org.apache.commons.rng.sampling.distribution.MarsagliaTsangWangDiscreteSampler;
@@ -119,6 +121,9 @@ public class EnumeratedDistributionSamplersPerformance {
                 "FastLoadedDiceRollerDiscreteSampler",
                 "FastLoadedDiceRollerDiscreteSamplerLong",
                 "FastLoadedDiceRollerDiscreteSampler53",
+                "DynamicDiscreteSampler",
+                "CompactAliasMethodDiscreteSampler",
+                "CompactAliasMethodDiscreteSamplerSmall",
 
                 // Uncomment to test non-default parameters
                 //"AliasMethodDiscreteSamplerNoPad", // Not optimal for sampling
@@ -204,6 +209,12 @@ public class EnumeratedDistributionSamplersPerformance {
                 factory = () -> FastLoadedDiceRollerDiscreteSampler.of(rng, frequencies);
             } else if ("FastLoadedDiceRollerDiscreteSampler53".equals(samplerType)) {
                 factory = () -> FastLoadedDiceRollerDiscreteSampler.of(rng, probabilities, 53);
+            } else if ("DynamicDiscreteSampler".equals(samplerType)) {
+                factory = () -> DynamicDiscreteSampler.of(rng, probabilities);
+            } else if ("CompactAliasMethodDiscreteSampler".equals(samplerType)) {
+                factory = () -> CompactAliasMethodDiscreteSampler.of(rng, probabilities);
+            } else if ("CompactAliasMethodDiscreteSamplerSmall".equals(samplerType)) {
+                factory = () -> CompactAliasMethodDiscreteSampler.ofSmall(rng, probabilities);
             } else {
                 throw new IllegalStateException();
             }
@@ -464,6 +475,100 @@ public class EnumeratedDistributionSamplersPerformance {
         }
     }
 
+    /**
+     * Sample from a distribution where the weights are updated between samples.
+     * Each update changes the weight of one random category.
+     *
+     * <p>The {@link DynamicDiscreteSampler} updates the weight in place. Other samplers
+     * are immutable and must be rebuilt after each update; the cost of the rebuild is
+     * {@code O(n)} and dominates the timing for large sizes.</p>
+     */
+    @State(Scope.Benchmark)
+    public static class DynamicDistributionSources extends LocalRandomSources {
+        /** The number of categories. */
+        @Param({"100", "10000", "100000"})
+        private int size;
+
+        /** The number of samples between each weight update. */
+        @Param({"1", "100"})
+        private int samplesPerUpdate;
+
+        /** The sampler type. */
+        @Param({"DynamicDiscreteSampler",
+                "AliasMethodDiscreteSampler",
+                "GuideTableDiscreteSampler"})
+        private String samplerType;
+
+        /** The weights. */
+        private double[] weights;
+
+        /** The sampler. */
+        private DiscreteSampler sampler;
+
+        /** The dynamic sampler. This is null when using an immutable sampler. */
+        private DynamicDiscreteSampler dynamicSampler;
+
+        /** The factory for immutable samplers. */
+        private Supplier<DiscreteSampler> factory;
+
+        /**
+         * Gets the number of samples between each weight update.
+         *
+         * @return the samples per update
+         */
+        public int getSamplesPerUpdate() {
+            return samplesPerUpdate;
+        }
+
+        /**
+         * Gets the sampler.
+         *
+         * @return the sampler.
+         */
+        public DiscreteSampler getSampler() {
+            return sampler;
+        }
+
+        /**
+         * Update the weight of a random category.
+         */
+        public void update() {
+            final UniformRandomProvider rng = getGenerator();
+            final int index = rng.nextInt(weights.length);
+            final double weight = rng.nextDouble();
+            if (dynamicSampler != null) {
+                dynamicSampler.setWeight(index, weight);
+            } else {
+                weights[index] = weight;
+                sampler = factory.get();
+            }
+        }
+
+        /** Create the distribution (per iteration as it may vary) and instantiates sampler. */
+        @Override
+        @Setup(Level.Iteration)
+        public void setup() {
+            super.setup();
+
+            weights = RandomSource.XO_RO_SHI_RO_128_PP.create().doubles(size).toArray();
+            final UniformRandomProvider rng = getGenerator();
+            if ("DynamicDiscreteSampler".equals(samplerType)) {
+                dynamicSampler = DynamicDiscreteSampler.of(rng, weights);
+                sampler = dynamicSampler;
+                return;
+            }
+            dynamicSampler = null;
+            if ("AliasMethodDiscreteSampler".equals(samplerType)) {
+                factory = () -> AliasMethodDiscreteSampler.of(rng, weights);
+            } else if ("GuideTableDiscreteSampler".equals(samplerType)) {
+                factory = () -> GuideTableDiscreteSampler.of(rng, weights);
+            } else {
+                throw new IllegalStateException();
+            }
+            sampler = factory.get();
+        }
+    }
+
     /**
      * Compute a sample by binary search of the cumulative probability distribution.
      */
@@ -675,4 +780,21 @@ public class EnumeratedDistributionSamplersPerformance {
     public int singleSampleFast(FastLoadedDiceRollerDiscreteSamplerSources sources) {
         return sources.createSampler().sample();
     }
+
+    /**
+     * Update the weight of one category and then run the sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sample value
+     */
+    @Benchmark
+    public int sampleDynamic(DynamicDistributionSources sources) {
+        sources.update();
+        final DiscreteSampler sampler = sources.getSampler();
+        int sum = 0;
+        for (int i = sources.getSamplesPerUpdate(); i > 0; i--) {
+            sum += sampler.sample();
+        }
+        return sum;
+    }
 }
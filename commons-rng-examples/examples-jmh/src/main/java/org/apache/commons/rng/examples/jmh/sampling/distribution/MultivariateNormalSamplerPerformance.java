@@ -0,0 +1,229 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.examples.jmh.sampling.distribution;
+
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.MultivariateNormalSampler;
+import org.apache.commons.rng.sampling.distribution.NormalizedGaussianSampler;
+import org.apache.commons.rng.sampling.distribution.ZigguratSampler;
+import org.apache.commons.rng.simple.RandomSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Executes benchmark to compare the speed of generation of samples from a
+ * multivariate normal distribution using the {@link MultivariateNormalSampler}.
+ *
+ * <p>The baseline is a sampler that uses a square matrix for the Cholesky factor and
+ * a per-element call to a {@link NormalizedGaussianSampler}. The cost of creating the
+ * sampler (which factorises the covariance matrix) is reported separately.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms128M", "-Xmx128M"})
+public class MultivariateNormalSamplerPerformance {
+    /** The correlation between adjacent dimensions for the covariance matrix. */
+    private static final double RHO = 0.5;
+
+    /**
+     * The samplers.
+     */
+    @State(Scope.Benchmark)
+    public static class Sources {
+        /** The dimension. */
+        @Param({"2", "10", "100", "1000"})
+        private int dimension;
+
+        /** The source of randomness. */
+        private UniformRandomProvider rng;
+
+        /** The mean. */
+        private double[] mean;
+
+        /** The covariance. */
+        private double[][] covariance;
+
+        /** The Cholesky factor as a square matrix. */
+        private double[][] factor;
+
+        /** The Gaussian sampler for the baseline. */
+        private NormalizedGaussianSampler gaussian;
+
+        /** The sampler. */
+        private MultivariateNormalSampler sampler;
+
+        /** The array for the sample. */
+        private double[] out;
+
+        /**
+         * @return the source of randomness
+         */
+        UniformRandomProvider getRng() {
+            return rng;
+        }
+
+        /**
+         * @return the mean
+         */
+        double[] getMean() {
+            return mean;
+        }
+
+        /**
+         * @return the covariance
+         */
+        double[][] getCovariance() {
+            return covariance;
+        }
+
+        /**
+         * @return the Cholesky factor as a square matrix
+         */
+        double[][] getFactor() {
+            return factor;
+        }
+
+        /**
+         * @return the Gaussian sampler for the baseline
+         */
+        NormalizedGaussianSampler getGaussian() {
+            return gaussian;
+        }
+
+        /**
+         * @return the sampler
+         */
+        MultivariateNormalSampler getSampler() {
+            return sampler;
+        }
+
+        /**
+         * @return the array for the sample
+         */
+        double[] getOut() {
+            return out;
+        }
+
+        /**
+         * Create the sampler.
+         */
+        @Setup
+        public void setup() {
+            rng = RandomSource.XO_RO_SHI_RO_128_PP.create();
+            mean = new double[dimension];
+            for (int i = 0; i < dimension; i++) {
+                mean[i] = i;
+            }
+            // Covariance of an AR(1) process: C[i][j] = rho^|i-j|.
+            // The Cholesky factor is known:
+            // L[i][0] = rho^i
+            // L[i][j] = rho^(i-j) * sqrt(1 - rho^2); 0 < j <= i
+            covariance = new double[dimension][dimension];
+            factor = new double[dimension][dimension];
+            final double s = Math.sqrt(1 - RHO * RHO);
+            for (int i = 0; i < dimension; i++) {
+                for (int j = 0; j < dimension; j++) {
+                    covariance[i][j] = Math.pow(RHO, Math.abs(i - j));
+                }
+                for (int j = 0; j <= i; j++) {
+                    factor[i][j] = Math.pow(RHO, i - j) * (j == 0 ? 1 : s);
+                }
+            }
+            gaussian = ZigguratSampler.NormalizedGaussian.of(rng);
+            sampler = MultivariateNormalSampler.of(rng, mean, covariance);
+            out = new double[dimension];
+        }
+    }
+
+    /**
+     * Baseline sampling using a square Cholesky factor and a per-element call to a
+     * Gaussian sampler.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public double[] baseline(Sources sources) {
+        final double[] mean = sources.getMean();
+        final double[][] l = sources.getFactor();
+        final NormalizedGaussianSampler gaussian = sources.getGaussian();
+        final int d = mean.length;
+        final double[] z = new double[d];
+        for (int i = 0; i < d; i++) {
+            z[i] = gaussian.sample();
+        }
+        final double[] x = sources.getOut();
+        for (int i = 0; i < d; i++) {
+            final double[] row = l[i];
+            double sum = 0;
+            for (int j = 0; j <= i; j++) {
+                sum += row[j] * z[j];
+            }
+            x[i] = mean[i] + sum;
+        }
+        return x;
+    }
+
+    /**
+     * Sample into a new array.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public double[] sample(Sources sources) {
+        return sources.getSampler().sample();
+    }
+
+    /**
+     * Sample into an existing array.
+     *
+     * @param sources Source of randomness.
+     * @return the sample
+     */
+    @Benchmark
+    public double[] sampleInto(Sources sources) {
+        final double[] x = sources.getOut();
+        sources.getSampler().sample(x, 0);
+        return x;
+    }
+
+    /**
+     * Create the sampler. This computes the Cholesky factorisation of the covariance matrix.
+     *
+     * @param sources Source of randomness.
+     * @return the sampler
+     */
+    @Benchmark
+    public MultivariateNormalSampler create(Sources sources) {
+        return MultivariateNormalSampler.of(sources.getRng(), sources.getMean(), sources.getCovariance());
+    }
+}
@@ -847,6 +847,18 @@ public class ConstructionPerformance {
         }
     }
 
+    /**
+     * Create the instances in a single batch. This can be compared to
+     * {@link #createNullSeed(Sources, Blackhole)}.
+     *
+     * @param sources Source of randomness.
+     * @param bh      Data sink.
+     */
+    @Benchmark
+    public void createMany(Sources sources, Blackhole bh) {
+        bh.consume(sources.getRandomSource().createMany(SEEDS));
+    }
+
     /**
      * @param sources Source of randomness.
      * @param bh      Data sink.
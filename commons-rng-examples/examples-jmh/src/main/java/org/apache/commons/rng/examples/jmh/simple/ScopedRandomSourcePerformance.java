@@ -0,0 +1,142 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.examples.jmh.simple;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.RandomSource;
+import org.apache.commons.rng.simple.ScopedRandomSource;
+
+/**
+ * Executes benchmark to compare the cost of obtaining a random number generator
+ * for a short-lived task.
+ *
+ * <p>Each invocation creates one task that generates a number of random values. The
+ * generator is obtained by creating a new instance, by splitting a parent generator,
+ * or by inheriting a split of a parent generator using {@link ScopedRandomSource}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgs = {"-server", "-Xms128M", "-Xmx128M"})
+public class ScopedRandomSourcePerformance {
+    /**
+     * Number of random values to generate in the task.
+     */
+    @Param({"1", "10", "100"})
+    private int numValues;
+
+    /**
+     * The benchmark state (to retrieve the various "RandomSource"s).
+     */
+    @State(Scope.Thread)
+    public static class Sources {
+        /** The random source. */
+        private RandomSource randomSource;
+        /** The parent generator. */
+        private SplittableUniformRandomProvider parent;
+
+        /**
+         * RNG providers. These must be splittable.
+         */
+        @Param({"L32_X64_MIX",
+                "L64_X128_MIX",
+                "L128_X1024_MIX"})
+        private String randomSourceName;
+
+        /**
+         * @return the random source
+         */
+        public RandomSource getRandomSource() {
+            return randomSource;
+        }
+
+        /**
+         * @return the parent generator
+         */
+        public SplittableUniformRandomProvider getParent() {
+            return parent;
+        }
+
+        /** Instantiates the random source and the parent generator. */
+        @Setup
+        public void setup() {
+            randomSource = RandomSource.valueOf(randomSourceName);
+            parent = (SplittableUniformRandomProvider) randomSource.create();
+        }
+    }
+
+    /**
+     * Run the task using the generator.
+     *
+     * @param rng Generator.
+     * @param n Number of values.
+     * @return the result
+     */
+    private static long task(UniformRandomProvider rng, int n) {
+        long result = 0;
+        for (int i = 0; i < n; i++) {
+            result = result ^ rng.nextLong();
+        }
+        return result;
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @return the result
+     */
+    @Benchmark
+    public long randomSourceCreate(Sources sources) {
+        return task(sources.getRandomSource().create(), numValues);
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @return the result
+     */
+    @Benchmark
+    public long split(Sources sources) {
+        return task(sources.getParent().split(), numValues);
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @return the result
+     */
+    @Benchmark
+    public long scopedInherit(Sources sources) {
+        return ScopedRandomSource.call(sources.getParent(),
+            () -> ScopedRandomSource.inherit(() -> task(ScopedRandomSource.current(), numValues)))
+            .get();
+    }
+}
@@ -17,8 +17,10 @@
 
 package org.apache.commons.rng.examples.jmh.simple;
 
+import org.apache.commons.rng.LongJumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.simple.RandomSource;
+import org.apache.commons.rng.simple.internal.SeedFactory;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Fork;
@@ -41,6 +43,9 @@ import java.util.concurrent.locks.ReentrantLock;
  * in a thread-safe way.
  *
  * <p>Uses an upper limit of 128 for the size of an array seed.</p>
+ *
+ * <p>The multi-threaded benchmarks compare generators guarded by a single lock with
+ * a striped set of generators each guarded by its own lock.</p>
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -65,6 +70,12 @@ public class SeedArrayGenerationPerformance {
      */
     private static final ReentrantLock FAIR_LOCK = new ReentrantLock(true);
 
+    /** Size of block to fill in an {@code int[]} seed per lock acquisition. */
+    private static final int INT_ARRAY_BLOCK_SIZE = 8;
+
+    /** Size of block to fill in a {@code long[]} seed per lock acquisition. */
+    private static final int LONG_ARRAY_BLOCK_SIZE = 4;
+
     /** The int[] value. Must NOT be final to prevent JVM optimisation! */
     private int[] intValue;
 
@@ -166,6 +177,108 @@ public class SeedArrayGenerationPerformance {
         }
     }
 
+    /**
+     * A set of generators each guarded by a lock. Each generator is a non-overlapping
+     * sub-sequence of a long period generator created using a long jump.
+     *
+     * <p>A thread selects a generator using a hash of its identifier. If the lock for
+     * the generator is held the other generators are tried in turn.</p>
+     */
+    @State(Scope.Benchmark)
+    public static class StripedSources {
+        /** Golden ratio used to mix the thread identifier. */
+        private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
+
+        /**
+         * The number of generators (must be a power of 2).
+         * A single generator is equivalent to a global lock.
+         */
+        @Param({"1", "4", "16", "64"})
+        private int stripes;
+
+        /** The generators. */
+        private UniformRandomProvider[] generators;
+
+        /** The lock for each generator. */
+        private ReentrantLock[] locks;
+
+        /** Mask to select a generator. */
+        private int mask;
+
+        /**
+         * Create the generators.
+         */
+        @Setup
+        public void setup() {
+            final LongJumpableUniformRandomProvider rng =
+                (LongJumpableUniformRandomProvider) RandomSource.XO_RO_SHI_RO_1024_PP.create();
+            generators = new UniformRandomProvider[stripes];
+            locks = new ReentrantLock[stripes];
+            for (int i = 0; i < stripes; i++) {
+                generators[i] = rng.longJump();
+                locks[i] = new ReentrantLock(false);
+            }
+            mask = stripes - 1;
+        }
+
+        /**
+         * Acquire the lock for one of the generators.
+         *
+         * @return the index of the generator
+         */
+        int lock() {
+            final long id = Thread.currentThread().getId() * GOLDEN_RATIO_64;
+            final int start = (int) (id >>> 32) & mask;
+            int i = start;
+            do {
+                if (locks[i].tryLock()) {
+                    return i;
+                }
+                i = (i + 1) & mask;
+            } while (i != start);
+            locks[start].lock();
+            return start;
+        }
+
+        /**
+         * Fill the array between {@code start} inclusive and {@code end} exclusive.
+         *
+         * @param array Array data.
+         * @param start Start (inclusive).
+         * @param end End (exclusive).
+         */
+        void nextInt(int[] array, int start, int end) {
+            final int index = lock();
+            try {
+                final UniformRandomProvider rng = generators[index];
+                for (int i = start; i < end; i++) {
+                    array[i] = rng.nextInt();
+                }
+            } finally {
+                locks[index].unlock();
+            }
+        }
+
+        /**
+         * Fill the array between {@code start} inclusive and {@code end} exclusive.
+         *
+         * @param array Array data.
+         * @param start Start (inclusive).
+         * @param end End (exclusive).
+         */
+        void nextLong(long[] array, int start, int end) {
+            final int index = lock();
+            try {
+                final UniformRandomProvider rng = generators[index];
+                for (int i = start; i < end; i++) {
+                    array[i] = rng.nextLong();
+                }
+            } finally {
+                locks[index].unlock();
+            }
+        }
+    }
+
     /**
      * Get the next {@code int} from the RNG. This is synchronized on the generator.
      *
@@ -732,4 +845,200 @@ public class SeedArrayGenerationPerformance {
         }
         return seed;
     }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    public int[] Threads1_createIntArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final int[] seed = new int[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += INT_ARRAY_BLOCK_SIZE) {
+            sources.nextInt(seed, i, Math.min(i + INT_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    public long[] Threads1_createLongArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final long[] seed = new long[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += LONG_ARRAY_BLOCK_SIZE) {
+            sources.nextLong(seed, i, Math.min(i + LONG_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    public int[] Threads1_SeedFactory_createIntArray(SeedSizes sizes) {
+        return SeedFactory.createIntArray(sizes.getSize());
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    public long[] Threads1_SeedFactory_createLongArray(SeedSizes sizes) {
+        return SeedFactory.createLongArray(sizes.getSize());
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(4)
+    public int[] Threads4_createIntArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final int[] seed = new int[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += INT_ARRAY_BLOCK_SIZE) {
+            sources.nextInt(seed, i, Math.min(i + INT_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(4)
+    public long[] Threads4_createLongArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final long[] seed = new long[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += LONG_ARRAY_BLOCK_SIZE) {
+            sources.nextLong(seed, i, Math.min(i + LONG_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(4)
+    public int[] Threads4_SeedFactory_createIntArray(SeedSizes sizes) {
+        return SeedFactory.createIntArray(sizes.getSize());
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(4)
+    public long[] Threads4_SeedFactory_createLongArray(SeedSizes sizes) {
+        return SeedFactory.createLongArray(sizes.getSize());
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(16)
+    public int[] Threads16_createIntArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final int[] seed = new int[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += INT_ARRAY_BLOCK_SIZE) {
+            sources.nextInt(seed, i, Math.min(i + INT_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(16)
+    public long[] Threads16_createLongArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final long[] seed = new long[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += LONG_ARRAY_BLOCK_SIZE) {
+            sources.nextLong(seed, i, Math.min(i + LONG_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(16)
+    public int[] Threads16_SeedFactory_createIntArray(SeedSizes sizes) {
+        return SeedFactory.createIntArray(sizes.getSize());
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(16)
+    public long[] Threads16_SeedFactory_createLongArray(SeedSizes sizes) {
+        return SeedFactory.createLongArray(sizes.getSize());
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(64)
+    public int[] Threads64_createIntArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final int[] seed = new int[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += INT_ARRAY_BLOCK_SIZE) {
+            sources.nextInt(seed, i, Math.min(i + INT_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sources Source of randomness.
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(64)
+    public long[] Threads64_createLongArraySeedBlocks_StripedLock(StripedSources sources, SeedSizes sizes) {
+        final long[] seed = new long[sizes.getSize()];
+        for (int i = 0; i < seed.length; i += LONG_ARRAY_BLOCK_SIZE) {
+            sources.nextLong(seed, i, Math.min(i + LONG_ARRAY_BLOCK_SIZE, seed.length));
+        }
+        return seed;
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(64)
+    public int[] Threads64_SeedFactory_createIntArray(SeedSizes sizes) {
+        return SeedFactory.createIntArray(sizes.getSize());
+    }
+
+    /**
+     * @param sizes Size of the seed.
+     * @return the seed
+     */
+    @Benchmark
+    @Threads(64)
+    public long[] Threads64_SeedFactory_createLongArray(SeedSizes sizes) {
+        return SeedFactory.createLongArray(sizes.getSize());
+    }
 }
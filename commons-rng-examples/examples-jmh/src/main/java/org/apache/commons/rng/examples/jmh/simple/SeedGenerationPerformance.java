@@ -793,4 +793,52 @@ public class SeedGenerationPerformance {
     public long Threads4_AtomicLong_getAndIncrement() {
         return atomicLong.getAndIncrement();
     }
+
+    @Benchmark
+    @Threads(16)
+    public int Threads16_SeedFactory_createInt() {
+        return SeedFactory.createInt();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long Threads16_SeedFactory_createLong() {
+        return SeedFactory.createLong();
+    }
+
+    @Benchmark
+    @Threads(16)
+    public int Threads16_UnfairLock_XorShift1024StarPhi_nextInt() {
+        return nextInt(UNFAIR_LOCK, xorShift1024StarPhi);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public long Threads16_UnfairLock_XorShift1024StarPhi_nextLong() {
+        return nextLong(UNFAIR_LOCK, xorShift1024StarPhi);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int Threads64_SeedFactory_createInt() {
+        return SeedFactory.createInt();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long Threads64_SeedFactory_createLong() {
+        return SeedFactory.createLong();
+    }
+
+    @Benchmark
+    @Threads(64)
+    public int Threads64_UnfairLock_XorShift1024StarPhi_nextInt() {
+        return nextInt(UNFAIR_LOCK, xorShift1024StarPhi);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public long Threads64_UnfairLock_XorShift1024StarPhi_nextLong() {
+        return nextLong(UNFAIR_LOCK, xorShift1024StarPhi);
+    }
 }
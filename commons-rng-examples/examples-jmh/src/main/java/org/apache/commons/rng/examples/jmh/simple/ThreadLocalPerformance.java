@@ -35,11 +35,16 @@ import java.util.concurrent.TimeUnit;
 
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.simple.RandomSource;
+import org.apache.commons.rng.simple.SharedRandomSource;
 import org.apache.commons.rng.simple.ThreadLocalRandomSource;
 
 /**
  * Executes benchmark to compare the speed of generation of low frequency
  * random numbers on multiple-threads.
+ *
+ * <p>The benchmarks use 4 threads. The effect of contention can be investigated by
+ * overriding the number of threads using the JMH command line option
+ * {@code -t}, for example {@code -t 1}, {@code -t 16} and {@code -t 64}.
  */
 @BenchmarkMode(Mode.AverageTime)
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
@@ -185,4 +190,18 @@ public class ThreadLocalPerformance {
         }
         return result;
     }
+
+    /**
+     * @return the result
+     */
+    @Benchmark
+    @Threads(4)
+    public long sharedRandomSource() {
+        final UniformRandomProvider rng = SharedRandomSource.get();
+        long result = 0;
+        for (int i = 0; i < numValues; i++) {
+            result = result ^ rng.nextLong();
+        }
+        return result;
+    }
 }
@@ -0,0 +1,750 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.distribution.ChengBetaSampler;
+
+/**
+ * Sampling of {@code k} items from a stream of items of unknown size using
+ * <a href="https://en.wikipedia.org/wiki/Reservoir_sampling">reservoir sampling</a>.
+ *
+ * <p>Items are added to the sampler one at a time and the sampler maintains a sample of
+ * up to {@code k} items from all the items added so far. This allows sampling from a
+ * stream that cannot be held in memory, in contrast to {@link ListSampler#sample} and
+ * the {@link CombinationSampler}. Sampling is without replacement; but if the stream
+ * contains identical objects, the sample may include repeats.</p>
+ *
+ * <p>The unweighted sampler selects each item with equal probability using Algorithm L
+ * of Li (1994). After the reservoir is full the sampler computes the index of the next
+ * item to enter the reservoir using a geometric jump. Items that are skipped consume
+ * no random numbers; each item that enters the reservoir uses 3 random numbers.</p>
+ *
+ * <p>The weighted sampler selects items with probability proportional to a weight
+ * using Algorithm A-ExpJ of Efraimidis and Spirakis (2006). Each item in the reservoir
+ * has a random key; the reservoir holds the items with the largest keys. After the
+ * reservoir is full the sampler computes the total weight to skip before the next item
+ * enters the reservoir using an exponential jump. Items that are skipped consume no
+ * random numbers; each item that enters the reservoir uses 2 random numbers. Items
+ * with a zero weight are never sampled.</p>
+ *
+ * <p>Reservoirs created from separate partitions of a stream can be combined. This
+ * allows sampling from a stream in parallel using a separate sampler, with its own
+ * source of randomness, for each partition.</p>
+ *
+ * <p>The order of the items in the sample is unspecified.</p>
+ *
+ * <p>This sampler is not thread safe.</p>
+ *
+ * @param <T> Type of the items.
+ * @see <a href="https://doi.org/10.1145/198429.198435">Li (1994) Reservoir-sampling algorithms
+ * of time complexity O(n(1 + log(N/n))). ACM Transactions on Mathematical Software 20, 481-493.</a>
+ * @see <a href="https://doi.org/10.1016/j.ipl.2005.11.003">Efraimidis and Spirakis (2006)
+ * Weighted random sampling with a reservoir. Information Processing Letters 97, 181-185.</a>
+ * @since 1.7
+ */
+public abstract class ReservoirSampler<T> implements Consumer<T> {
+    /** 2<sup>-53</sup>. Used to create a double from 53 random bits. */
+    private static final double DOUBLE_MULTIPLIER = 0x1.0p-53;
+
+    /** Size of the sample. */
+    private final int k;
+
+    /**
+     * Computes the index of the next item to enter a full reservoir of size {@code k}
+     * using Algorithm L.
+     *
+     * <p>The variable {@code w} is the largest of the {@code k} smallest uniform random
+     * keys assigned to the items so far; the reservoir holds the items with the smallest
+     * keys. The number of items to skip is geometric with parameter {@code w}.</p>
+     */
+    private static final class AlgorithmL {
+        /** Source of randomness. */
+        private final UniformRandomProvider rng;
+        /** Size of the reservoir. */
+        private final int k;
+        /** Largest key in the reservoir. */
+        private double w;
+        /** Index of the next item to enter the reservoir. */
+        private long nextIndex;
+
+        /**
+         * Create an instance for a full reservoir after {@code k} items.
+         *
+         * @param rng Source of randomness.
+         * @param k Size of the reservoir.
+         */
+        AlgorithmL(UniformRandomProvider rng, int k) {
+            this.rng = rng;
+            this.k = k;
+            // The largest of k uniform keys: Beta(k, 1)
+            w = Math.exp(Math.log(nextNonZeroDouble(rng)) / k);
+            nextIndex = computeNext(k - 1L);
+        }
+
+        /**
+         * Create an instance for a full reservoir after {@code n} items. The largest key
+         * is sampled from its distribution given the number of items.
+         *
+         * @param rng Source of randomness.
+         * @param k Size of the reservoir.
+         * @param n Number of items (must be {@code >= k}).
+         */
+        AlgorithmL(UniformRandomProvider rng, int k, long n) {
+            this.rng = rng;
+            this.k = k;
+            // The k-th smallest of n uniform keys: Beta(k, n - k + 1)
+            w = n == k ?
+                Math.exp(Math.log(nextNonZeroDouble(rng)) / k) :
+                ChengBetaSampler.of(rng, k, n - k + 1.0).sample();
+            nextIndex = computeNext(n - 1);
+        }
+
+        /**
+         * Gets the index of the next item to enter the reservoir.
+         *
+         * @return the index
+         */
+        long getNextIndex() {
+            return nextIndex;
+        }
+
+        /**
+         * Accept the next item into the reservoir. The index of the next item to enter
+         * the reservoir is updated.
+         *
+         * @return the position in the reservoir for the item
+         */
+        int accept() {
+            final int j = rng.nextInt(k);
+            w *= Math.exp(Math.log(nextNonZeroDouble(rng)) / k);
+            nextIndex = computeNext(nextIndex);
+            return j;
+        }
+
+        /**
+         * Compute the index of the next item to enter the reservoir using a geometric
+         * jump after the current index.
+         *
+         * @param index Current index.
+         * @return the next index
+         */
+        private long computeNext(long index) {
+            // Number of items to skip. This saturates to Long.MAX_VALUE.
+            final long skip = (long) (Math.log(nextNonZeroDouble(rng)) / Math.log1p(-w));
+            return skip < Long.MAX_VALUE - 1 - index ? index + 1 + skip : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Unweighted reservoir sampler using Algorithm L.
+     *
+     * @param <T> Type of the items.
+     */
+    private static final class UnweightedReservoirSampler<T> extends ReservoirSampler<T> {
+        /** Source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The reservoir. */
+        private Object[] items;
+        /** The number of items. */
+        private long count;
+        /** The skip computation. This is null until the reservoir is full. */
+        private AlgorithmL skip;
+
+        /**
+         * @param rng Source of randomness.
+         * @param k Size of the reservoir.
+         */
+        UnweightedReservoirSampler(UniformRandomProvider rng, int k) {
+            super(k);
+            this.rng = rng;
+            items = new Object[k];
+        }
+
+        @Override
+        public void accept(T item) {
+            final long i = count++;
+            if (skip == null) {
+                fill(i, item);
+            } else if (i == skip.getNextIndex()) {
+                items[skip.accept()] = item;
+            }
+        }
+
+        @Override
+        public void addAll(Iterator<? extends T> iterator) {
+            while (skip == null) {
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                fill(count++, iterator.next());
+            }
+            for (;;) {
+                // Skip items without processing
+                final long next = skip.getNextIndex();
+                while (count < next) {
+                    if (!iterator.hasNext()) {
+                        return;
+                    }
+                    iterator.next();
+                    count++;
+                }
+                if (!iterator.hasNext()) {
+                    return;
+                }
+                count++;
+                items[skip.accept()] = iterator.next();
+            }
+        }
+
+        /**
+         * Add the item to the reservoir before it is full.
+         *
+         * @param i Index of the item.
+         * @param item Item.
+         */
+        private void fill(long i, T item) {
+            final int k = items.length;
+            items[(int) i] = item;
+            if (i == k - 1) {
+                skip = new AlgorithmL(rng, k);
+            }
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public List<T> getSample() {
+            final int size = (int) Math.min(count, items.length);
+            final List<T> sample = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sample.add((T) items[i]);
+            }
+            return sample;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The number of items from each reservoir is hypergeometric given the number of
+         * items added to each sampler. The items are selected randomly from each
+         * reservoir using this sampler's source of randomness.</p>
+         */
+        @Override
+        public ReservoirSampler<T> combine(ReservoirSampler<T> other) {
+            final UnweightedReservoirSampler<T> o = checkCombine(this, other);
+            final int k = items.length;
+            final Object[] a = items.clone();
+            final Object[] b = o.items.clone();
+            // Remaining population and reservoir size for each sampler
+            long na = count;
+            long nb = o.count;
+            int sa = (int) Math.min(na, k);
+            int sb = (int) Math.min(nb, k);
+            final long n = na + nb;
+            final int size = (int) Math.min(n, k);
+            final Object[] result = new Object[k];
+            for (int i = 0; i < size; i++) {
+                // Sample without replacement from the combined population
+                if (rng.nextLong(na + nb) < na) {
+                    final int j = rng.nextInt(sa);
+                    result[i] = a[j];
+                    a[j] = a[--sa];
+                    na--;
+                } else {
+                    final int j = rng.nextInt(sb);
+                    result[i] = b[j];
+                    b[j] = b[--sb];
+                    nb--;
+                }
+            }
+            items = result;
+            count = n;
+            // The skip computation is null if this reservoir was not full
+            if (n >= k) {
+                skip = new AlgorithmL(rng, k, n);
+            }
+            return this;
+        }
+    }
+
+    /**
+     * Weighted reservoir sampler using Algorithm A-ExpJ.
+     *
+     * <p>The reservoir is a min-heap of the item keys. The keys are stored using a
+     * logarithm: {@code log(u) / w} for a uniform deviate {@code u} and weight {@code w}.
+     * This is an increasing function of the key {@code u^(1/w)} used in the original
+     * algorithm and avoids underflow for large weights.</p>
+     *
+     * @param <T> Type of the items.
+     */
+    private static final class WeightedReservoirSampler<T> extends ReservoirSampler<T> {
+        /** Source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The weight function. */
+        private final ToDoubleFunction<? super T> weight;
+        /** The reservoir. */
+        private final Object[] items;
+        /** The log keys of the items in the reservoir as a min-heap. */
+        private final double[] keys;
+        /** The number of items in the reservoir. */
+        private int size;
+        /** The number of items. */
+        private long count;
+        /** The weight to skip before the next item enters the reservoir. */
+        private double remaining;
+
+        /**
+         * @param rng Source of randomness.
+         * @param k Size of the reservoir.
+         * @param weight Weight function.
+         */
+        WeightedReservoirSampler(UniformRandomProvider rng, int k, ToDoubleFunction<? super T> weight) {
+            super(k);
+            this.rng = rng;
+            this.weight = weight;
+            items = new Object[k];
+            keys = new double[k];
+        }
+
+        @Override
+        public void accept(T item) {
+            final double w = weight.applyAsDouble(item);
+            if (!(w >= 0 && w < Double.POSITIVE_INFINITY)) {
+                throw new IllegalArgumentException("Invalid weight: " + w);
+            }
+            count++;
+            if (w == 0) {
+                return;
+            }
+            if (size < items.length) {
+                add(Math.log(nextNonZeroDouble(rng)) / w, item);
+                return;
+            }
+            remaining -= w;
+            if (remaining <= 0) {
+                // The key is uniform in (T_w, 1) where T_w = exp(w * t) is the
+                // threshold for the item. Compute log(key) / w using:
+                // key = 1 - (1 - T_w) * (1 - u)
+                final double key = Math.log1p(Math.expm1(w * keys[0]) * (1 - rng.nextDouble())) / w;
+                replaceMin(key, item);
+            }
+        }
+
+        /**
+         * Add the item to the reservoir before it is full.
+         *
+         * @param key Log key.
+         * @param item Item.
+         */
+        private void add(double key, Object item) {
+            // Sift up
+            int i = size++;
+            while (i > 0) {
+                final int parent = (i - 1) >>> 1;
+                if (keys[parent] <= key) {
+                    break;
+                }
+                keys[i] = keys[parent];
+                items[i] = items[parent];
+                i = parent;
+            }
+            keys[i] = key;
+            items[i] = item;
+            if (size == items.length) {
+                computeRemaining();
+            }
+        }
+
+        /**
+         * Replace the item with the smallest key in the full reservoir.
+         *
+         * @param key Log key.
+         * @param item Item.
+         */
+        private void replaceMin(double key, Object item) {
+            // Sift down
+            final int n = size;
+            int i = 0;
+            for (;;) {
+                int child = 2 * i + 1;
+                if (child >= n) {
+                    break;
+                }
+                if (child + 1 < n && keys[child + 1] < keys[child]) {
+                    child++;
+                }
+                if (key <= keys[child]) {
+                    break;
+                }
+                keys[i] = keys[child];
+                items[i] = items[child];
+                i = child;
+            }
+            keys[i] = key;
+            items[i] = item;
+            computeRemaining();
+        }
+
+        /**
+         * Compute the weight to skip before the next item enters the full reservoir.
+         * This is exponential with rate {@code -t} where {@code t} is the smallest
+         * log key in the reservoir.
+         */
+        private void computeRemaining() {
+            remaining = Math.log(nextNonZeroDouble(rng)) / keys[0];
+        }
+
+        @Override
+        public long getCount() {
+            return count;
+        }
+
+        @SuppressWarnings("unchecked")
+        @Override
+        public List<T> getSample() {
+            final List<T> sample = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                sample.add((T) items[i]);
+            }
+            return sample;
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * <p>The reservoir retains the items with the largest keys from both reservoirs.</p>
+         */
+        @Override
+        public ReservoirSampler<T> combine(ReservoirSampler<T> other) {
+            final WeightedReservoirSampler<T> o = checkCombine(this, other);
+            for (int i = 0; i < o.size; i++) {
+                final double key = o.keys[i];
+                if (size < items.length) {
+                    add(key, o.items[i]);
+                } else if (key > keys[0]) {
+                    replaceMin(key, o.items[i]);
+                }
+            }
+            count += o.count;
+            return this;
+        }
+    }
+
+    /**
+     * @param k Size of the sample.
+     */
+    ReservoirSampler(int k) {
+        this.k = k;
+    }
+
+    /**
+     * Adds the item to the sampler.
+     *
+     * @param item Item.
+     * @throws IllegalArgumentException if the weight of the item is negative, infinite
+     * or {@code NaN}.
+     */
+    @Override
+    public abstract void accept(T item);
+
+    /**
+     * Adds the remaining items from the iterator to the sampler.
+     *
+     * <p>The unweighted sampler advances the iterator over items that are skipped
+     * without any further processing.</p>
+     *
+     * @param iterator Iterator.
+     * @throws IllegalArgumentException if the weight of an item is negative, infinite
+     * or {@code NaN}.
+     */
+    public void addAll(Iterator<? extends T> iterator) {
+        iterator.forEachRemaining(this);
+    }
+
+    /**
+     * Adds the remaining items from the spliterator to the sampler.
+     *
+     * @param spliterator Spliterator.
+     * @throws IllegalArgumentException if the weight of an item is negative, infinite
+     * or {@code NaN}.
+     */
+    public void addAll(Spliterator<? extends T> spliterator) {
+        spliterator.forEachRemaining(this);
+    }
+
+    /**
+     * Gets the number of items added to the sampler.
+     *
+     * @return the count
+     */
+    public abstract long getCount();
+
+    /**
+     * Gets the sample. The sample size is {@code k}, or the number of items added to
+     * the sampler if this is smaller. For the weighted sampler the size is limited to
+     * the number of items with a non-zero weight.
+     *
+     * <p>The returned list is a copy; subsequent changes to the sampler are not
+     * reflected in the list.</p>
+     *
+     * @return the sample
+     */
+    public abstract List<T> getSample();
+
+    /**
+     * Combines the items from the other sampler into this sampler. The result is a sample
+     * from all the items added to either sampler. The other sampler is not changed.
+     *
+     * <p>The samplers must be created using the same factory method with the same
+     * sample size {@code k}. This allows the reservoirs created from separate partitions
+     * of a stream to be merged.</p>
+     *
+     * @param other Other sampler.
+     * @return this sampler
+     * @throws IllegalArgumentException if the samplers are not compatible.
+     */
+    public abstract ReservoirSampler<T> combine(ReservoirSampler<T> other);
+
+    /**
+     * Creates a sampler that selects {@code k} items with equal probability.
+     *
+     * @param <T> Type of the items.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static <T> ReservoirSampler<T> of(UniformRandomProvider rng,
+                                             int k) {
+        checkSampleSize(k);
+        return new UnweightedReservoirSampler<>(rng, k);
+    }
+
+    /**
+     * Creates a sampler that selects {@code k} items with probability proportional to
+     * the weight of each item.
+     *
+     * <p>The weight function is called once for each item added to the sampler.</p>
+     *
+     * @param <T> Type of the items.
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param k Size of the sample.
+     * @param weight Weight of each item.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static <T> ReservoirSampler<T> of(UniformRandomProvider rng,
+                                             int k,
+                                             ToDoubleFunction<? super T> weight) {
+        checkSampleSize(k);
+        return new WeightedReservoirSampler<>(rng, k, weight);
+    }
+
+    /**
+     * Samples {@code k} values with equal probability from the stream. The sample size
+     * is {@code k}, or the number of values in the stream if this is smaller.
+     *
+     * <p>The values are consumed sequentially from the stream iterator. Values that
+     * are skipped are not processed.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param stream Stream of values.
+     * @param k Size of the sample.
+     * @return the sample
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static int[] sample(UniformRandomProvider rng,
+                               IntStream stream,
+                               int k) {
+        checkSampleSize(k);
+        final PrimitiveIterator.OfInt iterator = stream.iterator();
+        final int[] sample = new int[k];
+        for (int i = 0; i < k; i++) {
+            if (!iterator.hasNext()) {
+                return Arrays.copyOf(sample, i);
+            }
+            sample[i] = iterator.nextInt();
+        }
+        final AlgorithmL skip = new AlgorithmL(rng, k);
+        long count = k;
+        for (;;) {
+            // Skip values without processing
+            final long next = skip.getNextIndex();
+            while (count < next) {
+                if (!iterator.hasNext()) {
+                    return sample;
+                }
+                iterator.nextInt();
+                count++;
+            }
+            if (!iterator.hasNext()) {
+                return sample;
+            }
+            count++;
+            sample[skip.accept()] = iterator.nextInt();
+        }
+    }
+
+    /**
+     * Samples {@code k} values with equal probability from the stream. The sample size
+     * is {@code k}, or the number of values in the stream if this is smaller.
+     *
+     * <p>The values are consumed sequentially from the stream iterator. Values that
+     * are skipped are not processed.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param stream Stream of values.
+     * @param k Size of the sample.
+     * @return the sample
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static long[] sample(UniformRandomProvider rng,
+                                LongStream stream,
+                                int k) {
+        checkSampleSize(k);
+        final PrimitiveIterator.OfLong iterator = stream.iterator();
+        final long[] sample = new long[k];
+        for (int i = 0; i < k; i++) {
+            if (!iterator.hasNext()) {
+                return Arrays.copyOf(sample, i);
+            }
+            sample[i] = iterator.nextLong();
+        }
+        final AlgorithmL skip = new AlgorithmL(rng, k);
+        long count = k;
+        for (;;) {
+            // Skip values without processing
+            final long next = skip.getNextIndex();
+            while (count < next) {
+                if (!iterator.hasNext()) {
+                    return sample;
+                }
+                iterator.nextLong();
+                count++;
+            }
+            if (!iterator.hasNext()) {
+                return sample;
+            }
+            count++;
+            sample[skip.accept()] = iterator.nextLong();
+        }
+    }
+
+    /**
+     * Samples {@code k} values with equal probability from the stream. The sample size
+     * is {@code k}, or the number of values in the stream if this is smaller.
+     *
+     * <p>The values are consumed sequentially from the stream iterator. Values that
+     * are skipped are not processed.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param stream Stream of values.
+     * @param k Size of the sample.
+     * @return the sample
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    public static double[] sample(UniformRandomProvider rng,
+                                  DoubleStream stream,
+                                  int k) {
+        checkSampleSize(k);
+        final PrimitiveIterator.OfDouble iterator = stream.iterator();
+        final double[] sample = new double[k];
+        for (int i = 0; i < k; i++) {
+            if (!iterator.hasNext()) {
+                return Arrays.copyOf(sample, i);
+            }
+            sample[i] = iterator.nextDouble();
+        }
+        final AlgorithmL skip = new AlgorithmL(rng, k);
+        long count = k;
+        for (;;) {
+            // Skip values without processing
+            final long next = skip.getNextIndex();
+            while (count < next) {
+                if (!iterator.hasNext()) {
+                    return sample;
+                }
+                iterator.nextDouble();
+                count++;
+            }
+            if (!iterator.hasNext()) {
+                return sample;
+            }
+            count++;
+            sample[skip.accept()] = iterator.nextDouble();
+        }
+    }
+
+    /**
+     * Checks the sample size is strictly positive.
+     *
+     * @param k Size of the sample.
+     * @throws IllegalArgumentException if {@code k <= 0}.
+     */
+    private static void checkSampleSize(int k) {
+        if (k <= 0) {
+            throw new IllegalArgumentException("k <= 0 : k=" + k);
+        }
+    }
+
+    /**
+     * Checks the other sampler can be combined with the sampler.
+     *
+     * @param <S> Type of the sampler.
+     * @param sampler Sampler.
+     * @param other Other sampler.
+     * @return the other sampler
+     * @throws IllegalArgumentException if the samplers are not compatible.
+     */
+    @SuppressWarnings("unchecked")
+    private static <S extends ReservoirSampler<?>> S checkCombine(ReservoirSampler<?> sampler,
+                                                                  ReservoirSampler<?> other) {
+        if (other == sampler) {
+            throw new IllegalArgumentException("Cannot combine a sampler with itself");
+        }
+        if (other.getClass() != sampler.getClass() || other.k != sampler.k) {
+            throw new IllegalArgumentException("Incompatible sampler: " + other);
+        }
+        return (S) other;
+    }
+
+    /**
+     * Creates a {@code double} in the interval {@code (0, 1]}.
+     *
+     * @param rng Source of randomness.
+     * @return the value
+     */
+    private static double nextNonZeroDouble(UniformRandomProvider rng) {
+        return ((rng.nextLong() >>> 11) + 1) * DOUBLE_MULTIPLIER;
+    }
+}
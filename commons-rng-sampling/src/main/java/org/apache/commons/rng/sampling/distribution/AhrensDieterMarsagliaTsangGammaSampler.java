@@ -215,7 +215,7 @@ public class AhrensDieterMarsagliaTsangGammaSampler
         /** Optimization (see code). */
         private final double cOptim;
         /** Gaussian sampling. */
-        private final NormalizedGaussianSampler gaussian;
+        private final ZigguratSampler.NormalizedGaussian gaussian;
 
         /**
          * @param rng Generator of uniformly distributed random numbers.
@@ -269,6 +269,34 @@ public class AhrensDieterMarsagliaTsangGammaSampler
             }
         }
 
+        @Override
+        public void sample(double[] out, int offset, int length) {
+            InternalUtils.validateFromIndexSize(offset, length, out.length);
+            // Duplicate of the sample() method using local variables
+            final UniformRandomProvider r = rng;
+            final ZigguratSampler.NormalizedGaussian g = gaussian;
+            final double c = cOptim;
+            final double d = dOptim;
+            final double td = theta * dOptim;
+            final int to = offset + length;
+            for (int i = offset; i < to; i++) {
+                for (;;) {
+                    final double x = g.sample();
+                    final double oPcTx = 1 + c * x;
+                    final double v = oPcTx * oPcTx * oPcTx;
+                    if (v > 0) {
+                        final double x2 = x * x;
+                        final double u = r.nextDouble();
+                        if (u < 1 - 0.0331 * x2 * x2 ||
+                            Math.log(u) < 0.5 * x2 + d * (1 - v + Math.log(v))) {
+                            out[i] = td * v;
+                            break;
+                        }
+                    }
+                }
+            }
+        }
+
         @Override
         public SharedStateContinuousSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new MarsagliaTsangGammaSampler(rng, this);
@@ -297,6 +325,12 @@ public class AhrensDieterMarsagliaTsangGammaSampler
         return delegate.sample();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void sample(double[] out, int offset, int length) {
+        delegate.sample(out, offset, length);
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -19,6 +19,9 @@ package org.apache.commons.rng.sampling.distribution;
 import org.apache.commons.rng.UniformRandomProvider;
 
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
 
 /**
  * Distribution sampler that uses the <a
@@ -89,6 +92,12 @@ public class AliasMethodDiscreteSampler
      * The maximum size of the small alias table. This is 2<sup>11</sup>.
      */
     private static final int MAX_SMALL_POWER_2_SIZE = 1 << 11;
+    /**
+     * The minimum size of a block of the tables for parallel construction. This is 2<sup>16</sup>.
+     */
+    private static final int MIN_BLOCK_SIZE = 1 << 16;
+    /** The number of blocks per thread for parallel construction. */
+    private static final int BLOCKS_PER_THREAD = 4;
 
     /** Underlying source of randomness. */
     protected final UniformRandomProvider rng;
@@ -140,6 +149,66 @@ public class AliasMethodDiscreteSampler
      */
     protected final int[] alias;
 
+    /**
+     * Receive a section of the table computed during construction.
+     */
+    interface SectionConsumer {
+        /**
+         * Sets the section of the table.
+         *
+         * @param index Index.
+         * @param p Probability of the index in {@code [0, 1]}.
+         * @param alias Alias.
+         */
+        void accept(int index, double p, int alias);
+    }
+
+    /**
+     * Receive a value that was not paired during construction of the table.
+     */
+    interface UnpairedConsumer {
+        /**
+         * Accepts the index with the remaining probability.
+         *
+         * @param index Index.
+         * @param p Remaining probability.
+         */
+        void accept(int index, double p);
+    }
+
+    /**
+     * Store values that were not paired during construction of a block of the tables.
+     */
+    private static final class Unpaired {
+        /** The indices. */
+        private int[] indices = new int[16];
+        /** The remaining probability of each index. */
+        private double[] remaining = new double[16];
+        /** The number of values. */
+        private int size;
+
+        /** Package-private constructor. */
+        Unpaired() {
+            // Intentionally empty
+        }
+
+        /**
+         * Adds the index with the remaining probability.
+         *
+         * @param index Index.
+         * @param p Remaining probability.
+         */
+        void add(int index, double p) {
+            if (size == indices.length) {
+                indices = Arrays.copyOf(indices, size * 2);
+                remaining = Arrays.copyOf(remaining, size * 2);
+            }
+            indices[size] = index;
+            remaining[size] = p;
+            size++;
+        }
+    }
+
     /**
      * Sample from the computed tables exploiting the small power-of-two table size.
      * This implements a variant of the optimised algorithm as per Vose (1991):
@@ -210,6 +279,27 @@ public class AliasMethodDiscreteSampler
             return (longBits >>> 11) < probability[j] ? j : alias[j];
         }
 
+        @Override
+        public void sample(int[] out, int offset, int length) {
+            InternalUtils.validateFromIndexSize(offset, length, out.length);
+            // Duplicate of the sample() method using local variables
+            final UniformRandomProvider r = rng;
+            final long[] p = probability;
+            final int[] a = alias;
+            final int m = mask;
+            final int to = offset + length;
+            for (int i = offset; i < to; i++) {
+                final int bits = r.nextInt();
+                final int j = bits & m;
+                if (j >= p.length) {
+                    out[i] = a[j];
+                } else {
+                    final long longBits = (((long) r.nextInt()) << 32) | (bits & 0xffffffffL);
+                    out[i] = (longBits >>> 11) < p[j] ? j : a[j];
+                }
+            }
+        }
+
         /** {@inheritDoc} */
         @Override
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
@@ -271,6 +361,26 @@ public class AliasMethodDiscreteSampler
         return (rng.nextLong() >>> 11) < probability[j] ? j : alias[j];
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void sample(int[] out, int offset, int length) {
+        InternalUtils.validateFromIndexSize(offset, length, out.length);
+        // Duplicate of the sample() method using local variables
+        final UniformRandomProvider r = rng;
+        final long[] p = probability;
+        final int[] a = alias;
+        final int n = a.length;
+        final int to = offset + length;
+        for (int i = offset; i < to; i++) {
+            final int j = r.nextInt(n);
+            if (j >= p.length) {
+                out[i] = a[j];
+            } else {
+                out[i] = (r.nextLong() >>> 11) < p[j] ? j : a[j];
+            }
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -459,12 +569,322 @@ public class AliasMethodDiscreteSampler
         fillTable(probability, alias, indices, 0, small);
         fillTable(probability, alias, indices, large, n);
 
-        // Change the algorithm for small power of 2 sized tables
-        return isSmallPowerOf2(n) ?
+        return create(rng, probability, alias);
+    }
+
+    /**
+     * Creates a sampler using parallel construction of the tables.
+     *
+     * <p>The probabilities are obtained from a function of the index in {@code [0, size)}.
+     * This allows construction from a primitive source such as an off-heap
+     * {@link java.nio.DoubleBuffer} using {@code buffer::get} without creating a copy
+     * of the probabilities. The function is called multiple times for each index from
+     * multiple threads and must return the same value for each call.</p>
+     *
+     * <p>The tables are zero-padded to the next power-of-two as per
+     * {@link #of(UniformRandomProvider, double[])}.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param size The number of probabilities.
+     * @param probabilities The function to obtain each probability.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code size} is not strictly positive, a
+     * probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     * @see #ofParallel(UniformRandomProvider, int, IntToDoubleFunction, int)
+     * @since 1.7
+     */
+    public static SharedStateDiscreteSampler ofParallel(final UniformRandomProvider rng,
+                                                        final int size,
+                                                        final IntToDoubleFunction probabilities) {
+        return ofParallel(rng, size, probabilities, DEFAULT_ALPHA);
+    }
+
+    /**
+     * Creates a sampler using parallel construction of the tables.
+     *
+     * <p>The probabilities are obtained from a function of the index in {@code [0, size)}.
+     * This allows construction from a primitive source such as an off-heap
+     * {@link java.nio.DoubleBuffer} using {@code buffer::get} without creating a copy
+     * of the probabilities. The function is called multiple times for each index from
+     * multiple threads and must return the same value for each call.</p>
+     *
+     * <p>The zero-padding is controlled by the {@code alpha} argument as per
+     * {@link #of(UniformRandomProvider, double[], int)}.</p>
+     *
+     * <p>Construction uses the common {@link ForkJoinPool}. The sum of the probabilities
+     * is computed in parallel. The tables are then partitioned into blocks; the
+     * small and large probabilities within each block are paired in parallel using a
+     * single sweep through the block that does not require a copy of the probabilities.
+     * Any values that remain unpaired in each block are paired sequentially. The number of
+     * unpaired values is typically small, but is large when the small and large
+     * probabilities are in different blocks, for example if the probabilities are sorted.
+     * The sampler is equivalent to the sampler created by
+     * {@link #of(UniformRandomProvider, double[], int)} but the tables may be different.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param size The number of probabilities.
+     * @param probabilities The function to obtain each probability.
+     * @param alpha The alpha factor controlling the zero padding.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code size} is not strictly positive, a
+     * probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     * @see <a href="https://doi.org/10.1145/3323165.3323202">
+     * Hübschle-Schneider and Sanders (2019) Parallel Weighted Random Sampling.
+     * Proceedings of the 31st ACM Symposium on Parallelism in Algorithms and Architectures.</a>
+     * @since 1.7
+     */
+    public static SharedStateDiscreteSampler ofParallel(final UniformRandomProvider rng,
+                                                        final int size,
+                                                        final IntToDoubleFunction probabilities,
+                                                        int alpha) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Probabilities must not be empty.");
+        }
+        final double sumProb = IntStream.range(0, size).parallel()
+            .mapToDouble(i -> InternalUtils.requirePositiveFinite(probabilities.applyAsDouble(i), "probability"))
+            .sum();
+        InternalUtils.requireStrictlyPositiveFinite(sumProb, "sum of probabilities");
+
+        // Allow zero-padding
+        final int n = computeSize(size, alpha);
+        final double mean = sumProb / n;
+
+        // Probability table is truncated after the last non-zero probability.
+        // No bounds check is performed as there is at least one value above zero.
+        int nonZeroIndex = size - 1;
+        while (probabilities.applyAsDouble(nonZeroIndex) == ZERO) {
+            nonZeroIndex--;
+        }
+        final long[] probability = new long[nonZeroIndex + 1];
+        final int[] alias = new int[n];
+        // Padded values are zero
+        final IntToDoubleFunction p = i -> i < size ? probabilities.applyAsDouble(i) : ZERO;
+
+        // Pair each block in parallel.
+        final int blocks = (int) Math.min(
+            ForkJoinPool.getCommonPoolParallelism() * (long) BLOCKS_PER_THREAD,
+            (n + (long) MIN_BLOCK_SIZE - 1) / MIN_BLOCK_SIZE);
+        final long blockSize = (n + (long) blocks - 1) / blocks;
+        final Unpaired[] unpaired = IntStream.range(0, blocks).parallel()
+            .mapToObj(b -> pairBlock(p, mean, probability, alias,
+                                     (int) (b * blockSize), (int) Math.min(n, (b + 1) * blockSize)))
+            .toArray(Unpaired[]::new);
+
+        pairUnpaired(unpaired, mean, probability, alias);
+
+        return create(rng, probability, alias);
+    }
+
+    /**
+     * Creates a sampler from the computed tables. The algorithm is changed for small
+     * power of 2 sized tables.
+     *
+     * <p>The input parameters are not validated and must be correctly computed alias tables.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probability Probability table.
+     * @param alias Alias table.
+     * @return the sampler
+     */
+    static AliasMethodDiscreteSampler create(UniformRandomProvider rng,
+                                             long[] probability,
+                                             int[] alias) {
+        return isSmallPowerOf2(alias.length) ?
             new SmallTableAliasMethodDiscreteSampler(rng, probability, alias) :
             new AliasMethodDiscreteSampler(rng, probability, alias);
     }
 
+    /**
+     * Pair the small and large probabilities in the block {@code [from, to)} of the tables.
+     *
+     * @param probabilities The probabilities.
+     * @param mean The mean probability.
+     * @param probability Probability table.
+     * @param alias Alias table.
+     * @param from Start of the block (inclusive).
+     * @param to End of the block (exclusive).
+     * @return the unpaired values
+     */
+    private static Unpaired pairBlock(IntToDoubleFunction probabilities, double mean,
+                                      long[] probability, int[] alias, int from, int to) {
+        final Unpaired unpaired = new Unpaired();
+        sweep(probabilities, mean, from, to,
+            (index, p, a) -> {
+                setProbability(probability, index, p);
+                alias[index] = a;
+            },
+            unpaired::add, unpaired::add);
+        return unpaired;
+    }
+
+    /**
+     * Pair the small and large probabilities in the block {@code [from, to)}.
+     *
+     * <p>This uses a sweep through the block with a pointer to the next small probability
+     * and the current large probability. The remaining probability of the large item is
+     * held in a local variable and the input probabilities are not modified. Each small
+     * item is paired with the current large item. When the remaining probability of the
+     * large item is below the mean it is paired with the next large item.</p>
+     *
+     * <p>Either the small or large items are exhausted by the sweep. The remaining
+     * large items are passed to the consumer in order starting with the current
+     * large item; then the remaining small items are passed to the consumer in order.
+     * There is at least one unpaired large item if the block contains a large item.</p>
+     *
+     * @param probabilities The probabilities.
+     * @param mean The mean probability.
+     * @param from Start of the block (inclusive).
+     * @param to End of the block (exclusive).
+     * @param sections The receiver of each paired section.
+     * @param large The receiver of each unpaired large item.
+     * @param small The receiver of each unpaired small item.
+     */
+    static void sweep(IntToDoubleFunction probabilities, double mean, int from, int to,
+                      SectionConsumer sections, UnpairedConsumer large, UnpairedConsumer small) {
+        int s = nextSmall(probabilities, mean, from, to);
+        int l = nextLarge(probabilities, mean, from, to);
+        double remaining = l < to ? probabilities.applyAsDouble(l) : ZERO;
+        while (l < to) {
+            if (remaining >= mean && s < to) {
+                // Fill the section for the small item from the large item
+                final double ps = probabilities.applyAsDouble(s);
+                sections.accept(s, ps / mean, l);
+                remaining += ps - mean;
+                s = nextSmall(probabilities, mean, s + 1, to);
+            } else if (remaining < mean) {
+                // The large item is now small. Fill its section from the next large item.
+                final int next = nextLarge(probabilities, mean, l + 1, to);
+                if (next == to) {
+                    break;
+                }
+                sections.accept(l, remaining / mean, next);
+                remaining += probabilities.applyAsDouble(next) - mean;
+                l = next;
+            } else {
+                // No small items remain
+                break;
+            }
+        }
+
+        if (l < to) {
+            large.accept(l, remaining);
+            for (int i = nextLarge(probabilities, mean, l + 1, to); i < to;
+                    i = nextLarge(probabilities, mean, i + 1, to)) {
+                large.accept(i, probabilities.applyAsDouble(i));
+            }
+        }
+        for (int i = s; i < to; i = nextSmall(probabilities, mean, i + 1, to)) {
+            small.accept(i, probabilities.applyAsDouble(i));
+        }
+    }
+
+    /**
+     * Find the next index with a probability below the mean.
+     *
+     * @param probabilities The probabilities.
+     * @param mean The mean probability.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the index, or {@code to} if not found
+     */
+    private static int nextSmall(IntToDoubleFunction probabilities, double mean, int from, int to) {
+        int i = from;
+        while (i < to && probabilities.applyAsDouble(i) >= mean) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Find the next index with a probability at or above the mean.
+     *
+     * @param probabilities The probabilities.
+     * @param mean The mean probability.
+     * @param from Start index (inclusive).
+     * @param to End index (exclusive).
+     * @return the index, or {@code to} if not found
+     */
+    private static int nextLarge(IntToDoubleFunction probabilities, double mean, int from, int to) {
+        int i = from;
+        while (i < to && probabilities.applyAsDouble(i) < mean) {
+            i++;
+        }
+        return i;
+    }
+
+    /**
+     * Pair the values that were not paired within each block. This uses Vose's algorithm
+     * on the remaining probabilities.
+     *
+     * @param unpaired The unpaired values from each block.
+     * @param mean The mean probability.
+     * @param probability Probability table.
+     * @param alias Alias table.
+     */
+    private static void pairUnpaired(Unpaired[] unpaired, double mean,
+                                     long[] probability, int[] alias) {
+        int n = 0;
+        for (final Unpaired u : unpaired) {
+            n += u.size;
+        }
+        // Map the unpaired values to a local index into the remaining probabilities.
+        // Partition into small and large using the same array from either end.
+        final int[] values = new int[n];
+        final double[] remainingProbabilities = new double[n];
+        final int[] indices = new int[n];
+        int large = n;
+        int small = 0;
+        int count = 0;
+        for (final Unpaired u : unpaired) {
+            for (int i = 0; i < u.size; i++) {
+                values[count] = u.indices[i];
+                remainingProbabilities[count] = u.remaining[i];
+                if (u.remaining[i] >= mean) {
+                    indices[--large] = count;
+                } else {
+                    indices[small++] = count;
+                }
+                count++;
+            }
+        }
+
+        while (large != n && small != 0) {
+            final int j = indices[--small];
+            final int k = indices[large++];
+            final double pj = remainingProbabilities[j];
+            setProbability(probability, values[j], pj / mean);
+            alias[values[j]] = values[k];
+            remainingProbabilities[k] += pj - mean;
+            if (remainingProbabilities[k] >= mean) {
+                indices[--large] = k;
+            } else {
+                indices[small++] = k;
+            }
+        }
+
+        // Final loop conditions to consume unpaired items.
+        fillTable(probability, alias, values, indices, 0, small);
+        fillTable(probability, alias, values, indices, large, n);
+    }
+
+    /**
+     * Sets the probability of the section for the index. The probability is converted
+     * to the numerator of a fraction with denominator 2<sup>53</sup> using round-up.
+     * A zero probability is not stored as the probability table is truncated
+     * after the last non-zero probability.
+     *
+     * @param probability Probability table.
+     * @param index Index.
+     * @param p Probability in {@code [0, 1]}.
+     */
+    private static void setProbability(long[] probability, int index, double p) {
+        if (p != ZERO) {
+            probability[index] = (long) Math.ceil(CONVERT_TO_NUMERATOR * p);
+        }
+    }
+
     /**
      * Allocate the remaining indices from zero padding as small probabilities. The
      * number to add is from the length of the probability array to the length of
@@ -548,6 +968,28 @@ public class AliasMethodDiscreteSampler
         }
     }
 
+    /**
+     * Fill the tables using unpaired items that are in the range between {@code start} inclusive
+     * and {@code end} exclusive. The unpaired indices are mapped to the table index using
+     * the {@code values}.
+     *
+     * @param probability Probability table.
+     * @param alias Alias table.
+     * @param values Table index of each unpaired item.
+     * @param indices Unpaired indices.
+     * @param start Start position.
+     * @param end End position.
+     * @see #fillTable(long[], int[], int[], int, int)
+     */
+    private static void fillTable(long[] probability, int[] alias, int[] values, int[] indices,
+                                  int start, int end) {
+        for (int i = start; i < end; i++) {
+            final int index = values[indices[i]];
+            probability[index] = ONE_AS_NUMERATOR;
+            alias[index] = index;
+        }
+    }
+
     /**
      * Checks if the size is a small power of 2 so can be supported by the
      * {@link SmallTableAliasMethodDiscreteSampler}.
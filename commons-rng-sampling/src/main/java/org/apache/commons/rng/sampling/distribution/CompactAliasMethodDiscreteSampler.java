@@ -0,0 +1,415 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+
+import java.nio.LongBuffer;
+
+/**
+ * Distribution sampler that uses the <a
+ * href="https://en.wikipedia.org/wiki/Alias_method">Alias method</a> with a compact
+ * table. It can be used to sample from {@code n} values each with an associated probability.
+ *
+ * <p>This is a variant of the {@link AliasMethodDiscreteSampler} that packs the
+ * probability and alias of each section of the table into a single value. Sampling
+ * reads one table entry. The probabilities are stored with reduced precision:</p>
+ *
+ * <ul>
+ *  <li>The default table stores a 32-bit probability and 32-bit alias in a {@code long}.
+ *      The table requires 8 bytes per input probability and is not padded.
+ *      Sampling uses 1 call to {@link UniformRandomProvider#nextLong()} (a rejection
+ *      step to create an unbiased index into a table that is not a power of 2 requires
+ *      additional calls with a probability of {@code n / 2^32}).
+ *  <li>The small table stores a 16-bit probability and 16-bit alias in an {@code int}.
+ *      This supports up to 2<sup>16</sup> values. The table is zero-padded to a power of 2
+ *      and requires up to 8 bytes per input probability.
+ *      Sampling uses 1 call to {@link UniformRandomProvider#nextInt()}.
+ * </ul>
+ *
+ * <p>The probability of each section is rounded up to the next representable
+ * fraction so a non-zero probability is always non-zero and a zero probability remains
+ * zero. The error in the probability of each value is bounded by {@code k / n} multiplied by
+ * 2<sup>-32</sup> (default table) or 2<sup>-16</sup> (small table), where {@code k} is the
+ * number of sections that contain the value.</p>
+ *
+ * <p>The default table can be stored in a {@link LongBuffer}. This allows a table to be
+ * computed into an off-heap or memory-mapped buffer, and a sampler to be created
+ * from an existing table, for example to share a table between processes using
+ * a memory-mapped file.</p>
+ *
+ * <p>The tables are constructed using a single sweep through the probabilities that
+ * does not require a copy of the probabilities.</p>
+ *
+ * @see AliasMethodDiscreteSampler
+ * @see <a href="https://doi.org/10.1145/3323165.3323202">
+ * Hübschle-Schneider and Sanders (2019) Parallel Weighted Random Sampling.
+ * Proceedings of the 31st ACM Symposium on Parallelism in Algorithms and Architectures.</a>
+ * @since 1.7
+ */
+public final class CompactAliasMethodDiscreteSampler {
+    /** The maximum size of the small table. */
+    private static final int MAX_SMALL_SIZE = 1 << 16;
+    /** The value 2<sup>32</sup> as a {@code long}. */
+    private static final long ONE_AS_NUMERATOR_32 = 1L << 32;
+    /** The value 2<sup>16</sup> as an {@code int}. */
+    private static final int ONE_AS_NUMERATOR_16 = 1 << 16;
+    /** Mask to extract the lower 32-bits from a long. */
+    private static final long MASK_32 = 0xffffffffL;
+    /** Mask to extract the lower 16-bits from an int. */
+    private static final int MASK_16 = 0xffff;
+    /** The prefix of the sampler name. */
+    private static final String SAMPLER_NAME = "Compact alias method [";
+
+    // =========================================================================
+    // Implementation note:
+    //
+    // Each section j of the table has a probability p(j) of choosing j, otherwise
+    // the alias a(j). The probability is stored as the numerator of a fraction
+    // with denominator 2^b using b=32 or b=16. The entry is:
+    //   (p(j) << b) | a(j)
+    // A section that is entirely j (p(j) = 1) would require b+1 bits; this is
+    // stored as a probability of zero with an alias of j.
+    //
+    // Separate class implementations allow the storage to be accessed directly.
+    // =========================================================================
+
+    /**
+     * Sample using a table of {@code long} values.
+     */
+    private static final class LongArrayAliasMethodDiscreteSampler
+        implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The table. */
+        private final long[] table;
+        /** Threshold for rejection of the index computed using a multiply. */
+        private final long threshold;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param table Table.
+         */
+        LongArrayAliasMethodDiscreteSampler(UniformRandomProvider rng, long[] table) {
+            this.rng = rng;
+            this.table = table;
+            threshold = ONE_AS_NUMERATOR_32 % table.length;
+        }
+
+        @Override
+        public int sample() {
+            final long n = table.length;
+            // Unbiased index in [0, n) from the upper 32-bits (Lemire 2019).
+            // The lower 32-bits are independent and used for the probability.
+            long bits = rng.nextLong();
+            long m = (bits >>> 32) * n;
+            while ((m & MASK_32) < threshold) {
+                bits = rng.nextLong();
+                m = (bits >>> 32) * n;
+            }
+            final int j = (int) (m >>> 32);
+            final long e = table[j];
+            return (bits & MASK_32) < (e >>> 32) ? j : (int) e;
+        }
+
+        @Override
+        public String toString() {
+            return SAMPLER_NAME + rng.toString() + "]";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new LongArrayAliasMethodDiscreteSampler(rng, table);
+        }
+    }
+
+    /**
+     * Sample using a table of {@code long} values stored in a buffer.
+     */
+    private static final class LongBufferAliasMethodDiscreteSampler
+        implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The table. Only absolute get operations are used to allow sharing. */
+        private final LongBuffer table;
+        /** The table size. */
+        private final int size;
+        /** Threshold for rejection of the index computed using a multiply. */
+        private final long threshold;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param table Table.
+         */
+        LongBufferAliasMethodDiscreteSampler(UniformRandomProvider rng, LongBuffer table) {
+            this.rng = rng;
+            this.table = table;
+            size = table.limit();
+            threshold = ONE_AS_NUMERATOR_32 % size;
+        }
+
+        @Override
+        public int sample() {
+            final long n = size;
+            long bits = rng.nextLong();
+            long m = (bits >>> 32) * n;
+            while ((m & MASK_32) < threshold) {
+                bits = rng.nextLong();
+                m = (bits >>> 32) * n;
+            }
+            final int j = (int) (m >>> 32);
+            final long e = table.get(j);
+            return (bits & MASK_32) < (e >>> 32) ? j : (int) e;
+        }
+
+        @Override
+        public String toString() {
+            return SAMPLER_NAME + rng.toString() + "]";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new LongBufferAliasMethodDiscreteSampler(rng, table);
+        }
+    }
+
+    /**
+     * Sample using a table of {@code int} values. The table length is a power of 2.
+     */
+    private static final class IntArrayAliasMethodDiscreteSampler
+        implements SharedStateDiscreteSampler {
+        /** Underlying source of randomness. */
+        private final UniformRandomProvider rng;
+        /** The table. */
+        private final int[] table;
+        /** The mask to isolate the index bits. */
+        private final int mask;
+
+        /**
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param table Table.
+         */
+        IntArrayAliasMethodDiscreteSampler(UniformRandomProvider rng, int[] table) {
+            this.rng = rng;
+            this.table = table;
+            mask = table.length - 1;
+        }
+
+        @Override
+        public int sample() {
+            // Upper 16-bits for the index; lower 16-bits for the probability
+            final int bits = rng.nextInt();
+            final int j = (bits >>> 16) & mask;
+            final int e = table[j];
+            return (bits & MASK_16) < (e >>> 16) ? j : e & MASK_16;
+        }
+
+        @Override
+        public String toString() {
+            return SAMPLER_NAME + rng.toString() + "]";
+        }
+
+        @Override
+        public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+            return new IntArrayAliasMethodDiscreteSampler(rng, table);
+        }
+    }
+
+    /** Class contains only static methods. */
+    private CompactAliasMethodDiscreteSampler() {}
+
+    /**
+     * Creates a sampler using a table with 32-bit probabilities.
+     *
+     * <p>The probabilities will be normalised using their sum. The only requirement
+     * is the sum is strictly positive.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The list of probabilities.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, or the sum of all
+     * probabilities is not strictly positive.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double[] probabilities) {
+        final double sumProb = InternalUtils.validateProbabilities(probabilities);
+        final long[] table = new long[probabilities.length];
+        computeTable(probabilities, table.length, sumProb,
+            (index, p, alias) -> table[index] = toEntry32(index, p, alias));
+        return new LongArrayAliasMethodDiscreteSampler(rng, table);
+    }
+
+    /**
+     * Creates a sampler using a table with 32-bit probabilities stored in the buffer.
+     * The table is written using absolute put operations starting from the current
+     * position of the buffer and requires {@code probabilities.length} elements.
+     * The position of the buffer is unchanged.
+     *
+     * <p>The table can be used to create another sampler using
+     * {@link #of(UniformRandomProvider, LongBuffer)}.</p>
+     *
+     * <p>The probabilities will be normalised using their sum. The only requirement
+     * is the sum is strictly positive.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The list of probabilities.
+     * @param table Buffer for the table.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, a
+     * probability is negative, infinite or {@code NaN}, the sum of all
+     * probabilities is not strictly positive, or the buffer has insufficient space.
+     * @throws java.nio.ReadOnlyBufferException if the buffer is read-only
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                double[] probabilities,
+                                                LongBuffer table) {
+        final double sumProb = InternalUtils.validateProbabilities(probabilities);
+        final int n = probabilities.length;
+        if (table.remaining() < n) {
+            throw new IllegalArgumentException(
+                "Insufficient space for table: remaining = " + table.remaining() + ", required = " + n);
+        }
+        final LongBuffer t = table.slice();
+        t.limit(n);
+        computeTable(probabilities, n, sumProb,
+            (index, p, alias) -> t.put(index, toEntry32(index, p, alias)));
+        return new LongBufferAliasMethodDiscreteSampler(rng, t);
+    }
+
+    /**
+     * Creates a sampler using an existing table with 32-bit probabilities. The table is
+     * the remaining elements of the buffer and must have been created using
+     * {@link #of(UniformRandomProvider, double[], LongBuffer)}. The table is not copied
+     * and must not be modified. The position of the buffer is unchanged.
+     *
+     * <p>Each entry of the table is checked to contain a valid alias.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param table Buffer containing the table.
+     * @return the sampler
+     * @throws IllegalArgumentException if the table is empty or contains an invalid alias.
+     */
+    public static SharedStateDiscreteSampler of(UniformRandomProvider rng,
+                                                LongBuffer table) {
+        final LongBuffer t = table.slice();
+        final int n = t.limit();
+        if (n == 0) {
+            throw new IllegalArgumentException("Table must not be empty.");
+        }
+        for (int i = 0; i < n; i++) {
+            // Unsigned compare of the lower 32-bits
+            if ((t.get(i) & MASK_32) >= n) {
+                throw new IllegalArgumentException("Invalid alias at index " + i);
+            }
+        }
+        return new LongBufferAliasMethodDiscreteSampler(rng, t);
+    }
+
+    /**
+     * Creates a sampler using a small table with 16-bit probabilities. The table size is
+     * the next power of 2 of the number of probabilities.
+     *
+     * <p>The probabilities will be normalised using their sum. The only requirement
+     * is the sum is strictly positive.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param probabilities The list of probabilities.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code probabilities} is null or empty, or has
+     * a length above 2<sup>16</sup>; a probability is negative, infinite or {@code NaN};
+     * or the sum of all probabilities is not strictly positive.
+     */
+    public static SharedStateDiscreteSampler ofSmall(UniformRandomProvider rng,
+                                                     double[] probabilities) {
+        final double sumProb = InternalUtils.validateProbabilities(probabilities);
+        final int length = probabilities.length;
+        if (length > MAX_SMALL_SIZE) {
+            throw new IllegalArgumentException(
+                "Small table size " + length + " above maximum: " + MAX_SMALL_SIZE);
+        }
+        // Zero pad to the next power of 2 (minimum 1)
+        final int n = length == 1 ? 1 : Integer.highestOneBit(length - 1) << 1;
+        final int[] table = new int[n];
+        computeTable(probabilities, n, sumProb,
+            (index, p, alias) -> table[index] = toEntry16(index, p, alias));
+        return new IntArrayAliasMethodDiscreteSampler(rng, table);
+    }
+
+    /**
+     * Convert the section to a table entry with a 32-bit probability.
+     *
+     * @param index Index.
+     * @param p Probability of the index in {@code [0, 1]}.
+     * @param alias Alias.
+     * @return the entry
+     */
+    private static long toEntry32(int index, double p, int alias) {
+        // Round-up ensures a non-zero probability is non-zero
+        final long numerator = (long) Math.ceil(p * ONE_AS_NUMERATOR_32);
+        return numerator < ONE_AS_NUMERATOR_32 ?
+            (numerator << 32) | alias :
+            index;
+    }
+
+    /**
+     * Convert the section to a table entry with a 16-bit probability.
+     *
+     * @param index Index.
+     * @param p Probability of the index in {@code [0, 1]}.
+     * @param alias Alias.
+     * @return the entry
+     */
+    private static int toEntry16(int index, double p, int alias) {
+        // Round-up ensures a non-zero probability is non-zero
+        final int numerator = (int) Math.ceil(p * ONE_AS_NUMERATOR_16);
+        return numerator < ONE_AS_NUMERATOR_16 ?
+            (numerator << 16) | alias :
+            index;
+    }
+
+    /**
+     * Compute the alias table. Probabilities above the length of the input array are zero.
+     *
+     * <p>The sections are paired using the sweep of the {@link AliasMethodDiscreteSampler}.
+     * Any item that is not paired must fill the entire section due to round-off. A zero
+     * probability item (including padding) is always paired as its deficit is an entire
+     * section.</p>
+     *
+     * @param probabilities The probabilities.
+     * @param n The table size.
+     * @param sumProb The sum of the probabilities.
+     * @param writer The receiver of each section of the table.
+     */
+    private static void computeTable(double[] probabilities, int n, double sumProb,
+                                     AliasMethodDiscreteSampler.SectionConsumer writer) {
+        final AliasMethodDiscreteSampler.UnpairedConsumer unpaired = (i, p) -> writer.accept(i, 1, i);
+        AliasMethodDiscreteSampler.sweep(i -> getProbability(probabilities, i), sumProb / n, 0, n,
+            writer, unpaired, unpaired);
+    }
+
+    /**
+     * Gets the probability. Probabilities above the length of the input array are zero.
+     *
+     * @param probabilities The probabilities.
+     * @param i Index.
+     * @return the probability
+     */
+    private static double getProbability(double[] probabilities, int i) {
+        return i < probabilities.length ? probabilities[i] : 0;
+    }
+}
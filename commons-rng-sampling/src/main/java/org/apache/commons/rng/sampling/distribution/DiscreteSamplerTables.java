@@ -0,0 +1,445 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Support for saving the precomputed tables of a discrete sampler to a {@link ByteBuffer}
+ * and loading a sampler from the saved tables.
+ *
+ * <p>Construction of the tables for a large enumerated distribution can be costly. Saving
+ * the tables allows a sampler for a fixed distribution to be loaded without repeating
+ * the computation, for example from a memory-mapped file. The loaded sampler uses a new
+ * source of randomness and produces the same sequence of samples as the saved sampler
+ * given the same source of randomness.</p>
+ *
+ * <p>The following samplers are supported:</p>
+ *
+ * <ul>
+ *  <li>{@link AliasMethodDiscreteSampler}
+ *  <li>{@link FastLoadedDiceRollerDiscreteSampler}
+ *  <li>{@link MarsagliaTsangWangDiscreteSampler}
+ * </ul>
+ *
+ * <p>The format is a header containing the format version, the sampler type and the
+ * length of the tables in bytes; followed by the tables. All values are little-endian.
+ * The byte order of the buffer is not changed.</p>
+ *
+ * @since 1.7
+ */
+public final class DiscreteSamplerTables {
+    /** Version of the table format. */
+    private static final int TABLE_FORMAT_VERSION = 1;
+    /** Size of the header: version, sampler type and table length. */
+    private static final int TABLE_HEADER_BYTES = 3 * Integer.BYTES;
+    /** Sampler type for the {@link AliasMethodDiscreteSampler}. */
+    private static final int ALIAS_METHOD = 1;
+    /** Sampler type for the {@link FastLoadedDiceRollerDiscreteSampler}. */
+    private static final int FAST_LOADED_DICE_ROLLER = 2;
+    /** Sampler type for the {@link MarsagliaTsangWangDiscreteSampler}. */
+    private static final int MARSAGLIA_TSANG_WANG = 3;
+    /** Message for an invalid table length. */
+    private static final String INVALID_TABLE_LENGTH = "Invalid table length: ";
+
+    /** Class contains only static methods. */
+    private DiscreteSamplerTables() {}
+
+    /**
+     * Checks if the tables of the sampler can be saved.
+     *
+     * @param sampler Sampler.
+     * @return true if supported
+     */
+    public static boolean isSupported(SharedStateDiscreteSampler sampler) {
+        return sampler instanceof AliasMethodDiscreteSampler ||
+            sampler instanceof FastLoadedDiceRollerDiscreteSampler ||
+            MarsagliaTsangWangDiscreteSampler.isSupported(sampler);
+    }
+
+    /**
+     * Gets the number of bytes required to save the tables of the sampler, including
+     * the header.
+     *
+     * @param sampler Sampler.
+     * @return the size in bytes
+     * @throws IllegalArgumentException if the sampler is not supported.
+     */
+    public static long getSize(SharedStateDiscreteSampler sampler) {
+        final long bytes;
+        switch (getType(sampler)) {
+        case ALIAS_METHOD:
+            bytes = getAliasMethodBytes((AliasMethodDiscreteSampler) sampler);
+            break;
+        case FAST_LOADED_DICE_ROLLER:
+            bytes = ((FastLoadedDiceRollerDiscreteSampler) sampler).getTableBytes();
+            break;
+        default:
+            bytes = MarsagliaTsangWangDiscreteSampler.getTableBytes(sampler);
+            break;
+        }
+        return TABLE_HEADER_BYTES + bytes;
+    }
+
+    /**
+     * Saves the tables of the sampler to the buffer. The tables are written at the
+     * current position of the buffer and the position is advanced to the end of the
+     * tables.
+     *
+     * @param sampler Sampler.
+     * @param buffer Buffer.
+     * @throws IllegalArgumentException if the sampler is not supported, or the size of
+     * the tables exceeds the maximum buffer size.
+     * @throws BufferOverflowException if the buffer has insufficient space
+     * remaining; the size is given by {@link #getSize(SharedStateDiscreteSampler)}.
+     */
+    public static void save(SharedStateDiscreteSampler sampler, ByteBuffer buffer) {
+        final int type = getType(sampler);
+        final long size = getSize(sampler);
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Table size exceeds maximum: " + size);
+        }
+        final ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            // Fail before writing if the tables do not fit
+            if (buffer.remaining() < size) {
+                throw new BufferOverflowException();
+            }
+            buffer.putInt(TABLE_FORMAT_VERSION)
+                  .putInt(type)
+                  .putInt((int) size - TABLE_HEADER_BYTES);
+            switch (type) {
+            case ALIAS_METHOD:
+                writeAliasMethod((AliasMethodDiscreteSampler) sampler, buffer);
+                break;
+            case FAST_LOADED_DICE_ROLLER:
+                ((FastLoadedDiceRollerDiscreteSampler) sampler).writeTable(buffer);
+                break;
+            default:
+                MarsagliaTsangWangDiscreteSampler.writeTable(sampler, buffer);
+                break;
+            }
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Loads a sampler from the tables in the buffer. The tables are read from the
+     * current position of the buffer and the position is advanced to the end of the
+     * tables.
+     *
+     * <p>The tables are copied from the buffer; the buffer is not used by the sampler.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param buffer Buffer.
+     * @return the sampler
+     * @throws IllegalStateException if the table format version or sampler type is not
+     * supported, or the tables are not consistent with the tables of the sampler type.
+     */
+    public static SharedStateDiscreteSampler load(UniformRandomProvider rng, ByteBuffer buffer) {
+        final ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            if (buffer.remaining() < TABLE_HEADER_BYTES) {
+                throw new IllegalStateException("Missing table header");
+            }
+            final int version = buffer.getInt();
+            if (version != TABLE_FORMAT_VERSION) {
+                throw new IllegalStateException("Unsupported table format version: " + version);
+            }
+            final int type = buffer.getInt();
+            final int length = buffer.getInt();
+            if (length < 0 || length > buffer.remaining()) {
+                throw new IllegalStateException(INVALID_TABLE_LENGTH + length);
+            }
+            // Limit reading to the tables
+            final int start = buffer.position();
+            final int limit = buffer.limit();
+            buffer.limit(start + length);
+            final SharedStateDiscreteSampler sampler;
+            try {
+                sampler = readTables(rng, type, buffer);
+            } catch (BufferUnderflowException ex) {
+                throw new IllegalStateException(INVALID_TABLE_LENGTH + length, ex);
+            } finally {
+                buffer.limit(limit);
+            }
+            if (buffer.position() != start + length) {
+                throw new IllegalStateException(INVALID_TABLE_LENGTH + length);
+            }
+            return sampler;
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Gets the sampler type.
+     *
+     * @param sampler Sampler.
+     * @return the type
+     * @throws IllegalArgumentException if the sampler is not supported.
+     */
+    private static int getType(SharedStateDiscreteSampler sampler) {
+        if (sampler instanceof AliasMethodDiscreteSampler) {
+            return ALIAS_METHOD;
+        }
+        if (sampler instanceof FastLoadedDiceRollerDiscreteSampler) {
+            return FAST_LOADED_DICE_ROLLER;
+        }
+        if (MarsagliaTsangWangDiscreteSampler.isSupported(sampler)) {
+            return MARSAGLIA_TSANG_WANG;
+        }
+        throw new IllegalArgumentException("Unsupported sampler: " + sampler);
+    }
+
+    /**
+     * Reads the sampler from the tables in the buffer.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param type Sampler type.
+     * @param buffer Buffer.
+     * @return the sampler
+     * @throws IllegalStateException if the sampler type is not supported, or the tables
+     * are not consistent with the tables of the sampler type.
+     */
+    private static SharedStateDiscreteSampler readTables(UniformRandomProvider rng, int type, ByteBuffer buffer) {
+        switch (type) {
+        case ALIAS_METHOD:
+            return readAliasMethod(rng, buffer);
+        case FAST_LOADED_DICE_ROLLER:
+            return FastLoadedDiceRollerDiscreteSampler.readTable(rng, buffer);
+        case MARSAGLIA_TSANG_WANG:
+            return MarsagliaTsangWangDiscreteSampler.readTable(rng, buffer);
+        default:
+            throw new IllegalStateException("Unsupported sampler type: " + type);
+        }
+    }
+
+    /**
+     * Gets the number of bytes required to save the alias method tables.
+     *
+     * @param sampler Sampler.
+     * @return the size in bytes
+     */
+    private static long getAliasMethodBytes(AliasMethodDiscreteSampler sampler) {
+        return 2L * Integer.BYTES +
+            (long) sampler.probability.length * Long.BYTES +
+            (long) sampler.alias.length * Integer.BYTES;
+    }
+
+    /**
+     * Writes the alias method tables. The probability table may be shorter than
+     * the alias table when the distribution was zero-padded.
+     *
+     * @param sampler Sampler.
+     * @param buffer Buffer.
+     */
+    private static void writeAliasMethod(AliasMethodDiscreteSampler sampler, ByteBuffer buffer) {
+        buffer.putInt(sampler.probability.length)
+              .putInt(sampler.alias.length);
+        putLongs(buffer, sampler.probability);
+        putInts(buffer, sampler.alias);
+    }
+
+    /**
+     * Reads the alias method tables.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param buffer Buffer.
+     * @return the sampler
+     * @throws IllegalStateException if the tables are not consistent
+     */
+    private static SharedStateDiscreteSampler readAliasMethod(UniformRandomProvider rng, ByteBuffer buffer) {
+        final int probabilityLength = buffer.getInt();
+        final int aliasLength = buffer.getInt();
+        if (aliasLength <= 0 || probabilityLength <= 0 || probabilityLength > aliasLength) {
+            throw new IllegalStateException("Invalid alias table size: " + aliasLength);
+        }
+        final long[] probability = getLongs(buffer, probabilityLength);
+        final int[] alias = getInts(buffer, aliasLength);
+        checkIndices(alias, aliasLength);
+        return AliasMethodDiscreteSampler.create(rng, probability, alias);
+    }
+
+    /**
+     * Check the values are valid indices into a table of the given length.
+     *
+     * @param values Values.
+     * @param length Table length.
+     * @throws IllegalStateException if a value is not in {@code [0, length)}
+     */
+    static void checkIndices(int[] values, int length) {
+        for (final int i : values) {
+            if (i < 0 || i >= length) {
+                throw new IllegalStateException("Invalid table index: " + i);
+            }
+        }
+    }
+
+    /**
+     * Check the buffer has sufficient space remaining for the array. This avoids
+     * allocating a large array from invalid tables.
+     *
+     * @param buffer Buffer.
+     * @param length Array length.
+     * @param bytes Size of each element in bytes.
+     * @throws IllegalStateException if the length is negative or too large
+     */
+    private static void checkRemaining(ByteBuffer buffer, int length, int bytes) {
+        if (length < 0 || (long) length * bytes > buffer.remaining()) {
+            throw new IllegalStateException("Invalid table size: " + length);
+        }
+    }
+
+    /**
+     * Writes the string as UTF-8 bytes preceded by the length.
+     *
+     * @param buffer Buffer.
+     * @param value Value.
+     */
+    static void putString(ByteBuffer buffer, String value) {
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        buffer.putInt(bytes.length).put(bytes);
+    }
+
+    /**
+     * Reads a string written using {@link #putString(ByteBuffer, String)}.
+     *
+     * @param buffer Buffer.
+     * @return the value
+     */
+    static String getString(ByteBuffer buffer) {
+        return StandardCharsets.UTF_8.decode(ByteBuffer.wrap(getBytes(buffer, buffer.getInt()))).toString();
+    }
+
+    /**
+     * Gets the number of bytes required to write the string.
+     *
+     * @param value Value.
+     * @return the size in bytes
+     */
+    static int getStringBytes(String value) {
+        return Integer.BYTES + value.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    /**
+     * Reads an array of the given length.
+     *
+     * @param buffer Buffer.
+     * @param length Array length.
+     * @return the values
+     * @throws IllegalStateException if the length is invalid
+     */
+    static byte[] getBytes(ByteBuffer buffer, int length) {
+        checkRemaining(buffer, length, Byte.BYTES);
+        final byte[] values = new byte[length];
+        buffer.get(values);
+        return values;
+    }
+
+    /**
+     * Writes the values. The buffer position is advanced by the size of the values.
+     *
+     * @param buffer Buffer.
+     * @param values Values.
+     */
+    static void putShorts(ByteBuffer buffer, short[] values) {
+        buffer.asShortBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Short.BYTES);
+    }
+
+    /**
+     * Reads an array of the given length. The buffer position is advanced by the size
+     * of the values.
+     *
+     * @param buffer Buffer.
+     * @param length Array length.
+     * @return the values
+     * @throws IllegalStateException if the length is invalid
+     */
+    static short[] getShorts(ByteBuffer buffer, int length) {
+        checkRemaining(buffer, length, Short.BYTES);
+        final short[] values = new short[length];
+        buffer.asShortBuffer().get(values);
+        buffer.position(buffer.position() + length * Short.BYTES);
+        return values;
+    }
+
+    /**
+     * Writes the values. The buffer position is advanced by the size of the values.
+     *
+     * @param buffer Buffer.
+     * @param values Values.
+     */
+    static void putInts(ByteBuffer buffer, int[] values) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    /**
+     * Reads an array of the given length. The buffer position is advanced by the size
+     * of the values.
+     *
+     * @param buffer Buffer.
+     * @param length Array length.
+     * @return the values
+     * @throws IllegalStateException if the length is invalid
+     */
+    static int[] getInts(ByteBuffer buffer, int length) {
+        checkRemaining(buffer, length, Integer.BYTES);
+        final int[] values = new int[length];
+        buffer.asIntBuffer().get(values);
+        buffer.position(buffer.position() + length * Integer.BYTES);
+        return values;
+    }
+
+    /**
+     * Writes the values. The buffer position is advanced by the size of the values.
+     *
+     * @param buffer Buffer.
+     * @param values Values.
+     */
+    private static void putLongs(ByteBuffer buffer, long[] values) {
+        buffer.asLongBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Long.BYTES);
+    }
+
+    /**
+     * Reads an array of the given length. The buffer position is advanced by the size
+     * of the values.
+     *
+     * @param buffer Buffer.
+     * @param length Array length.
+     * @return the values
+     * @throws IllegalStateException if the length is invalid
+     */
+    private static long[] getLongs(ByteBuffer buffer, int length) {
+        checkRemaining(buffer, length, Long.BYTES);
+        final long[] values = new long[length];
+        buffer.asLongBuffer().get(values);
+        buffer.position(buffer.position() + length * Long.BYTES);
+        return values;
+    }
+}
@@ -0,0 +1,327 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Arrays;
+import org.apache.commons.rng.UniformRandomProvider;
+
+/**
+ * Compute a sample from {@code n} values each with an associated weight. The weights can
+ * be updated, and new values added, after construction.
+ *
+ * <p>The weights are stored in a
+ * <a href="https://en.wikipedia.org/wiki/Fenwick_tree">Fenwick tree</a> (binary indexed
+ * tree) of partial sums. Sampling searches the tree from the root using a uniform deviate
+ * in {@code [0, W)} where {@code W} is the total weight. Sampling, updating a weight and
+ * adding a weight are {@code O(log n)}.</p>
+ *
+ * <p>Updates apply the change in weight to the partial sums and can accumulate round-off.
+ * The tree is recomputed from the weights after {@code n} updates, or when a search
+ * identifies a value with zero weight due to round-off. The amortized cost of an update
+ * remains {@code O(log n)}.</p>
+ *
+ * <p>Values are never removed; a value is excluded from sampling by setting its weight
+ * to zero. This ensures the sample value for each weight does not change.</p>
+ *
+ * <p>This sampler is not thread safe.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextDouble()}.</p>
+ *
+ * @see <a href="http://en.wikipedia.org/wiki/Probability_distribution#Discrete_probability_distribution">
+ * Discrete probability distribution (Wikipedia)</a>
+ * @since 1.7
+ */
+public final class DynamicDiscreteSampler
+    implements SharedStateDiscreteSampler {
+    /** The maximum capacity. This is the largest power of 2 for an array size. */
+    private static final int MAX_CAPACITY = 1 << 30;
+    /** The name of a weight. */
+    private static final String WEIGHT = "weight";
+    /** The name of the sum of the weights. */
+    private static final String SUM_OF_WEIGHTS = "sum of weights";
+
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** The weights. The length is the capacity which is a power of 2. */
+    private double[] weights;
+    /**
+     * The Fenwick tree of partial sums of the weights. This uses 1-based indexing;
+     * the length is {@code capacity + 1} and the last element is the total weight.
+     */
+    private double[] tree;
+    /** The number of values. */
+    private int count;
+    /** The number of values with a non-zero weight. */
+    private int positiveCount;
+    /** The number of updates to the tree since it was computed from the weights. */
+    private int updates;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param weights The weights. The length must be a power of 2.
+     * @param size The number of values.
+     */
+    private DynamicDiscreteSampler(UniformRandomProvider rng,
+                                   double[] weights,
+                                   int size) {
+        this.rng = rng;
+        this.weights = weights;
+        this.tree = new double[weights.length + 1];
+        this.count = size;
+        for (int i = 0; i < size; i++) {
+            if (weights[i] != 0) {
+                positiveCount++;
+            }
+        }
+        computeTree();
+    }
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param source Source to copy.
+     */
+    private DynamicDiscreteSampler(UniformRandomProvider rng,
+                                   DynamicDiscreteSampler source) {
+        this.rng = rng;
+        this.weights = source.weights.clone();
+        this.tree = source.tree.clone();
+        this.count = source.count;
+        this.positiveCount = source.positiveCount;
+        this.updates = source.updates;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @throws IllegalStateException if all the weights are zero.
+     */
+    @Override
+    public int sample() {
+        if (positiveCount == 0) {
+            throw new IllegalStateException("All weights are zero");
+        }
+        for (;;) {
+            final double[] t = tree;
+            final int capacity = t.length - 1;
+            final double total = t[capacity];
+            double u = rng.nextDouble() * total;
+            // Find the largest x where the sum of weights [0, x) is <= u.
+            // The root (total) is never <= u so the search starts at the next level.
+            int x = 0;
+            for (int step = capacity >>> 1; step != 0; step >>>= 1) {
+                final int next = x + step;
+                if (t[next] <= u) {
+                    x = next;
+                    u -= t[next];
+                }
+            }
+            // Round-off in the partial sums may identify a zero weight value,
+            // or a value outside the range when u is close to the total.
+            if (x < count && weights[x] != 0 && total > 0) {
+                return x;
+            }
+            // Exact partial sums only fail in the rare edge case where rounding
+            // computes u == total. Otherwise recompute the tree and repeat.
+            if (updates != 0) {
+                computeTree();
+            }
+        }
+    }
+
+    /**
+     * Gets the number of values.
+     *
+     * @return the size
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * Gets the weight of the value.
+     *
+     * @param index Index of the value.
+     * @return the weight
+     * @throws IndexOutOfBoundsException if {@code index < 0} or {@code index >= size()}
+     */
+    public double getWeight(int index) {
+        checkIndex(index);
+        return weights[index];
+    }
+
+    /**
+     * Gets the total weight. This is the sum of the partial sums used for sampling and
+     * is subject to round-off from updates of the weights.
+     *
+     * @return the total weight
+     */
+    public double getTotalWeight() {
+        return tree[tree.length - 1];
+    }
+
+    /**
+     * Sets the weight of the value.
+     *
+     * @param index Index of the value.
+     * @param weight Weight.
+     * @throws IndexOutOfBoundsException if {@code index < 0} or {@code index >= size()}
+     * @throws IllegalArgumentException if {@code weight} is negative, infinite or {@code NaN},
+     * or the sum of all weights is not finite.
+     */
+    public void setWeight(int index, double weight) {
+        checkIndex(index);
+        InternalUtils.requirePositiveFinite(weight, WEIGHT);
+        final double previous = weights[index];
+        final double delta = weight - previous;
+        InternalUtils.requireFinite(getTotalWeight() + delta, SUM_OF_WEIGHTS);
+        weights[index] = weight;
+        positiveCount += (weight == 0 ? 0 : 1) - (previous == 0 ? 0 : 1);
+        update(index, delta);
+    }
+
+    /**
+     * Adds a value with the given weight. The value is the current {@link #size()}.
+     *
+     * @param weight Weight.
+     * @return the value
+     * @throws IllegalArgumentException if {@code weight} is negative, infinite or {@code NaN},
+     * or the sum of all weights is not finite.
+     * @throws IllegalStateException if the maximum size has been reached.
+     */
+    public int add(double weight) {
+        InternalUtils.requirePositiveFinite(weight, WEIGHT);
+        InternalUtils.requireFinite(getTotalWeight() + weight, SUM_OF_WEIGHTS);
+        final int index = count;
+        if (index == weights.length) {
+            if (index == MAX_CAPACITY) {
+                throw new IllegalStateException("Maximum size reached: " + MAX_CAPACITY);
+            }
+            // Doubling the capacity changes the tree root. Recompute the tree.
+            weights = Arrays.copyOf(weights, index << 1);
+            weights[index] = weight;
+            tree = new double[weights.length + 1];
+            count = index + 1;
+            computeTree();
+        } else {
+            weights[index] = weight;
+            count = index + 1;
+            update(index, weight);
+        }
+        if (weight != 0) {
+            positiveCount++;
+        }
+        return index;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Dynamic discrete deviate [" + rng.toString() + "]";
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * <p>The new sampler has a copy of the current weights. Subsequent changes to the
+     * weights are not shared.</p>
+     */
+    @Override
+    public DynamicDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new DynamicDiscreteSampler(rng, this);
+    }
+
+    /**
+     * Create a new sampler for an enumerated distribution using the given {@code weights}.
+     * The samples corresponding to each weight are assumed to be a natural sequence
+     * starting at zero.
+     *
+     * <p>The weights may be empty or all zero; values with a positive weight must be
+     * set before sampling.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param weights The weights.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code weights} is null, a weight is negative,
+     * infinite or {@code NaN}, or the sum of all weights is not finite.
+     */
+    public static DynamicDiscreteSampler of(UniformRandomProvider rng,
+                                            double[] weights) {
+        if (weights == null) {
+            throw new IllegalArgumentException("Weights must not be null.");
+        }
+        final int size = weights.length;
+        if (size > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Size exceeds maximum: " + MAX_CAPACITY);
+        }
+        // Smallest power of 2 >= size (minimum 1)
+        final int capacity = size <= 1 ? 1 : Integer.highestOneBit(size - 1) << 1;
+        final double[] w = Arrays.copyOf(weights, capacity);
+        for (int i = 0; i < size; i++) {
+            InternalUtils.requirePositiveFinite(w[i], WEIGHT);
+        }
+        final DynamicDiscreteSampler sampler = new DynamicDiscreteSampler(rng, w, size);
+        InternalUtils.requireFinite(sampler.getTotalWeight(), SUM_OF_WEIGHTS);
+        return sampler;
+    }
+
+    /**
+     * Check the index is within the range of the values.
+     *
+     * @param index Index.
+     * @throws IndexOutOfBoundsException if {@code index < 0} or {@code index >= size()}
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException(
+                String.format("Index %d out of bounds for length %d", index, count));
+        }
+    }
+
+    /**
+     * Add the change in weight to the partial sums. The tree is recomputed from the
+     * weights if the number of updates exceeds the size.
+     *
+     * @param index Index of the value.
+     * @param delta Change in weight.
+     */
+    private void update(int index, double delta) {
+        updates++;
+        if (updates > count) {
+            computeTree();
+            return;
+        }
+        final double[] t = tree;
+        for (int i = index + 1; i < t.length; i += i & -i) {
+            t[i] += delta;
+        }
+    }
+
+    /**
+     * Compute the partial sums in the tree from the weights in {@code O(n)}.
+     */
+    private void computeTree() {
+        final double[] t = tree;
+        System.arraycopy(weights, 0, t, 1, weights.length);
+        for (int i = 1; i < t.length; i++) {
+            final int parent = i + (i & -i);
+            if (parent < t.length) {
+                t[parent] += t[i];
+            }
+        }
+        updates = 0;
+    }
+}
@@ -17,6 +17,7 @@
 package org.apache.commons.rng.sampling.distribution;
 
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import org.apache.commons.rng.UniformRandomProvider;
 
@@ -83,6 +84,10 @@ public abstract class FastLoadedDiceRollerDiscreteSampler
     private static final int NO_LABEL = Integer.MAX_VALUE;
     /** Name of the sampler. */
     private static final String SAMPLER_NAME = "Fast Loaded Dice Roller";
+    /** Table type for the {@link FixedValueDiscreteSampler}. */
+    private static final int FIXED_VALUE_TABLE = 0;
+    /** Table type for the {@link FLDRSampler}. */
+    private static final int FLDR_TABLE = 1;
 
     /**
      * Class to handle the edge case of observations in only one category.
@@ -112,6 +117,17 @@ public abstract class FastLoadedDiceRollerDiscreteSampler
         public String toString() {
             return SAMPLER_NAME;
         }
+
+        @Override
+        long getTableBytes() {
+            return 2 * Integer.BYTES;
+        }
+
+        @Override
+        void writeTable(ByteBuffer buffer) {
+            buffer.putInt(FIXED_VALUE_TABLE)
+                  .putInt(sampleValue);
+        }
     }
 
     /**
@@ -245,6 +261,20 @@ public abstract class FastLoadedDiceRollerDiscreteSampler
         public FastLoadedDiceRollerDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new FLDRSampler(rng, this);
         }
+
+        @Override
+        long getTableBytes() {
+            return 3L * Integer.BYTES + ((long) h.length + lH.length) * Integer.BYTES;
+        }
+
+        @Override
+        void writeTable(ByteBuffer buffer) {
+            buffer.putInt(FLDR_TABLE)
+                  .putInt(n)
+                  .putInt(k);
+            DiscreteSamplerTables.putInts(buffer, h);
+            DiscreteSamplerTables.putInts(buffer, lH);
+        }
     }
 
     /** Package-private constructor. */
@@ -257,6 +287,58 @@ public abstract class FastLoadedDiceRollerDiscreteSampler
     @Override
     public abstract FastLoadedDiceRollerDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng);
 
+    /**
+     * Gets the number of bytes required to write the tables.
+     *
+     * @return the size in bytes
+     * @see DiscreteSamplerTables
+     */
+    abstract long getTableBytes();
+
+    /**
+     * Writes the tables to the buffer.
+     *
+     * @param buffer Buffer.
+     * @see DiscreteSamplerTables
+     */
+    abstract void writeTable(ByteBuffer buffer);
+
+    /**
+     * Reads a sampler from the tables in the buffer written using
+     * {@link #writeTable(ByteBuffer)}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param buffer Buffer.
+     * @return the sampler
+     * @throws IllegalStateException if the tables are not consistent
+     * @see DiscreteSamplerTables
+     */
+    static FastLoadedDiceRollerDiscreteSampler readTable(UniformRandomProvider rng, ByteBuffer buffer) {
+        final int type = buffer.getInt();
+        if (type == FIXED_VALUE_TABLE) {
+            return new FixedValueDiscreteSampler(buffer.getInt());
+        }
+        if (type != FLDR_TABLE) {
+            throw new IllegalStateException("Invalid table type: " + type);
+        }
+        final int n = buffer.getInt();
+        final int k = buffer.getInt();
+        // k = ceil(log2(m)) where m is the sum of the frequencies
+        if (n <= 0 || k <= 0 || (n + 1L) * k > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("Invalid table size: n=" + n + ", k=" + k);
+        }
+        final int[] h = DiscreteSamplerTables.getInts(buffer, k);
+        final int[] lH = DiscreteSamplerTables.getInts(buffer, (n + 1) * k);
+        // Leaf node counts index the labels; labels outside [0, n] must be empty
+        DiscreteSamplerTables.checkIndices(h, n + 2);
+        for (final int z : lH) {
+            if ((z < 0 || z > n) && z != NO_LABEL) {
+                throw new IllegalStateException("Invalid table label: " + z);
+            }
+        }
+        return new FLDRSampler(rng, n, k, h, lH);
+    }
+
     /**
      * Creates a sampler.
      *
@@ -18,6 +18,10 @@ package org.apache.commons.rng.sampling.distribution;
 
 import org.apache.commons.rng.UniformRandomProvider;
 
+import java.util.Arrays;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.IntStream;
+
 /**
  * Compute a sample from {@code n} values each with an associated probability. If all unique items
  * are assigned the same probability it is more efficient to use the {@link DiscreteUniformSampler}.
@@ -43,6 +47,8 @@ public final class GuideTableDiscreteSampler
     implements SharedStateDiscreteSampler {
     /** The default value for {@code alpha}. */
     private static final double DEFAULT_ALPHA = 1.0;
+    /** The name of the sum of the probabilities. */
+    private static final String SUM_OF_PROBABILITIES = "sum of probabilities";
     /** Underlying source of randomness. */
     private final UniformRandomProvider rng;
     /**
@@ -97,6 +103,25 @@ public final class GuideTableDiscreteSampler
         return x;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public void sample(int[] out, int offset, int length) {
+        InternalUtils.validateFromIndexSize(offset, length, out.length);
+        // Duplicate of the sample() method using local variables
+        final UniformRandomProvider r = rng;
+        final double[] cdf = cumulativeProbabilities;
+        final int[] guide = guideTable;
+        final int to = offset + length;
+        for (int i = offset; i < to; i++) {
+            final double u = r.nextDouble();
+            int x = guide[getGuideTableIndex(u, guide.length)];
+            while (x != 0 && u <= cdf[x - 1]) {
+                x--;
+            }
+            out[i] = x;
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public String toString() {
@@ -155,16 +180,12 @@ public final class GuideTableDiscreteSampler
         int count = 0;
         for (final double prob : probabilities) {
             // Compute and store cumulative probability.
-            sumProb += InternalUtils.requirePositiveFinite(prob, "probability");
+            sumProb += validateProbability(prob);
             cumulativeProbabilities[count++] = sumProb;
         }
 
-        InternalUtils.requireStrictlyPositiveFinite(sumProb, "sum of probabilities");
-
-        // Note: The guide table is at least length 1. Compute the size avoiding overflow
-        // in case (alpha * size) is too large.
-        final int guideTableSize = (int) Math.ceil(alpha * size);
-        final int[] guideTable = new int[Math.max(guideTableSize, guideTableSize + 1)];
+        InternalUtils.requireStrictlyPositiveFinite(sumProb, SUM_OF_PROBABILITIES);
+        final int[] guideTable = createGuideTable(alpha, size);
 
         // Compute and store cumulative probability.
         for (int x = 0; x < size; x++) {
@@ -193,6 +214,77 @@ public final class GuideTableDiscreteSampler
         return new GuideTableDiscreteSampler(rng, cumulativeProbabilities, guideTable);
     }
 
+    /**
+     * Create a new sampler for an enumerated distribution using parallel construction of
+     * the tables. The samples corresponding to each probability are assumed to be a natural
+     * sequence starting at zero.
+     *
+     * <p>The probabilities are obtained from a function of the index in {@code [0, size)}.
+     * This allows construction from a primitive source such as an off-heap
+     * {@link java.nio.DoubleBuffer} using {@code buffer::get} without creating a copy
+     * of the probabilities. The function is called once for each index from
+     * multiple threads.</p>
+     *
+     * <p>The size of the guide table is {@code alpha * size}.</p>
+     *
+     * <p>Construction uses the common {@link java.util.concurrent.ForkJoinPool}. The
+     * cumulative probability table is computed using a parallel prefix sum and the guide
+     * table using a parallel prefix maximum. The sampler is equivalent to the sampler
+     * created by {@link #of(UniformRandomProvider, double[], double)}; the cumulative
+     * probabilities may differ due to floating-point round-off.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param size The number of probabilities.
+     * @param probabilities The function to obtain each probability.
+     * @param alpha The alpha factor used to set the guide table size.
+     * @return the sampler
+     * @throws IllegalArgumentException if {@code size} is not strictly positive, a
+     * probability is negative, infinite or {@code NaN}, the sum of all
+     * probabilities is not strictly positive, or {@code alpha} is not strictly positive.
+     * @since 1.7
+     */
+    public static SharedStateDiscreteSampler ofParallel(UniformRandomProvider rng,
+                                                        int size,
+                                                        IntToDoubleFunction probabilities,
+                                                        double alpha) {
+        validateParameters(size, alpha);
+
+        final double[] cumulativeProbabilities = new double[size];
+        Arrays.parallelSetAll(cumulativeProbabilities,
+            i -> validateProbability(probabilities.applyAsDouble(i)));
+        Arrays.parallelPrefix(cumulativeProbabilities, Double::sum);
+        final double sumProb = cumulativeProbabilities[size - 1];
+
+        InternalUtils.requireStrictlyPositiveFinite(sumProb, SUM_OF_PROBABILITIES);
+        final int[] guideTable = createGuideTable(alpha, size);
+
+        // Normalise the cumulative probability
+        Arrays.parallelSetAll(cumulativeProbabilities, x -> {
+            final double norm = cumulativeProbabilities[x] / sumProb;
+            return (norm < 1) ? norm : 1.0;
+        });
+        // Edge case for round-off
+        cumulativeProbabilities[size - 1] = 1.0;
+
+        // Set the guide table value as an exclusive upper bound (x + 1).
+        // The index is non-decreasing with x. Only the largest x for each index is
+        // written so each table entry is set by a single thread.
+        final int last = guideTable.length - 1;
+        IntStream.range(0, size - 1).parallel().forEach(x -> {
+            final int index = getGuideTableIndex(cumulativeProbabilities[x], guideTable.length);
+            if (index != getGuideTableIndex(cumulativeProbabilities[x + 1], guideTable.length)) {
+                guideTable[index] = x + 1;
+            }
+        });
+        // The final guide table entry is (maximum value of x + 1)
+        guideTable[last] = size;
+
+        // Fill missing values in the guide table.
+        Arrays.parallelPrefix(guideTable, Math::max);
+
+        return new GuideTableDiscreteSampler(rng, cumulativeProbabilities, guideTable);
+    }
+
     /**
      * Validate the parameters.
      *
@@ -202,12 +294,49 @@ public final class GuideTableDiscreteSampler
      * {@code alpha} is not strictly positive.
      */
     private static void validateParameters(double[] probabilities, double alpha) {
-        if (probabilities == null || probabilities.length == 0) {
+        validateParameters(probabilities == null ? 0 : probabilities.length, alpha);
+    }
+
+    /**
+     * Validate the parameters.
+     *
+     * @param size The number of probabilities.
+     * @param alpha The alpha factor used to set the guide table size.
+     * @throws IllegalArgumentException if {@code size} is not strictly positive, or
+     * {@code alpha} is not strictly positive.
+     */
+    private static void validateParameters(int size, double alpha) {
+        if (size <= 0) {
             throw new IllegalArgumentException("Probabilities must not be empty.");
         }
         InternalUtils.requireStrictlyPositive(alpha, "alpha");
     }
 
+    /**
+     * Validate the probability.
+     *
+     * @param probability The probability.
+     * @return the probability
+     * @throws IllegalArgumentException if {@code probability} is negative, infinite or {@code NaN}.
+     */
+    private static double validateProbability(double probability) {
+        return InternalUtils.requirePositiveFinite(probability, "probability");
+    }
+
+    /**
+     * Create the guide table. The size is {@code alpha * size} with a minimum of 1.
+     *
+     * @param alpha The alpha factor used to set the guide table size.
+     * @param size The number of probabilities.
+     * @return the guide table
+     */
+    private static int[] createGuideTable(double alpha, int size) {
+        // Note: The guide table is at least length 1. Compute the size avoiding overflow
+        // in case (alpha * size) is too large.
+        final int guideTableSize = (int) Math.ceil(alpha * size);
+        return new int[Math.max(guideTableSize, guideTableSize + 1)];
+    }
+
     /**
      * Gets the guide table index for the probability. This is obtained using
      * {@code p * (tableLength - 1)} so is inside the length of the table.
@@ -242,6 +242,28 @@ final class InternalUtils {
         return (NormalizedGaussianSampler) newSampler;
     }
 
+    /**
+     * Checks if the sub-range from {@code fromIndex} (inclusive) to {@code fromIndex + size}
+     * (exclusive) is within the bounds of range from 0 (inclusive) to {@code length} (exclusive).
+     *
+     * <p>This provides the functionality of {@code java.util.Objects.checkFromIndexSize}
+     * introduced in JDK 9. The {@code length} is assumed to be an array length.
+     *
+     * @param fromIndex Lower-bound (inclusive) of the sub-range.
+     * @param size Size of the sub-range.
+     * @param length Upper-bound (exclusive) of the range.
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    static void validateFromIndexSize(int fromIndex, int size, int length) {
+        // Overflow safe check given the values are all positive
+        if ((fromIndex | size) < 0 || size > length - fromIndex) {
+            throw new IndexOutOfBoundsException(
+                // Note: %<d is 'relative indexing' to re-use the last argument
+                String.format("Range [%d, %<d + %d) out of bounds for length %d",
+                    fromIndex, size, length));
+        }
+    }
+
     /**
      * Creates a {@code double} in the interval {@code [0, 1)} from a {@code long} value.
      *
@@ -31,6 +31,28 @@ public interface LongSampler {
      */
     long sample();
 
+    /**
+     * Generates {@code long} samples and places them into the given array.
+     *
+     * <p>The default implementation repeatedly calls {@link #sample() sample}().
+     * Implementations may override this method to reduce the per-sample overhead; the
+     * generated samples should match those of repeated calls to {@link #sample() sample}().
+     *
+     * @param out Array in which to put the samples.
+     * @param offset Index at which to start inserting the samples.
+     * @param length Number of samples to generate.
+     * @throws IndexOutOfBoundsException if {@code offset < 0} or {@code length < 0}
+     * or {@code offset + length > out.length}
+     * @since 1.7
+     */
+    default void sample(long[] out, int offset, int length) {
+        InternalUtils.validateFromIndexSize(offset, length, out.length);
+        final int to = offset + length;
+        for (int i = offset; i < to; i++) {
+            out[i] = sample();
+        }
+    }
+
     /**
      * Returns an effectively unlimited stream of {@code long} sample values.
      *
@@ -50,12 +72,13 @@ public interface LongSampler {
      *
      * <p>The default implementation produces a sequential stream that repeatedly
      * calls {@link #sample sample}(); the stream is limited to the given {@code streamSize}.
+     * The stream is {@link java.util.Spliterator#SIZED sized}.
      *
      * @param streamSize Number of values to generate.
      * @return a stream of {@code long} values.
      * @since 1.5
      */
     default LongStream samples(long streamSize) {
-        return samples().limit(streamSize);
+        return SamplerSpliterators.samples(this, streamSize);
     }
 }
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.nio.ByteBuffer;
 import org.apache.commons.rng.UniformRandomProvider;
 
 /**
@@ -58,6 +59,16 @@ public final class MarsagliaTsangWangDiscreteSampler {
     private static final int INT_30 = 1 << 30;
     /** The value 2<sup>31</sup> as a {@code double}. */
     private static final double DOUBLE_31 = 1L << 31;
+    /** Table type for the {@link MarsagliaTsangWangBase64Int8DiscreteSampler}. */
+    private static final int INT_8_TABLE = 0;
+    /** Table type for the {@link MarsagliaTsangWangBase64Int16DiscreteSampler}. */
+    private static final int INT_16_TABLE = 1;
+    /** Table type for the {@link MarsagliaTsangWangBase64Int32DiscreteSampler}. */
+    private static final int INT_32_TABLE = 2;
+    /** Table type for the {@code MarsagliaTsangWangFixedResultBinomialSampler}. */
+    private static final int FIXED_RESULT_TABLE = 3;
+    /** Table type for the {@code MarsagliaTsangWangInversionBinomialSampler}. */
+    private static final int INVERSION_TABLE = 4;
 
     // =========================================================================
     // Implementation note:
@@ -121,6 +132,49 @@ public final class MarsagliaTsangWangDiscreteSampler {
         public String toString() {
             return "Marsaglia Tsang Wang " + distributionName + " deviate [" + rng.toString() + "]";
         }
+
+        /**
+         * Gets the number of bytes required to write the tables.
+         *
+         * @return the size in bytes
+         */
+        abstract long getTableBytes();
+
+        /**
+         * Writes the tables to the buffer.
+         *
+         * @param buffer Buffer.
+         */
+        abstract void writeTable(ByteBuffer buffer);
+
+        /**
+         * Gets the number of bytes required to write the look-up tables using
+         * {@link #writeLookupTables(ByteBuffer, int, int, int, int, int, int)}, excluding
+         * the table data.
+         *
+         * @return the size in bytes
+         */
+        long getLookupTablesHeaderBytes() {
+            return Integer.BYTES + DiscreteSamplerTables.getStringBytes(distributionName) + 5L * Integer.BYTES;
+        }
+
+        /**
+         * Writes the table type, distribution name and the length of each look-up table.
+         * The table data must be written by the caller.
+         *
+         * @param buffer Buffer.
+         * @param type Table type.
+         * @param n1 Length of look-up table 1.
+         * @param n2 Length of look-up table 2.
+         * @param n3 Length of look-up table 3.
+         * @param n4 Length of look-up table 4.
+         * @param n5 Length of look-up table 5.
+         */
+        void writeLookupTables(ByteBuffer buffer, int type, int n1, int n2, int n3, int n4, int n5) {
+            buffer.putInt(type);
+            DiscreteSamplerTables.putString(buffer, distributionName);
+            buffer.putInt(n1).putInt(n2).putInt(n3).putInt(n4).putInt(n5);
+        }
     }
 
     /**
@@ -222,6 +276,37 @@ public final class MarsagliaTsangWangDiscreteSampler {
             table5 = source.table5;
         }
 
+        /**
+         * Creates a sampler using the look-up tables. The limits for each look-up
+         * table are computed from the table lengths.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param distributionName Distribution name.
+         * @param table1 Look-up table table1.
+         * @param table2 Look-up table table2.
+         * @param table3 Look-up table table3.
+         * @param table4 Look-up table table4.
+         * @param table5 Look-up table table5.
+         */
+        MarsagliaTsangWangBase64Int8DiscreteSampler(UniformRandomProvider rng,
+                                                    String distributionName,
+                                                    byte[] table1,
+                                                    byte[] table2,
+                                                    byte[] table3,
+                                                    byte[] table4,
+                                                    byte[] table5) {
+            super(rng, distributionName);
+            t1 = table1.length << 24;
+            t2 = t1 + (table2.length << 18);
+            t3 = t2 + (table3.length << 12);
+            t4 = t3 + (table4.length << 6);
+            this.table1 = table1;
+            this.table2 = table2;
+            this.table3 = table3;
+            this.table4 = table4;
+            this.table5 = table5;
+        }
+
         /**
          * Fill the table with the value.
          *
@@ -263,6 +348,19 @@ public final class MarsagliaTsangWangDiscreteSampler {
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new MarsagliaTsangWangBase64Int8DiscreteSampler(rng, this);
         }
+
+        @Override
+        long getTableBytes() {
+            return getLookupTablesHeaderBytes() +
+                ((long) table1.length + table2.length + table3.length + table4.length + table5.length);
+        }
+
+        @Override
+        void writeTable(ByteBuffer buffer) {
+            writeLookupTables(buffer, INT_8_TABLE,
+                table1.length, table2.length, table3.length, table4.length, table5.length);
+            buffer.put(table1).put(table2).put(table3).put(table4).put(table5);
+        }
     }
 
     /**
@@ -364,6 +462,37 @@ public final class MarsagliaTsangWangDiscreteSampler {
             table5 = source.table5;
         }
 
+        /**
+         * Creates a sampler using the look-up tables. The limits for each look-up
+         * table are computed from the table lengths.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param distributionName Distribution name.
+         * @param table1 Look-up table table1.
+         * @param table2 Look-up table table2.
+         * @param table3 Look-up table table3.
+         * @param table4 Look-up table table4.
+         * @param table5 Look-up table table5.
+         */
+        MarsagliaTsangWangBase64Int16DiscreteSampler(UniformRandomProvider rng,
+                                                     String distributionName,
+                                                     short[] table1,
+                                                     short[] table2,
+                                                     short[] table3,
+                                                     short[] table4,
+                                                     short[] table5) {
+            super(rng, distributionName);
+            t1 = table1.length << 24;
+            t2 = t1 + (table2.length << 18);
+            t3 = t2 + (table3.length << 12);
+            t4 = t3 + (table4.length << 6);
+            this.table1 = table1;
+            this.table2 = table2;
+            this.table3 = table3;
+            this.table4 = table4;
+            this.table5 = table5;
+        }
+
         /**
          * Fill the table with the value.
          *
@@ -405,6 +534,23 @@ public final class MarsagliaTsangWangDiscreteSampler {
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new MarsagliaTsangWangBase64Int16DiscreteSampler(rng, this);
         }
+
+        @Override
+        long getTableBytes() {
+            return getLookupTablesHeaderBytes() +
+                ((long) table1.length + table2.length + table3.length + table4.length + table5.length) * Short.BYTES;
+        }
+
+        @Override
+        void writeTable(ByteBuffer buffer) {
+            writeLookupTables(buffer, INT_16_TABLE,
+                table1.length, table2.length, table3.length, table4.length, table5.length);
+            DiscreteSamplerTables.putShorts(buffer, table1);
+            DiscreteSamplerTables.putShorts(buffer, table2);
+            DiscreteSamplerTables.putShorts(buffer, table3);
+            DiscreteSamplerTables.putShorts(buffer, table4);
+            DiscreteSamplerTables.putShorts(buffer, table5);
+        }
     }
 
     /**
@@ -502,6 +648,37 @@ public final class MarsagliaTsangWangDiscreteSampler {
             table5 = source.table5;
         }
 
+        /**
+         * Creates a sampler using the look-up tables. The limits for each look-up
+         * table are computed from the table lengths.
+         *
+         * @param rng Generator of uniformly distributed random numbers.
+         * @param distributionName Distribution name.
+         * @param table1 Look-up table table1.
+         * @param table2 Look-up table table2.
+         * @param table3 Look-up table table3.
+         * @param table4 Look-up table table4.
+         * @param table5 Look-up table table5.
+         */
+        MarsagliaTsangWangBase64Int32DiscreteSampler(UniformRandomProvider rng,
+                                                     String distributionName,
+                                                     int[] table1,
+                                                     int[] table2,
+                                                     int[] table3,
+                                                     int[] table4,
+                                                     int[] table5) {
+            super(rng, distributionName);
+            t1 = table1.length << 24;
+            t2 = t1 + (table2.length << 18);
+            t3 = t2 + (table3.length << 12);
+            t4 = t3 + (table4.length << 6);
+            this.table1 = table1;
+            this.table2 = table2;
+            this.table3 = table3;
+            this.table4 = table4;
+            this.table5 = table5;
+        }
+
         /**
          * Fill the table with the value.
          *
@@ -543,6 +720,23 @@ public final class MarsagliaTsangWangDiscreteSampler {
         public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider rng) {
             return new MarsagliaTsangWangBase64Int32DiscreteSampler(rng, this);
         }
+
+        @Override
+        long getTableBytes() {
+            return getLookupTablesHeaderBytes() +
+                ((long) table1.length + table2.length + table3.length + table4.length + table5.length) * Integer.BYTES;
+        }
+
+        @Override
+        void writeTable(ByteBuffer buffer) {
+            writeLookupTables(buffer, INT_32_TABLE,
+                table1.length, table2.length, table3.length, table4.length, table5.length);
+            DiscreteSamplerTables.putInts(buffer, table1);
+            DiscreteSamplerTables.putInts(buffer, table2);
+            DiscreteSamplerTables.putInts(buffer, table3);
+            DiscreteSamplerTables.putInts(buffer, table4);
+            DiscreteSamplerTables.putInts(buffer, table5);
+        }
     }
 
 
@@ -602,6 +796,107 @@ public final class MarsagliaTsangWangDiscreteSampler {
         return new MarsagliaTsangWangBase64Int32DiscreteSampler(rng, distributionName, prob, offset);
     }
 
+    /**
+     * Checks if the sampler is a Marsaglia-Tsang-Wang sampler.
+     *
+     * @param sampler Sampler.
+     * @return true if a Marsaglia-Tsang-Wang sampler
+     * @see DiscreteSamplerTables
+     */
+    static boolean isSupported(SharedStateDiscreteSampler sampler) {
+        return sampler instanceof AbstractMarsagliaTsangWangDiscreteSampler;
+    }
+
+    /**
+     * Gets the number of bytes required to write the tables of the sampler.
+     *
+     * @param sampler Sampler.
+     * @return the size in bytes
+     * @see DiscreteSamplerTables
+     */
+    static long getTableBytes(SharedStateDiscreteSampler sampler) {
+        return ((AbstractMarsagliaTsangWangDiscreteSampler) sampler).getTableBytes();
+    }
+
+    /**
+     * Writes the tables of the sampler to the buffer.
+     *
+     * @param sampler Sampler.
+     * @param buffer Buffer.
+     * @see DiscreteSamplerTables
+     */
+    static void writeTable(SharedStateDiscreteSampler sampler, ByteBuffer buffer) {
+        ((AbstractMarsagliaTsangWangDiscreteSampler) sampler).writeTable(buffer);
+    }
+
+    /**
+     * Reads a sampler from the tables in the buffer written using
+     * {@link #writeTable(SharedStateDiscreteSampler, ByteBuffer)}.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param buffer Buffer.
+     * @return the sampler
+     * @throws IllegalStateException if the tables are not consistent
+     * @see DiscreteSamplerTables
+     */
+    static SharedStateDiscreteSampler readTable(UniformRandomProvider rng, ByteBuffer buffer) {
+        final int type = buffer.getInt();
+        if (type == FIXED_RESULT_TABLE) {
+            return new Binomial.MarsagliaTsangWangFixedResultBinomialSampler(buffer.getInt());
+        }
+        if (type == INVERSION_TABLE) {
+            final int trials = buffer.getInt();
+            // The inverted sampler is always a look-up table sampler
+            return new Binomial.MarsagliaTsangWangInversionBinomialSampler(trials,
+                readLookupTable(rng, buffer, buffer.getInt()));
+        }
+        return readLookupTable(rng, buffer, type);
+    }
+
+    /**
+     * Reads a look-up table sampler from the tables in the buffer.
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param buffer Buffer.
+     * @param type Table type.
+     * @return the sampler
+     * @throws IllegalStateException if the tables are not consistent
+     */
+    private static SharedStateDiscreteSampler readLookupTable(UniformRandomProvider rng,
+                                                              ByteBuffer buffer,
+                                                              int type) {
+        if (type < INT_8_TABLE || type > INT_32_TABLE) {
+            throw new IllegalStateException("Invalid table type: " + type);
+        }
+        final String distributionName = DiscreteSamplerTables.getString(buffer);
+        final int n1 = buffer.getInt();
+        final int n2 = buffer.getInt();
+        final int n3 = buffer.getInt();
+        final int n4 = buffer.getInt();
+        final int n5 = buffer.getInt();
+        // The tables must cover all indices in [0, 2^30) and the limits must not overflow
+        final long t4 = ((long) n1 << 24) + ((long) n2 << 18) + ((long) n3 << 12) + ((long) n4 << 6);
+        if ((n1 | n2 | n3 | n4 | n5) < 0 || t4 > Integer.MAX_VALUE || t4 + n5 < INT_30) {
+            throw new IllegalStateException("Invalid look-up table sizes");
+        }
+        if (type == INT_8_TABLE) {
+            return new MarsagliaTsangWangBase64Int8DiscreteSampler(rng, distributionName,
+                DiscreteSamplerTables.getBytes(buffer, n1), DiscreteSamplerTables.getBytes(buffer, n2),
+                DiscreteSamplerTables.getBytes(buffer, n3), DiscreteSamplerTables.getBytes(buffer, n4),
+                DiscreteSamplerTables.getBytes(buffer, n5));
+        }
+        if (type == INT_16_TABLE) {
+            return new MarsagliaTsangWangBase64Int16DiscreteSampler(rng, distributionName,
+                DiscreteSamplerTables.getShorts(buffer, n1), DiscreteSamplerTables.getShorts(buffer, n2),
+                DiscreteSamplerTables.getShorts(buffer, n3), DiscreteSamplerTables.getShorts(buffer, n4),
+                DiscreteSamplerTables.getShorts(buffer, n5));
+        }
+        return new MarsagliaTsangWangBase64Int32DiscreteSampler(rng, distributionName,
+            DiscreteSamplerTables.getInts(buffer, n1), DiscreteSamplerTables.getInts(buffer, n2),
+            DiscreteSamplerTables.getInts(buffer, n3), DiscreteSamplerTables.getInts(buffer, n4),
+            DiscreteSamplerTables.getInts(buffer, n5));
+    }
+
     // =========================================================================
     // The following public classes provide factory methods to construct a sampler for:
     // - Enumerated probability distribution (from provided double[] probabilities)
@@ -919,6 +1214,17 @@ public final class MarsagliaTsangWangDiscreteSampler {
                 // No shared state
                 return this;
             }
+
+            @Override
+            long getTableBytes() {
+                return 2 * Integer.BYTES;
+            }
+
+            @Override
+            void writeTable(ByteBuffer buffer) {
+                buffer.putInt(FIXED_RESULT_TABLE)
+                      .putInt(result);
+            }
         }
 
         /**
@@ -962,6 +1268,18 @@ public final class MarsagliaTsangWangDiscreteSampler {
                 return new MarsagliaTsangWangInversionBinomialSampler(this.trials,
                     this.sampler.withUniformRandomProvider(rng));
             }
+
+            @Override
+            long getTableBytes() {
+                return 2 * Integer.BYTES + MarsagliaTsangWangDiscreteSampler.getTableBytes(sampler);
+            }
+
+            @Override
+            void writeTable(ByteBuffer buffer) {
+                buffer.putInt(INVERSION_TABLE)
+                      .putInt(trials);
+                MarsagliaTsangWangDiscreteSampler.writeTable(sampler, buffer);
+            }
         }
 
         /** Class contains only static methods. */
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.SharedStateObjectSampler;
+
+/**
+ * Sampling from a <a href="https://en.wikipedia.org/wiki/Multivariate_normal_distribution">
+ * multivariate normal distribution</a>.
+ *
+ * <p>The sampler computes the Cholesky factorisation {@code L} of the covariance matrix
+ * {@code C = L L^T} on construction. A sample is created from a vector {@code z} of
+ * independent standard normal deviates as {@code x = mean + L z}. The factor is shared
+ * by instances created using {@link #withUniformRandomProvider(UniformRandomProvider)}.</p>
+ *
+ * <p>Sampling uses {@link UniformRandomProvider#nextLong()}.</p>
+ *
+ * @see <a href="https://en.wikipedia.org/wiki/Cholesky_decomposition">Cholesky decomposition</a>
+ * @since 1.7
+ */
+public final class MultivariateNormalSampler implements SharedStateObjectSampler<double[]> {
+    /** Underlying source of randomness. */
+    private final UniformRandomProvider rng;
+    /** Sampler for the standard normal deviates. */
+    private final ZigguratSampler.NormalizedGaussian gaussian;
+    /** The mean. */
+    private final double[] mean;
+    /** The lower triangular Cholesky factor of the covariance matrix packed by row.
+     * Row {@code i} starts at index {@code i * (i + 1) / 2}. */
+    private final double[] factor;
+
+    /**
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @param factor Packed Cholesky factor.
+     */
+    private MultivariateNormalSampler(UniformRandomProvider rng,
+                                      double[] mean,
+                                      double[] factor) {
+        this.rng = rng;
+        this.gaussian = ZigguratSampler.NormalizedGaussian.of(rng);
+        // Arrays are stored directly as they are created or copied within this class
+        this.mean = mean;
+        this.factor = factor;
+    }
+
+    /**
+     * Gets the dimension of the samples.
+     *
+     * @return the dimension
+     */
+    public int getDimension() {
+        return mean.length;
+    }
+
+    /**
+     * Create a sample.
+     *
+     * @return a new sample of length {@link #getDimension()}
+     */
+    @Override
+    public double[] sample() {
+        final double[] x = new double[mean.length];
+        sample(x, 0);
+        return x;
+    }
+
+    /**
+     * Create a sample and place it in the given array starting at the {@code offset}.
+     * This method does not allocate memory.
+     *
+     * @param out Array in which to put the sample.
+     * @param offset Index at which to start inserting the sample.
+     * @throws IndexOutOfBoundsException if {@code offset < 0} or
+     * {@code offset + getDimension() > out.length}
+     */
+    public void sample(double[] out, int offset) {
+        final int d = mean.length;
+        // Validates the range
+        gaussian.sample(out, offset, d);
+        // x = mean + L z
+        // Compute in-place from the last row. Row i uses z[0, i] which have
+        // not been overwritten.
+        final double[] l = factor;
+        for (int i = d - 1; i >= 0; i--) {
+            final int row = (i * (i + 1)) >>> 1;
+            double sum = 0;
+            for (int j = 0; j <= i; j++) {
+                sum += l[row + j] * out[offset + j];
+            }
+            out[offset + i] = mean[i] + sum;
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Multivariate normal deviate [" + rng.toString() + "]";
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MultivariateNormalSampler withUniformRandomProvider(UniformRandomProvider rng) {
+        return new MultivariateNormalSampler(rng, mean, factor);
+    }
+
+    /**
+     * Create a new multivariate normal distribution sampler.
+     *
+     * <p>The covariance matrix must be symmetric and positive definite. Only the
+     * lower triangle (including the diagonal) of the matrix is used.</p>
+     *
+     * @param rng Generator of uniformly distributed random numbers.
+     * @param mean Mean.
+     * @param covariance Covariance matrix.
+     * @return the sampler
+     * @throws IllegalArgumentException if the mean is empty; the covariance matrix is not
+     * square with the same dimension as the mean; any value is not finite; or the
+     * covariance matrix is not positive definite.
+     */
+    public static MultivariateNormalSampler of(UniformRandomProvider rng,
+                                               double[] mean,
+                                               double[][] covariance) {
+        final int d = mean.length;
+        if (d == 0) {
+            throw new IllegalArgumentException("Empty mean");
+        }
+        if (covariance.length != d) {
+            throw new IllegalArgumentException(
+                "Covariance dimension " + covariance.length + " != mean dimension " + d);
+        }
+        for (int i = 0; i < d; i++) {
+            InternalUtils.requireFinite(mean[i], "mean");
+            if (covariance[i].length != d) {
+                throw new IllegalArgumentException("Covariance matrix is not square at row " + i);
+            }
+        }
+        return new MultivariateNormalSampler(rng, mean.clone(), cholesky(covariance));
+    }
+
+    /**
+     * Compute the lower triangular Cholesky factor of the covariance matrix using the
+     * Cholesky-Banachiewicz algorithm. The factor is packed by row.
+     *
+     * @param covariance Covariance matrix.
+     * @return the packed factor
+     * @throws IllegalArgumentException if any value is not finite or the covariance matrix
+     * is not positive definite.
+     */
+    private static double[] cholesky(double[][] covariance) {
+        final int d = covariance.length;
+        final double[] l = new double[(d * (d + 1)) >>> 1];
+        for (int i = 0; i < d; i++) {
+            final int rowI = (i * (i + 1)) >>> 1;
+            for (int j = 0; j <= i; j++) {
+                final int rowJ = (j * (j + 1)) >>> 1;
+                double sum = InternalUtils.requireFinite(covariance[i][j], "covariance");
+                for (int k = 0; k < j; k++) {
+                    sum -= l[rowI + k] * l[rowJ + k];
+                }
+                if (i == j) {
+                    // Also detects NaN
+                    if (!(sum > 0)) {
+                        throw new IllegalArgumentException(
+                            "Covariance matrix is not positive definite at row " + i);
+                    }
+                    l[rowI + i] = Math.sqrt(sum);
+                } else {
+                    l[rowI + j] = sum / l[rowJ + j];
+                }
+            }
+        }
+        return l;
+    }
+}
@@ -0,0 +1,434 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.function.DoubleConsumer;
+import java.util.function.IntConsumer;
+import java.util.function.LongConsumer;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+
+/**
+ * Spliterators for streams of sample values.
+ *
+ * <p>A stream created from a sampler is sequential and cannot be split. A stream created
+ * from a shared state sampler and a {@link SplittableUniformRandomProvider} is split by
+ * {@link SplittableUniformRandomProvider#split() splitting} the source of randomness and
+ * creating a new sampler using the split source. The stream may be processed in parallel.
+ * The prefix of a split uses the split source and the suffix retains the current source;
+ * the output of a parallel stream therefore depends on how the stream is split and
+ * differs from the output of a sequential stream.
+ *
+ * <p>This class is not part of the public API, as it would be
+ * better to group utilities in a dedicated component.
+ *
+ * @since 1.7
+ */
+final class SamplerSpliterators {
+    /** Message for an invalid stream size. */
+    private static final String INVALID_STREAM_SIZE = "Invalid stream size: ";
+    /** Name of the source of randomness argument. */
+    private static final String SOURCE = "source";
+    /** Message for a null action. */
+    private static final String NULL_ACTION = "action must not be null";
+
+    /** Class contains only static methods. */
+    private SamplerSpliterators() {}
+
+    /**
+     * Creates a sequential stream of the given size.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @return a stream of {@code double} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static DoubleStream samples(ContinuousSampler sampler, long streamSize) {
+        validateStreamSize(streamSize);
+        return StreamSupport.doubleStream(
+            new DoublesSpliterator(0, streamSize, null, null, sampler), false);
+    }
+
+    /**
+     * Creates a stream of the given size that can be split.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of {@code double} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static DoubleStream samples(SharedStateContinuousSampler sampler, long streamSize,
+                                SplittableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.doubleStream(
+            new DoublesSpliterator(0, streamSize, source, sampler, null), false);
+    }
+
+    /**
+     * Creates a sequential stream of the given size.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @return a stream of {@code int} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static IntStream samples(DiscreteSampler sampler, long streamSize) {
+        validateStreamSize(streamSize);
+        return StreamSupport.intStream(
+            new IntsSpliterator(0, streamSize, null, null, sampler), false);
+    }
+
+    /**
+     * Creates a stream of the given size that can be split.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of {@code int} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static IntStream samples(SharedStateDiscreteSampler sampler, long streamSize,
+                             SplittableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.intStream(
+            new IntsSpliterator(0, streamSize, source, sampler, null), false);
+    }
+
+    /**
+     * Creates a sequential stream of the given size.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @return a stream of {@code long} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static LongStream samples(LongSampler sampler, long streamSize) {
+        validateStreamSize(streamSize);
+        return StreamSupport.longStream(
+            new LongsSpliterator(0, streamSize, null, null, sampler), false);
+    }
+
+    /**
+     * Creates a stream of the given size that can be split.
+     *
+     * @param sampler Sampler.
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness.
+     * @return a stream of {@code long} values.
+     * @throws IllegalArgumentException if {@code streamSize < 0}.
+     */
+    static LongStream samples(SharedStateLongSampler sampler, long streamSize,
+                              SplittableUniformRandomProvider source) {
+        validateStreamSize(streamSize);
+        Objects.requireNonNull(source, SOURCE);
+        return StreamSupport.longStream(
+            new LongsSpliterator(0, streamSize, source, sampler, null), false);
+    }
+
+    /**
+     * Validate the stream size.
+     *
+     * @param size Stream size.
+     * @throws IllegalArgumentException if {@code size < 0}.
+     */
+    private static void validateStreamSize(long size) {
+        if (size < 0) {
+            throw new IllegalArgumentException(INVALID_STREAM_SIZE + size);
+        }
+    }
+
+    /**
+     * Base class for spliterators for streams of samples. Contains the range current
+     * position and end position. Splitting divides the range in half.
+     *
+     * @param <S> Type of the shared state sampler.
+     */
+    private static class SamplerSpliterator<S> {
+        /** The current position in the range. */
+        protected long position;
+        /** The upper limit of the range. */
+        protected final long end;
+        /** Source of randomness. This is null if the spliterator cannot be split. */
+        protected final SplittableUniformRandomProvider source;
+        /** Shared state sampler used to create a sampler for the source of randomness. */
+        protected final S template;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param source Source of randomness (can be null).
+         * @param template Shared state sampler (can be null).
+         */
+        SamplerSpliterator(long start, long end, SplittableUniformRandomProvider source, S template) {
+            position = start;
+            this.end = end;
+            this.source = source;
+            this.template = template;
+        }
+
+        /**
+         * Split the range in half. Returns the start of the range for the prefix;
+         * this instance is updated to cover the upper half.
+         *
+         * @return the start of the prefix range, or -1 if the range cannot be split
+         */
+        long splitRange() {
+            final long start = position;
+            final long middle = (start + end) >>> 1;
+            if (source == null || middle <= start) {
+                return -1;
+            }
+            position = middle;
+            return start;
+        }
+
+        // Methods required by all Spliterators
+
+        /**
+         * See {@link Spliterator#estimateSize()}.
+         *
+         * @return the estimated size
+         */
+        public long estimateSize() {
+            return end - position;
+        }
+
+        /**
+         * See {@link Spliterator#characteristics()}.
+         *
+         * @return the characteristics
+         */
+        public int characteristics() {
+            return Spliterator.SIZED | Spliterator.SUBSIZED | Spliterator.NONNULL | Spliterator.IMMUTABLE;
+        }
+    }
+
+    /**
+     * Spliterator for streams of double values.
+     */
+    private static final class DoublesSpliterator extends SamplerSpliterator<SharedStateContinuousSampler>
+            implements Spliterator.OfDouble {
+        /** Sampler. This is created on first use if the spliterator can be split. */
+        private ContinuousSampler sampler;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param source Source of randomness (can be null).
+         * @param template Shared state sampler (can be null).
+         * @param sampler Sampler (can be null).
+         */
+        DoublesSpliterator(long start, long end, SplittableUniformRandomProvider source,
+                           SharedStateContinuousSampler template, ContinuousSampler sampler) {
+            super(start, end, source, template);
+            this.sampler = sampler;
+        }
+
+        @Override
+        public Spliterator.OfDouble trySplit() {
+            final long start = splitRange();
+            return start < 0 ? null :
+                new DoublesSpliterator(start, position, source.split(), template, null);
+        }
+
+        @Override
+        public boolean tryAdvance(DoubleConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(getSampler().sample());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(DoubleConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final ContinuousSampler s = getSampler();
+                do {
+                    action.accept(s.sample());
+                } while (++pos < last);
+            }
+        }
+
+        /**
+         * @return the sampler
+         */
+        private ContinuousSampler getSampler() {
+            ContinuousSampler s = sampler;
+            if (s == null) {
+                s = template.withUniformRandomProvider(source);
+                sampler = s;
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Spliterator for streams of int values.
+     */
+    private static final class IntsSpliterator extends SamplerSpliterator<SharedStateDiscreteSampler>
+            implements Spliterator.OfInt {
+        /** Sampler. This is created on first use if the spliterator can be split. */
+        private DiscreteSampler sampler;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param source Source of randomness (can be null).
+         * @param template Shared state sampler (can be null).
+         * @param sampler Sampler (can be null).
+         */
+        IntsSpliterator(long start, long end, SplittableUniformRandomProvider source,
+                        SharedStateDiscreteSampler template, DiscreteSampler sampler) {
+            super(start, end, source, template);
+            this.sampler = sampler;
+        }
+
+        @Override
+        public Spliterator.OfInt trySplit() {
+            final long start = splitRange();
+            return start < 0 ? null :
+                new IntsSpliterator(start, position, source.split(), template, null);
+        }
+
+        @Override
+        public boolean tryAdvance(IntConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(getSampler().sample());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(IntConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final DiscreteSampler s = getSampler();
+                do {
+                    action.accept(s.sample());
+                } while (++pos < last);
+            }
+        }
+
+        /**
+         * @return the sampler
+         */
+        private DiscreteSampler getSampler() {
+            DiscreteSampler s = sampler;
+            if (s == null) {
+                s = template.withUniformRandomProvider(source);
+                sampler = s;
+            }
+            return s;
+        }
+    }
+
+    /**
+     * Spliterator for streams of long values.
+     */
+    private static final class LongsSpliterator extends SamplerSpliterator<SharedStateLongSampler>
+            implements Spliterator.OfLong {
+        /** Sampler. This is created on first use if the spliterator can be split. */
+        private LongSampler sampler;
+
+        /**
+         * @param start Start position of the stream (inclusive).
+         * @param end Upper limit of the stream (exclusive).
+         * @param source Source of randomness (can be null).
+         * @param template Shared state sampler (can be null).
+         * @param sampler Sampler (can be null).
+         */
+        LongsSpliterator(long start, long end, SplittableUniformRandomProvider source,
+                         SharedStateLongSampler template, LongSampler sampler) {
+            super(start, end, source, template);
+            this.sampler = sampler;
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            final long start = splitRange();
+            return start < 0 ? null :
+                new LongsSpliterator(start, position, source.split(), template, null);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            final long pos = position;
+            if (pos < end) {
+                // Advance before exceptions from the action are relayed to the caller
+                position = pos + 1;
+                action.accept(getSampler().sample());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            Objects.requireNonNull(action, NULL_ACTION);
+            long pos = position;
+            final long last = end;
+            if (pos < last) {
+                // Ensure forEachRemaining is called only once
+                position = last;
+                final LongSampler s = getSampler();
+                do {
+                    action.accept(s.sample());
+                } while (++pos < last);
+            }
+        }
+
+        /**
+         * @return the sampler
+         */
+        private LongSampler getSampler() {
+            LongSampler s = sampler;
+            if (s == null) {
+                s = template.withUniformRandomProvider(source);
+                sampler = s;
+            }
+            return s;
+        }
+    }
+}
@@ -16,6 +16,8 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.stream.IntStream;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.sampling.SharedStateSampler;
 
 /**
@@ -26,5 +28,29 @@ import org.apache.commons.rng.sampling.SharedStateSampler;
  */
 public interface SharedStateDiscreteSampler
     extends DiscreteSampler, SharedStateSampler<SharedStateDiscreteSampler> {
-    // Composite interface
+    /**
+     * Returns a stream producing the given {@code streamSize} number of {@code int}
+     * sample values using the {@code source} of randomness.
+     *
+     * <p>The values are generated by samplers created using
+     * {@link #withUniformRandomProvider(org.apache.commons.rng.UniformRandomProvider)
+     * withUniformRandomProvider} with the {@code source}. The stream can be processed in
+     * parallel: when the stream is split the source is {@link SplittableUniformRandomProvider#split()
+     * split} and a new sampler is created using the split source. The source of randomness
+     * of this sampler is not used.
+     *
+     * <p>The output of a sequential stream is reproducible for a seeded source of randomness.
+     * The output of a parallel stream depends on how the stream is split, which depends on
+     * the parallelism of the pool that processes the stream, and differs from the sequential
+     * output.
+     *
+     * @param streamSize Number of values to generate.
+     * @param source Source of randomness used to create samplers for the stream.
+     * @return a stream of {@code int} values.
+     * @throws IllegalArgumentException if {@code streamSize} is negative.
+     * @since 1.7
+     */
+    default IntStream samples(long streamSize, SplittableUniformRandomProvider source) {
+        return SamplerSpliterators.samples(this, streamSize, source);
+    }
 }
@@ -551,6 +551,16 @@ public abstract class ZigguratSampler implements SharedStateContinuousSampler {
                 return super.sample() * mean;
             }
 
+            @Override
+            public void sample(double[] out, int offset, int length) {
+                super.sample(out, offset, length);
+                final double m = mean;
+                final int to = offset + length;
+                for (int i = offset; i < to; i++) {
+                    out[i] *= m;
+                }
+            }
+
             @Override
             public ExponentialMean withUniformRandomProvider(UniformRandomProvider rng) {
                 return new ExponentialMean(rng, this.mean);
@@ -595,6 +605,20 @@ public abstract class ZigguratSampler implements SharedStateContinuousSampler {
             return edgeSample(x);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void sample(double[] out, int offset, int length) {
+            InternalUtils.validateFromIndexSize(offset, length, out.length);
+            // Duplicate of the sample() method using a local reference to the generator
+            final UniformRandomProvider r = super.rng;
+            final int to = offset + length;
+            for (int k = offset; k < to; k++) {
+                final long x = r.nextLong();
+                final int i = ((int) x) & MASK_INT8;
+                out[k] = i < I_MAX ? X[i] * (x >>> 1) : edgeSample(x);
+            }
+        }
+
         /**
          * Create the sample from the edge of the ziggurat.
          *
@@ -1066,6 +1090,20 @@ public abstract class ZigguratSampler implements SharedStateContinuousSampler {
             return edgeSample(xx);
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void sample(double[] out, int offset, int length) {
+            InternalUtils.validateFromIndexSize(offset, length, out.length);
+            // Duplicate of the sample() method using a local reference to the generator
+            final UniformRandomProvider r = super.rng;
+            final int to = offset + length;
+            for (int k = offset; k < to; k++) {
+                final long xx = r.nextLong();
+                final int i = ((int) xx) & MASK_INT8;
+                out[k] = i < I_MAX ? X[i] * xx : edgeSample(xx);
+            }
+        }
+
         /**
          * Create the sample from the edge of the ziggurat.
          *
@@ -35,6 +35,8 @@ import org.apache.commons.rng.simple.RandomSource;
 public final class RandomAssert {
     /** Number of samples to generate to test for equal sequences. */
     private static final int SAMPLES = 10;
+    /** Number of samples to generate to test the bulk sample methods. */
+    private static final int BULK_SAMPLES = 1000;
     /** Default seed for the default generator. */
     private static final Long DEFAULT_SEED;
 
@@ -123,6 +125,50 @@ public final class RandomAssert {
         }
     }
 
+    /**
+     * Exercise the {@link ContinuousSampler#sample(double[], int, int)} method, and
+     * ensure that the samples match the sequence generated by repeat calls to
+     * {@link ContinuousSampler#sample()} using a second sampler with the same
+     * underlying source of randomness.
+     *
+     * @param sampler1 First sampler (used for the bulk method).
+     * @param sampler2 Second sampler (used for the single sample method).
+     */
+    public static void assertSampleArrayMatchesSequence(ContinuousSampler sampler1,
+                                                        ContinuousSampler sampler2) {
+        final double[] expected = new double[BULK_SAMPLES + 2];
+        for (int i = 1; i <= BULK_SAMPLES; i++) {
+            expected[i] = sampler2.sample();
+        }
+        final double[] actual = new double[expected.length];
+        sampler1.sample(actual, 1, BULK_SAMPLES);
+        Assertions.assertArrayEquals(expected, actual);
+        // Continues the same sequence
+        assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    /**
+     * Exercise the {@link DiscreteSampler#sample(int[], int, int)} method, and
+     * ensure that the samples match the sequence generated by repeat calls to
+     * {@link DiscreteSampler#sample()} using a second sampler with the same
+     * underlying source of randomness.
+     *
+     * @param sampler1 First sampler (used for the bulk method).
+     * @param sampler2 Second sampler (used for the single sample method).
+     */
+    public static void assertSampleArrayMatchesSequence(DiscreteSampler sampler1,
+                                                        DiscreteSampler sampler2) {
+        final int[] expected = new int[BULK_SAMPLES + 2];
+        for (int i = 1; i <= BULK_SAMPLES; i++) {
+            expected[i] = sampler2.sample();
+        }
+        final int[] actual = new int[expected.length];
+        sampler1.sample(actual, 1, BULK_SAMPLES);
+        Assertions.assertArrayEquals(expected, actual);
+        // Continues the same sequence
+        assertProduceSameSequence(sampler1, sampler2);
+    }
+
     /**
      * Exercise the {@link ObjectSampler} interface, and
      * ensure that the two samplers produce the same sequence.
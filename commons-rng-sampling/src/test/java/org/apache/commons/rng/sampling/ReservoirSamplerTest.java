@@ -0,0 +1,446 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntToDoubleFunction;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Tests for {@link ReservoirSampler}.
+ */
+class ReservoirSamplerTest {
+    @Test
+    void testSampleSizeThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        for (final int k : new int[] {0, -1}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.of(rng, k));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> ReservoirSampler.of(rng, k, x -> 1));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ReservoirSampler.sample(rng, IntStream.range(0, 3), k));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ReservoirSampler.sample(rng, LongStream.range(0, 3), k));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> ReservoirSampler.sample(rng, IntStream.range(0, 3).asDoubleStream(), k));
+        }
+    }
+
+    @Test
+    void testInvalidWeightThrows() {
+        final ReservoirSampler<Double> sampler = ReservoirSampler.of(RandomAssert.seededRNG(), 2, x -> x);
+        for (final double w : new double[] {-1, Double.NaN, Double.POSITIVE_INFINITY}) {
+            Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.accept(w));
+        }
+        Assertions.assertEquals(0, sampler.getCount());
+    }
+
+    @Test
+    void testCombineThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(rng, 2);
+        final ReservoirSampler<Integer> weighted = ReservoirSampler.of(rng, 2, x -> 1);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.combine(sampler));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> weighted.combine(weighted));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.combine(weighted));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> weighted.combine(sampler));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> sampler.combine(ReservoirSampler.of(rng, 3)));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> weighted.combine(ReservoirSampler.of(rng, 3, x -> 1)));
+    }
+
+    /**
+     * Test the sample contains all the items when the number of items is less than
+     * or equal to the sample size.
+     */
+    @Test
+    void testSampleAllItems() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        for (final int n : new int[] {0, 1, 3, 5}) {
+            final List<Integer> items = IntStream.range(0, n).boxed().collect(Collectors.toList());
+            final ReservoirSampler<Integer> sampler = ReservoirSampler.of(rng, 5);
+            sampler.addAll(items.iterator());
+            Assertions.assertEquals(n, sampler.getCount());
+            assertSameItems(items, sampler.getSample());
+            final ReservoirSampler<Integer> weighted = ReservoirSampler.of(rng, 5, x -> x + 1);
+            weighted.addAll(items.spliterator());
+            Assertions.assertEquals(n, weighted.getCount());
+            assertSameItems(items, weighted.getSample());
+            final ReservoirSampler<Integer> s1 = ReservoirSampler.of(rng, 5);
+            final ReservoirSampler<Integer> s2 = ReservoirSampler.of(rng, 5);
+            s1.addAll(items.subList(0, n / 2).iterator());
+            s2.addAll(items.subList(n / 2, n).iterator());
+            s1.combine(s2);
+            Assertions.assertEquals(n, s1.getCount());
+            assertSameItems(items, s1.getSample());
+            final int[] expected = IntStream.range(0, n).toArray();
+            Assertions.assertArrayEquals(expected, sorted(ReservoirSampler.sample(rng, IntStream.range(0, n), 5)));
+            Assertions.assertArrayEquals(LongStream.range(0, n).toArray(),
+                sorted(ReservoirSampler.sample(rng, LongStream.range(0, n), 5)));
+            Assertions.assertArrayEquals(IntStream.range(0, n).asDoubleStream().toArray(),
+                sorted(ReservoirSampler.sample(rng, IntStream.range(0, n).asDoubleStream(), 5)));
+        }
+    }
+
+    @Test
+    void testZeroWeightItemsAreNotSampled() {
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(RandomAssert.seededRNG(), 5, x -> x % 3);
+        sampler.addAll(IntStream.range(0, 7).iterator());
+        Assertions.assertEquals(7, sampler.getCount());
+        assertSameItems(Arrays.asList(1, 2, 4, 5), sampler.getSample());
+    }
+
+    @Test
+    void testSampleIsCopy() {
+        final ReservoirSampler<Integer> sampler = ReservoirSampler.of(RandomAssert.seededRNG(), 2);
+        sampler.accept(1);
+        final List<Integer> sample = sampler.getSample();
+        sampler.accept(2);
+        Assertions.assertEquals(Arrays.asList(1), sample);
+        Assertions.assertEquals(2, sampler.getSample().size());
+    }
+
+    static Stream<Arguments> testUnweightedSample() {
+        return Stream.of(
+            Arguments.of("accept", sampler((rng, n, k) -> {
+                final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, k);
+                for (int i = 0; i < n; i++) {
+                    s.accept(i);
+                }
+                return s.getSample();
+            })),
+            Arguments.of("iterator", sampler((rng, n, k) -> {
+                final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, k);
+                s.addAll(IntStream.range(0, n).iterator());
+                return s.getSample();
+            })),
+            Arguments.of("spliterator", sampler((rng, n, k) -> {
+                final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, k);
+                s.addAll(IntStream.range(0, n).boxed().spliterator());
+                return s.getSample();
+            })),
+            Arguments.of("IntStream", sampler((rng, n, k) ->
+                boxed(ReservoirSampler.sample(rng, IntStream.range(0, n), k)))),
+            Arguments.of("LongStream", sampler((rng, n, k) ->
+                Arrays.stream(ReservoirSampler.sample(rng, LongStream.range(0, n), k))
+                    .mapToObj(x -> (int) x).collect(Collectors.toList()))),
+            Arguments.of("DoubleStream", sampler((rng, n, k) ->
+                Arrays.stream(ReservoirSampler.sample(rng, IntStream.range(0, n).asDoubleStream(), k))
+                    .mapToObj(x -> (int) x).collect(Collectors.toList()))),
+            Arguments.of("combine", sampler((rng, n, k) ->
+                combine(ReservoirSampler.of(rng, k), ReservoirSampler.of(rng, k), ReservoirSampler.of(rng, k), n)))
+        );
+    }
+
+    /**
+     * Test the unweighted sampler selects each subset with equal probability.
+     * This uses a sample of 2 from 5 items.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource
+    void testUnweightedSample(String name, Sampler sampler) {
+        final double[] expected = new double[10];
+        Arrays.fill(expected, 1);
+        assertSubsets(sampler, expected);
+    }
+
+    /**
+     * Test the unweighted sampler selects each item with equal probability from a
+     * long stream. This uses a sample of 1 to maximise the use of the skip algorithm.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testUnweightedSample")
+    void testUnweightedSampleFromLongStream(String name, Sampler sampler) {
+        final double[] expected = new double[10];
+        Arrays.fill(expected, 1);
+        assertSampleFromLongStream(sampler, expected);
+    }
+
+    static Stream<Arguments> testWeightedSample() {
+        final double[] weights = {1, 0, 2, 3, 0.5};
+        final IntToDoubleFunction w = i -> weights[i % weights.length];
+        return Stream.of(
+            Arguments.of("accept", w, sampler((rng, n, k) -> {
+                final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, k, w::applyAsDouble);
+                for (int i = 0; i < n; i++) {
+                    s.accept(i);
+                }
+                return s.getSample();
+            })),
+            Arguments.of("iterator", w, sampler((rng, n, k) -> {
+                final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, k, w::applyAsDouble);
+                s.addAll(IntStream.range(0, n).iterator());
+                return s.getSample();
+            })),
+            Arguments.of("combine", w, sampler((rng, n, k) ->
+                combine(ReservoirSampler.of(rng, k, w::applyAsDouble), ReservoirSampler.of(rng, k, w::applyAsDouble),
+                        ReservoirSampler.of(rng, k, w::applyAsDouble), n)))
+        );
+    }
+
+    /**
+     * Test the weighted sampler selects each subset with the expected probability.
+     * This uses a sample of 2 from 5 items. The probability is computed for successive
+     * sampling without replacement with probability proportional to weight.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource
+    void testWeightedSample(String name, IntToDoubleFunction weight, Sampler sampler) {
+        double total = 0;
+        for (int i = 0; i < 5; i++) {
+            total += weight.applyAsDouble(i);
+        }
+        final double[] expected = new double[10];
+        int c = 0;
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                final double wi = weight.applyAsDouble(i);
+                final double wj = weight.applyAsDouble(j);
+                expected[c++] = wi / total * wj / (total - wi) + wj / total * wi / (total - wj);
+            }
+        }
+        assertSubsets(sampler, expected);
+    }
+
+    /**
+     * Test the weighted sampler selects each item with the expected probability from a
+     * long stream. This uses a sample of 1 to maximise the use of the skip algorithm.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("testWeightedSample")
+    void testWeightedSampleFromLongStream(String name, IntToDoubleFunction weight, Sampler sampler) {
+        // The stream length is a multiple of the period of the weights
+        final double[] expected = new double[5];
+        for (int i = 0; i < 5; i++) {
+            expected[i] = weight.applyAsDouble(i);
+        }
+        final int n = 1000;
+        final long[] observed = new long[5];
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        for (int i = 0; i < 2000; i++) {
+            final List<Integer> sample = sampler.sample(rng, n, 1);
+            Assertions.assertEquals(1, sample.size());
+            observed[sample.get(0) % 5]++;
+        }
+        Assertions.assertEquals(0, observed[1], "Zero weight");
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(
+            new double[] {expected[0], expected[2], expected[3], expected[4]},
+            new long[] {observed[0], observed[2], observed[3], observed[4]}, 0.001));
+    }
+
+    /**
+     * Test the weighted sampler with equal weights selects each item with equal
+     * probability. This uses a sample size above 2 to exercise the ordering of the
+     * reservoir by key.
+     */
+    @Test
+    void testWeightedSampleWithEqualWeights() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final long[] observed = new long[10];
+        for (int i = 0; i < 1000; i++) {
+            final ReservoirSampler<Integer> s = ReservoirSampler.of(rng, 5, x -> 1.5);
+            s.addAll(IntStream.range(0, 100).iterator());
+            for (final int x : s.getSample()) {
+                observed[x / 10]++;
+            }
+        }
+        final double[] expected = new double[10];
+        Arrays.fill(expected, 1);
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test a combined sampler with more items than the sample size can continue to
+     * sample from the stream.
+     */
+    @Test
+    void testCombineThenAdd() {
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final int k = 3;
+        final long[] observed = new long[10];
+        for (int i = 0; i < 1000; i++) {
+            final ReservoirSampler<Integer> s1 = ReservoirSampler.of(rng, k);
+            final ReservoirSampler<Integer> s2 = ReservoirSampler.of(rng, k);
+            s1.addAll(IntStream.range(0, 30).iterator());
+            s2.addAll(IntStream.range(30, 50).iterator());
+            s1.combine(s2);
+            Assertions.assertEquals(50, s1.getCount());
+            s1.addAll(IntStream.range(50, 100).iterator());
+            Assertions.assertEquals(100, s1.getCount());
+            for (final int x : s1.getSample()) {
+                observed[x / 10]++;
+            }
+        }
+        final double[] expected = new double[10];
+        Arrays.fill(expected, 1);
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Sample k items from the items {@code [0, n)}.
+     */
+    interface Sampler {
+        /**
+         * Sample k items from the items {@code [0, n)}.
+         *
+         * @param rng Source of randomness.
+         * @param n Number of items.
+         * @param k Size of the sample.
+         * @return the sample
+         */
+        List<Integer> sample(UniformRandomProvider rng, int n, int k);
+    }
+
+    /**
+     * Helper to infer the type of the sampler.
+     *
+     * @param sampler Sampler.
+     * @return the sampler
+     */
+    private static Sampler sampler(Sampler sampler) {
+        return sampler;
+    }
+
+    /**
+     * Add the items {@code [0, n)} to three samplers using partitions of unequal size.
+     * The samplers are combined.
+     *
+     * @param s1 First sampler.
+     * @param s2 Second sampler.
+     * @param s3 Third sampler.
+     * @param n Number of items.
+     * @return the sample
+     */
+    private static List<Integer> combine(ReservoirSampler<Integer> s1,
+                                         ReservoirSampler<Integer> s2,
+                                         ReservoirSampler<Integer> s3,
+                                         int n) {
+        final int a = n / 5;
+        final int b = n / 2;
+        s1.addAll(IntStream.range(0, a).iterator());
+        s2.addAll(IntStream.range(a, b).iterator());
+        s3.addAll(IntStream.range(b, n).iterator());
+        final ReservoirSampler<Integer> combined = s2.combine(s1).combine(s3);
+        Assertions.assertSame(s2, combined);
+        Assertions.assertEquals(n, combined.getCount());
+        return combined.getSample();
+    }
+
+    /**
+     * Assert the sampler selects each subset of 2 from 5 items with the expected
+     * relative frequency.
+     *
+     * @param sampler Sampler.
+     * @param expected Expected relative frequency for each subset.
+     */
+    private static void assertSubsets(Sampler sampler, double[] expected) {
+        // Index of each subset {i, j} with i < j
+        final int[][] index = new int[5][5];
+        int c = 0;
+        for (int i = 0; i < 5; i++) {
+            for (int j = i + 1; j < 5; j++) {
+                index[i][j] = index[j][i] = c++;
+            }
+        }
+        final long[] observed = new long[10];
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        for (int i = 0; i < 2000; i++) {
+            final List<Integer> sample = sampler.sample(rng, 5, 2);
+            Assertions.assertEquals(2, sample.size());
+            observed[index[sample.get(0)][sample.get(1)]]++;
+        }
+        // Handle a test with zero-probability subsets by mapping them out
+        final int size = (int) Arrays.stream(expected).filter(x -> x != 0).count();
+        final double[] e = new double[size];
+        final long[] o = new long[size];
+        c = 0;
+        for (int i = 0; i < expected.length; i++) {
+            if (expected[i] == 0) {
+                Assertions.assertEquals(0, observed[i], "No samples expected from zero probability");
+            } else {
+                e[c] = expected[i];
+                o[c++] = observed[i];
+            }
+        }
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(e, o, 0.001));
+    }
+
+    /**
+     * Assert the sampler selects a sample of 1 from 1000 items with the expected
+     * relative frequency for each block of 100 items.
+     *
+     * @param sampler Sampler.
+     * @param expected Expected relative frequency for each block.
+     */
+    private static void assertSampleFromLongStream(Sampler sampler, double[] expected) {
+        final long[] observed = new long[expected.length];
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        for (int i = 0; i < 2000; i++) {
+            final List<Integer> sample = sampler.sample(rng, 1000, 1);
+            Assertions.assertEquals(1, sample.size());
+            observed[sample.get(0) / 100]++;
+        }
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Assert the collections contain the same items.
+     *
+     * @param expected Expected.
+     * @param actual Actual.
+     */
+    private static void assertSameItems(Collection<Integer> expected, Collection<Integer> actual) {
+        Assertions.assertArrayEquals(expected.stream().mapToInt(Integer::intValue).sorted().toArray(),
+            actual.stream().mapToInt(Integer::intValue).sorted().toArray());
+    }
+
+    private static List<Integer> boxed(int[] values) {
+        return Arrays.stream(values).boxed().collect(Collectors.toList());
+    }
+
+    private static int[] sorted(int[] values) {
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static long[] sorted(long[] values) {
+        Arrays.sort(values);
+        return values;
+    }
+
+    private static double[] sorted(double[] values) {
+        Arrays.sort(values);
+        return values;
+    }
+}
@@ -20,6 +20,8 @@ import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Test for the {@link AhrensDieterMarsagliaTsangGammaSampler}. The tests hit edge cases for the sampler.
@@ -81,6 +83,20 @@ class AhrensDieterMarsagliaTsangGammaSamplerTest {
         RandomAssert.assertProduceSameSequence(sampler1, sampler2);
     }
 
+    /**
+     * Test the bulk sample method matches the single sample method.
+     * Using {@code alpha = 1} rejects some Gaussian deviates with a non-positive cube.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {0.5, 1, 3.5})
+    void testSampleArray(double alpha) {
+        // Use instance constructor to exercise the delegation of the wrapper class
+        final AhrensDieterMarsagliaTsangGammaSampler sampler =
+            new AhrensDieterMarsagliaTsangGammaSampler(RandomAssert.seededRNG(), alpha, 3.456);
+        RandomAssert.assertSampleArrayMatchesSequence(sampler,
+            sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+    }
+
     /**
      * Test the toString method. This is added to ensure coverage as the factory constructor
      * used in other tests does not create an instance of the wrapper class.
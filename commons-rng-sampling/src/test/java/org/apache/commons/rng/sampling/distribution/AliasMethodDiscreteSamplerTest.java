@@ -268,6 +268,110 @@ class AliasMethodDiscreteSamplerTest {
         testSharedStateSampler(new double[] {0.1, 0.2, 0.3});
     }
 
+    /**
+     * Test the bulk sample method matches the single sample method with and
+     * without zero-padding of the table to a power of 2. Trailing zero probabilities
+     * truncate the probability table.
+     */
+    @Test
+    void testSampleArray() {
+        for (final int alpha : new int[] {-1, 2}) {
+            for (final double[] probabilities : new double[][] {{0.1, 0.2, 0.3}, {0.1, 0.2, 0.3, 0.4},
+                                                                {0.1, 0.2, 0.3, 0, 0}}) {
+                final SharedStateDiscreteSampler sampler =
+                    AliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), probabilities, alpha);
+                RandomAssert.assertSampleArrayMatchesSequence(sampler,
+                    sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+            }
+        }
+    }
+
+    @Test
+    void testParallelConstructorThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] p = {0.1, -1, 0.2};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.ofParallel(rng, 0, i -> 1));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.ofParallel(rng, p.length, i -> p[i]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.ofParallel(rng, 3, i -> Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.ofParallel(rng, 3, i -> 0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> AliasMethodDiscreteSampler.ofParallel(rng, 2, i -> Double.MAX_VALUE));
+    }
+
+    /**
+     * Test sampling using parallel construction with and without zero-padding.
+     */
+    @Test
+    void testParallelNonUniformSamples() {
+        final double[] expected = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        for (final int alpha : new int[] {-1, 0, 2}) {
+            checkSamples(AliasMethodDiscreteSampler.ofParallel(RandomAssert.createRNG(),
+                expected.length, i -> expected[i], alpha), expected);
+        }
+        checkSamples(AliasMethodDiscreteSampler.ofParallel(RandomAssert.createRNG(),
+            expected.length, i -> expected[i]), expected);
+    }
+
+    /**
+     * Test parallel construction of a large table. The tables are constructed in multiple
+     * blocks. The probability of each value is computed from the tables and compared to
+     * the input probabilities. The input is random, sorted (which maximises the number of
+     * values unpaired in each block), and sparse.
+     */
+    @Test
+    void testParallelLargeTableSize() {
+        final int size = (1 << 18) + 3;
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] random = rng.doubles(size).toArray();
+        final double[] sorted = random.clone();
+        Arrays.sort(sorted);
+        final double[] sparse = random.clone();
+        for (int i = 0; i < size; i++) {
+            if (i % 7 != 0) {
+                sparse[i] = 0;
+            }
+        }
+        for (final double[] probabilities : new double[][] {random, sorted, sparse}) {
+            for (final int alpha : new int[] {-1, 1}) {
+                final AliasMethodDiscreteSampler sampler = (AliasMethodDiscreteSampler)
+                    AliasMethodDiscreteSampler.ofParallel(rng, size, i -> probabilities[i], alpha);
+                assertTables(sampler, probabilities);
+            }
+        }
+    }
+
+    /**
+     * Assert the probability of each value computed from the alias tables matches the
+     * expected probabilities.
+     *
+     * @param sampler Sampler.
+     * @param probabilities The probabilities.
+     */
+    private static void assertTables(AliasMethodDiscreteSampler sampler, double[] probabilities) {
+        final long[] probability = sampler.probability;
+        final int[] alias = sampler.alias;
+        final int n = alias.length;
+        final double[] p = new double[n];
+        for (int j = 0; j < n; j++) {
+            final double pj = j < probability.length ? probability[j] * 0x1.0p-53 : 0;
+            p[j] += pj / n;
+            p[alias[j]] += (1 - pj) / n;
+        }
+        final double sum = Arrays.stream(probabilities).sum();
+        for (int j = 0; j < n; j++) {
+            final double expected = j < probabilities.length ? probabilities[j] / sum : 0;
+            if (expected == 0) {
+                Assertions.assertEquals(0, p[j], "Zero probability value is sampled");
+            } else {
+                Assertions.assertEquals(expected, p[j], expected * 1e-8);
+            }
+        }
+    }
+
     /**
      * Test the SharedStateSampler implementation.
      *
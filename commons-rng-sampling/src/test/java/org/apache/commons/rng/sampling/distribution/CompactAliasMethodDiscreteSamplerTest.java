@@ -0,0 +1,284 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.function.BiFunction;
+import org.apache.commons.math3.distribution.BinomialDistribution;
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for the {@link CompactAliasMethodDiscreteSampler}.
+ */
+class CompactAliasMethodDiscreteSamplerTest {
+    @Test
+    void testConstructorThrowsWithInvalidProbabilities() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final LongBuffer table = LongBuffer.allocate(10);
+        for (final double[] probabilities : new double[][] {
+            null, {}, {-1, 0.1, 0.2}, {0.1, Double.NaN, 0.2}, {0.1, Double.POSITIVE_INFINITY, 0.2},
+            {Double.MAX_VALUE, Double.MAX_VALUE}, {0, 0, 0}}) {
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompactAliasMethodDiscreteSampler.of(rng, probabilities));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompactAliasMethodDiscreteSampler.of(rng, probabilities, table));
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> CompactAliasMethodDiscreteSampler.ofSmall(rng, probabilities));
+        }
+    }
+
+    @Test
+    void testConstructorThrowsWithSmallTableTooLarge() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] probabilities = new double[(1 << 16) + 1];
+        Arrays.fill(probabilities, 1);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CompactAliasMethodDiscreteSampler.ofSmall(rng, probabilities));
+        // Maximum size
+        Assertions.assertNotNull(CompactAliasMethodDiscreteSampler.ofSmall(rng,
+            Arrays.copyOf(probabilities, 1 << 16)));
+    }
+
+    @Test
+    void testConstructorThrowsWithInsufficientBuffer() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] probabilities = {0.1, 0.2, 0.3};
+        final LongBuffer table = LongBuffer.allocate(5);
+        table.position(3);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CompactAliasMethodDiscreteSampler.of(rng, probabilities, table));
+        Assertions.assertThrows(java.nio.ReadOnlyBufferException.class,
+            () -> CompactAliasMethodDiscreteSampler.of(rng, probabilities, LongBuffer.allocate(5).asReadOnlyBuffer()));
+    }
+
+    @Test
+    void testConstructorThrowsWithInvalidTable() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CompactAliasMethodDiscreteSampler.of(rng, LongBuffer.allocate(0)));
+        final LongBuffer table = LongBuffer.allocate(3);
+        CompactAliasMethodDiscreteSampler.of(rng, new double[] {0.1, 0.2, 0.3}, table);
+        table.put(1, (1L << 32) | 3);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CompactAliasMethodDiscreteSampler.of(rng, table));
+        table.put(1, -1L);
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> CompactAliasMethodDiscreteSampler.of(rng, table));
+    }
+
+    @Test
+    void testToString() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] probabilities = {0.5, 0.5};
+        for (final SharedStateDiscreteSampler sampler : new SharedStateDiscreteSampler[] {
+            CompactAliasMethodDiscreteSampler.of(rng, probabilities),
+            CompactAliasMethodDiscreteSampler.of(rng, probabilities, LongBuffer.allocate(2)),
+            CompactAliasMethodDiscreteSampler.ofSmall(rng, probabilities)}) {
+            Assertions.assertTrue(sampler.toString().toLowerCase().contains("compact alias method"));
+        }
+    }
+
+    /**
+     * Test sampling from a binomial distribution.
+     */
+    @Test
+    void testBinomialSamples() {
+        final int trials = 67;
+        final double probabilityOfSuccess = 0.345;
+        final BinomialDistribution dist = new BinomialDistribution(null, trials, probabilityOfSuccess);
+        final double[] expected = new double[trials + 1];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = dist.probability(i);
+        }
+        checkSamples(expected);
+    }
+
+    /**
+     * Test sampling from a non-uniform distribution of observations (i.e. the sum is not 1 as per
+     * probabilities). Extra zero-values are added.
+     */
+    @Test
+    void testNonUniformSamplesWithZeroObservations() {
+        checkSamples(new double[] {1, 2, 3, 0, 1, 3, 0});
+    }
+
+    /**
+     * Test sampling from a uniform distribution. This is an edge case where there
+     * are no probabilities less than the mean.
+     */
+    @Test
+    void testUniformSamplesWithNoObservationLessThanTheMean() {
+        checkSamples(new double[] {2, 2, 2, 2, 2, 2});
+    }
+
+    /**
+     * Test sampling from a distribution with a single non-zero value.
+     */
+    @Test
+    void testSingleNonZeroValue() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] probabilities = {0, 0, 0, 1, 0};
+        for (final SharedStateDiscreteSampler sampler : new SharedStateDiscreteSampler[] {
+            CompactAliasMethodDiscreteSampler.of(rng, probabilities),
+            CompactAliasMethodDiscreteSampler.of(rng, probabilities, LongBuffer.allocate(5)),
+            CompactAliasMethodDiscreteSampler.ofSmall(rng, probabilities)}) {
+            for (int i = 0; i < 100; i++) {
+                Assertions.assertEquals(3, sampler.sample());
+            }
+        }
+        // Small table of size 1
+        final SharedStateDiscreteSampler sampler = CompactAliasMethodDiscreteSampler.ofSmall(rng, new double[] {0.5});
+        for (int i = 0; i < 100; i++) {
+            Assertions.assertEquals(0, sampler.sample());
+        }
+    }
+
+    /**
+     * Test the index computed from the upper 32-bits of a random {@code long} is rejected
+     * if it is biased. For a table size of 3 the threshold for rejection is
+     * {@code 2^32 % 3 = 1} and a value with zero upper bits is rejected.
+     */
+    @Test
+    void testSampleRejectsBiasedIndex() {
+        final double[] probabilities = {1, 2, 3};
+        for (final SharedStateDiscreteSampler sampler : new SharedStateDiscreteSampler[] {
+            CompactAliasMethodDiscreteSampler.of(createRNG(0, -1), probabilities),
+            CompactAliasMethodDiscreteSampler.of(createRNG(0, -1), probabilities, LongBuffer.allocate(3))}) {
+            // Without rejection the zero would sample index 0
+            Assertions.assertEquals(2, sampler.sample());
+        }
+    }
+
+    /**
+     * Creates a source of randomness that returns the values in order.
+     *
+     * @param values Values.
+     * @return the source of randomness
+     */
+    private static UniformRandomProvider createRNG(long... values) {
+        return new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                return values[i++];
+            }
+        };
+    }
+
+    /**
+     * Check the distribution of samples match the expected probabilities for each table type.
+     *
+     * @param probabilities the probabilities
+     */
+    private static void checkSamples(double[] probabilities) {
+        checkSamples(CompactAliasMethodDiscreteSampler.of(RandomAssert.createRNG(), probabilities),
+            probabilities);
+        checkSamples(CompactAliasMethodDiscreteSampler.of(RandomAssert.createRNG(), probabilities,
+            ByteBuffer.allocateDirect(probabilities.length * Long.BYTES).asLongBuffer()),
+            probabilities);
+        checkSamples(CompactAliasMethodDiscreteSampler.ofSmall(RandomAssert.createRNG(), probabilities),
+            probabilities);
+    }
+
+    /**
+     * Check the distribution of samples match the expected probabilities.
+     *
+     * @param sampler the sampler
+     * @param probabilities the probabilities
+     */
+    private static void checkSamples(SharedStateDiscreteSampler sampler, double[] probabilities) {
+        final int numberOfSamples = 10000;
+        final long[] samples = new long[probabilities.length];
+        for (int i = 0; i < numberOfSamples; i++) {
+            samples[sampler.sample()]++;
+        }
+
+        // Handle a test with some zero-probability observations by mapping them out
+        int mapSize = 0;
+        for (final double p : probabilities) {
+            if (p != 0) {
+                mapSize++;
+            }
+        }
+
+        final double[] expected = new double[mapSize];
+        final long[] observed = new long[mapSize];
+        for (int i = 0; i < probabilities.length; i++) {
+            if (probabilities[i] == 0) {
+                Assertions.assertEquals(0, samples[i], "No samples expected from zero probability");
+            } else {
+                --mapSize;
+                expected[mapSize] = probabilities[i];
+                observed[mapSize] = samples[i];
+            }
+        }
+
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that the distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test a table written to a buffer can be used to create a sampler. The buffer
+     * position is not the start of the buffer.
+     */
+    @Test
+    void testSamplerFromExistingTable() {
+        final double[] probabilities = RandomAssert.seededRNG().doubles(100).toArray();
+        final LongBuffer buffer = ByteBuffer.allocateDirect(110 * Long.BYTES).asLongBuffer();
+        buffer.position(5);
+        final SharedStateDiscreteSampler sampler1 =
+            CompactAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), probabilities, buffer);
+        Assertions.assertEquals(5, buffer.position());
+        buffer.limit(105);
+        final SharedStateDiscreteSampler sampler2 =
+            CompactAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), buffer);
+        final SharedStateDiscreteSampler sampler3 =
+            CompactAliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), probabilities);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+        RandomAssert.assertProduceSameSequence(sampler1.withUniformRandomProvider(RandomAssert.seededRNG()),
+            sampler3);
+    }
+
+    /**
+     * Test the SharedStateSampler implementation for each table type.
+     */
+    @Test
+    void testSharedStateSampler() {
+        final double[] probabilities = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        final BiFunction<UniformRandomProvider, double[], SharedStateDiscreteSampler> bufferFactory =
+            (rng, p) -> CompactAliasMethodDiscreteSampler.of(rng, p, LongBuffer.allocate(p.length));
+        for (final BiFunction<UniformRandomProvider, double[], SharedStateDiscreteSampler> factory :
+            Arrays.<BiFunction<UniformRandomProvider, double[], SharedStateDiscreteSampler>>asList(
+                CompactAliasMethodDiscreteSampler::of,
+                bufferFactory,
+                CompactAliasMethodDiscreteSampler::ofSmall)) {
+            final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+            final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+            final SharedStateDiscreteSampler sampler1 = factory.apply(rng1, probabilities);
+            final SharedStateDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+            RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+        }
+    }
+}
@@ -20,7 +20,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -38,6 +41,21 @@ class ContinuousSamplerParametricTest {
         check(20000, data.getSampler(), data.getDeciles());
     }
 
+    /**
+     * Test the bulk sample method generates the same samples as repeat calls to the
+     * single sample method.
+     */
+    @ParameterizedTest
+    @MethodSource("getSamplerTestData")
+    void testSampleArray(ContinuousSamplerTestData data) {
+        final ContinuousSampler sampler = data.getSampler();
+        Assumptions.assumeTrue(sampler instanceof SharedStateContinuousSampler);
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final SharedStateContinuousSampler s = (SharedStateContinuousSampler) sampler;
+        RandomAssert.assertSampleArrayMatchesSequence(s.withUniformRandomProvider(rngs[0]),
+                                                      s.withUniformRandomProvider(rngs[1]));
+    }
+
     /**
      * Performs a chi-square test of homogeneity of the observed
      * distribution with the expected distribution.
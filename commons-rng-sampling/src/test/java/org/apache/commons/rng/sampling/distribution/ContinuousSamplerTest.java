@@ -16,13 +16,19 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.Spliterator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleConsumer;
+import java.util.stream.StreamSupport;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /**
@@ -55,6 +61,128 @@ class ContinuousSamplerTest {
                                      s2.samples(streamSize).toArray());
     }
 
+    @Test
+    void testSamplesIsSized() {
+        final ContinuousSampler s = RandomAssert.createRNG()::nextDouble;
+        final Spliterator.OfDouble spliterator = s.samples(42).spliterator();
+        Assertions.assertEquals(42, spliterator.getExactSizeIfKnown());
+        Assertions.assertNull(spliterator.trySplit());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.samples(-1));
+    }
+
+    @Test
+    void testSampleArray() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final ContinuousSampler s1 = rngs[0]::nextDouble;
+        final ContinuousSampler s2 = rngs[1]::nextDouble;
+        final double[] expected = new double[10];
+        for (int i = 2; i < 9; i++) {
+            expected[i] = s1.sample();
+        }
+        final double[] actual = new double[10];
+        s2.sample(actual, 2, 7);
+        Assertions.assertArrayEquals(expected, actual);
+        s2.sample(actual, 10, 0);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 1", "0, -1", "0, 11", "10, 1", "1, 2147483647"})
+    void testSampleArrayThrows(int offset, int length) {
+        final ContinuousSampler s = RandomAssert.seededRNG()::nextDouble;
+        final double[] out = new double[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.sample(out, offset, length));
+    }
+
+    @Test
+    void testSharedStateSamplesSplit() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final SplittableUniformRandomProvider source1 = createSource(seed);
+        final SplittableUniformRandomProvider source2 = createSource(seed);
+        final SharedStateContinuousSampler sampler = createSharedStateSampler(RandomAssert.createRNG());
+        Assertions.assertNull(sampler.samples(1, source1).spliterator().trySplit());
+        final Spliterator.OfDouble s1 = sampler.samples(10, source1).spliterator();
+        final Spliterator.OfDouble s2 = s1.trySplit();
+        Assertions.assertEquals(5, s1.getExactSizeIfKnown());
+        Assertions.assertEquals(5, s2.getExactSizeIfKnown());
+        // The prefix uses a split of the source
+        final double[] expected2 = createSamples(createSharedStateSampler(source2.split()), 5);
+        final double[] expected1 = createSamples(createSharedStateSampler(source2), 5);
+        Assertions.assertArrayEquals(expected1, StreamSupport.doubleStream(s1, false).toArray());
+        Assertions.assertArrayEquals(expected2, StreamSupport.doubleStream(s2, false).toArray());
+    }
+
+    @Test
+    void testSharedStateSamplesParallel() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final SharedStateContinuousSampler sampler = createSharedStateSampler(RandomAssert.createRNG());
+        final int size = 1000;
+        final double[] samples = sampler.samples(size, createSource(seed)).parallel().toArray();
+        Assertions.assertEquals(size, samples.length);
+        Assertions.assertArrayEquals(samples, sampler.samples(size, createSource(seed)).parallel().toArray());
+        final SplittableUniformRandomProvider source = createSource(seed);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.samples(-1, source));
+        Assertions.assertThrows(NullPointerException.class, () -> sampler.samples(1, null));
+    }
+
+    @Test
+    void testSamplesTryAdvance() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final int size = 3;
+        final double[] expected = createSamples(createSharedStateSampler(createSource(seed)), size);
+        final ContinuousSampler sampler = createSharedStateSampler(createSource(seed));
+        assertTryAdvance(expected, sampler.samples(size).spliterator());
+        assertTryAdvance(expected,
+            createSharedStateSampler(RandomAssert.createRNG()).samples(size, createSource(seed)).spliterator());
+    }
+
+    /**
+     * Assert the spliterator outputs the expected samples using {@code tryAdvance}.
+     *
+     * @param expected Expected samples.
+     * @param spliterator Spliterator.
+     */
+    private static void assertTryAdvance(double[] expected, Spliterator.OfDouble spliterator) {
+        Assertions.assertThrows(NullPointerException.class, () -> spliterator.tryAdvance((DoubleConsumer) null));
+        final double[] actual = new double[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            final int index = i;
+            Assertions.assertTrue(spliterator.tryAdvance((double x) -> actual[index] = x));
+        }
+        Assertions.assertFalse(spliterator.tryAdvance((double x) -> Assertions.fail("Spliterator is exhausted")));
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Creates a splittable source of randomness.
+     *
+     * @param seed Seed.
+     * @return the source of randomness
+     */
+    private static SplittableUniformRandomProvider createSource(long seed) {
+        return (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create(seed);
+    }
+
+    /**
+     * Creates a shared state sampler that returns the output of the source of randomness.
+     *
+     * @param rng Source of randomness.
+     * @return the sampler
+     */
+    private static SharedStateContinuousSampler createSharedStateSampler(UniformRandomProvider rng) {
+        return new SharedStateContinuousSampler() {
+            @Override
+            public double sample() {
+                return rng.nextDouble();
+            }
+
+            @Override
+            public SharedStateContinuousSampler withUniformRandomProvider(UniformRandomProvider r) {
+                return createSharedStateSampler(r);
+            }
+        };
+    }
+
     /**
      * Creates an array of samples.
      *
@@ -20,7 +20,10 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.MethodSource;
 
@@ -43,6 +46,21 @@ class DiscreteSamplerParametricTest {
               data.getProbabilities());
     }
 
+    /**
+     * Test the bulk sample method generates the same samples as repeat calls to the
+     * single sample method.
+     */
+    @ParameterizedTest
+    @MethodSource("getSamplerTestData")
+    void testSampleArray(DiscreteSamplerTestData data) {
+        final DiscreteSampler sampler = data.getSampler();
+        Assumptions.assumeTrue(sampler instanceof SharedStateDiscreteSampler);
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final SharedStateDiscreteSampler s = (SharedStateDiscreteSampler) sampler;
+        RandomAssert.assertSampleArrayMatchesSequence(s.withUniformRandomProvider(rngs[0]),
+                                                      s.withUniformRandomProvider(rngs[1]));
+    }
+
     /**
      * Performs a chi-square test of homogeneity of the observed
      * distribution with the expected distribution.
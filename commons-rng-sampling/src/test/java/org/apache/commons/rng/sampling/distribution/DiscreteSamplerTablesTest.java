@@ -0,0 +1,254 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+/**
+ * Test for the {@link DiscreteSamplerTables}.
+ */
+class DiscreteSamplerTablesTest {
+    static Stream<Arguments> testSaveAndLoad() {
+        final double[] probabilities = RandomAssert.seededRNG().doubles(100).toArray();
+        final double[] largeProbabilities = RandomAssert.seededRNG().doubles(1000).toArray();
+        // Values above 2^16 require a 32-bit table
+        final double[] sparseProbabilities = new double[70000];
+        sparseProbabilities[0] = 0.5;
+        sparseProbabilities[12345] = 0.25;
+        sparseProbabilities[69999] = 0.25;
+        return Stream.of(
+            Arguments.of("Alias method small table",
+                create(rng -> AliasMethodDiscreteSampler.of(rng, probabilities))),
+            Arguments.of("Alias method",
+                create(rng -> AliasMethodDiscreteSampler.of(rng, probabilities, -1))),
+            Arguments.of("Alias method zero-padded",
+                create(rng -> AliasMethodDiscreteSampler.of(rng, new double[] {0.1, 0.2, 0, 0.3, 0, 0}, 8))),
+            Arguments.of("FLDR double weights",
+                create(rng -> FastLoadedDiceRollerDiscreteSampler.of(rng, probabilities))),
+            Arguments.of("FLDR frequencies",
+                create(rng -> FastLoadedDiceRollerDiscreteSampler.of(rng, new long[] {3, 0, 5, 11, 1}))),
+            Arguments.of("FLDR fixed value",
+                create(rng -> FastLoadedDiceRollerDiscreteSampler.of(rng, new long[] {0, 0, 7}))),
+            Arguments.of("MTW Enumerated 8-bit",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Enumerated.of(rng, probabilities))),
+            Arguments.of("MTW Enumerated 16-bit",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Enumerated.of(rng, largeProbabilities))),
+            Arguments.of("MTW Enumerated 32-bit",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Enumerated.of(rng, sparseProbabilities))),
+            Arguments.of("MTW Poisson offset",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Poisson.of(rng, 1000))),
+            Arguments.of("MTW Binomial",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, 60, 0.25))),
+            Arguments.of("MTW Binomial inversion",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, 60, 0.75))),
+            Arguments.of("MTW Binomial fixed result",
+                create(rng -> MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, 60, 1)))
+        );
+    }
+
+    /**
+     * Helper to infer the type of the sampler factory.
+     *
+     * @param factory Sampler factory.
+     * @return the factory
+     */
+    private static Function<UniformRandomProvider, SharedStateDiscreteSampler> create(
+            Function<UniformRandomProvider, SharedStateDiscreteSampler> factory) {
+        return factory;
+    }
+
+    /**
+     * Test a sampler loaded from the saved tables outputs the same sequence as the
+     * original sampler. The tables are saved at a non-zero position of a big-endian
+     * buffer.
+     */
+    @ParameterizedTest(name = "{0}")
+    @MethodSource
+    void testSaveAndLoad(String name, Function<UniformRandomProvider, SharedStateDiscreteSampler> factory) {
+        final SharedStateDiscreteSampler sampler = factory.apply(RandomAssert.seededRNG());
+        Assertions.assertTrue(DiscreteSamplerTables.isSupported(sampler));
+        final int size = (int) DiscreteSamplerTables.getSize(sampler);
+        final int offset = 3;
+        final ByteBuffer buffer = ByteBuffer.allocate(size + 2 * offset);
+        buffer.position(offset);
+        DiscreteSamplerTables.save(sampler, buffer);
+        Assertions.assertEquals(offset + size, buffer.position(), "Save position");
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order(), "Save byte order");
+
+        buffer.position(offset);
+        final SharedStateDiscreteSampler loaded = DiscreteSamplerTables.load(RandomAssert.seededRNG(), buffer);
+        Assertions.assertEquals(offset + size, buffer.position(), "Load position");
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order(), "Load byte order");
+        Assertions.assertEquals(sampler.getClass(), loaded.getClass());
+        RandomAssert.assertProduceSameSequence(sampler, loaded);
+        // Use the same format in a little-endian direct buffer
+        final ByteBuffer direct = ByteBuffer.allocateDirect(size).order(ByteOrder.LITTLE_ENDIAN);
+        DiscreteSamplerTables.save(sampler, direct);
+        direct.flip();
+        buffer.position(offset);
+        buffer.limit(offset + size);
+        Assertions.assertEquals(buffer, direct);
+        RandomAssert.assertProduceSameSequence(
+            sampler.withUniformRandomProvider(RandomAssert.seededRNG()),
+            DiscreteSamplerTables.load(RandomAssert.seededRNG(), direct));
+    }
+
+    @Test
+    void testUnsupportedSampler() {
+        final SharedStateDiscreteSampler sampler =
+            GuideTableDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {0.5, 0.5});
+        Assertions.assertFalse(DiscreteSamplerTables.isSupported(sampler));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> DiscreteSamplerTables.getSize(sampler));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DiscreteSamplerTables.save(sampler, ByteBuffer.allocate(1000)));
+    }
+
+    @Test
+    void testSaveThrowsWithInsufficientBuffer() {
+        final SharedStateDiscreteSampler sampler =
+            AliasMethodDiscreteSampler.of(RandomAssert.seededRNG(), new double[] {0.1, 0.2, 0.3});
+        final ByteBuffer buffer = ByteBuffer.allocate((int) DiscreteSamplerTables.getSize(sampler) - 1);
+        Assertions.assertThrows(BufferOverflowException.class, () -> DiscreteSamplerTables.save(sampler, buffer));
+        Assertions.assertEquals(0, buffer.position());
+    }
+
+    @Test
+    void testLoadThrowsWithInvalidHeader() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ByteBuffer buffer = save(AliasMethodDiscreteSampler.of(rng, new double[] {0.1, 0.2, 0.3}));
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> DiscreteSamplerTables.load(rng, ByteBuffer.allocate(11)), "Missing header");
+        final int limit = buffer.limit();
+        for (final int[] change : new int[][] {
+            // Version
+            {0, 2},
+            // Sampler type
+            {4, 0}, {4, 42},
+            // Length
+            {8, -1}, {8, 2}, {8, limit - 11}, {8, limit - 13}}) {
+            final ByteBuffer bad = ByteBuffer.allocate(limit).order(ByteOrder.LITTLE_ENDIAN);
+            bad.put(buffer.duplicate()).flip();
+            bad.putInt(change[0], change[1]);
+            Assertions.assertThrows(IllegalStateException.class,
+                () -> DiscreteSamplerTables.load(rng, bad), () -> "Change: " + change[0]);
+        }
+        // Length does not match the tables
+        final ByteBuffer extra = ByteBuffer.allocate(limit + 4).order(ByteOrder.LITTLE_ENDIAN);
+        extra.put(buffer.duplicate()).putInt(0).flip();
+        extra.putInt(8, limit - 8);
+        Assertions.assertThrows(IllegalStateException.class, () -> DiscreteSamplerTables.load(rng, extra));
+    }
+
+    @Test
+    void testLoadThrowsWithInvalidAliasTable() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ByteBuffer buffer = save(AliasMethodDiscreteSampler.of(rng, new double[] {0.1, 0.2, 0.3}, -1));
+        // Header (12) + probability length (4) + alias length (4) + probability (3 * 8)
+        final int aliasStart = 12 + 8 + 3 * 8;
+        assertLoadThrows(buffer, 12, 4);
+        assertLoadThrows(buffer, 12, 0);
+        assertLoadThrows(buffer, 16, 2);
+        assertLoadThrows(buffer, 16, 0);
+        assertLoadThrows(buffer, aliasStart, -1);
+        assertLoadThrows(buffer, aliasStart + 4, 3);
+    }
+
+    @Test
+    void testLoadThrowsWithInvalidFLDRTable() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ByteBuffer buffer = save(FastLoadedDiceRollerDiscreteSampler.of(rng, new long[] {1, 2, 3}));
+        // Header (12) + type (4) + n (4) + k (4)
+        assertLoadThrows(buffer, 12, 2);
+        assertLoadThrows(buffer, 16, 0);
+        assertLoadThrows(buffer, 20, 0);
+        assertLoadThrows(buffer, 16, Integer.MAX_VALUE);
+        // Leaf node count
+        assertLoadThrows(buffer, 24, 5);
+        // Label (k = 3)
+        assertLoadThrows(buffer, 24 + 3 * 4, 4);
+        assertLoadThrows(buffer, 24 + 3 * 4, -1);
+    }
+
+    @Test
+    void testLoadThrowsWithInvalidMTWTable() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ByteBuffer buffer = save(MarsagliaTsangWangDiscreteSampler.Enumerated.of(rng,
+            new double[] {0.1, 0.2, 0.3}));
+        // Header (12) + type (4) + name ("Enumerated" = 4 + 10)
+        assertLoadThrows(buffer, 12, -1);
+        assertLoadThrows(buffer, 12, 5);
+        assertLoadThrows(buffer, 16, -1);
+        // Look-up table lengths
+        final int lengths = 12 + 4 + 14;
+        assertLoadThrows(buffer, lengths, buffer.getInt(lengths) - 1);
+        assertLoadThrows(buffer, lengths + 16, -1);
+        assertLoadThrows(buffer, lengths, Integer.MAX_VALUE);
+    }
+
+    @Test
+    void testLoadThrowsWithInvalidMTWInversionTable() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final ByteBuffer buffer = save(MarsagliaTsangWangDiscreteSampler.Binomial.of(rng, 60, 0.75));
+        // Header (12) + type (4) + trials (4) + inverted table type (4)
+        Assertions.assertEquals(4, buffer.getInt(12));
+        assertLoadThrows(buffer, 20, 3);
+        // Nested inversion tables are not supported
+        assertLoadThrows(buffer, 20, 4);
+        assertLoadThrows(buffer, 20, -1);
+    }
+
+    /**
+     * Save the sampler tables to a little-endian buffer.
+     *
+     * @param sampler Sampler.
+     * @return the buffer ready for reading
+     */
+    private static ByteBuffer save(SharedStateDiscreteSampler sampler) {
+        final ByteBuffer buffer = ByteBuffer.allocate((int) DiscreteSamplerTables.getSize(sampler))
+            .order(ByteOrder.LITTLE_ENDIAN);
+        DiscreteSamplerTables.save(sampler, buffer);
+        buffer.flip();
+        return buffer;
+    }
+
+    /**
+     * Assert loading the tables throws after changing an {@code int} in a copy of the buffer.
+     *
+     * @param buffer Buffer.
+     * @param index Index of the change.
+     * @param value Value.
+     */
+    private static void assertLoadThrows(ByteBuffer buffer, int index, int value) {
+        final ByteBuffer bad = ByteBuffer.allocate(buffer.limit()).order(ByteOrder.LITTLE_ENDIAN);
+        bad.put(buffer.duplicate()).flip();
+        bad.putInt(index, value);
+        Assertions.assertThrows(IllegalStateException.class,
+            () -> DiscreteSamplerTables.load(RandomAssert.seededRNG(), bad),
+            () -> "Change at " + index + " to " + value);
+    }
+}
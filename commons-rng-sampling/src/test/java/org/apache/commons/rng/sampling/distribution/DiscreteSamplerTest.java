@@ -16,13 +16,19 @@
  */
 package org.apache.commons.rng.sampling.distribution;
 
+import java.util.Spliterator;
 import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntConsumer;
+import java.util.stream.StreamSupport;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.sampling.RandomAssert;
+import org.apache.commons.rng.simple.RandomSource;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
 
 /**
@@ -55,6 +61,128 @@ class DiscreteSamplerTest {
                                      s2.samples(streamSize).toArray());
     }
 
+    @Test
+    void testSamplesIsSized() {
+        final DiscreteSampler s = RandomAssert.createRNG()::nextInt;
+        final Spliterator.OfInt spliterator = s.samples(42).spliterator();
+        Assertions.assertEquals(42, spliterator.getExactSizeIfKnown());
+        Assertions.assertNull(spliterator.trySplit());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> s.samples(-1));
+    }
+
+    @Test
+    void testSampleArray() {
+        final UniformRandomProvider[] rngs = RandomAssert.createRNG(2);
+        final DiscreteSampler s1 = rngs[0]::nextInt;
+        final DiscreteSampler s2 = rngs[1]::nextInt;
+        final int[] expected = new int[10];
+        for (int i = 2; i < 9; i++) {
+            expected[i] = s1.sample();
+        }
+        final int[] actual = new int[10];
+        s2.sample(actual, 2, 7);
+        Assertions.assertArrayEquals(expected, actual);
+        s2.sample(actual, 10, 0);
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    @ParameterizedTest
+    @CsvSource({"-1, 1", "0, -1", "0, 11", "10, 1", "1, 2147483647"})
+    void testSampleArrayThrows(int offset, int length) {
+        final DiscreteSampler s = RandomAssert.seededRNG()::nextInt;
+        final int[] out = new int[10];
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> s.sample(out, offset, length));
+    }
+
+    @Test
+    void testSharedStateSamplesSplit() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final SplittableUniformRandomProvider source1 = createSource(seed);
+        final SplittableUniformRandomProvider source2 = createSource(seed);
+        final SharedStateDiscreteSampler sampler = createSharedStateSampler(RandomAssert.createRNG());
+        Assertions.assertNull(sampler.samples(1, source1).spliterator().trySplit());
+        final Spliterator.OfInt s1 = sampler.samples(10, source1).spliterator();
+        final Spliterator.OfInt s2 = s1.trySplit();
+        Assertions.assertEquals(5, s1.getExactSizeIfKnown());
+        Assertions.assertEquals(5, s2.getExactSizeIfKnown());
+        // The prefix uses a split of the source
+        final int[] expected2 = createSamples(createSharedStateSampler(source2.split()), 5);
+        final int[] expected1 = createSamples(createSharedStateSampler(source2), 5);
+        Assertions.assertArrayEquals(expected1, StreamSupport.intStream(s1, false).toArray());
+        Assertions.assertArrayEquals(expected2, StreamSupport.intStream(s2, false).toArray());
+    }
+
+    @Test
+    void testSharedStateSamplesParallel() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final SharedStateDiscreteSampler sampler = createSharedStateSampler(RandomAssert.createRNG());
+        final int size = 1000;
+        final int[] samples = sampler.samples(size, createSource(seed)).parallel().toArray();
+        Assertions.assertEquals(size, samples.length);
+        Assertions.assertArrayEquals(samples, sampler.samples(size, createSource(seed)).parallel().toArray());
+        final SplittableUniformRandomProvider source = createSource(seed);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.samples(-1, source));
+        Assertions.assertThrows(NullPointerException.class, () -> sampler.samples(1, null));
+    }
+
+    @Test
+    void testSamplesTryAdvance() {
+        final long seed = ThreadLocalRandom.current().nextLong();
+        final int size = 3;
+        final int[] expected = createSamples(createSharedStateSampler(createSource(seed)), size);
+        final DiscreteSampler sampler = createSharedStateSampler(createSource(seed));
+        assertTryAdvance(expected, sampler.samples(size).spliterator());
+        assertTryAdvance(expected,
+            createSharedStateSampler(RandomAssert.createRNG()).samples(size, createSource(seed)).spliterator());
+    }
+
+    /**
+     * Assert the spliterator outputs the expected samples using {@code tryAdvance}.
+     *
+     * @param expected Expected samples.
+     * @param spliterator Spliterator.
+     */
+    private static void assertTryAdvance(int[] expected, Spliterator.OfInt spliterator) {
+        Assertions.assertThrows(NullPointerException.class, () -> spliterator.tryAdvance((IntConsumer) null));
+        final int[] actual = new int[expected.length];
+        for (int i = 0; i < expected.length; i++) {
+            final int index = i;
+            Assertions.assertTrue(spliterator.tryAdvance((int x) -> actual[index] = x));
+        }
+        Assertions.assertFalse(spliterator.tryAdvance((int x) -> Assertions.fail("Spliterator is exhausted")));
+        Assertions.assertArrayEquals(expected, actual);
+    }
+
+    /**
+     * Creates a splittable source of randomness.
+     *
+     * @param seed Seed.
+     * @return the source of randomness
+     */
+    private static SplittableUniformRandomProvider createSource(long seed) {
+        return (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create(seed);
+    }
+
+    /**
+     * Creates a shared state sampler that returns the output of the source of randomness.
+     *
+     * @param rng Source of randomness.
+     * @return the sampler
+     */
+    private static SharedStateDiscreteSampler createSharedStateSampler(UniformRandomProvider rng) {
+        return new SharedStateDiscreteSampler() {
+            @Override
+            public int sample() {
+                return rng.nextInt();
+            }
+
+            @Override
+            public SharedStateDiscreteSampler withUniformRandomProvider(UniformRandomProvider r) {
+                return createSharedStateSampler(r);
+            }
+        };
+    }
+
     /**
      * Creates an array of samples.
      *
@@ -190,6 +190,8 @@ public final class DiscreteSamplersList {
                 FastLoadedDiceRollerDiscreteSampler.of(RandomAssert.createRNG(), discreteFrequencies));
             add(LIST, discretePoints, discreteProbabilities,
                 FastLoadedDiceRollerDiscreteSampler.of(RandomAssert.createRNG(), discreteProbabilities));
+            add(LIST, discretePoints, discreteProbabilities,
+                DynamicDiscreteSampler.of(RandomAssert.createRNG(), discreteProbabilities));
         } catch (Exception e) {
             // CHECKSTYLE: stop Regexp
             System.err.println("Unexpected exception while creating the list of samplers: " + e);
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.math3.stat.inference.ChiSquareTest;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Test for the {@link DynamicDiscreteSampler}.
+ */
+class DynamicDiscreteSamplerTest {
+    @Test
+    void testConstructorThrowsWithNullWeights() {
+        assertConstructorThrows(null);
+    }
+
+    @Test
+    void testConstructorThrowsWithNegativeWeights() {
+        assertConstructorThrows(new double[] {-1, 0.1, 0.2});
+    }
+
+    @Test
+    void testConstructorThrowsWithNaNWeights() {
+        assertConstructorThrows(new double[] {0.1, Double.NaN, 0.2});
+    }
+
+    @Test
+    void testConstructorThrowsWithInfiniteWeights() {
+        assertConstructorThrows(new double[] {0.1, Double.POSITIVE_INFINITY, 0.2});
+    }
+
+    @Test
+    void testConstructorThrowsWithInfiniteSumWeights() {
+        assertConstructorThrows(new double[] {Double.MAX_VALUE, Double.MAX_VALUE});
+    }
+
+    /**
+     * Assert the factory constructor throws an {@link IllegalArgumentException}.
+     *
+     * @param weights the weights
+     */
+    private static void assertConstructorThrows(double[] weights) {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> DynamicDiscreteSampler.of(rng, weights));
+    }
+
+    @Test
+    void testSampleThrowsWithZeroWeights() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final DynamicDiscreteSampler sampler1 = DynamicDiscreteSampler.of(rng, new double[0]);
+        Assertions.assertThrows(IllegalStateException.class, sampler1::sample);
+        final DynamicDiscreteSampler sampler2 = DynamicDiscreteSampler.of(rng, new double[3]);
+        Assertions.assertThrows(IllegalStateException.class, sampler2::sample);
+        sampler2.setWeight(1, 2);
+        Assertions.assertEquals(1, sampler2.sample());
+        sampler2.setWeight(1, 0);
+        Assertions.assertThrows(IllegalStateException.class, sampler2::sample);
+    }
+
+    /**
+     * Test sampling repeats the search when round-off identifies an invalid value.
+     */
+    @Test
+    void testSampleWithRoundOff() {
+        // The total of the partial sums is rounded up. The maximum deviate identifies the
+        // value after the last non-zero weight which is outside the range, or has a zero weight.
+        for (final double[] weights : new double[][] {{0x3.0p-53, 0x3.0p-53, 3}, {0x3.0p-53, 0x3.0p-53, 3, 0}}) {
+            final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(createRNG(-1, 0), weights);
+            Assertions.assertEquals(0, sampler.sample());
+        }
+        // Round-off in the update of the partial sums computes a zero total weight
+        final DynamicDiscreteSampler sampler =
+            DynamicDiscreteSampler.of(createRNG(0, 0), new double[] {1, 0x1.0p60});
+        sampler.setWeight(1, 0);
+        Assertions.assertEquals(0, sampler.getTotalWeight());
+        Assertions.assertEquals(0, sampler.sample());
+        Assertions.assertEquals(1, sampler.getTotalWeight());
+    }
+
+    @Test
+    void testUpdateThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, new double[] {1, 2, 3});
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.setWeight(-1, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.setWeight(3, 1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler.getWeight(3));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, -1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(0, Double.NaN));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.add(Double.POSITIVE_INFINITY));
+        sampler.setWeight(0, Double.MAX_VALUE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.setWeight(1, Double.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> sampler.add(Double.MAX_VALUE));
+        // Unchanged
+        Assertions.assertEquals(3, sampler.size());
+        Assertions.assertEquals(2, sampler.getWeight(1));
+    }
+
+    @Test
+    void testAddAndSetWeight() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, new double[0]);
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(i, sampler.add(i));
+            Assertions.assertEquals(i + 1, sampler.size());
+            Assertions.assertEquals(i, sampler.getWeight(i));
+            Assertions.assertEquals(i * (i + 1) / 2.0, sampler.getTotalWeight());
+        }
+        sampler.setWeight(3, 0.5);
+        Assertions.assertEquals(0.5, sampler.getWeight(3));
+        Assertions.assertEquals(42.5, sampler.getTotalWeight());
+    }
+
+    @Test
+    void testToString() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final SharedStateDiscreteSampler sampler = DynamicDiscreteSampler.of(rng, new double[] {0.5, 0.5});
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("dynamic discrete"));
+    }
+
+    /**
+     * Test sampling from a non-uniform distribution of weights with extra zero-values.
+     * The size is chosen to test the tree when the size is below or equal to a power of 2.
+     */
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7, 8})
+    void testNonUniformSamples(int size) {
+        final double[] expected = new double[size];
+        for (int i = 0; i < size; i++) {
+            expected[i] = i % 3 == 1 ? 0 : i + 1;
+        }
+        checkSamples(DynamicDiscreteSampler.of(RandomAssert.createRNG(), expected), expected);
+    }
+
+    /**
+     * Test sampling after the weights are updated and new weights are added.
+     */
+    @Test
+    void testSamplesAfterUpdates() {
+        final double[] initial = {3, 1, 4, 1, 5};
+        final DynamicDiscreteSampler sampler = DynamicDiscreteSampler.of(RandomAssert.createRNG(), initial);
+        final double[] expected = {0, 2, 0.5, 6, 5, 0, 2, 9, 1};
+        sampler.setWeight(0, 0);
+        sampler.setWeight(1, 2);
+        sampler.setWeight(2, 0.5);
+        sampler.setWeight(3, 6);
+        for (int i = initial.length; i < expected.length; i++) {
+            sampler.add(expected[i]);
+        }
+        checkSamples(sampler, expected);
+        // Many updates to force the partial sums to be recomputed
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        for (int i = 0; i < 100; i++) {
+            sampler.setWeight(rng.nextInt(expected.length), rng.nextDouble() * 10);
+        }
+        for (int i = 0; i < expected.length; i++) {
+            sampler.setWeight(i, expected[i]);
+        }
+        checkSamples(sampler, expected);
+    }
+
+    /**
+     * Check the distribution of samples match the expected weights.
+     *
+     * <p>If the expected weight is zero then this should never be sampled. The non-zero
+     * weights are compared to the sample distribution using a Chi-square test.</p>
+     *
+     * @param sampler the sampler
+     * @param weights the weights
+     */
+    private static void checkSamples(DynamicDiscreteSampler sampler, double[] weights) {
+        final int numberOfSamples = 10000;
+        final long[] samples = new long[weights.length];
+        for (int i = 0; i < numberOfSamples; i++) {
+            samples[sampler.sample()]++;
+        }
+
+        // Handle a test with some zero-weight observations by mapping them out.
+        int mapSize = 0;
+        for (final double w : weights) {
+            if (w != 0) {
+                mapSize++;
+            }
+        }
+        if (mapSize == 1) {
+            // A single non-zero weight is always sampled
+            for (int i = 0; i < weights.length; i++) {
+                Assertions.assertEquals(weights[i] == 0 ? 0 : numberOfSamples, samples[i]);
+            }
+            return;
+        }
+
+        final double[] expected = new double[mapSize];
+        final long[] observed = new long[mapSize];
+        for (int i = 0; i < weights.length; i++) {
+            if (weights[i] == 0) {
+                Assertions.assertEquals(0, samples[i], "No samples expected from zero weight");
+            } else {
+                --mapSize;
+                expected[mapSize] = weights[i];
+                observed[mapSize] = samples[i];
+            }
+        }
+
+        final ChiSquareTest chiSquareTest = new ChiSquareTest();
+        // Pass if we cannot reject null hypothesis that the distributions are the same.
+        Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
+    }
+
+    /**
+     * Test the SharedStateSampler implementation.
+     */
+    @Test
+    void testSharedStateSampler() {
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final double[] weights = {0.1, 0, 0.2, 0.3, 0.1, 0.3, 0};
+        final DynamicDiscreteSampler sampler1 = DynamicDiscreteSampler.of(rng1, weights);
+        final DynamicDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    /**
+     * Test the sampler created with a new source of randomness has a copy of the weights.
+     */
+    @Test
+    void testSharedStateSamplerCopiesWeights() {
+        final double[] weights = {0.1, 0.2, 0.3};
+        final DynamicDiscreteSampler sampler1 = DynamicDiscreteSampler.of(RandomAssert.seededRNG(), weights);
+        final DynamicDiscreteSampler sampler2 = sampler1.withUniformRandomProvider(RandomAssert.seededRNG());
+        sampler1.setWeight(1, 0);
+        sampler1.add(1);
+        Assertions.assertEquals(0.2, sampler2.getWeight(1));
+        Assertions.assertEquals(3, sampler2.size());
+    }
+
+    /**
+     * Creates a source of randomness that returns the values in order.
+     *
+     * @param values Values.
+     * @return the source of randomness
+     */
+    private static UniformRandomProvider createRNG(long... values) {
+        return new UniformRandomProvider() {
+            private int i;
+
+            @Override
+            public long nextLong() {
+                return values[i++];
+            }
+        };
+    }
+}
@@ -222,6 +222,44 @@ class GuideTableDiscreteSamplerTest {
         Assertions.assertFalse(chiSquareTest.chiSquareTest(expected, observed, 0.001));
     }
 
+    @Test
+    void testParallelConstructorThrows() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] p = {0.1, -1, 0.2};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, 0, i -> 1, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, p.length, i -> p[i], 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, 3, i -> Double.NaN, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, 3, i -> 0, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, 2, i -> Double.MAX_VALUE, 1.0));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> GuideTableDiscreteSampler.ofParallel(rng, 2, i -> 1, 0.0));
+    }
+
+    /**
+     * Test parallel construction matches the sequential construction. The size is large
+     * enough to use parallel prefix sums. The cumulative probabilities may differ by
+     * round-off which is not expected to change the samples.
+     */
+    @ParameterizedTest
+    @ValueSource(doubles = {1.0, 0.1, 10.0})
+    void testParallelMatchesSequential(double alpha) {
+        final int size = 1 << 16;
+        final double[] probabilities = RandomAssert.seededRNG().doubles(size).toArray();
+        for (int i = 0; i < size; i += 3) {
+            probabilities[i] = 0;
+        }
+        final SharedStateDiscreteSampler sampler1 =
+            GuideTableDiscreteSampler.of(RandomAssert.seededRNG(), probabilities, alpha);
+        final SharedStateDiscreteSampler sampler2 =
+            GuideTableDiscreteSampler.ofParallel(RandomAssert.seededRNG(), size, i -> probabilities[i], alpha);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
     /**
      * Test the SharedStateSampler implementation.
      */
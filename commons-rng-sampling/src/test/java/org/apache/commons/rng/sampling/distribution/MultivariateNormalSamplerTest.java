@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.sampling.distribution;
+
+import org.apache.commons.math3.linear.Array2DRowRealMatrix;
+import org.apache.commons.math3.stat.correlation.Covariance;
+import org.apache.commons.math3.stat.descriptive.moment.Mean;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.sampling.RandomAssert;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test for {@link MultivariateNormalSampler}.
+ */
+class MultivariateNormalSamplerTest {
+    /** A lower triangular matrix with a positive diagonal. */
+    private static final double[][] FACTOR = {
+        {2, 0, 0},
+        {1, 3, 0},
+        {-1, 0.5, 1.5},
+    };
+
+    @Test
+    void testThrowsWithEmptyMean() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] mean = {};
+        final double[][] covariance = {};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, covariance));
+    }
+
+    @Test
+    void testThrowsWithMismatchedDimensions() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] mean = {1, 2};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 0}, {0}}));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 0, 0}, {0, 1, 0}}));
+    }
+
+    @Test
+    void testThrowsWithNonFiniteValues() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[][] covariance = {{1, 0}, {0, 1}};
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, new double[] {1, Double.NaN}, covariance));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, new double[] {1, 2},
+                new double[][] {{1, 0}, {Double.POSITIVE_INFINITY, 1}}));
+    }
+
+    @Test
+    void testThrowsWithNonPositiveDefiniteCovariance() {
+        final UniformRandomProvider rng = RandomAssert.seededRNG();
+        final double[] mean = {1, 2};
+        // Singular
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 1}, {1, 1}}));
+        // Indefinite
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{1, 2}, {2, 1}}));
+        // Negative variance
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MultivariateNormalSampler.of(rng, mean, new double[][] {{-1, 0}, {0, 1}}));
+    }
+
+    /**
+     * Test the sample is computed as {@code mean + L z} using a standard normal deviate
+     * {@code z} from the same source of randomness.
+     */
+    @Test
+    void testSampleUsesCholeskyFactor() {
+        final double[] mean = {1.5, -2, 3};
+        final double[][] covariance = multiplyTranspose(FACTOR);
+        // Upper triangle is ignored
+        covariance[0][2] = Double.NaN;
+        final MultivariateNormalSampler sampler =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), mean, covariance);
+        Assertions.assertEquals(mean.length, sampler.getDimension());
+        final ZigguratSampler.NormalizedGaussian gaussian =
+            ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        for (int n = 0; n < 10; n++) {
+            final double[] z = {gaussian.sample(), gaussian.sample(), gaussian.sample()};
+            final double[] x = sampler.sample();
+            for (int i = 0; i < mean.length; i++) {
+                double expected = mean[i];
+                for (int j = 0; j <= i; j++) {
+                    expected += FACTOR[i][j] * z[j];
+                }
+                Assertions.assertEquals(expected, x[i], 1e-12 * (1 + Math.abs(expected)));
+            }
+        }
+    }
+
+    @Test
+    void testOneDimension() {
+        final double mean = 3.5;
+        final double sd = 1.25;
+        final MultivariateNormalSampler sampler =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), new double[] {mean},
+                                         new double[][] {{sd * sd}});
+        final ZigguratSampler.NormalizedGaussian gaussian =
+            ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        for (int n = 0; n < 10; n++) {
+            Assertions.assertEquals(mean + sd * gaussian.sample(), sampler.sample()[0]);
+        }
+    }
+
+    @Test
+    void testSampleWithOffset() {
+        final double[] mean = {1.5, -2, 3};
+        final double[][] covariance = multiplyTranspose(FACTOR);
+        final MultivariateNormalSampler sampler1 =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), mean, covariance);
+        final MultivariateNormalSampler sampler2 = sampler1.withUniformRandomProvider(RandomAssert.seededRNG());
+        final double[] out = new double[8];
+        sampler1.sample(out, 0);
+        sampler1.sample(out, 4);
+        final double[] x1 = sampler2.sample();
+        final double[] x2 = sampler2.sample();
+        Assertions.assertArrayEquals(new double[] {x1[0], x1[1], x1[2], 0, x2[0], x2[1], x2[2], 0}, out);
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler1.sample(out, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> sampler1.sample(out, 6));
+    }
+
+    @Test
+    void testInputArraysAreCopied() {
+        final double[] mean = {1.5, -2, 3};
+        final double[][] covariance = multiplyTranspose(FACTOR);
+        final MultivariateNormalSampler sampler1 =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), mean, covariance);
+        final MultivariateNormalSampler sampler2 =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), mean.clone(), multiplyTranspose(FACTOR));
+        mean[0] = 42;
+        covariance[1][1] = 42;
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    @Test
+    void testSharedStateSampler() {
+        final double[] mean = {1.5, -2, 3};
+        final double[][] covariance = multiplyTranspose(FACTOR);
+        final UniformRandomProvider rng1 = RandomAssert.seededRNG();
+        final UniformRandomProvider rng2 = RandomAssert.seededRNG();
+        final MultivariateNormalSampler sampler1 = MultivariateNormalSampler.of(rng1, mean, covariance);
+        final MultivariateNormalSampler sampler2 = sampler1.withUniformRandomProvider(rng2);
+        RandomAssert.assertProduceSameSequence(sampler1, sampler2);
+    }
+
+    /**
+     * Test the toString method. This is added to ensure coverage.
+     */
+    @Test
+    void testToString() {
+        final MultivariateNormalSampler sampler =
+            MultivariateNormalSampler.of(RandomAssert.seededRNG(), new double[] {0}, new double[][] {{1}});
+        Assertions.assertTrue(sampler.toString().toLowerCase().contains("multivariate normal"));
+    }
+
+    @Test
+    void testSampling() {
+        assertSamples(new double[] {1.5, -2, 3}, multiplyTranspose(FACTOR));
+    }
+
+    @Test
+    void testSamplingWithDiagonalCovariance() {
+        assertSamples(new double[] {0, 10}, new double[][] {{0.5, 0}, {0, 4}});
+    }
+
+    /**
+     * Assert samples from the distribution. The variates are tested against the expected
+     * mean and covariance.
+     *
+     * @param mean Mean.
+     * @param covariance Covariance.
+     */
+    private static void assertSamples(double[] mean, double[][] covariance) {
+        // No fixed seed. Failed tests will be repeated by the JUnit test runner.
+        final UniformRandomProvider rng = RandomAssert.createRNG();
+        final MultivariateNormalSampler sampler = MultivariateNormalSampler.of(rng, mean, covariance);
+        final int k = mean.length;
+        final double[][] samples = new double[100000][];
+        for (int i = 0; i < samples.length; i++) {
+            samples[i] = sampler.sample();
+        }
+
+        // Use a moderate tolerance relative to the scale of the data.
+        final double relativeTolerance = 5e-2;
+
+        final double[] means = getColumnMeans(samples);
+        for (int i = 0; i < k; i++) {
+            final double sd = Math.sqrt(covariance[i][i]);
+            Assertions.assertEquals(mean[i], means[i], sd * relativeTolerance, "Mean");
+        }
+
+        final double[][] covars = getCovariance(samples);
+        for (int i = 0; i < k; i++) {
+            for (int j = 0; j <= i; j++) {
+                final double scale = Math.sqrt(covariance[i][i] * covariance[j][j]);
+                Assertions.assertEquals(covariance[i][j], covars[i][j], scale * relativeTolerance, "Covariance");
+            }
+        }
+    }
+
+    /**
+     * Compute {@code L L^T}.
+     *
+     * @param l Matrix.
+     * @return the product
+     */
+    private static double[][] multiplyTranspose(double[][] l) {
+        final int n = l.length;
+        final double[][] c = new double[n][n];
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                double sum = 0;
+                for (int k = 0; k < n; k++) {
+                    sum += l[i][k] * l[j][k];
+                }
+                c[i][j] = sum;
+            }
+        }
+        return c;
+    }
+
+    /**
+     * Gets the column means. This is done using the same method as the means in the
+     * Apache Commons Math Covariance class by using the Mean class.
+     *
+     * @param data the data
+     * @return the column means
+     */
+    private static double[] getColumnMeans(double[][] data) {
+        final Array2DRowRealMatrix m = new Array2DRowRealMatrix(data, false);
+        final Mean mean = new Mean();
+        final double[] means = new double[m.getColumnDimension()];
+        for (int i = 0; i < means.length; i++) {
+            means[i] = mean.evaluate(m.getColumn(i));
+        }
+        return means;
+    }
+
+    /**
+     * Gets the covariance.
+     *
+     * @param data the data
+     * @return the covariance
+     */
+    private static double[][] getCovariance(double[][] data) {
+        final Array2DRowRealMatrix m = new Array2DRowRealMatrix(data, false);
+        return new Covariance(m).getCovarianceMatrix().getData();
+    }
+}
@@ -95,6 +95,36 @@ class ZigguratSamplerTest {
         RandomAssert.assertProduceSameSequence(sampler1, sampler2);
     }
 
+    /**
+     * Test the exponential bulk sample method matches the single sample method.
+     */
+    @Test
+    void testExponentialSampleArray() {
+        final ZigguratSampler.Exponential sampler = ZigguratSampler.Exponential.of(RandomAssert.seededRNG());
+        RandomAssert.assertSampleArrayMatchesSequence(sampler,
+            sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+    }
+
+    /**
+     * Test the exponential bulk sample method with a mean matches the single sample method.
+     */
+    @Test
+    void testExponentialSampleArrayWithMean() {
+        final ZigguratSampler.Exponential sampler = ZigguratSampler.Exponential.of(RandomAssert.seededRNG(), 1.23);
+        RandomAssert.assertSampleArrayMatchesSequence(sampler,
+            sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+    }
+
+    /**
+     * Test the Gaussian bulk sample method matches the single sample method.
+     */
+    @Test
+    void testGaussianSampleArray() {
+        final ZigguratSampler.NormalizedGaussian sampler = ZigguratSampler.NormalizedGaussian.of(RandomAssert.seededRNG());
+        RandomAssert.assertSampleArrayMatchesSequence(sampler,
+            sampler.withUniformRandomProvider(RandomAssert.seededRNG()));
+    }
+
     /**
      * Test the recursion in the exponential distribution.
      */
@@ -0,0 +1,480 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.core.BaseProvider;
+
+/**
+ * Stores the state of a large number of generators of the same {@link RandomSource}
+ * in a memory-mapped file.
+ *
+ * <p>Each generator is identified by an index and has a fixed-size record in the file.
+ * The state of a generator is saved to its record using {@link #save(long, RestorableUniformRandomProvider)}
+ * and restored using {@link #restore(long, RestorableUniformRandomProvider)}; this is
+ * equivalent to using the {@link RestorableUniformRandomProvider#saveState() saveState()}
+ * and {@link RestorableUniformRandomProvider#restoreState(org.apache.commons.rng.RandomProviderState)
+ * restoreState(RandomProviderState)} methods of the generator. The state is written
+ * directly to the file mapping and does not create objects on the heap. This allows
+ * checkpoints of populations of generators that would not fit in memory.
+ *
+ * <p>The file is divided into segments that are mapped separately. Changes are written
+ * to the file by the operating system; {@link #flush()} forces only the segments that have
+ * been modified since the last flush to be written to the storage device.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * import org.apache.commons.rng.simple.MappedCheckpointStore;
+ * import org.apache.commons.rng.simple.RandomSource;
+ *
+ * try (MappedCheckpointStore store = MappedCheckpointStore.create(path, RandomSource.XO_SHI_RO_256_PP, agents)) {
+ *     for (int i = 0; i &lt; agents; i++) {
+ *         store.save(i, agent[i].getRandom());
+ *     }
+ *     store.flush();
+ * }
+ *
+ * // Later
+ * try (MappedCheckpointStore store = MappedCheckpointStore.open(path, RandomSource.XO_SHI_RO_256_PP)) {
+ *     RestorableUniformRandomProvider rng = store.restore(42);
+ * }
+ * </code></pre>
+ *
+ * <p>Records with different indices can be saved and restored concurrently by
+ * different threads. Concurrent access to the same record, or to any record during
+ * {@link #flush()} and {@link #close()}, requires external synchronization.
+ *
+ * <p>Note: Only generators that are created by the {@link RandomSource} without
+ * additional arguments are supported.
+ *
+ * @since 1.7
+ */
+public final class MappedCheckpointStore implements Closeable {
+    /** Identifies the file format ("RNGSTATE" in ASCII). */
+    private static final long MAGIC = 0x524e475354415445L;
+    /** Version of the file format. */
+    private static final int FORMAT_VERSION = 1;
+    /** Size of the file header. */
+    private static final int HEADER_BYTES = 64;
+    /** Maximum length of the random source name in the header. */
+    private static final int MAX_NAME_LENGTH = HEADER_BYTES - 28;
+    /** Size of each mapped segment. */
+    private static final int SEGMENT_BYTES = 1 << 26;
+    /** Initial size of the buffer used to measure the state size. */
+    private static final int INITIAL_STATE_BYTES = 256;
+    /** Error message when the store is closed. */
+    private static final String CLOSED = "Store is closed";
+
+    /** The source of the generators. */
+    private final RandomSource source;
+    /** The number of records. */
+    private final long capacity;
+    /** The size of each record. */
+    private final int recordBytes;
+    /** The number of records in each segment. */
+    private final int recordsPerSegment;
+    /** The mapped segments. */
+    private final MappedByteBuffer[] segments;
+    /** Flag for each segment indicating it has been modified since the last flush. */
+    private final boolean[] dirty;
+    /** Set to true when the store is closed. */
+    private boolean closed;
+
+    /**
+     * @param source Source of the generators.
+     * @param capacity Number of records.
+     * @param recordBytes Size of each record.
+     * @param recordsPerSegment Number of records in each segment.
+     * @param segments Mapped segments.
+     */
+    private MappedCheckpointStore(RandomSource source,
+                                  long capacity,
+                                  int recordBytes,
+                                  int recordsPerSegment,
+                                  MappedByteBuffer[] segments) {
+        this.source = source;
+        this.capacity = capacity;
+        this.recordBytes = recordBytes;
+        this.recordsPerSegment = recordsPerSegment;
+        this.segments = segments;
+        dirty = new boolean[segments.length];
+    }
+
+    /**
+     * Creates a new store in the specified file. The file must not exist.
+     *
+     * <p>The size of each record is determined using a generator created by the
+     * {@code source}.
+     *
+     * @param file File.
+     * @param source Source of the generators.
+     * @param capacity Number of generators.
+     * @return the store
+     * @throws IllegalArgumentException if {@code capacity <= 0}, or the capacity is too
+     * large, or the source requires additional arguments to create a generator.
+     * @throws IOException if an I/O error occurs, or the file exists
+     */
+    public static MappedCheckpointStore create(Path file,
+                                               RandomSource source,
+                                               long capacity) throws IOException {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be strictly positive: " + capacity);
+        }
+        final int recordBytes = stateBytes(source);
+        if (!isValidCapacity(capacity, recordBytes)) {
+            throw new IllegalArgumentException("Capacity is too large: " + capacity);
+        }
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.CREATE_NEW,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            final byte[] name = source.name().getBytes(StandardCharsets.US_ASCII);
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            header.putLong(MAGIC)
+                  .putInt(FORMAT_VERSION)
+                  .putInt(recordBytes)
+                  .putLong(capacity)
+                  .putInt(name.length)
+                  .put(name)
+                  .clear();
+            writeFully(channel, header);
+            return map(channel, source, capacity, recordBytes);
+        }
+    }
+
+    /**
+     * Opens an existing store in the specified file.
+     *
+     * @param file File.
+     * @param source Source of the generators.
+     * @return the store
+     * @throws IllegalArgumentException if the store was created for a different source.
+     * @throws IOException if an I/O error occurs, or the file is not a valid store
+     */
+    public static MappedCheckpointStore open(Path file,
+                                             RandomSource source) throws IOException {
+        try (FileChannel channel = FileChannel.open(file,
+                                                    StandardOpenOption.READ,
+                                                    StandardOpenOption.WRITE)) {
+            final ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES).order(ByteOrder.LITTLE_ENDIAN);
+            if (!readFully(channel, header)) {
+                throw new IOException("Missing header");
+            }
+            header.flip();
+            if (header.getLong() != MAGIC) {
+                throw new IOException("Not a checkpoint store");
+            }
+            final int version = header.getInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported format version: " + version);
+            }
+            final int recordBytes = header.getInt();
+            final long capacity = header.getLong();
+            final int length = header.getInt();
+            if (recordBytes <= 0 || !isValidCapacity(capacity, recordBytes) ||
+                length < 0 || length > MAX_NAME_LENGTH ||
+                channel.size() < HEADER_BYTES + capacity * recordBytes) {
+                throw new IOException("Invalid header");
+            }
+            header.limit(header.position() + length);
+            final String sourceName = StandardCharsets.US_ASCII.decode(header).toString();
+            if (!source.name().equals(sourceName)) {
+                throw new IllegalArgumentException("Store was created for " + sourceName);
+            }
+            return map(channel, source, capacity, recordBytes);
+        }
+    }
+
+    /**
+     * Gets the source of the generators.
+     *
+     * @return the source
+     */
+    public RandomSource getRandomSource() {
+        return source;
+    }
+
+    /**
+     * Gets the number of generators that can be stored.
+     *
+     * @return the capacity
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Saves the state of the generator to the record at the specified index.
+     *
+     * @param index Index.
+     * @param rng Generator.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the generator was not created by the source
+     * of the store.
+     * @throws IllegalStateException if the store is closed.
+     */
+    public void save(long index, RestorableUniformRandomProvider rng) {
+        final BaseProvider provider = checkProvider(rng);
+        final ByteBuffer record = record(index);
+        try {
+            provider.saveState(record);
+        } catch (BufferOverflowException ex) {
+            throw new IllegalArgumentException("State does not fit the record size: " + recordBytes, ex);
+        }
+        dirty[segment(index)] = true;
+    }
+
+    /**
+     * Restores the state of the generator from the record at the specified index.
+     *
+     * @param index Index.
+     * @param rng Generator.
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalArgumentException if the generator was not created by the source
+     * of the store.
+     * @throws IllegalStateException if the store is closed, no state has been saved
+     * at the index, or the saved state is invalid.
+     */
+    public void restore(long index, RestorableUniformRandomProvider rng) {
+        final BaseProvider provider = checkProvider(rng);
+        final ByteBuffer record = record(index);
+        if (record.getInt(record.position()) == 0) {
+            throw new IllegalStateException("No state saved at index: " + index);
+        }
+        provider.restoreState(record);
+    }
+
+    /**
+     * Creates a generator with the state from the record at the specified index.
+     *
+     * @param index Index.
+     * @return the generator
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalStateException if the store is closed, no state has been saved
+     * at the index, or the saved state is invalid.
+     */
+    public RestorableUniformRandomProvider restore(long index) {
+        // Any seed can be used as the state is replaced
+        final RestorableUniformRandomProvider rng = source.create(index);
+        restore(index, rng);
+        return rng;
+    }
+
+    /**
+     * Forces any changes made to the store since the last flush to be written to the
+     * storage device.
+     *
+     * @throws IllegalStateException if the store is closed.
+     */
+    public void flush() {
+        final MappedByteBuffer[] s = checkOpen();
+        for (int i = 0; i < s.length; i++) {
+            if (dirty[i]) {
+                // Clear before the write so any concurrent change is not lost
+                dirty[i] = false;
+                s[i].force();
+            }
+        }
+    }
+
+    /**
+     * Flushes any changes and closes the store.
+     *
+     * <p>Note: The memory mapping is released when the store is garbage collected.
+     */
+    @Override
+    public void close() {
+        if (!closed) {
+            flush();
+            closed = true;
+        }
+    }
+
+    /**
+     * Checks the generator is supported by the store.
+     *
+     * @param rng Generator.
+     * @return the generator
+     * @throws IllegalArgumentException if the generator was not created by the source
+     * of the store.
+     */
+    private BaseProvider checkProvider(RestorableUniformRandomProvider rng) {
+        if (rng.getClass() != source.getInternalIdentifier().getRng()) {
+            throw new IllegalArgumentException("Generator was not created by " + source + ": " + rng);
+        }
+        return (BaseProvider) rng;
+    }
+
+    /**
+     * Gets the segments.
+     *
+     * @return the segments
+     * @throws IllegalStateException if the store is closed.
+     */
+    private MappedByteBuffer[] checkOpen() {
+        if (closed) {
+            throw new IllegalStateException(CLOSED);
+        }
+        return segments;
+    }
+
+    /**
+     * Gets the segment containing the record.
+     *
+     * @param index Index.
+     * @return the segment
+     */
+    private int segment(long index) {
+        return (int) (index / recordsPerSegment);
+    }
+
+    /**
+     * Gets a view of the record at the specified index.
+     *
+     * @param index Index.
+     * @return the record
+     * @throws IndexOutOfBoundsException if the index is out of bounds.
+     * @throws IllegalStateException if the store is closed.
+     */
+    private ByteBuffer record(long index) {
+        if (index < 0 || index >= capacity) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + capacity);
+        }
+        final MappedByteBuffer[] s = checkOpen();
+        final int position = (int) (index % recordsPerSegment) * recordBytes;
+        // Use a view to support concurrent access to different records
+        final ByteBuffer record = s[segment(index)].duplicate();
+        record.limit(position + recordBytes).position(position);
+        return record;
+    }
+
+    /**
+     * Maps the records of the file into memory.
+     *
+     * <p>The mapping remains valid after the channel is closed.
+     *
+     * @param channel File.
+     * @param source Source of the generators.
+     * @param capacity Number of records.
+     * @param recordBytes Size of each record.
+     * @return the store
+     * @throws IOException if an I/O error occurs
+     */
+    private static MappedCheckpointStore map(FileChannel channel,
+                                             RandomSource source,
+                                             long capacity,
+                                             int recordBytes) throws IOException {
+        final int recordsPerSegment = getRecordsPerSegment(recordBytes);
+        final int count = (int) ((capacity + recordsPerSegment - 1) / recordsPerSegment);
+        final MappedByteBuffer[] segments = new MappedByteBuffer[count];
+        for (int i = 0; i < segments.length; i++) {
+            final long first = (long) i * recordsPerSegment;
+            final long records = Math.min(recordsPerSegment, capacity - first);
+            segments[i] = channel.map(FileChannel.MapMode.READ_WRITE,
+                                      HEADER_BYTES + first * recordBytes,
+                                      records * recordBytes);
+        }
+        return new MappedCheckpointStore(source, capacity, recordBytes, recordsPerSegment, segments);
+    }
+
+    /**
+     * Gets the number of records in each mapped segment.
+     *
+     * @param recordBytes Size of each record.
+     * @return the number of records
+     */
+    private static int getRecordsPerSegment(int recordBytes) {
+        return Math.max(1, SEGMENT_BYTES / recordBytes);
+    }
+
+    /**
+     * Checks the capacity is strictly positive and the records can be mapped. The size
+     * of the file must not overflow a {@code long} and the number of mapped segments must
+     * not overflow an {@code int}.
+     *
+     * @param capacity Number of records.
+     * @param recordBytes Size of each record (must be strictly positive).
+     * @return true if the capacity is valid
+     */
+    private static boolean isValidCapacity(long capacity, int recordBytes) {
+        return capacity > 0 &&
+            capacity <= (Long.MAX_VALUE - HEADER_BYTES) / recordBytes &&
+            capacity <= (long) Integer.MAX_VALUE * getRecordsPerSegment(recordBytes);
+    }
+
+    /**
+     * Gets the number of bytes required to store the state of a generator from the source.
+     *
+     * @param source Source of the generators.
+     * @return the size of the state
+     * @throws IllegalArgumentException if the source requires additional arguments
+     * to create a generator.
+     */
+    private static int stateBytes(RandomSource source) {
+        final BaseProvider rng = (BaseProvider) source.create();
+        for (int size = INITIAL_STATE_BYTES;; size <<= 1) {
+            final ByteBuffer buffer = ByteBuffer.allocate(size);
+            try {
+                rng.saveState(buffer);
+                // Align records to 8 bytes
+                return (buffer.position() + 7) & -8;
+            } catch (BufferOverflowException ignored) {
+                // Try again with a larger buffer
+            }
+        }
+    }
+
+    /**
+     * Reads from the channel until the buffer is full.
+     *
+     * @param channel Channel.
+     * @param buffer Buffer.
+     * @return true if the buffer was filled; false if the end of the channel was reached
+     * @throws IOException if an I/O error occurs
+     */
+    private static boolean readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Writes the entire buffer to the channel.
+     *
+     * @param channel Channel.
+     * @param buffer Buffer.
+     * @throws IOException if an I/O error occurs
+     */
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
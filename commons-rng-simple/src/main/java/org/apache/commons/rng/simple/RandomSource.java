@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.simple;
 
+import java.nio.ByteBuffer;
 import java.util.stream.DoubleStream;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -661,7 +662,52 @@ public enum RandomSource {
      * </ul>
      * @since 1.5
      */
-    L32_X64_MIX(ProviderBuilder.RandomSourceInternal.L32_X64_MIX);
+    L32_X64_MIX(ProviderBuilder.RandomSourceInternal.L32_X64_MIX),
+    /**
+     * Source of randomness is {@link org.apache.commons.rng.core.source32.Philox4x32}.
+     * <ul>
+     *  <li>Native seed type: {@code int[]}.</li>
+     *  <li>Native seed size: 6.</li>
+     * </ul>
+     * @since 1.7
+     */
+    PHILOX_4X32(ProviderBuilder.RandomSourceInternal.PHILOX_4X32),
+    /**
+     * Source of randomness is {@link org.apache.commons.rng.core.source64.Philox4x64}.
+     * <ul>
+     *  <li>Native seed type: {@code long[]}.</li>
+     *  <li>Native seed size: 6.</li>
+     * </ul>
+     * @since 1.7
+     */
+    PHILOX_4X64(ProviderBuilder.RandomSourceInternal.PHILOX_4X64),
+    /**
+     * Source of randomness is {@link org.apache.commons.rng.core.source64.Threefry4x64}.
+     * <ul>
+     *  <li>Native seed type: {@code long[]}.</li>
+     *  <li>Native seed size: 8.</li>
+     * </ul>
+     * @since 1.7
+     */
+    THREEFRY_4X64(ProviderBuilder.RandomSourceInternal.THREEFRY_4X64),
+    /**
+     * Source of randomness is {@link org.apache.commons.rng.core.source32.Squares32}.
+     * <ul>
+     *  <li>Native seed type: {@code long[]}.</li>
+     *  <li>Native seed size: 2.</li>
+     * </ul>
+     * @since 1.7
+     */
+    SQUARES_32(ProviderBuilder.RandomSourceInternal.SQUARES_32),
+    /**
+     * Source of randomness is {@link org.apache.commons.rng.core.source64.Squares64}.
+     * <ul>
+     *  <li>Native seed type: {@code long[]}.</li>
+     *  <li>Native seed size: 2.</li>
+     * </ul>
+     * @since 1.7
+     */
+    SQUARES_64(ProviderBuilder.RandomSourceInternal.SQUARES_64);
 
     /** Internal identifier. */
     private final ProviderBuilder.RandomSourceInternal internalIdentifier;
@@ -846,6 +892,45 @@ public enum RandomSource {
         return ProviderBuilder.create(getInternalIdentifier());
     }
 
+    /**
+     * Creates many random number generators with random seeds.
+     *
+     * <p>Usage example:</p>
+     * <pre><code>
+     *  UniformRandomProvider[] rngs = RandomSource.XO_SHI_RO_256_PP.createMany(1000);
+     * </code></pre>
+     *
+     * <p>This method is more efficient than repeat calls to {@link #create()}, in particular
+     * when many threads create generators concurrently:</p>
+     * <ul>
+     *  <li>
+     *   If the generator is {@link #isSplittable() splittable} the generators are
+     *   created by splitting a single generator.
+     *  </li>
+     *  <li>
+     *   Otherwise the generators are created using seeds generated from a single
+     *   source of randomness. This avoids synchronized seed generation per generator.
+     *  </li>
+     * </ul>
+     *
+     * <p>This method will raise an exception if the generator requires arguments in addition
+     * to a seed (e.g. {@link #TWO_CMRES_SELECT}).</p>
+     *
+     * @param n Number of generators.
+     * @return the RNGs.
+     * @throws IllegalArgumentException if {@code n} is negative; or the generator
+     * requires arguments in addition to a seed.
+     *
+     * @see #create()
+     * @since 1.7
+     */
+    public RestorableUniformRandomProvider[] createMany(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("Number of generators is negative: " + n);
+        }
+        return ProviderBuilder.createMany(getInternalIdentifier(), n);
+    }
+
     /**
      * Creates a random number generator with the given {@code seed}.
      *
@@ -1078,6 +1163,11 @@ public enum RandomSource {
                 delegate.nextBytes(bytes, start, len);
             }
 
+            @Override
+            public void fillBytes(ByteBuffer buffer) {
+                delegate.fillBytes(buffer);
+            }
+
             @Override
             public int nextInt() {
                 return delegate.nextInt();
@@ -1143,6 +1233,36 @@ public enum RandomSource {
                 return delegate.nextDouble(origin, bound);
             }
 
+            @Override
+            public void nextInts(int[] values, int start, int len) {
+                delegate.nextInts(values, start, len);
+            }
+
+            @Override
+            public void nextInts(int[] values, int start, int len, int origin, int bound) {
+                delegate.nextInts(values, start, len, origin, bound);
+            }
+
+            @Override
+            public void nextLongs(long[] values, int start, int len) {
+                delegate.nextLongs(values, start, len);
+            }
+
+            @Override
+            public void nextLongs(long[] values, int start, int len, long origin, long bound) {
+                delegate.nextLongs(values, start, len, origin, bound);
+            }
+
+            @Override
+            public void nextDoubles(double[] values, int start, int len) {
+                delegate.nextDoubles(values, start, len);
+            }
+
+            @Override
+            public void nextDoubles(double[] values, int start, int len, double origin, double bound) {
+                delegate.nextDoubles(values, start, len, origin, bound);
+            }
+
             @Override
             public IntStream ints() {
                 return delegate.ints();
@@ -0,0 +1,189 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+
+/**
+ * This class binds a {@link SplittableUniformRandomProvider} to the execution of a task.
+ *
+ * <p>A provider is bound for the duration of a call to {@link #run(SplittableUniformRandomProvider, Runnable)}
+ * or {@link #call(SplittableUniformRandomProvider, Supplier)} and is accessed by code
+ * executed within the task using {@link #current()}. The previous binding (if any) is
+ * restored when the task completes. No provider is retained by the thread after the
+ * task has completed.
+ *
+ * <p>A task to be executed by another thread can inherit a provider from the current
+ * binding using {@link #inherit(Runnable)} or {@link #inherit(Supplier)}. This
+ * {@link SplittableUniformRandomProvider#split() splits} a child generator from the
+ * current provider on the calling thread and binds it when the task is executed. This
+ * is cheaper than creating a provider per task using {@link RandomSource#create()}
+ * or {@link ThreadLocalRandomSource#current(RandomSource)} which require seeding using
+ * a shared source of randomness. It is suitable for structured concurrency with a large
+ * number of short-lived tasks, for example using virtual threads. The provider for each
+ * task is determined by the parent provider and the order in which the tasks were
+ * created; the result is reproducible if the parent provider is seeded.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * import org.apache.commons.rng.simple.RandomSource;
+ * import org.apache.commons.rng.simple.ScopedRandomSource;
+ *
+ * SplittableUniformRandomProvider rng = (SplittableUniformRandomProvider) RandomSource.L64_X128_MIX.create();
+ *
+ * ScopedRandomSource.run(rng, () -&gt; {
+ *     // Each task has a different provider split from the parent
+ *     for (int i = 0; i &lt; tasks; i++) {
+ *         executor.submit(ScopedRandomSource.inherit(() -&gt; {
+ *             double x = ScopedRandomSource.current().nextDouble();
+ *             // ...
+ *         }));
+ *     }
+ * });
+ * </code></pre>
+ *
+ * <p>Note: A bound provider is not thread-safe. It should only be used by the thread
+ * executing the task. The {@code inherit} methods split the current provider and must
+ * be called by the thread that owns the current binding.
+ *
+ * @since 1.7
+ */
+public final class ScopedRandomSource {
+    /** The provider bound to the current thread. */
+    private static final ThreadLocal<SplittableUniformRandomProvider> BINDING = new ThreadLocal<>();
+
+    /** No public construction. */
+    private ScopedRandomSource() {}
+
+    /**
+     * Returns the provider bound to the current thread.
+     *
+     * @return the provider
+     * @throws IllegalStateException if no provider is bound
+     */
+    public static SplittableUniformRandomProvider current() {
+        final SplittableUniformRandomProvider rng = BINDING.get();
+        if (rng == null) {
+            throw new IllegalStateException("No provider is bound to the current thread");
+        }
+        return rng;
+    }
+
+    /**
+     * Returns {@code true} if a provider is bound to the current thread.
+     *
+     * @return {@code true} if bound
+     */
+    public static boolean isBound() {
+        return BINDING.get() != null;
+    }
+
+    /**
+     * Runs the task with the provider bound to the current thread.
+     *
+     * @param rng Provider.
+     * @param task Task.
+     * @throws NullPointerException if the provider is null
+     */
+    public static void run(SplittableUniformRandomProvider rng, Runnable task) {
+        final SplittableUniformRandomProvider previous = bind(rng);
+        try {
+            task.run();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Calls the task with the provider bound to the current thread.
+     *
+     * @param <T> Type of the result.
+     * @param rng Provider.
+     * @param task Task.
+     * @return the result
+     * @throws NullPointerException if the provider is null
+     */
+    public static <T> T call(SplittableUniformRandomProvider rng, Supplier<T> task) {
+        final SplittableUniformRandomProvider previous = bind(rng);
+        try {
+            return task.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    /**
+     * Creates a task that runs the given task with a provider split from the
+     * provider bound to the current thread.
+     *
+     * <p>The child provider is created when this method is called.
+     *
+     * @param task Task.
+     * @return the task bound to a child provider
+     * @throws IllegalStateException if no provider is bound
+     */
+    public static Runnable inherit(Runnable task) {
+        final SplittableUniformRandomProvider child = current().split();
+        return () -> run(child, task);
+    }
+
+    /**
+     * Creates a task that calls the given task with a provider split from the
+     * provider bound to the current thread.
+     *
+     * <p>The child provider is created when this method is called.
+     *
+     * @param <T> Type of the result.
+     * @param task Task.
+     * @return the task bound to a child provider
+     * @throws IllegalStateException if no provider is bound
+     */
+    public static <T> Supplier<T> inherit(Supplier<T> task) {
+        final SplittableUniformRandomProvider child = current().split();
+        return () -> call(child, task);
+    }
+
+    /**
+     * Binds the provider to the current thread.
+     *
+     * @param rng Provider.
+     * @return the previous provider (can be null)
+     * @throws NullPointerException if the provider is null
+     */
+    private static SplittableUniformRandomProvider bind(SplittableUniformRandomProvider rng) {
+        Objects.requireNonNull(rng, "rng");
+        final SplittableUniformRandomProvider previous = BINDING.get();
+        BINDING.set(rng);
+        return previous;
+    }
+
+    /**
+     * Restores the previous provider for the current thread.
+     *
+     * @param previous Previous provider (can be null).
+     */
+    private static void restore(SplittableUniformRandomProvider previous) {
+        if (previous == null) {
+            // Do not retain the thread-local map entry
+            BINDING.remove();
+        } else {
+            BINDING.set(previous);
+        }
+    }
+}
@@ -0,0 +1,191 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.simple.internal.SeedFactory;
+
+/**
+ * This class provides a {@link UniformRandomProvider} that can be shared by any number
+ * of threads.
+ *
+ * <p>The provider holds no per-thread state and does not use locks. The state is a set of
+ * stripes; each stripe is a Weyl sequence with its own increment and a SplitMix64 style
+ * output mix function. A thread selects a stripe using a hash of its identifier and
+ * advances it with a single atomic addition. Threads that share a stripe obtain
+ * different values from the same sequence. The stripes are padded to separate cache
+ * lines to reduce contention between threads that use different stripes.
+ *
+ * <p>This avoids the cost of creating and seeding a generator for each thread, for
+ * example when a large number of short-lived (or virtual) threads each require a few
+ * random values. It is an alternative to {@link ThreadLocalRandomSource}, which creates
+ * one generator per thread.
+ *
+ * <p>Example:</p>
+ * <pre><code>
+ * import org.apache.commons.rng.simple.SharedRandomSource;
+ * import org.apache.commons.rng.sampling.distribution.PoissonSampler;
+ *
+ * // Access a thread-safe random number generator
+ * UniformRandomProvider rng = SharedRandomSource.get();
+ *
+ * // One-time Poisson sample
+ * double mean = 12.3;
+ * int counts = PoissonSampler.of(rng, mean).sample();
+ * </code></pre>
+ *
+ * <p>Note: The sequence output by the provider is not reproducible. The stripe is
+ * selected using the identifier of the calling thread and the number of stripes depends
+ * on the number of available processors; the output for a given seed differs between
+ * threads and between machines, even when the provider is used by a single thread. When
+ * used by multiple threads the order of the calls is also not deterministic. The provider
+ * is not restorable.
+ *
+ * @since 1.7
+ */
+public final class SharedRandomSource {
+    /** Maximum number of stripes. */
+    private static final int MAX_STRIPES = 1 << 10;
+    /**
+     * Separation of the stripe positions in the state array. A value of 16 places
+     * each stripe 128 bytes apart which prevents false sharing when the hardware
+     * prefetches adjacent cache lines.
+     */
+    private static final int STRIDE = 16;
+    /** The golden ratio scaled to 64-bits and rounded to odd. */
+    private static final long GOLDEN_RATIO_64 = 0x9e3779b97f4a7c15L;
+    /** The shared provider. */
+    private static final UniformRandomProvider INSTANCE = create(SeedFactory.createLong());
+
+    /** No public construction. */
+    private SharedRandomSource() {}
+
+    /**
+     * A provider of {@code long} values from a set of striped Weyl sequences.
+     */
+    private static final class StripedSplitMix64 implements UniformRandomProvider {
+        /** The state of each stripe. Stripe {@code i} is at index {@code i * STRIDE}. */
+        private final AtomicLongArray state;
+        /** The Weyl sequence increment of each stripe. */
+        private final long[] gamma;
+        /** Mask to convert a hash to a stripe. */
+        private final int mask;
+
+        /**
+         * Create an instance.
+         *
+         * @param seed Seed.
+         * @param stripes Number of stripes (must be a power of 2).
+         */
+        StripedSplitMix64(long seed, int stripes) {
+            state = new AtomicLongArray(stripes * STRIDE);
+            gamma = new long[stripes];
+            mask = stripes - 1;
+            for (int i = 0; i < stripes; i++) {
+                // Seed each stripe using successive values of a Weyl sequence
+                final long s = seed + (2L * i + 1) * GOLDEN_RATIO_64;
+                state.set(i * STRIDE, stafford13(s));
+                gamma[i] = mixGamma(s + GOLDEN_RATIO_64);
+            }
+        }
+
+        @Override
+        public long nextLong() {
+            final int i = stripe();
+            return stafford13(state.addAndGet(i * STRIDE, gamma[i]));
+        }
+
+        /**
+         * Gets the stripe for the current thread.
+         *
+         * @return the stripe
+         */
+        private int stripe() {
+            // Mix the thread identifier to spread sequential identifiers
+            final long id = Thread.currentThread().getId() * GOLDEN_RATIO_64;
+            return (int) (id >>> 32) & mask;
+        }
+    }
+
+    /**
+     * Returns a provider that is shared by all threads. It is seeded when this class
+     * is initialized.
+     *
+     * @return the shared provider
+     */
+    public static UniformRandomProvider get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Create a new provider that can be shared by all threads.
+     *
+     * <p>The number of stripes is a power of 2 that scales with the number of available
+     * processors.
+     *
+     * <p>The seed does not make the output reproducible. The output depends on the
+     * identifier of the calling thread and the number of available processors.
+     *
+     * @param seed Seed.
+     * @return the provider
+     */
+    public static UniformRandomProvider create(long seed) {
+        return new StripedSplitMix64(seed, defaultStripes());
+    }
+
+    /**
+     * Gets the default number of stripes. This is the smallest power of 2
+     * that is at least 4 times the number of available processors.
+     *
+     * @return the number of stripes
+     */
+    private static int defaultStripes() {
+        final int n = Runtime.getRuntime().availableProcessors() * 4;
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, n - 1)) << 1);
+    }
+
+    /**
+     * Perform variant 13 of David Stafford's 64-bit mix function.
+     * This is the mix function used in the SplitMix64 RNG.
+     *
+     * @param x the input value
+     * @return the output value
+     */
+    private static long stafford13(long x) {
+        x = (x ^ (x >>> 30)) * 0xbf58476d1ce4e5b9L;
+        x = (x ^ (x >>> 27)) * 0x94d049bb133111ebL;
+        return x ^ (x >>> 31);
+    }
+
+    /**
+     * Create an odd increment for a Weyl sequence with a balanced number of bit
+     * transitions. This is the method used to create the increment of a new
+     * {@link java.util.SplittableRandom}.
+     *
+     * @param x the input value
+     * @return the increment
+     */
+    static long mixGamma(long x) {
+        long z = (x ^ (x >>> 33)) * 0xff51afd7ed558ccdL;
+        z = (z ^ (z >>> 33)) * 0xc4ceb9fe1a85ec53L;
+        z = (z ^ (z >>> 33)) | 1L;
+        // Avoid an increment with few bit transitions
+        final int n = Long.bitCount(z ^ (z >>> 1));
+        return n < 24 ? z ^ 0xaaaaaaaaaaaaaaaaL : z;
+    }
+}
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.simple.internal;
 
+import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.core.util.NumberFactory;
 
 /**
@@ -49,6 +50,10 @@ public enum NativeSeedType {
             return SeedFactory.createInt();
         }
         @Override
+        Integer createSeed(UniformRandomProvider source, int size, int from, int to) {
+            return source.nextInt();
+        }
+        @Override
         protected Integer convert(Integer seed, int size) {
             return seed;
         }
@@ -76,6 +81,10 @@ public enum NativeSeedType {
             return SeedFactory.createLong();
         }
         @Override
+        Long createSeed(UniformRandomProvider source, int size, int from, int to) {
+            return source.nextLong();
+        }
+        @Override
         protected Long convert(Integer seed, int size) {
             return Conversions.int2Long(seed);
         }
@@ -106,6 +115,15 @@ public enum NativeSeedType {
                                               from, to);
         }
         @Override
+        int[] createSeed(UniformRandomProvider source, int size, int from, int to) {
+            final int[] seed = new int[Math.min(size, RANDOM_SEED_ARRAY_SIZE)];
+            for (int i = 0; i < seed.length; i++) {
+                seed[i] = source.nextInt();
+            }
+            SeedFactory.ensureNonZero(seed, from, to);
+            return seed;
+        }
+        @Override
         protected int[] convert(Integer seed, int size) {
             return Conversions.int2IntArray(seed, size);
         }
@@ -140,6 +158,15 @@ public enum NativeSeedType {
                                                from, to);
         }
         @Override
+        long[] createSeed(UniformRandomProvider source, int size, int from, int to) {
+            final long[] seed = new long[Math.min(size, RANDOM_SEED_ARRAY_SIZE)];
+            for (int i = 0; i < seed.length; i++) {
+                seed[i] = source.nextLong();
+            }
+            SeedFactory.ensureNonZero(seed, from, to);
+            return seed;
+        }
+        @Override
         protected long[] convert(Integer seed, int size) {
             return Conversions.int2LongArray(seed, size);
         }
@@ -235,6 +262,21 @@ public enum NativeSeedType {
      */
     public abstract Object createSeed(int size, int from, int to);
 
+    /**
+     * Creates the seed using the provided source of randomness. This is equivalent to
+     * {@link #createSeed(int, int, int)} with the values obtained from the source.
+     *
+     * <p>This method is package-private for use by {@link ProviderBuilder}.
+     *
+     * @param source Source of randomness.
+     * @param size The size of the seed (array types only).
+     * @param from The start of the not all-zero sub-range (inclusive; array types only).
+     * @param to The end of the not all-zero sub-range (exclusive; array types only).
+     * @return the seed
+     * @throws IndexOutOfBoundsException if the sub-range is out of bounds
+     */
+    abstract Object createSeed(UniformRandomProvider source, int size, int from, int to);
+
     /**
      * Converts the input seed from any of the supported seed types to the native seed type.
      * If the output is an array the required size of the array can be specified.
@@ -19,7 +19,9 @@ package org.apache.commons.rng.simple.internal;
 import java.lang.reflect.Array;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.InvocationTargetException;
+import java.util.function.Function;
 
+import org.apache.commons.rng.SplittableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.RestorableUniformRandomProvider;
 import org.apache.commons.rng.core.source32.JDKRandom;
@@ -47,6 +49,8 @@ import org.apache.commons.rng.core.source32.PcgMcgXshRs32;
 import org.apache.commons.rng.core.source32.DotyHumphreySmallFastCounting32;
 import org.apache.commons.rng.core.source32.JenkinsSmallFast32;
 import org.apache.commons.rng.core.source32.L32X64Mix;
+import org.apache.commons.rng.core.source32.Philox4x32;
+import org.apache.commons.rng.core.source32.Squares32;
 import org.apache.commons.rng.core.source64.SplitMix64;
 import org.apache.commons.rng.core.source64.XorShift1024Star;
 import org.apache.commons.rng.core.source64.XorShift1024StarPhi;
@@ -74,12 +78,16 @@ import org.apache.commons.rng.core.source64.L64X256Mix;
 import org.apache.commons.rng.core.source64.L128X1024Mix;
 import org.apache.commons.rng.core.source64.L128X128Mix;
 import org.apache.commons.rng.core.source64.L128X256Mix;
+import org.apache.commons.rng.core.source64.Philox4x64;
+import org.apache.commons.rng.core.source64.Squares64;
+import org.apache.commons.rng.core.source64.Threefry4x64;
 
 /**
  * RNG builder.
  * <p>
- * It uses reflection to find the factory method of the RNG implementation,
- * and performs seed type conversions.
+ * It creates the RNG implementation from the native seed using a factory function,
+ * or using reflection to find the constructor when the RNG implementation requires
+ * additional constructor arguments, and performs seed type conversions.
  * </p>
  */
 public final class ProviderBuilder {
@@ -130,6 +138,21 @@ public final class ProviderBuilder {
                 source.create(seed);
     }
 
+    /**
+     * Creates many RNG instances.
+     *
+     * @param source RNG specification.
+     * @param n Number of instances.
+     * @return the new RNG instances.
+     * @throws IllegalArgumentException if argument data to initialize the
+     * generator implemented by the given {@code source} is missing.
+     * @since 1.7
+     */
+    public static RestorableUniformRandomProvider[] createMany(RandomSourceInternal source,
+                                                               int n) {
+        return source.createMany(n);
+    }
+
     /**
      * Identifiers of the generators.
      */
@@ -137,51 +160,62 @@ public final class ProviderBuilder {
         /** Source of randomness is {@link JDKRandom}. */
         JDK(JDKRandom.class,
             1,
-            NativeSeedType.LONG),
+            NativeSeedType.LONG,
+            s -> new JDKRandom((Long) s)),
         /** Source of randomness is {@link Well512a}. */
         WELL_512_A(Well512a.class,
                    16, 0, 16,
-                   NativeSeedType.INT_ARRAY),
+                   NativeSeedType.INT_ARRAY,
+                   s -> new Well512a((int[]) s)),
         /** Source of randomness is {@link Well1024a}. */
         WELL_1024_A(Well1024a.class,
                     32, 0, 32,
-                    NativeSeedType.INT_ARRAY),
+                    NativeSeedType.INT_ARRAY,
+                    s -> new Well1024a((int[]) s)),
         /** Source of randomness is {@link Well19937a}. */
         WELL_19937_A(Well19937a.class,
                      624, 0, 623,
-                     NativeSeedType.INT_ARRAY),
+                     NativeSeedType.INT_ARRAY,
+                     s -> new Well19937a((int[]) s)),
         /** Source of randomness is {@link Well19937c}. */
         WELL_19937_C(Well19937c.class,
                      624, 0, 623,
-                     NativeSeedType.INT_ARRAY),
+                     NativeSeedType.INT_ARRAY,
+                     s -> new Well19937c((int[]) s)),
         /** Source of randomness is {@link Well44497a}. */
         WELL_44497_A(Well44497a.class,
                      1391, 0, 1390,
-                     NativeSeedType.INT_ARRAY),
+                     NativeSeedType.INT_ARRAY,
+                     s -> new Well44497a((int[]) s)),
         /** Source of randomness is {@link Well44497b}. */
         WELL_44497_B(Well44497b.class,
                      1391, 0, 1390,
-                     NativeSeedType.INT_ARRAY),
+                     NativeSeedType.INT_ARRAY,
+                     s -> new Well44497b((int[]) s)),
         /** Source of randomness is {@link MersenneTwister}. */
         MT(MersenneTwister.class,
            624,
-           NativeSeedType.INT_ARRAY),
+           NativeSeedType.INT_ARRAY, s -> new MersenneTwister((int[]) s)),
         /** Source of randomness is {@link ISAACRandom}. */
         ISAAC(ISAACRandom.class,
               256,
-              NativeSeedType.INT_ARRAY),
+              NativeSeedType.INT_ARRAY,
+              s -> new ISAACRandom((int[]) s)),
         /** Source of randomness is {@link SplitMix64}. */
         SPLIT_MIX_64(SplitMix64.class,
                      1,
-                     NativeSeedType.LONG),
+                     NativeSeedType.LONG,
+                     s -> new SplitMix64((Long) s)),
         /** Source of randomness is {@link XorShift1024Star}. */
         XOR_SHIFT_1024_S(XorShift1024Star.class,
                          16, 0, 16,
-                         NativeSeedType.LONG_ARRAY),
+                         NativeSeedType.LONG_ARRAY,
+                         s -> new XorShift1024Star((long[]) s)),
         /** Source of randomness is {@link TwoCmres}. */
         TWO_CMRES(TwoCmres.class,
                   1,
-                  NativeSeedType.INT),
+                  NativeSeedType.INT,
+                  s -> new TwoCmres((Integer) s)),
         /**
          * Source of randomness is {@link TwoCmres} with explicit selection
          * of the two subcycle generators.
@@ -194,92 +228,117 @@ public final class ProviderBuilder {
         /** Source of randomness is {@link MersenneTwister64}. */
         MT_64(MersenneTwister64.class,
               312,
-              NativeSeedType.LONG_ARRAY),
+              NativeSeedType.LONG_ARRAY,
+              s -> new MersenneTwister64((long[]) s)),
         /** Source of randomness is {@link MultiplyWithCarry256}. */
         MWC_256(MultiplyWithCarry256.class,
                 257, 0, 257,
-                NativeSeedType.INT_ARRAY),
+                NativeSeedType.INT_ARRAY,
+                s -> new MultiplyWithCarry256((int[]) s)),
         /** Source of randomness is {@link KISSRandom}. */
         KISS(KISSRandom.class,
              // If zero in initial 3 positions the output is a simple LCG
              4, 0, 3,
-             NativeSeedType.INT_ARRAY),
+             NativeSeedType.INT_ARRAY,
+             s -> new KISSRandom((int[]) s)),
         /** Source of randomness is {@link XorShift1024StarPhi}. */
         XOR_SHIFT_1024_S_PHI(XorShift1024StarPhi.class,
                              16, 0, 16,
-                             NativeSeedType.LONG_ARRAY),
+                             NativeSeedType.LONG_ARRAY,
+                             s -> new XorShift1024StarPhi((long[]) s)),
         /** Source of randomness is {@link XoRoShiRo64Star}. */
         XO_RO_SHI_RO_64_S(XoRoShiRo64Star.class,
                           2, 0, 2,
-                          NativeSeedType.INT_ARRAY),
+                          NativeSeedType.INT_ARRAY,
+                          s -> new XoRoShiRo64Star((int[]) s)),
         /** Source of randomness is {@link XoRoShiRo64StarStar}. */
         XO_RO_SHI_RO_64_SS(XoRoShiRo64StarStar.class,
                            2, 0, 2,
-                           NativeSeedType.INT_ARRAY),
+                           NativeSeedType.INT_ARRAY,
+                           s -> new XoRoShiRo64StarStar((int[]) s)),
         /** Source of randomness is {@link XoShiRo128Plus}. */
         XO_SHI_RO_128_PLUS(XoShiRo128Plus.class,
                            4, 0, 4,
-                           NativeSeedType.INT_ARRAY),
+                           NativeSeedType.INT_ARRAY,
+                           s -> new XoShiRo128Plus((int[]) s)),
         /** Source of randomness is {@link XoShiRo128StarStar}. */
         XO_SHI_RO_128_SS(XoShiRo128StarStar.class,
                          4, 0, 4,
-                         NativeSeedType.INT_ARRAY),
+                         NativeSeedType.INT_ARRAY,
+                         s -> new XoShiRo128StarStar((int[]) s)),
         /** Source of randomness is {@link XoRoShiRo128Plus}. */
         XO_RO_SHI_RO_128_PLUS(XoRoShiRo128Plus.class,
                               2, 0, 2,
-                              NativeSeedType.LONG_ARRAY),
+                              NativeSeedType.LONG_ARRAY,
+                              s -> new XoRoShiRo128Plus((long[]) s)),
         /** Source of randomness is {@link XoRoShiRo128StarStar}. */
         XO_RO_SHI_RO_128_SS(XoRoShiRo128StarStar.class,
                             2, 0, 2,
-                            NativeSeedType.LONG_ARRAY),
+                            NativeSeedType.LONG_ARRAY,
+                            s -> new XoRoShiRo128StarStar((long[]) s)),
         /** Source of randomness is {@link XoShiRo256Plus}. */
         XO_SHI_RO_256_PLUS(XoShiRo256Plus.class,
                            4, 0, 4,
-                           NativeSeedType.LONG_ARRAY),
+                           NativeSeedType.LONG_ARRAY,
+                           s -> new XoShiRo256Plus((long[]) s)),
         /** Source of randomness is {@link XoShiRo256StarStar}. */
         XO_SHI_RO_256_SS(XoShiRo256StarStar.class,
                          4, 0, 4,
-                         NativeSeedType.LONG_ARRAY),
+                         NativeSeedType.LONG_ARRAY,
+                         s -> new XoShiRo256StarStar((long[]) s)),
         /** Source of randomness is {@link XoShiRo512Plus}. */
         XO_SHI_RO_512_PLUS(XoShiRo512Plus.class,
                            8, 0, 8,
-                           NativeSeedType.LONG_ARRAY),
+                           NativeSeedType.LONG_ARRAY,
+                           s -> new XoShiRo512Plus((long[]) s)),
         /** Source of randomness is {@link XoShiRo512StarStar}. */
         XO_SHI_RO_512_SS(XoShiRo512StarStar.class,
                          8, 0, 8,
-                         NativeSeedType.LONG_ARRAY),
+                         NativeSeedType.LONG_ARRAY,
+                         s -> new XoShiRo512StarStar((long[]) s)),
         /** Source of randomness is {@link PcgXshRr32}. */
         PCG_XSH_RR_32(PcgXshRr32.class,
                 2,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new PcgXshRr32((long[]) s)),
         /** Source of randomness is {@link PcgXshRs32}. */
         PCG_XSH_RS_32(PcgXshRs32.class,
                 2,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new PcgXshRs32((long[]) s)),
         /** Source of randomness is {@link PcgRxsMXs64}. */
         PCG_RXS_M_XS_64(PcgRxsMXs64.class,
                 2,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new PcgRxsMXs64((long[]) s)),
         /** Source of randomness is {@link PcgMcgXshRr32}. */
         PCG_MCG_XSH_RR_32(PcgMcgXshRr32.class,
                 1,
-                NativeSeedType.LONG),
+                NativeSeedType.LONG,
+                s -> new PcgMcgXshRr32((Long) s)),
         /** Source of randomness is {@link PcgMcgXshRs32}. */
         PCG_MCG_XSH_RS_32(PcgMcgXshRs32.class,
                 1,
-                NativeSeedType.LONG),
+                NativeSeedType.LONG,
+                s -> new PcgMcgXshRs32((Long) s)),
         /** Source of randomness is {@link MiddleSquareWeylSequence}. */
         MSWS(MiddleSquareWeylSequence.class,
              // Many partially zero seeds can create low quality initial output.
              // The Weyl increment cascades bits into the random state so ideally it
              // has a high number of bit transitions. Minimally ensure it is non-zero.
              3, 2, 3,
-             NativeSeedType.LONG_ARRAY) {
+             NativeSeedType.LONG_ARRAY,
+             s -> new MiddleSquareWeylSequence((long[]) s)) {
             @Override
             protected Object createSeed() {
                 return createMswsSeed(SeedFactory.createLong());
             }
 
+            @Override
+            protected Object createSeed(UniformRandomProvider source) {
+                return createMswsSeed(source.nextLong());
+            }
+
             @Override
             protected Object convertSeed(Object seed) {
                 // Allow seeding with primitives to generate a good seed
@@ -353,91 +412,142 @@ public final class ProviderBuilder {
         /** Source of randomness is {@link DotyHumphreySmallFastCounting32}. */
         SFC_32(DotyHumphreySmallFastCounting32.class,
                3,
-               NativeSeedType.INT_ARRAY),
+               NativeSeedType.INT_ARRAY,
+               s -> new DotyHumphreySmallFastCounting32((int[]) s)),
         /** Source of randomness is {@link DotyHumphreySmallFastCounting64}. */
         SFC_64(DotyHumphreySmallFastCounting64.class,
                3,
-               NativeSeedType.LONG_ARRAY),
+               NativeSeedType.LONG_ARRAY,
+               s -> new DotyHumphreySmallFastCounting64((long[]) s)),
         /** Source of randomness is {@link JenkinsSmallFast32}. */
         JSF_32(JenkinsSmallFast32.class,
                1,
-               NativeSeedType.INT),
+               NativeSeedType.INT,
+               s -> new JenkinsSmallFast32((Integer) s)),
         /** Source of randomness is {@link JenkinsSmallFast64}. */
         JSF_64(JenkinsSmallFast64.class,
                1,
-               NativeSeedType.LONG),
+               NativeSeedType.LONG,
+               s -> new JenkinsSmallFast64((Long) s)),
         /** Source of randomness is {@link XoShiRo128PlusPlus}. */
         XO_SHI_RO_128_PP(XoShiRo128PlusPlus.class,
                          4, 0, 4,
-                         NativeSeedType.INT_ARRAY),
+                         NativeSeedType.INT_ARRAY,
+                         s -> new XoShiRo128PlusPlus((int[]) s)),
         /** Source of randomness is {@link XoRoShiRo128PlusPlus}. */
         XO_RO_SHI_RO_128_PP(XoRoShiRo128PlusPlus.class,
                             2, 0, 2,
-                            NativeSeedType.LONG_ARRAY),
+                            NativeSeedType.LONG_ARRAY,
+                            s -> new XoRoShiRo128PlusPlus((long[]) s)),
         /** Source of randomness is {@link XoShiRo256PlusPlus}. */
         XO_SHI_RO_256_PP(XoShiRo256PlusPlus.class,
                          4, 0, 4,
-                         NativeSeedType.LONG_ARRAY),
+                         NativeSeedType.LONG_ARRAY,
+                         s -> new XoShiRo256PlusPlus((long[]) s)),
         /** Source of randomness is {@link XoShiRo512PlusPlus}. */
         XO_SHI_RO_512_PP(XoShiRo512PlusPlus.class,
                          8, 0, 8,
-                         NativeSeedType.LONG_ARRAY),
+                         NativeSeedType.LONG_ARRAY,
+                         s -> new XoShiRo512PlusPlus((long[]) s)),
         /** Source of randomness is {@link XoRoShiRo1024PlusPlus}. */
         XO_RO_SHI_RO_1024_PP(XoRoShiRo1024PlusPlus.class,
                              16, 0, 16,
-                             NativeSeedType.LONG_ARRAY),
+                             NativeSeedType.LONG_ARRAY,
+                             s -> new XoRoShiRo1024PlusPlus((long[]) s)),
         /** Source of randomness is {@link XoRoShiRo1024Star}. */
         XO_RO_SHI_RO_1024_S(XoRoShiRo1024Star.class,
                             16, 0, 16,
-                            NativeSeedType.LONG_ARRAY),
+                            NativeSeedType.LONG_ARRAY,
+                            s -> new XoRoShiRo1024Star((long[]) s)),
         /** Source of randomness is {@link XoRoShiRo1024StarStar}. */
         XO_RO_SHI_RO_1024_SS(XoRoShiRo1024StarStar.class,
                              16, 0, 16,
-                             NativeSeedType.LONG_ARRAY),
+                             NativeSeedType.LONG_ARRAY,
+                             s -> new XoRoShiRo1024StarStar((long[]) s)),
         /** Source of randomness is {@link PcgXshRr32}. */
         PCG_XSH_RR_32_OS(PcgXshRr32.class,
                 1,
-                NativeSeedType.LONG),
+                NativeSeedType.LONG,
+                s -> new PcgXshRr32((Long) s)),
         /** Source of randomness is {@link PcgXshRs32}. */
         PCG_XSH_RS_32_OS(PcgXshRs32.class,
                 1,
-                NativeSeedType.LONG),
+                NativeSeedType.LONG,
+                s -> new PcgXshRs32((Long) s)),
         /** Source of randomness is {@link PcgRxsMXs64}. */
         PCG_RXS_M_XS_64_OS(PcgRxsMXs64.class,
                 1,
-                NativeSeedType.LONG),
+                NativeSeedType.LONG,
+                s -> new PcgRxsMXs64((Long) s)),
         /** Source of randomness is {@link L64X128StarStar}. */
         L64_X128_SS(L64X128StarStar.class,
                 4, 2, 4,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L64X128StarStar((long[]) s)),
         /** Source of randomness is {@link L64X128Mix}. */
         L64_X128_MIX(L64X128Mix.class,
                 4, 2, 4,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L64X128Mix((long[]) s)),
         /** Source of randomness is {@link L64X256Mix}. */
         L64_X256_MIX(L64X256Mix.class,
                 6, 2, 6,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L64X256Mix((long[]) s)),
         /** Source of randomness is {@link L64X1024Mix}. */
         L64_X1024_MIX(L64X1024Mix.class,
                 18, 2, 18,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L64X1024Mix((long[]) s)),
         /** Source of randomness is {@link L128X128Mix}. */
         L128_X128_MIX(L128X128Mix.class,
                 6, 4, 6,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L128X128Mix((long[]) s)),
         /** Source of randomness is {@link L128X256Mix}. */
         L128_X256_MIX(L128X256Mix.class,
                 8, 4, 8,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L128X256Mix((long[]) s)),
         /** Source of randomness is {@link L128X1024Mix}. */
         L128_X1024_MIX(L128X1024Mix.class,
                 20, 4, 20,
-                NativeSeedType.LONG_ARRAY),
+                NativeSeedType.LONG_ARRAY,
+                s -> new L128X1024Mix((long[]) s)),
         /** Source of randomness is {@link L32X64Mix}. */
         L32_X64_MIX(L32X64Mix.class,
                 4, 2, 4,
-                NativeSeedType.INT_ARRAY);
+                NativeSeedType.INT_ARRAY,
+                s -> new L32X64Mix((int[]) s)),
+        /** Source of randomness is {@link Philox4x32}. */
+        PHILOX_4X32(Philox4x32.class,
+                6,
+                NativeSeedType.INT_ARRAY,
+                s -> new Philox4x32((int[]) s)),
+        /** Source of randomness is {@link Philox4x64}. */
+        PHILOX_4X64(Philox4x64.class,
+                6,
+                NativeSeedType.LONG_ARRAY,
+                s -> new Philox4x64((long[]) s)),
+        /** Source of randomness is {@link Threefry4x64}. */
+        THREEFRY_4X64(Threefry4x64.class,
+                8,
+                NativeSeedType.LONG_ARRAY,
+                s -> new Threefry4x64((long[]) s)),
+        /** Source of randomness is {@link Squares32}. */
+        SQUARES_32(Squares32.class,
+                // The key must have a good mix of bits; it is never all-zero.
+                2, 0, 1,
+                NativeSeedType.LONG_ARRAY,
+                s -> new Squares32((long[]) s),
+                RandomSourceInternal::createSquaresSeed),
+        /** Source of randomness is {@link Squares64}. */
+        SQUARES_64(Squares64.class,
+                // The key must have a good mix of bits; it is never all-zero.
+                2, 0, 1,
+                NativeSeedType.LONG_ARRAY,
+                s -> new Squares64((long[]) s),
+                RandomSourceInternal::createSquaresSeed);
 
         /** Source type. */
         private final Class<? extends UniformRandomProvider> rng;
@@ -451,6 +561,18 @@ public final class ProviderBuilder {
         private final Class<?>[] args;
         /** Native seed type. Used to create a seed or convert input seeds. */
         private final NativeSeedType nativeSeedType;
+        /**
+         * Factory to create the generator from the native seed. This is used in preference
+         * to the constructor to avoid the overhead of reflection. It is null if the generator
+         * requires additional constructor arguments.
+         */
+        private final Function<Object, RestorableUniformRandomProvider> factory;
+        /**
+         * Generator of the native seed from a source of randomness. This is used for seeds
+         * that require more than a not all-zero sub-range. It is null to use the default
+         * seed creation.
+         */
+        private final Function<UniformRandomProvider, Object> seedGenerator;
         /**
          * The constructor.
          * This is discovered using the constructor parameter types and stored for re-use.
@@ -471,7 +593,24 @@ public final class ProviderBuilder {
                              int nativeSeedSize,
                              NativeSeedType nativeSeedType,
                              Class<?>... args) {
-            this(rng, nativeSeedSize, 0, 0, nativeSeedType, args);
+            this(rng, nativeSeedSize, 0, 0, nativeSeedType, null, args);
+        }
+
+        /**
+         * Create a new instance.
+         *
+         * <p>Used when the seed array has no requirement for a not all-zero sub-range.
+         *
+         * @param rng Source type.
+         * @param nativeSeedSize Native seed size (array types only).
+         * @param nativeSeedType Native seed type.
+         * @param factory Factory to create the generator from the native seed.
+         */
+        RandomSourceInternal(Class<? extends UniformRandomProvider> rng,
+                             int nativeSeedSize,
+                             NativeSeedType nativeSeedType,
+                             Function<Object, RestorableUniformRandomProvider> factory) {
+            this(rng, nativeSeedSize, 0, 0, nativeSeedType, factory);
         }
 
         /**
@@ -489,6 +628,36 @@ public final class ProviderBuilder {
          * @param notAllZeroFrom The start of the not all-zero sub-range (inclusive).
          * @param notAllZeroTo The end of the not all-zero sub-range (exclusive).
          * @param nativeSeedType Native seed type.
+         * @param factory Factory to create the generator from the native seed.
+         * It can be {@code null} to create the generator using reflection.
+         * @param args Additional data needed to create a generator instance.
+         */
+        RandomSourceInternal(Class<? extends UniformRandomProvider> rng,
+                             int nativeSeedSize,
+                             int notAllZeroFrom,
+                             int notAllZeroTo,
+                             NativeSeedType nativeSeedType,
+                             Function<Object, RestorableUniformRandomProvider> factory,
+                             Class<?>... args) {
+            this(rng, nativeSeedSize, notAllZeroFrom, notAllZeroTo, nativeSeedType, factory, null, args);
+        }
+
+        /**
+         * Create a new instance.
+         *
+         * <p>The seed generator is used to create all seeds, and to convert {@code int} and
+         * {@code long} seeds to the native seed. It is passed a
+         * {@link SplitMix64} generator seeded with a single {@code long} value.
+         *
+         * @param rng Source type.
+         * @param nativeSeedSize Native seed size (array types only).
+         * @param notAllZeroFrom The start of the not all-zero sub-range (inclusive).
+         * @param notAllZeroTo The end of the not all-zero sub-range (exclusive).
+         * @param nativeSeedType Native seed type.
+         * @param factory Factory to create the generator from the native seed.
+         * It can be {@code null} to create the generator using reflection.
+         * @param seedGenerator Generator of the native seed from a source of randomness.
+         * It can be {@code null} to use the default seed creation.
          * @param args Additional data needed to create a generator instance.
          */
         RandomSourceInternal(Class<? extends UniformRandomProvider> rng,
@@ -496,18 +665,36 @@ public final class ProviderBuilder {
                              int notAllZeroFrom,
                              int notAllZeroTo,
                              NativeSeedType nativeSeedType,
+                             Function<Object, RestorableUniformRandomProvider> factory,
+                             Function<UniformRandomProvider, Object> seedGenerator,
                              Class<?>... args) {
             this.rng = rng;
             this.nativeSeedSize = nativeSeedSize;
             this.notAllZeroFrom = notAllZeroFrom;
             this.notAllZeroTo = notAllZeroTo;
             this.nativeSeedType = nativeSeedType;
+            this.factory = factory;
+            this.seedGenerator = seedGenerator;
             // Build the complete list of class types for the constructor
             this.args = (Class<?>[]) Array.newInstance(args.getClass().getComponentType(), 1 + args.length);
             this.args[0] = nativeSeedType.getType();
             System.arraycopy(args, 0, this.args, 1, args.length);
         }
 
+        /**
+         * Creates the full length seed array for the Squares generators using the method
+         * recommended for the generator. The key is composed of a hex character permutation
+         * in the upper and lower 32-bits; the counter can be any number.
+         *
+         * @param source Source of randomness.
+         * @return the seed array
+         */
+        private static long[] createSquaresSeed(UniformRandomProvider source) {
+            final long key = SeedUtils.createLongHexPermutation(source);
+            final long counter = source.nextLong();
+            return new long[] {key, counter};
+        }
+
         /**
          * Gets the implementing class of the random source.
          *
@@ -561,7 +748,7 @@ public final class ProviderBuilder {
             // Create a seed.
             final Object nativeSeed = createSeed();
             // Instantiate.
-            return create(getConstructor(), new Object[] {nativeSeed});
+            return createInstance(nativeSeed);
         }
 
         /**
@@ -578,7 +765,58 @@ public final class ProviderBuilder {
             // Convert seed to native type.
             final Object nativeSeed = convertSeed(seed);
             // Instantiate.
-            return create(getConstructor(), new Object[] {nativeSeed});
+            return createInstance(nativeSeed);
+        }
+
+        /**
+         * Creates many RNG instances.
+         *
+         * <p>If the generator is splittable the instances are created by splitting a single
+         * instance. Otherwise each instance is created from a seed generated using a
+         * single source of randomness obtained from the {@link SeedFactory}; this avoids
+         * synchronized access to the seed factory for each seed.</p>
+         *
+         * <p>Note: Jumpable generators are not created using successive jumps of a single
+         * instance as the cost of a jump is typically greater than the cost of seeding.</p>
+         *
+         * @param n Number of instances (must be positive).
+         * @return the new RNG instances.
+         */
+        RestorableUniformRandomProvider[] createMany(int n) {
+            final RestorableUniformRandomProvider[] rngs = new RestorableUniformRandomProvider[n];
+            if (n == 0) {
+                return rngs;
+            }
+            if (SplittableUniformRandomProvider.class.isAssignableFrom(rng)) {
+                final SplittableUniformRandomProvider parent = (SplittableUniformRandomProvider) create();
+                rngs[0] = (RestorableUniformRandomProvider) parent;
+                for (int i = 1; i < n; i++) {
+                    rngs[i] = (RestorableUniformRandomProvider) parent.split();
+                }
+            } else {
+                final UniformRandomProvider source = SeedFactory.createSeedGenerator();
+                for (int i = 0; i < n; i++) {
+                    rngs[i] = createInstance(createSeed(source));
+                }
+            }
+            return rngs;
+        }
+
+        /**
+         * Creates a RNG instance from the native seed using the factory function.
+         *
+         * @param nativeSeed Native seed.
+         * @return a new RNG instance.
+         * @throws IllegalArgumentException if the generator requires additional
+         * constructor arguments.
+         */
+        private RestorableUniformRandomProvider createInstance(Object nativeSeed) {
+            final Function<Object, RestorableUniformRandomProvider> f = factory;
+            if (f == null) {
+                // The factory is only absent when the constructor requires additional arguments
+                throw new IllegalArgumentException("Missing constructor arguments for " + getRng().getName());
+            }
+            return f.apply(nativeSeed);
         }
 
         /**
@@ -618,10 +856,33 @@ public final class ProviderBuilder {
          * @since 1.3
          */
         protected Object createSeed() {
+            if (seedGenerator != null) {
+                return seedGenerator.apply(new SplitMix64(SeedFactory.createLong()));
+            }
             // Ensure the seed is not all-zero in the sub-range
             return nativeSeedType.createSeed(nativeSeedSize, notAllZeroFrom, notAllZeroTo);
         }
 
+        /**
+         * Creates a native seed using the provided source of randomness.
+         *
+         * <p>The default implementation creates a seed equivalent to {@link #createSeed()}
+         * using values from the source.</p>
+         *
+         * <p>This method should be over-ridden to satisfy seed requirements for the generator.</p>
+         *
+         * @param source Source of randomness.
+         * @return the native seed
+         * @since 1.7
+         */
+        protected Object createSeed(UniformRandomProvider source) {
+            if (seedGenerator != null) {
+                return seedGenerator.apply(new SplitMix64(source.nextLong()));
+            }
+            // Ensure the seed is not all-zero in the sub-range
+            return nativeSeedType.createSeed(source, nativeSeedSize, notAllZeroFrom, notAllZeroTo);
+        }
+
         /**
          * Creates a {@code byte[]} seed using the provided source of randomness.
          *
@@ -635,6 +896,9 @@ public final class ProviderBuilder {
          * @since 1.3
          */
         protected byte[] createByteArraySeed(UniformRandomProvider source) {
+            if (seedGenerator != null) {
+                return NativeSeedType.convertSeedToBytes(createSeed(source));
+            }
             // Ensure the seed is not all-zero in the sub-range.
             // Note: Convert the native seed array size/positions to byte size/positions.
             final int bytes = nativeSeedType.getBytes();
@@ -657,6 +921,14 @@ public final class ProviderBuilder {
          * @since 1.3
          */
         protected Object convertSeed(Object seed) {
+            if (seedGenerator != null) {
+                // Allow seeding with primitives to generate a seed that satisfies the requirements
+                if (seed instanceof Integer) {
+                    return seedGenerator.apply(new SplitMix64((Integer) seed));
+                } else if (seed instanceof Long) {
+                    return seedGenerator.apply(new SplitMix64((Long) seed));
+                }
+            }
             return nativeSeedType.convertSeed(seed, nativeSeedSize);
         }
 
@@ -20,6 +20,7 @@ import java.security.SecureRandom;
 import java.util.concurrent.locks.ReentrantLock;
 
 import org.apache.commons.rng.core.util.NumberFactory;
+import org.apache.commons.rng.JumpableUniformRandomProvider;
 import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.core.source64.RandomLongSource;
 import org.apache.commons.rng.core.source64.SplitMix64;
@@ -42,9 +43,25 @@ import org.apache.commons.rng.core.source64.XoRoShiRo1024PlusPlus;
  * There is <i>no guarantee</i> that sequences will not overlap.
  * </p>
  *
+ * <p>
+ * The methods are thread-safe. To reduce contention when seeding from multiple
+ * threads the seeds are drawn from a set of generators that scales with the number
+ * of available processors; each generator is a non-overlapping sub-sequence of a
+ * single long period generator.
+ * </p>
+ *
  * @since 1.0
  */
 public final class SeedFactory {
+    /**
+     * The locks to own when using the seed generator at the same index. The locks are
+     * unfair and there is no particular access order for waiting threads.
+     *
+     * <p>These are used as an alternative to {@code synchronized} statements to guard access
+     * to the seed generators.</p>
+     */
+    private static final ReentrantLock[] LOCKS;
+
     /** Size of the state array of "XoRoShiRo1024PlusPlus". */
     private static final int XO_RO_SHI_RO_1024_STATE_SIZE = 16;
     /** Size of block to fill in an {@code int[]} seed per synchronized operation. */
@@ -52,17 +69,17 @@ public final class SeedFactory {
     /** Size of block to fill in a {@code long[]} seed per synchronized operation. */
     private static final int LONG_ARRAY_BLOCK_SIZE = 4;
 
+    /** Maximum number of seed generators. Must be a power of 2. */
+    private static final int MAX_STRIPES = 64;
+
     /**
-     * The lock to own when using the seed generator. This lock is unfair and there is no
-     * particular access order for waiting threads.
-     *
-     * <p>This is used as an alternative to {@code synchronized} statements to guard access
-     * to the seed generator.</p>
+     * Generators with a long period. Each generator is a non-overlapping sub-sequence
+     * of the same period created using a long jump.
      */
-    private static final ReentrantLock LOCK = new ReentrantLock(false);
+    private static final JumpableUniformRandomProvider[] SEED_GENERATORS;
 
-    /** Generator with a long period. */
-    private static final UniformRandomProvider SEED_GENERATOR;
+    /** Mask to select a generator index. */
+    private static final int STRIPE_MASK;
 
     static {
         // Use a secure RNG so that different instances (e.g. in multiple JVM
@@ -80,7 +97,18 @@ public final class SeedFactory {
             seed[i] = ensureNonZero(rng, seed[i]);
         }
 
-        SEED_GENERATOR = new XoRoShiRo1024PlusPlus(seed);
+        // Stripe the generators to reduce contention when seeding from multiple threads.
+        // Each copy is separated from the next by 2^768 outputs.
+        final int n = Runtime.getRuntime().availableProcessors();
+        final int stripes = Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(1, n - 1)) << 1);
+        final XoRoShiRo1024PlusPlus generator = new XoRoShiRo1024PlusPlus(seed);
+        LOCKS = new ReentrantLock[stripes];
+        SEED_GENERATORS = new JumpableUniformRandomProvider[stripes];
+        for (int i = 0; i < stripes; i++) {
+            LOCKS[i] = new ReentrantLock(false);
+            SEED_GENERATORS[i] = generator.longJump();
+        }
+        STRIPE_MASK = stripes - 1;
     }
 
     /**
@@ -94,11 +122,11 @@ public final class SeedFactory {
      * @return a random number.
      */
     public static int createInt() {
-        LOCK.lock();
+        final int i = lock();
         try {
-            return SEED_GENERATOR.nextInt();
+            return SEED_GENERATORS[i].nextInt();
         } finally {
-            LOCK.unlock();
+            LOCKS[i].unlock();
         }
     }
 
@@ -108,11 +136,34 @@ public final class SeedFactory {
      * @return a random number.
      */
     public static long createLong() {
-        LOCK.lock();
+        final int i = lock();
+        try {
+            return SEED_GENERATORS[i].nextLong();
+        } finally {
+            LOCKS[i].unlock();
+        }
+    }
+
+    /**
+     * Creates a generator for use as a source of seeds.
+     *
+     * <p>The generator is a copy of one of the seed generators. The seed generator is
+     * advanced by a jump of 2<sup>512</sup> outputs so the sequence of the copy does not
+     * overlap subsequent output of the seed generator. Seed generators are separated by
+     * 2<sup>768</sup> outputs allowing 2<sup>256</sup> calls before sequences of
+     * different generators can overlap.</p>
+     *
+     * <p>This method is package-private for use by {@link ProviderBuilder} to create
+     * seeds for many generators without acquiring a lock per seed.</p>
+     *
+     * @return the seed generator
+     */
+    static UniformRandomProvider createSeedGenerator() {
+        final int i = lock();
         try {
-            return SEED_GENERATOR.nextLong();
+            return SEED_GENERATORS[i].jump();
         } finally {
-            LOCK.unlock();
+            LOCKS[i].unlock();
         }
     }
 
@@ -200,6 +251,52 @@ public final class SeedFactory {
         return seed;
     }
 
+    /**
+     * Acquire the lock for one of the seed generators. The caller must release the lock
+     * at the returned index.
+     *
+     * <p>The search starts at a generator selected using the identifier of the current
+     * thread. If the lock is held by another thread the remaining generators are tried
+     * in turn. If all the locks are held then this waits for the lock of the first
+     * generator.</p>
+     *
+     * @return the index of the seed generator
+     */
+    private static int lock() {
+        // Mix the thread identifier to spread sequential identifiers
+        final long id = Thread.currentThread().getId() * MixFunctions.GOLDEN_RATIO_64;
+        final int start = (int) (id >>> 32) & STRIPE_MASK;
+        int i = start;
+        do {
+            if (LOCKS[i].tryLock()) {
+                return i;
+            }
+            i = (i + 1) & STRIPE_MASK;
+        } while (i != start);
+        LOCKS[start].lock();
+        return start;
+    }
+
+    /**
+     * Run the task while holding the locks of all the seed generators.
+     *
+     * <p>This is package-private for testing the seed generators when all the locks are held.</p>
+     *
+     * @param task Task.
+     */
+    static void runWithAllLocksHeld(Runnable task) {
+        for (final ReentrantLock lock : LOCKS) {
+            lock.lock();
+        }
+        try {
+            task.run();
+        } finally {
+            for (final ReentrantLock lock : LOCKS) {
+                lock.unlock();
+            }
+        }
+    }
+
     /**
      * Fill the array between {@code start} inclusive and {@code end} exclusive from the
      * seed generator. The lock is used to guard access to the generator.
@@ -209,13 +306,14 @@ public final class SeedFactory {
      * @param end End (exclusive).
      */
     private static void fillIntArray(int[] array, int start, int end) {
-        LOCK.lock();
+        final int index = lock();
         try {
+            final UniformRandomProvider rng = SEED_GENERATORS[index];
             for (int i = start; i < end; i++) {
-                array[i] = SEED_GENERATOR.nextInt();
+                array[i] = rng.nextInt();
             }
         } finally {
-            LOCK.unlock();
+            LOCKS[index].unlock();
         }
     }
 
@@ -228,13 +326,14 @@ public final class SeedFactory {
      * @param end End (exclusive).
      */
     private static void fillLongArray(long[] array, int start, int end) {
-        LOCK.lock();
+        final int index = lock();
         try {
+            final UniformRandomProvider rng = SEED_GENERATORS[index];
             for (int i = start; i < end; i++) {
-                array[i] = SEED_GENERATOR.nextLong();
+                array[i] = rng.nextLong();
             }
         } finally {
-            LOCK.unlock();
+            LOCKS[index].unlock();
         }
     }
 
@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link MappedCheckpointStore}.
+ */
+class MappedCheckpointStoreTest {
+    /** The file name of the store. */
+    private static final String STORE = "store.bin";
+
+    @ParameterizedTest
+    @EnumSource(value = RandomSource.class, mode = EnumSource.Mode.EXCLUDE, names = {"TWO_CMRES_SELECT"})
+    void testSaveAndRestore(RandomSource source, @TempDir Path dir) throws IOException {
+        final Path file = dir.resolve(STORE);
+        final int size = 5;
+        final RestorableUniformRandomProvider[] rngs = source.createMany(size);
+        final long[][] expected = new long[size][];
+        try (MappedCheckpointStore store = MappedCheckpointStore.create(file, source, size)) {
+            Assertions.assertSame(source, store.getRandomSource());
+            Assertions.assertEquals(size, store.getCapacity());
+            for (int i = 0; i < size; i++) {
+                // Move the state away from the initial state
+                rngs[i].nextInt();
+                store.save(i, rngs[i]);
+                expected[i] = rngs[i].longs(10).toArray();
+            }
+            store.flush();
+            // Random access restore
+            for (int i = size; i-- > 0;) {
+                store.restore(i, rngs[i]);
+                Assertions.assertArrayEquals(expected[i], rngs[i].longs(10).toArray());
+            }
+        }
+        try (MappedCheckpointStore store = MappedCheckpointStore.open(file, source)) {
+            Assertions.assertEquals(size, store.getCapacity());
+            for (int i = 0; i < size; i++) {
+                Assertions.assertArrayEquals(expected[i], store.restore(i).longs(10).toArray());
+            }
+        }
+    }
+
+    @Test
+    void testMultipleSegments(@TempDir Path dir) throws IOException {
+        final RandomSource source = RandomSource.SPLIT_MIX_64;
+        // Larger than a single 64 MiB segment
+        final long size = 1L << 22;
+        final RestorableUniformRandomProvider rng = source.create();
+        try (MappedCheckpointStore store = MappedCheckpointStore.create(dir.resolve(STORE), source, size)) {
+            final long[] indices = {0, size / 2, size - 1};
+            final long[] expected = new long[indices.length];
+            for (int i = 0; i < indices.length; i++) {
+                store.save(indices[i], rng);
+                expected[i] = rng.nextLong();
+            }
+            for (int i = 0; i < indices.length; i++) {
+                Assertions.assertEquals(expected[i], store.restore(indices[i]).nextLong());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidArguments(@TempDir Path dir) throws IOException {
+        final RandomSource source = RandomSource.XO_SHI_RO_256_PP;
+        final Path file = dir.resolve(STORE);
+        Assertions.assertThrows(IllegalArgumentException.class, () -> MappedCheckpointStore.create(file, source, 0));
+        // The file size overflows
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedCheckpointStore.create(file, source, Long.MAX_VALUE));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedCheckpointStore.create(file, source, Long.MAX_VALUE / 40));
+        Assertions.assertFalse(Files.exists(file));
+        try (MappedCheckpointStore store = MappedCheckpointStore.create(file, source, 3)) {
+            final RestorableUniformRandomProvider rng = source.create();
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.save(-1, rng));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.save(3, rng));
+            Assertions.assertThrows(IndexOutOfBoundsException.class, () -> store.restore(3, rng));
+            final RestorableUniformRandomProvider other = RandomSource.XO_SHI_RO_256_SS.create();
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.save(0, other));
+            Assertions.assertThrows(IllegalArgumentException.class, () -> store.restore(0, other));
+            // Nothing saved
+            Assertions.assertThrows(IllegalStateException.class, () -> store.restore(1, rng));
+        }
+        // Already exists
+        Assertions.assertThrows(IOException.class, () -> MappedCheckpointStore.create(file, source, 3));
+        // Wrong source
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> MappedCheckpointStore.open(file, RandomSource.XO_SHI_RO_256_SS));
+    }
+
+    @Test
+    void testOpenInvalidFile(@TempDir Path dir) throws IOException {
+        final Path file = dir.resolve(STORE);
+        Files.write(file, new byte[10]);
+        Assertions.assertThrows(IOException.class, () -> MappedCheckpointStore.open(file, RandomSource.MT));
+        Files.write(file, new byte[100]);
+        Assertions.assertThrows(IOException.class, () -> MappedCheckpointStore.open(file, RandomSource.MT));
+    }
+
+    @Test
+    void testOpenInvalidCapacity(@TempDir Path dir) throws IOException {
+        final RandomSource source = RandomSource.XO_SHI_RO_256_PP;
+        final Path file = dir.resolve(STORE);
+        MappedCheckpointStore.create(file, source, 2).close();
+        final byte[] bytes = Files.readAllBytes(file);
+        final ByteBuffer header = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN);
+        // Header: magic, version, record size, capacity
+        final int recordBytes = header.getInt(12);
+        // Capacity where the file size overflows
+        final long capacity = Long.MAX_VALUE / recordBytes + 1;
+        for (final long c : new long[] {Long.MAX_VALUE, capacity, -1}) {
+            header.putLong(16, c);
+            Files.write(file, bytes);
+            Assertions.assertThrows(IOException.class, () -> MappedCheckpointStore.open(file, source));
+        }
+    }
+
+    @Test
+    void testOpenInvalidHeader(@TempDir Path dir) throws IOException {
+        final RandomSource source = RandomSource.XO_SHI_RO_256_PP;
+        final Path file = dir.resolve(STORE);
+        MappedCheckpointStore.create(file, source, 2).close();
+        final byte[] bytes = Files.readAllBytes(file);
+        // Header: magic, version, record size, capacity, name length, name
+        final int recordBytes = ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).getInt(12);
+        // Capacity where the number of mapped segments overflows
+        final long segments = (long) Integer.MAX_VALUE * ((1 << 26) / recordBytes) + 1;
+        final Object[][] changes = {
+            {8, 2},
+            {12, 0},
+            {12, -1},
+            {16, 3L},
+            {16, segments},
+            {24, -1},
+            {24, 37},
+        };
+        for (final Object[] change : changes) {
+            final ByteBuffer header = ByteBuffer.wrap(bytes.clone()).order(ByteOrder.LITTLE_ENDIAN);
+            final int index = (Integer) change[0];
+            if (change[1] instanceof Long) {
+                header.putLong(index, (Long) change[1]);
+            } else {
+                header.putInt(index, (Integer) change[1]);
+            }
+            Files.write(file, header.array());
+            Assertions.assertThrows(IOException.class, () -> MappedCheckpointStore.open(file, source),
+                () -> "Header change at " + index + ": " + change[1]);
+        }
+    }
+
+    @Test
+    void testClosed(@TempDir Path dir) throws IOException {
+        final RandomSource source = RandomSource.L64_X128_MIX;
+        final RestorableUniformRandomProvider rng = source.create();
+        final MappedCheckpointStore store = MappedCheckpointStore.create(dir.resolve(STORE), source, 2);
+        store.save(0, rng);
+        store.close();
+        // Repeat close is allowed
+        store.close();
+        Assertions.assertThrows(IllegalStateException.class, () -> store.save(0, rng));
+        Assertions.assertThrows(IllegalStateException.class, () -> store.restore(0, rng));
+        Assertions.assertThrows(IllegalStateException.class, store::flush);
+    }
+}
@@ -100,6 +100,38 @@ class ProvidersCommonParametricTest {
         }
     }
 
+    /**
+     * Test the create many method returns independent instances of the same class as the
+     * instance create method.
+     */
+    @ParameterizedTest
+    @MethodSource("getProvidersTestData")
+    void testCreateMany(ProvidersList.Data data) {
+        final RandomSource originalSource = data.getSource();
+        final Object[] originalArgs = data.getArgs();
+        if (originalArgs != null) {
+            // Providers that require arguments cannot be created without them
+            Assertions.assertThrows(IllegalArgumentException.class,
+                () -> originalSource.createMany(2),
+                () -> "Source requires arguments: " + originalSource);
+            return;
+        }
+        final UniformRandomProvider generator = originalSource.create(data.getSeed(), originalArgs);
+        final int n = 5;
+        final RestorableUniformRandomProvider[] rngs = originalSource.createMany(n);
+        Assertions.assertEquals(n, rngs.length);
+        final long[] values = new long[n];
+        for (int i = 0; i < n; i++) {
+            Assertions.assertEquals(generator.getClass(), rngs[i].getClass());
+            values[i] = rngs[i].nextLong();
+            for (int j = 0; j < i; j++) {
+                Assertions.assertNotSame(rngs[j], rngs[i]);
+                Assertions.assertNotEquals(values[j], values[i],
+                    () -> "Generators are not independent: " + originalSource);
+            }
+        }
+    }
+
     /**
      * Test the create method throws an {@link IllegalArgumentException} if passed the wrong
      * arguments.
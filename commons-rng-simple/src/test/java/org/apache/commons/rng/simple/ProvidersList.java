@@ -68,6 +68,10 @@ public final class ProvidersList {
             add(LIST32, RandomSource.PCG_XSH_RR_32_OS, 72346247L);
             add(LIST32, RandomSource.PCG_XSH_RS_32_OS, -5340832872354L);
             add(LIST32, RandomSource.L32_X64_MIX, new int[] {2134678128, -162788128});
+            add(LIST32, RandomSource.PHILOX_4X32, new int[] {-1298738923, 67234758});
+            // Ensure a high complexity key is used for the Squares generators otherwise
+            // it will not output random data.
+            add(LIST32, RandomSource.SQUARES_32, new long[] {0xc8e4fd154ce32f6dL, 2374892347L});
             // ... add more here.
 
             // "long"-based RNGs.
@@ -99,6 +103,9 @@ public final class ProvidersList {
             add(LIST64, RandomSource.L128_X128_MIX, new long[] {236748567823789L, 237485792375L, 2374895789324L});
             add(LIST64, RandomSource.L128_X256_MIX, new long[] {-829345782324L, -92304897238673245L, 28974785792345L});
             add(LIST64, RandomSource.L128_X1024_MIX, new long[] {-6563745678920234L, 7348578274523L, 234523455234L});
+            add(LIST64, RandomSource.PHILOX_4X64, new long[] {67384578923452L, -2374598734598L});
+            add(LIST64, RandomSource.THREEFRY_4X64, new long[] {-234758923745L, 923478592347L, 12341234L});
+            add(LIST64, RandomSource.SQUARES_64, new long[] {0x9fe72a1c7db35a41L, -6778324523L});
             // ... add more here.
 
             // Do not modify the remaining statements.
@@ -17,6 +17,7 @@
 
 package org.apache.commons.rng.simple;
 
+import java.nio.ByteBuffer;
 import org.junit.jupiter.api.Assertions;
 
 import org.apache.commons.rng.UniformRandomProvider;
@@ -93,6 +94,40 @@ public final class RandomAssert {
             Assertions.assertArrayEquals(a1, a2);
         }
 
+        final ByteBuffer b1 = ByteBuffer.allocate(size);
+        final ByteBuffer b2 = ByteBuffer.allocate(size);
+        rng1.fillBytes(b1);
+        rng2.fillBytes(b2);
+        Assertions.assertArrayEquals(b1.array(), b2.array());
+
+        // Bulk arrays
+        final int[] i1 = new int[12];
+        final int[] i2 = new int[12];
+        rng1.nextInts(i1, 1, 10);
+        rng2.nextInts(i2, 1, 10);
+        Assertions.assertArrayEquals(i1, i2);
+        rng1.nextInts(i1, 2, 9, -13, 42);
+        rng2.nextInts(i2, 2, 9, -13, 42);
+        Assertions.assertArrayEquals(i1, i2);
+
+        final long[] l1 = new long[12];
+        final long[] l2 = new long[12];
+        rng1.nextLongs(l1, 1, 10);
+        rng2.nextLongs(l2, 1, 10);
+        Assertions.assertArrayEquals(l1, l2);
+        rng1.nextLongs(l1, 2, 9, -13, 42);
+        rng2.nextLongs(l2, 2, 9, -13, 42);
+        Assertions.assertArrayEquals(l1, l2);
+
+        final double[] d1 = new double[12];
+        final double[] d2 = new double[12];
+        rng1.nextDoubles(d1, 1, 10);
+        rng2.nextDoubles(d2, 1, 10);
+        Assertions.assertArrayEquals(d1, d2);
+        rng1.nextDoubles(d1, 2, 9, -13, 42);
+        rng2.nextDoubles(d2, 2, 9, -13, 42);
+        Assertions.assertArrayEquals(d1, d2);
+
         // Streams
         Assertions.assertArrayEquals(rng1.ints().limit(4).toArray(), rng2.ints().limit(4).toArray());
         Assertions.assertArrayEquals(rng1.ints(5).toArray(), rng2.ints(5).toArray());
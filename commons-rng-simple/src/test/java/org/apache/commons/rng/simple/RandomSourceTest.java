@@ -18,6 +18,7 @@ package org.apache.commons.rng.simple;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.SplittableRandom;
 import java.util.stream.DoubleStream;
@@ -78,6 +79,17 @@ class RandomSourceTest {
         }
     }
 
+    @Test
+    void testCreateManyWithZeroSize() {
+        Assertions.assertEquals(0, RandomSource.XO_RO_SHI_RO_128_PP.createMany(0).length);
+    }
+
+    @Test
+    void testCreateManyThrowsWithNegativeSize() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> RandomSource.XO_RO_SHI_RO_128_PP.createMany(-1));
+    }
+
     @Test
     void testIsJumpable() {
         Assertions.assertFalse(RandomSource.JDK.isJumpable(), "JDK is not Jumpable");
@@ -265,6 +277,59 @@ class RandomSourceTest {
             return v == bound ? 0 : v;
         }
 
+        // Bulk methods must return different values than the default so we fill in reverse order
+
+        @Override
+        public void fillBytes(ByteBuffer buffer) {
+            final byte[] bytes = new byte[buffer.remaining()];
+            nextBytes(bytes);
+            for (int i = bytes.length; i-- > 0;) {
+                buffer.put(bytes[i]);
+            }
+        }
+
+        @Override
+        public void nextInts(int[] values, int start, int len) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextInt();
+            }
+        }
+
+        @Override
+        public void nextInts(int[] values, int start, int len, int origin, int bound) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextInt(origin, bound);
+            }
+        }
+
+        @Override
+        public void nextLongs(long[] values, int start, int len) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextLong();
+            }
+        }
+
+        @Override
+        public void nextLongs(long[] values, int start, int len, long origin, long bound) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextLong(origin, bound);
+            }
+        }
+
+        @Override
+        public void nextDoubles(double[] values, int start, int len) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextDouble();
+            }
+        }
+
+        @Override
+        public void nextDoubles(double[] values, int start, int len, double origin, double bound) {
+            for (int i = start + len; i-- > start;) {
+                values[i] = nextDouble(origin, bound);
+            }
+        }
+
         // Stream methods must return different values than the default so we reimplement them
 
         @Override
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import org.apache.commons.rng.SplittableUniformRandomProvider;
+import org.apache.commons.rng.core.source64.L64X128Mix;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link ScopedRandomSource}.
+ */
+class ScopedRandomSourceTest {
+    @Test
+    void testCurrentThrowsWhenUnbound() {
+        Assertions.assertFalse(ScopedRandomSource.isBound());
+        Assertions.assertThrows(IllegalStateException.class, ScopedRandomSource::current);
+        Assertions.assertThrows(IllegalStateException.class, () -> ScopedRandomSource.inherit(() -> { }));
+        Assertions.assertThrows(IllegalStateException.class, () -> ScopedRandomSource.inherit(() -> 1));
+    }
+
+    @Test
+    void testBindNullThrows() {
+        Assertions.assertThrows(NullPointerException.class, () -> ScopedRandomSource.run(null, () -> { }));
+        Assertions.assertThrows(NullPointerException.class, () -> ScopedRandomSource.call(null, () -> 1));
+        Assertions.assertFalse(ScopedRandomSource.isBound());
+    }
+
+    @Test
+    void testNestedBindingIsRestored() {
+        final SplittableUniformRandomProvider rng1 = new L64X128Mix(new long[] {1, 2, 3, 4});
+        final SplittableUniformRandomProvider rng2 = new L64X128Mix(new long[] {5, 6, 7, 8});
+        ScopedRandomSource.run(rng1, () -> {
+            Assertions.assertTrue(ScopedRandomSource.isBound());
+            Assertions.assertSame(rng1, ScopedRandomSource.current());
+            Assertions.assertSame(rng2, ScopedRandomSource.call(rng2, ScopedRandomSource::current));
+            Assertions.assertSame(rng1, ScopedRandomSource.current());
+        });
+        Assertions.assertFalse(ScopedRandomSource.isBound());
+    }
+
+    @Test
+    void testBindingIsRestoredAfterException() {
+        final SplittableUniformRandomProvider rng = new L64X128Mix(new long[] {1, 2, 3, 4});
+        Assertions.assertThrows(IllegalArgumentException.class, () -> ScopedRandomSource.run(rng, () -> {
+            throw new IllegalArgumentException();
+        }));
+        Assertions.assertFalse(ScopedRandomSource.isBound());
+    }
+
+    @Test
+    void testInheritUsesSplitOfCurrent() throws Exception {
+        final long[] seed = {67683, 23487, 128937, 7878979};
+        final int tasks = 5;
+        // Expected: providers split from the parent in order
+        final SplittableUniformRandomProvider parent = new L64X128Mix(seed);
+        final long[] expected = new long[tasks];
+        for (int i = 0; i < tasks; i++) {
+            expected[i] = parent.split().nextLong();
+        }
+
+        final ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            final List<Future<Long>> results = ScopedRandomSource.call(new L64X128Mix(seed), () -> {
+                final List<Future<Long>> l = new ArrayList<>();
+                for (int i = 0; i < tasks; i++) {
+                    final Supplier<Long> task = ScopedRandomSource.inherit(() -> ScopedRandomSource.current().nextLong());
+                    l.add(executor.submit(task::get));
+                }
+                return l;
+            });
+            for (int i = 0; i < tasks; i++) {
+                Assertions.assertEquals(expected[i], results.get(i).get().longValue());
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testInheritRunnable() {
+        final SplittableUniformRandomProvider rng = new L64X128Mix(new long[] {1, 2, 3, 4});
+        final SplittableUniformRandomProvider[] child = {null};
+        final Runnable[] task = {null};
+        ScopedRandomSource.run(rng, () -> {
+            final Runnable r = () -> {
+                child[0] = ScopedRandomSource.current();
+            };
+            task[0] = ScopedRandomSource.inherit(r);
+        });
+        Assertions.assertNull(child[0]);
+        task[0].run();
+        Assertions.assertNotNull(child[0]);
+        Assertions.assertNotSame(rng, child[0]);
+        Assertions.assertFalse(ScopedRandomSource.isBound());
+    }
+}
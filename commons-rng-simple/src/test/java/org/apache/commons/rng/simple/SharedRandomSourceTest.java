@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.commons.rng.simple;
+
+import java.util.Arrays;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.apache.commons.rng.RestorableUniformRandomProvider;
+import org.apache.commons.rng.UniformRandomProvider;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link SharedRandomSource}.
+ */
+class SharedRandomSourceTest {
+    @Test
+    void testGetReturnsSameInstance() {
+        final UniformRandomProvider rng = SharedRandomSource.get();
+        Assertions.assertNotNull(rng);
+        Assertions.assertSame(rng, SharedRandomSource.get());
+        Assertions.assertFalse(rng instanceof RestorableUniformRandomProvider);
+    }
+
+    @Test
+    void testSameSeedOnSameThread() {
+        final long seed = 8936472934523L;
+        final UniformRandomProvider rng1 = SharedRandomSource.create(seed);
+        final UniformRandomProvider rng2 = SharedRandomSource.create(seed);
+        RandomAssert.assertProduceSameSequence(rng1, rng2);
+        Assertions.assertFalse(Arrays.equals(SharedRandomSource.create(seed).longs(10).toArray(),
+                                             SharedRandomSource.create(seed + 1).longs(10).toArray()));
+    }
+
+    @Test
+    void testConcurrentAccessProducesUniqueValues()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final UniformRandomProvider rng = SharedRandomSource.create(1234567L);
+        final int threads = 8;
+        final int size = 10000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                futures[i] = executor.submit(() -> rng.longs(size).toArray());
+            }
+            final long[] all = new long[threads * size];
+            for (int i = 0; i < threads; i++) {
+                System.arraycopy((long[]) futures[i].get(10, TimeUnit.SECONDS), 0, all, i * size, size);
+            }
+            // The output of each stripe is a bijection of a full period sequence.
+            // Collisions between stripes are possible but should not occur in a small sample.
+            Arrays.sort(all);
+            for (int i = 1; i < all.length; i++) {
+                Assertions.assertNotEquals(all[i - 1], all[i], "Duplicate value");
+            }
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    /**
+     * Test the Weyl sequence increment is odd and has a balanced number of bit transitions.
+     * The input 46 creates an increment with too few transitions that must be corrected.
+     *
+     * @param x Input value.
+     */
+    @ParameterizedTest
+    @ValueSource(longs = {1, 2, 46, 8936472934523L})
+    void testMixGamma(long x) {
+        final long z = SharedRandomSource.mixGamma(x);
+        Assertions.assertEquals(1, z & 1, "Increment should be odd");
+        Assertions.assertTrue(Long.bitCount(z ^ (z >>> 1)) >= 24, "Too few bit transitions");
+    }
+}
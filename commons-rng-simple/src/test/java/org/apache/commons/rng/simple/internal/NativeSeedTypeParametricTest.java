@@ -16,6 +16,8 @@
  */
 package org.apache.commons.rng.simple.internal;
 
+import org.apache.commons.rng.UniformRandomProvider;
+import org.apache.commons.rng.core.source64.SplitMix64;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Assumptions;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -94,6 +96,34 @@ class NativeSeedTypeParametricTest {
         }
     }
 
+    /**
+     * Test the seed can be created as the correct type using a source of randomness.
+     *
+     * @param nativeSeedType Native seed type.
+     */
+    @ParameterizedTest
+    @EnumSource
+    void testCreateSeedFromSource(NativeSeedType nativeSeedType) {
+        final int size = 3;
+        // Zero output; array seeds must be filled in the non-zero sub-range
+        final UniformRandomProvider source = new SplitMix64(0) {
+            @Override
+            public long next() {
+                return 0;
+            }
+        };
+        final Object seed = nativeSeedType.createSeed(source, size, 1, 2);
+        Assertions.assertNotNull(seed);
+        final Class<?> type = nativeSeedType.getType();
+        Assertions.assertEquals(type, seed.getClass(), "Seed was not the correct class");
+        if (type.isArray()) {
+            Assertions.assertEquals(size, Array.getLength(seed), "Seed was not created the correct length");
+            Assertions.assertEquals(0L, ((Number) Array.get(seed, 0)).longValue());
+            Assertions.assertNotEquals(0L, ((Number) Array.get(seed, 1)).longValue());
+            Assertions.assertEquals(0L, ((Number) Array.get(seed, 2)).longValue());
+        }
+    }
+
     /**
      * Test the seed can be checked as non-zero in a sub-range. This uses a bad range to
      * generate an expected exception. The non-zero requirement is not tested as random
@@ -16,6 +16,7 @@
  */
 package org.apache.commons.rng.simple.internal;
 
+import org.apache.commons.rng.UniformRandomProvider;
 import org.apache.commons.rng.core.source64.SplitMix64;
 import org.apache.commons.rng.simple.internal.ProviderBuilder.RandomSourceInternal;
 import org.junit.jupiter.api.Assertions;
@@ -106,6 +107,11 @@ class RandomSourceInternalParametricTest {
         EXPECTED_SEED_BYTES.put(RandomSourceInternal.L128_X256_MIX, longBytes * 8);
         EXPECTED_SEED_BYTES.put(RandomSourceInternal.L128_X1024_MIX, longBytes * 20);
         EXPECTED_SEED_BYTES.put(RandomSourceInternal.L32_X64_MIX, intBytes * 4);
+        EXPECTED_SEED_BYTES.put(RandomSourceInternal.PHILOX_4X32, intBytes * 6);
+        EXPECTED_SEED_BYTES.put(RandomSourceInternal.PHILOX_4X64, longBytes * 6);
+        EXPECTED_SEED_BYTES.put(RandomSourceInternal.THREEFRY_4X64, longBytes * 8);
+        EXPECTED_SEED_BYTES.put(RandomSourceInternal.SQUARES_32, longBytes * 2);
+        EXPECTED_SEED_BYTES.put(RandomSourceInternal.SQUARES_64, longBytes * 2);
         // ... add more here.
         // Verify the seed byte size is reflected in the enum javadoc for RandomSource.
     }
@@ -217,4 +223,31 @@ class RandomSourceInternalParametricTest {
         Assertions.assertNotNull(expected, () -> "Missing expected seed byte size: " + randomSourceInternal);
         Assertions.assertEquals(expected.intValue(), size, () -> randomSourceInternal.toString());
     }
+
+    /**
+     * Test the generator created from a native seed matches the generator created
+     * using reflection to invoke the constructor.
+     *
+     * @param randomSourceInternal Internal identifier for the random source.
+     * @throws ReflectiveOperationException if the generator cannot be created by reflection
+     */
+    @ParameterizedTest
+    @EnumSource
+    void testCreateMatchesConstructor(RandomSourceInternal randomSourceInternal)
+            throws ReflectiveOperationException {
+        final Class<?>[] args = randomSourceInternal.getArgs();
+        final Object seed = randomSourceInternal.createSeed();
+        if (args.length != 1) {
+            // Requires additional arguments
+            Assertions.assertThrows(IllegalArgumentException.class, () -> randomSourceInternal.create(seed));
+            return;
+        }
+        final UniformRandomProvider rng1 = randomSourceInternal.create(seed);
+        Assertions.assertEquals(randomSourceInternal.getRng(), rng1.getClass());
+        final UniformRandomProvider rng2 = (UniformRandomProvider)
+            randomSourceInternal.getRng().getConstructor(args).newInstance(new Object[] {seed});
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals(rng2.nextLong(), rng1.nextLong());
+        }
+    }
 }
@@ -19,6 +19,12 @@ package org.apache.commons.rng.simple.internal;
 import java.util.Map;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -92,6 +98,55 @@ class SeedFactoryTest {
         assertDifferentValues(values);
     }
 
+    @Test
+    void testConcurrentCreateLongArray()
+            throws InterruptedException, ExecutionException, TimeoutException {
+        final int threads = 8;
+        final int size = 10000;
+        final ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            final Future<?>[] futures = new Future<?>[threads];
+            for (int i = 0; i < threads; i++) {
+                // Small arrays to interleave use of the seed generators
+                futures[i] = executor.submit(() -> {
+                    final long[] values = new long[size];
+                    for (int j = 0; j < size; j += 5) {
+                        System.arraycopy(SeedFactory.createLongArray(5), 0, values, j, 5);
+                    }
+                    return values;
+                });
+            }
+            final Map<Long, Integer> values = new HashMap<>();
+            for (int i = 0; i < threads; i++) {
+                for (final long v : (long[]) futures[i].get(10, TimeUnit.SECONDS)) {
+                    values.merge(v, 1, Integer::sum);
+                }
+            }
+            // Check that all seeds are different.
+            assertDifferentValues(values);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+
+    @Test
+    void testCreateLongWhenAllLocksAreHeld() throws InterruptedException {
+        final Thread thread = new Thread(SeedFactory::createLong);
+        SeedFactory.runWithAllLocksHeld(() -> {
+            thread.start();
+            // Wait for the seed generator to block on a lock
+            final long end = System.currentTimeMillis() + 10000;
+            while (thread.getState() != Thread.State.WAITING) {
+                Assertions.assertTrue(System.currentTimeMillis() < end, "Seed generator is not waiting");
+                Thread.yield();
+            }
+        });
+        // Completes when the locks are released
+        thread.join(10000);
+        Assertions.assertFalse(thread.isAlive(), "Seed generator did not complete");
+    }
+
     /**
      * Asserts that all the keys in given {@code map} have their
      * value equal to 1.